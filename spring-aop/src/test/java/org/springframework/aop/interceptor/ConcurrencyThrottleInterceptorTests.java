@@ -66,14 +66,45 @@ class ConcurrencyThrottleInterceptorTests {
 		serializedProxy.getAge();
 	}
 
+	@Test
+	void lockFreeInterceptorMustBeSerializable() throws Exception {
+		DerivedTestBean tb = new DerivedTestBean();
+		ProxyFactory proxyFactory = new ProxyFactory();
+		proxyFactory.setInterfaces(ITestBean.class);
+		ConcurrencyThrottleInterceptor cti = new ConcurrencyThrottleInterceptor();
+		cti.setLockFree(true);
+		proxyFactory.addAdvice(cti);
+		proxyFactory.setTarget(tb);
+		ITestBean proxy = (ITestBean) proxyFactory.getProxy();
+		proxy.getAge();
+
+		ITestBean serializedProxy = SerializationTestUtils.serializeAndDeserialize(proxy);
+		Advised advised = (Advised) serializedProxy;
+		ConcurrencyThrottleInterceptor serializedCti =
+				(ConcurrencyThrottleInterceptor) advised.getAdvisors()[0].getAdvice();
+		assertThat(serializedCti.isLockFree()).isTrue();
+		serializedProxy.getAge();
+	}
+
 	@ParameterizedTest
 	@ValueSource(ints = {1, 10})
 	void multipleThreadsWithLimit(int concurrencyLimit) {
+		multipleThreadsWithLimit(concurrencyLimit, false);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 10})
+	void multipleThreadsWithLimitAndLockFree(int concurrencyLimit) {
+		multipleThreadsWithLimit(concurrencyLimit, true);
+	}
+
+	private void multipleThreadsWithLimit(int concurrencyLimit, boolean lockFree) {
 		TestBean tb = new TestBean();
 		ProxyFactory proxyFactory = new ProxyFactory();
 		proxyFactory.setInterfaces(ITestBean.class);
 		ConcurrencyThrottleInterceptor cti = new ConcurrencyThrottleInterceptor();
 		cti.setConcurrencyLimit(concurrencyLimit);
+		cti.setLockFree(lockFree);
 		proxyFactory.addAdvice(cti);
 		proxyFactory.setTarget(tb);
 		ITestBean proxy = (ITestBean) proxyFactory.getProxy();
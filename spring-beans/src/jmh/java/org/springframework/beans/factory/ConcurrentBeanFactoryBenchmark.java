@@ -18,16 +18,24 @@ package org.springframework.beans.factory;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
+import org.springframework.beans.factory.config.RuntimeBeanReference;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.beans.propertyeditors.CustomDateEditor;
 
@@ -37,6 +45,10 @@ import static org.springframework.core.testfixture.io.ResourceTestUtils.qualifie
  * Benchmark for creating prototype beans in a concurrent fashion.
  * This benchmark requires to customize the number of worker threads {@code -t <int>} on the
  * CLI when running this particular benchmark to leverage concurrency.
+ * Also covers pre-instantiating independent groups of singleton beans,
+ * either sequentially or in parallel on a bootstrap executor, as well as
+ * concurrent first requests for lazy-init singleton beans, either under the
+ * common singleton lock or under striped per-bean-name locks.
  *
  * @author Brian Clozel
  */
@@ -61,12 +73,139 @@ public class ConcurrentBeanFactoryBenchmark {
 
 	}
 
+	@State(Scope.Benchmark)
+	public static class PreInstantiationState {
+
+		@Param({"false", "true"})
+		public boolean parallel;
+
+		@Param({"8"})
+		public int groups;
+
+		@Param({"4"})
+		public int beansPerGroup;
+
+		@Param({"100000"})
+		public long work;
+
+		public ExecutorService executor;
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup(Level.Trial)
+		public void createExecutor() {
+			this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		}
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.setBootstrapExecutor(this.executor);
+			this.factory.setParallelPreInstantiation(this.parallel);
+			for (int group = 0; group < this.groups; group++) {
+				String previousBeanName = null;
+				for (int i = 0; i < this.beansPerGroup; i++) {
+					RootBeanDefinition bd = new RootBeanDefinition(WorkingBean.class);
+					bd.getConstructorArgumentValues().addIndexedArgumentValue(0, this.work);
+					if (previousBeanName != null) {
+						bd.getPropertyValues().add("dependency", new RuntimeBeanReference(previousBeanName));
+					}
+					previousBeanName = "group" + group + "bean" + i;
+					this.factory.registerBeanDefinition(previousBeanName, bd);
+				}
+			}
+		}
+
+		@TearDown(Level.Invocation)
+		public void destroy() {
+			this.factory.destroySingletons();
+		}
+
+		@TearDown(Level.Trial)
+		public void shutdownExecutor() {
+			this.executor.shutdown();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class LazyInitState {
+
+		@Param({"false", "true"})
+		public boolean striped;
+
+		@Param({"8"})
+		public int threads;
+
+		@Param({"32"})
+		public int beans;
+
+		@Param({"100000"})
+		public long work;
+
+		public ExecutorService executor;
+
+		public DefaultListableBeanFactory factory;
+
+		@Setup(Level.Trial)
+		public void createExecutor() {
+			this.executor = Executors.newFixedThreadPool(this.threads);
+		}
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			this.factory = new DefaultListableBeanFactory();
+			this.factory.setStripedSingletonLocking(this.striped);
+			RootBeanDefinition shared = new RootBeanDefinition(WorkingBean.class);
+			shared.getConstructorArgumentValues().addIndexedArgumentValue(0, this.work);
+			shared.setLazyInit(true);
+			this.factory.registerBeanDefinition("shared", shared);
+			for (int i = 0; i < this.beans; i++) {
+				RootBeanDefinition bd = new RootBeanDefinition(WorkingBean.class);
+				bd.getConstructorArgumentValues().addIndexedArgumentValue(0, this.work);
+				bd.getPropertyValues().add("dependency", new RuntimeBeanReference("shared"));
+				bd.setLazyInit(true);
+				this.factory.registerBeanDefinition("lazyBean" + i, bd);
+			}
+		}
+
+		@TearDown(Level.Invocation)
+		public void destroy() {
+			this.factory.destroySingletons();
+		}
+
+		@TearDown(Level.Trial)
+		public void shutdownExecutor() {
+			this.executor.shutdown();
+		}
+	}
+
 	@Benchmark
 	public void concurrentBeanCreation(BenchmarkState state, Blackhole bh) {
 		bh.consume(state.factory.getBean("bean1"));
 		bh.consume(state.factory.getBean("bean2"));
 	}
 
+	@Benchmark
+	public void preInstantiateSingletons(PreInstantiationState state, Blackhole bh) {
+		state.factory.preInstantiateSingletons();
+		bh.consume(state.factory.getSingletonCount());
+	}
+
+	@Benchmark
+	public void concurrentLazySingletonCreation(LazyInitState state, Blackhole bh) {
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[state.threads];
+		for (int thread = 0; thread < state.threads; thread++) {
+			int offset = thread * state.beans / state.threads;
+			futures[thread] = CompletableFuture.runAsync(() -> {
+				for (int i = 0; i < state.beans; i++) {
+					state.factory.getBean("lazyBean" + ((offset + i) % state.beans));
+				}
+			}, state.executor);
+		}
+		CompletableFuture.allOf(futures).join();
+		bh.consume(state.factory.getSingletonCount());
+	}
+
 
 	public static class ConcurrentBean {
 
@@ -80,4 +219,22 @@ public class ConcurrentBeanFactoryBenchmark {
 			this.date = date;
 		}
 	}
+
+
+	public static class WorkingBean {
+
+		private Object dependency;
+
+		public WorkingBean(long work) {
+			Blackhole.consumeCPU(work);
+		}
+
+		public Object getDependency() {
+			return this.dependency;
+		}
+
+		public void setDependency(Object dependency) {
+			this.dependency = dependency;
+		}
+	}
 }
@@ -31,6 +31,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -990,17 +991,29 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 	 * that we couldn't obtain a shortcut FactoryBean instance
 	 */
 	private @Nullable FactoryBean<?> getSingletonFactoryBeanForTypeCheck(String beanName, RootBeanDefinition mbd) {
-		Boolean lockFlag = isCurrentThreadAllowedToHoldSingletonLock();
-		if (lockFlag == null) {
-			this.singletonLock.lock();
-		}
-		else {
-			boolean locked = (lockFlag && this.singletonLock.tryLock());
-			if (!locked) {
+		Lock lock = this.singletonLock;
+		if (isStripedSingletonLocking()) {
+			Lock creationLock = acquireSingletonCreationLock(beanName);
+			if (creationLock == null) {
 				// Avoid shortcut FactoryBean instance but allow for subsequent type-based resolution.
 				resolveBeanClass(mbd, beanName);
 				return null;
 			}
+			lock = creationLock;
+		}
+		else {
+			Boolean lockFlag = isCurrentThreadAllowedToHoldSingletonLock();
+			if (lockFlag == null) {
+				this.singletonLock.lock();
+			}
+			else {
+				boolean locked = (lockFlag && this.singletonLock.tryLock());
+				if (!locked) {
+					// Avoid shortcut FactoryBean instance but allow for subsequent type-based resolution.
+					resolveBeanClass(mbd, beanName);
+					return null;
+				}
+			}
 		}
 
 		try {
@@ -1054,7 +1067,7 @@ public abstract class AbstractAutowireCapableBeanFactory extends AbstractBeanFac
 			return getFactoryBean(beanName, instance);
 		}
 		finally {
-			this.singletonLock.unlock();
+			lock.unlock();
 		}
 	}
 
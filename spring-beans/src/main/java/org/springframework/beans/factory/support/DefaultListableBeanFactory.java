@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -176,6 +177,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private @Nullable Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate independent singletons in parallel. */
+	private boolean parallelPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	private @Nullable Comparator<Object> dependencyComparator;
 
@@ -311,6 +315,38 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.bootstrapExecutor;
 	}
 
+	/**
+	 * Set whether to pre-instantiate singleton beans in parallel on the
+	 * {@linkplain #setBootstrapExecutor bootstrap executor}, as far as they are
+	 * independent of each other.
+	 * <p>Dependencies between singletons are derived from their bean definitions:
+	 * depends-on declarations, factory bean references, bean references in
+	 * constructor arguments and property values, and autowire candidates for
+	 * constructor and factory method parameters. Singletons without circular
+	 * dependencies between them are then created once their dependencies
+	 * have been created, with any further dependencies (for example, through
+	 * field injection) created on demand. FactoryBeans, singletons in a cycle,
+	 * and singletons with a custom instance supplier are created in the main
+	 * bootstrap thread in registration order instead, as are singletons that
+	 * turn out to be part of a cycle when created in parallel.
+	 * <p>Default is "false". Only takes effect with a bootstrap executor.
+	 * Beans marked for {@linkplain AbstractBeanDefinition#setBackgroundInit
+	 * background initialization} are not affected by this setting.
+	 * @since 7.0
+	 * @see #preInstantiateSingletons()
+	 */
+	public void setParallelPreInstantiation(boolean parallelPreInstantiation) {
+		this.parallelPreInstantiation = parallelPreInstantiation;
+	}
+
+	/**
+	 * Return whether to pre-instantiate independent singletons in parallel.
+	 * @since 7.0
+	 */
+	public boolean isParallelPreInstantiation() {
+		return this.parallelPreInstantiation;
+	}
+
 	/**
 	 * Set a {@link java.util.Comparator} for dependency Lists and arrays.
 	 * @since 4.0
@@ -357,6 +393,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelPreInstantiation = otherListableFactory.parallelPreInstantiation;
+			setStripedSingletonLocking(otherListableFactory.isStripedSingletonLocking());
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -1060,10 +1098,10 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			if (preInstantiation != null) {
 				// A Spring-managed bootstrap thread:
 				// MAIN is allowed to lock (true) or even forced to lock (null),
-				// BACKGROUND is never allowed to lock (false).
+				// BACKGROUND and PARALLEL are never allowed to lock (false).
 				return switch (preInstantiation) {
 					case MAIN -> (Boolean.TRUE.equals(this.strictLocking) ? null : true);
-					case BACKGROUND -> false;
+					case BACKGROUND, PARALLEL -> false;
 				};
 			}
 
@@ -1103,12 +1141,18 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		this.preInstantiationThread.set(PreInstantiation.MAIN);
 		this.mainThreadPrefix = getThreadNamePrefix();
 		try {
-			for (String beanName : beanNames) {
-				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
-				if (!mbd.isAbstract() && mbd.isSingleton()) {
-					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
-					if (future != null) {
-						futures.add(future);
+			Executor executor = getBootstrapExecutor();
+			if (this.parallelPreInstantiation && executor != null) {
+				preInstantiateSingletonsInParallel(beanNames, executor, futures);
+			}
+			else {
+				for (String beanName : beanNames) {
+					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+					if (!mbd.isAbstract() && mbd.isSingleton()) {
+						CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+						if (future != null) {
+							futures.add(future);
+						}
 					}
 				}
 			}
@@ -1139,6 +1183,90 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void preInstantiateSingletonsInParallel(
+			List<String> beanNames, Executor executor, List<CompletableFuture<?>> backgroundFutures) {
+
+		PreInstantiationPlan plan = new PreInstantiationPlan(this, beanNames);
+		if (logger.isDebugEnabled()) {
+			logger.debug("Pre-instantiating " + plan.getBeanNames().size() + " singletons in parallel in " + this);
+		}
+
+		// Schedule each planned singleton once its planned dependencies are done.
+		// A failed dependency fails its dependents as well, without attempting them.
+		Set<String> deferredBeanNames = ConcurrentHashMap.newKeySet();
+		Map<String, CompletableFuture<?>> parallelFutures = new LinkedHashMap<>();
+		for (String beanName : plan.getBeanNames()) {
+			CompletableFuture<?>[] dependencies = plan.getDependencies(beanName).stream()
+					.map(parallelFutures::get).toArray(CompletableFuture<?>[]::new);
+			parallelFutures.put(beanName, CompletableFuture.allOf(dependencies)
+					.thenRunAsync(() -> instantiateSingletonInParallelThread(beanName, deferredBeanNames), executor));
+		}
+
+		// Mainline pre-instantiation of all other singletons in the meantime.
+		// Parallel singletons need to be done before leaving the pre-instantiation phase.
+		CompletableFuture<?> parallelCompletion =
+				CompletableFuture.allOf(parallelFutures.values().toArray(new CompletableFuture<?>[0]));
+		try {
+			for (String beanName : beanNames) {
+				if (!parallelFutures.containsKey(beanName)) {
+					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+					if (!mbd.isAbstract() && mbd.isSingleton()) {
+						CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+						if (future != null) {
+							backgroundFutures.add(future);
+						}
+					}
+				}
+			}
+		}
+		catch (Throwable ex) {
+			try {
+				parallelCompletion.join();
+			}
+			catch (CompletionException parallelEx) {
+				ex.addSuppressed(parallelEx.getCause());
+			}
+			throw ex;
+		}
+		try {
+			parallelCompletion.join();
+		}
+		catch (CompletionException ex) {
+			ReflectionUtils.rethrowRuntimeException(ex.getCause());
+		}
+
+		// Mainline creation of singletons that turned out to be part of a cycle.
+		for (String beanName : beanNames) {
+			if (deferredBeanNames.contains(beanName)) {
+				preInstantiateSingleton(beanName, getMergedLocalBeanDefinition(beanName));
+			}
+		}
+	}
+
+	private void instantiateSingletonInParallelThread(String beanName, Set<String> deferredBeanNames) {
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+		}
+		catch (BeanCreationException ex) {
+			if (!ex.contains(BeanCurrentlyInCreationException.class)) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to instantiate singleton bean '" + beanName + "' in parallel thread", ex);
+				}
+				throw ex;
+			}
+			// Circular reference across threads -> retry in mainline thread.
+			if (logger.isDebugEnabled()) {
+				logger.debug("Deferring singleton bean '" + beanName + "' to mainline pre-instantiation " +
+						"after encountering a circular reference in parallel thread: " + ex.getMessage());
+			}
+			deferredBeanNames.add(beanName);
+		}
+		finally {
+			this.preInstantiationThread.remove();
+		}
+	}
+
 	private @Nullable CompletableFuture<?> preInstantiateSingleton(String beanName, RootBeanDefinition mbd) {
 		if (mbd.isBackgroundInit()) {
 			Executor executor = getBootstrapExecutor();
@@ -2740,7 +2868,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
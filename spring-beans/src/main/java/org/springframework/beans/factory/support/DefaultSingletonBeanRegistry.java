@@ -25,6 +25,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -78,6 +79,9 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Maximum number of suppressed exceptions to preserve. */
 	private static final int SUPPRESSED_EXCEPTIONS_LIMIT = 100;
 
+	/** Interval for re-checking a per-bean-name lock wait for a deadlock, in milliseconds. */
+	private static final long CREATION_LOCK_CHECK_INTERVAL = 100;
+
 
 	/** Common lock for singleton creation. */
 	final Lock singletonLock = new ReentrantLock();
@@ -118,6 +122,18 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	/** Map from bean name to actual creation thread for currently created beans. */
 	private final Map<String, Thread> currentCreationThreads = new ConcurrentHashMap<>();
 
+	/** Whether to create singletons under per-bean-name locks instead of the common lock. */
+	private volatile boolean stripedSingletonLocking = false;
+
+	/** Per-bean-name locks for singleton creation in case of striped locking. */
+	private final Map<String, SingletonCreationLock> singletonCreationLocks = new ConcurrentHashMap<>(256);
+
+	/** Map from one creation thread to the per-bean-name lock that it is waiting for. */
+	private final Map<Thread, SingletonCreationLock> creationLockWaitingThreads = new ConcurrentHashMap<>();
+
+	/** Map from one creation thread to its suppressed Exceptions in case of striped locking. */
+	private final Map<Thread, Set<Exception>> creationThreadSuppressedExceptions = new ConcurrentHashMap<>();
+
 	/** Flag that indicates whether we're currently within destroySingletons. */
 	private volatile boolean singletonsCurrentlyInDestruction = false;
 
@@ -137,6 +153,34 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	private final Map<String, Set<String>> dependenciesForBeanMap = new ConcurrentHashMap<>(64);
 
 
+	/**
+	 * Set whether to create singletons under a lock per bean name rather than
+	 * under the common singleton lock, allowing for independent singletons to
+	 * be created by concurrent threads, for example, lazy-init singletons on
+	 * first request or singletons in a parallel bootstrap phase.
+	 * <p>Circular references are resolved through early singleton references
+	 * within a creation thread, as with the common lock. A thread waiting for a
+	 * singleton in creation in another thread that is in turn waiting for the
+	 * current thread receives an early reference to that singleton as well,
+	 * if exposed already, or a {@link BeanCurrentlyInCreationException} for
+	 * an unresolvable circular reference across threads otherwise.
+	 * <p>Default is "false": creating singletons under the common singleton
+	 * lock, with lenient fallback behavior for specific threads only.
+	 * @since 7.0
+	 * @see #isCurrentThreadAllowedToHoldSingletonLock()
+	 */
+	public void setStripedSingletonLocking(boolean stripedSingletonLocking) {
+		this.stripedSingletonLocking = stripedSingletonLocking;
+	}
+
+	/**
+	 * Return whether to create singletons under a lock per bean name.
+	 * @since 7.0
+	 */
+	public boolean isStripedSingletonLocking() {
+		return this.stripedSingletonLocking;
+	}
+
 	@Override
 	public void registerSingleton(String beanName, Object singletonObject) throws IllegalStateException {
 		Assert.notNull(beanName, "Bean name must not be null");
@@ -211,33 +255,42 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		if (singletonObject == null && isSingletonCurrentlyInCreation(beanName)) {
 			singletonObject = this.earlySingletonObjects.get(beanName);
 			if (singletonObject == null && allowEarlyReference) {
-				if (!this.singletonLock.tryLock()) {
+				Lock lock = (this.stripedSingletonLocking ? getSingletonCreationLock(beanName) : this.singletonLock);
+				if (!lock.tryLock()) {
 					// Avoid early singleton inference outside of original creation thread.
 					return null;
 				}
 				try {
 					// Consistent creation of early reference within full singleton lock.
-					singletonObject = this.singletonObjects.get(beanName);
-					if (singletonObject == null) {
+					singletonObject = getEarlySingletonReference(beanName);
+				}
+				finally {
+					lock.unlock();
+				}
+			}
+		}
+		return singletonObject;
+	}
+
+	private @Nullable Object getEarlySingletonReference(String beanName) {
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject == null) {
+			singletonObject = this.earlySingletonObjects.get(beanName);
+			if (singletonObject == null) {
+				ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
+				if (singletonFactory != null) {
+					singletonObject = singletonFactory.getObject();
+					// Singleton could have been added or removed in the meantime.
+					if (this.singletonFactories.remove(beanName) != null) {
+						this.earlySingletonObjects.put(beanName, singletonObject);
+					}
+					else {
 						singletonObject = this.earlySingletonObjects.get(beanName);
 						if (singletonObject == null) {
-							ObjectFactory<?> singletonFactory = this.singletonFactories.get(beanName);
-							if (singletonFactory != null) {
-								singletonObject = singletonFactory.getObject();
-								// Singleton could have been added or removed in the meantime.
-								if (this.singletonFactories.remove(beanName) != null) {
-									this.earlySingletonObjects.put(beanName, singletonObject);
-								}
-								else {
-									singletonObject = this.singletonObjects.get(beanName);
-								}
-							}
+							singletonObject = this.singletonObjects.get(beanName);
 						}
 					}
 				}
-				finally {
-					this.singletonLock.unlock();
-				}
 			}
 		}
 		return singletonObject;
@@ -255,6 +308,10 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	public Object getSingleton(String beanName, ObjectFactory<?> singletonFactory) {
 		Assert.notNull(beanName, "Bean name must not be null");
 
+		if (this.stripedSingletonLocking) {
+			return getSingletonWithCreationLock(beanName, singletonFactory);
+		}
+
 		Thread currentThread = Thread.currentThread();
 		Boolean lockFlag = isCurrentThreadAllowedToHoldSingletonLock();
 		boolean acquireLock = !Boolean.FALSE.equals(lockFlag);
@@ -431,6 +488,162 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		}
 	}
 
+	/**
+	 * Variant of {@link #getSingleton(String, ObjectFactory)} for striped locking:
+	 * creating the singleton under its per-bean-name lock.
+	 */
+	@SuppressWarnings("NullAway") // Dataflow analysis limitation
+	private Object getSingletonWithCreationLock(String beanName, ObjectFactory<?> singletonFactory) {
+		Object singletonObject = this.singletonObjects.get(beanName);
+		if (singletonObject != null) {
+			return singletonObject;
+		}
+
+		Lock lock = acquireSingletonCreationLock(beanName);
+		if (lock == null) {
+			// Circular reference across threads -> resolve like within a single thread.
+			singletonObject = getEarlySingletonReference(beanName);
+			if (singletonObject != null) {
+				return singletonObject;
+			}
+			throw new BeanCurrentlyInCreationException(beanName, "Requested bean is currently in creation " +
+					"in another thread which is in turn waiting for the current thread: " +
+					"Is there an unresolvable circular reference across threads?");
+		}
+
+		try {
+			// Singleton object might have possibly appeared in the meantime.
+			singletonObject = this.singletonObjects.get(beanName);
+			if (singletonObject != null) {
+				return singletonObject;
+			}
+			if (this.singletonsCurrentlyInDestruction) {
+				throw new BeanCreationNotAllowedException(beanName,
+						"Singleton bean creation not allowed while singletons of this factory are in destruction " +
+						"(Do not request a bean from a BeanFactory in a destroy method implementation!)");
+			}
+			if (logger.isDebugEnabled()) {
+				logger.debug("Creating shared instance of singleton bean '" + beanName + "'");
+			}
+
+			beforeSingletonCreation(beanName);
+			boolean newSingleton = false;
+			Thread currentThread = Thread.currentThread();
+			Set<Exception> suppressedExceptions = new LinkedHashSet<>();
+			boolean recordSuppressedExceptions =
+					(this.creationThreadSuppressedExceptions.putIfAbsent(currentThread, suppressedExceptions) == null);
+			try {
+				this.currentCreationThreads.put(beanName, currentThread);
+				try {
+					singletonObject = singletonFactory.getObject();
+				}
+				finally {
+					this.currentCreationThreads.remove(beanName);
+				}
+				newSingleton = true;
+			}
+			catch (IllegalStateException ex) {
+				// Has the singleton object implicitly appeared in the meantime ->
+				// if yes, proceed with it since the exception indicates that state.
+				singletonObject = this.singletonObjects.get(beanName);
+				if (singletonObject == null) {
+					throw ex;
+				}
+			}
+			catch (BeanCreationException ex) {
+				if (recordSuppressedExceptions) {
+					for (Exception suppressedException : suppressedExceptions) {
+						ex.addRelatedCause(suppressedException);
+					}
+				}
+				throw ex;
+			}
+			finally {
+				if (recordSuppressedExceptions) {
+					this.creationThreadSuppressedExceptions.remove(currentThread);
+				}
+				afterSingletonCreation(beanName);
+			}
+
+			if (newSingleton) {
+				try {
+					addSingleton(beanName, singletonObject);
+				}
+				catch (IllegalStateException ex) {
+					// Leniently accept same instance if implicitly appeared.
+					Object object = this.singletonObjects.get(beanName);
+					if (singletonObject != object) {
+						throw ex;
+					}
+				}
+			}
+			return singletonObject;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the per-bean-name lock for creating the given singleton.
+	 */
+	private SingletonCreationLock getSingletonCreationLock(String beanName) {
+		return this.singletonCreationLocks.computeIfAbsent(beanName, name -> new SingletonCreationLock());
+	}
+
+	/**
+	 * Acquire the per-bean-name lock for creating the given singleton, waiting
+	 * for another thread to release it unless that thread is in turn (directly
+	 * or indirectly) waiting for a per-bean-name lock held by the current thread.
+	 * <p>Only to be used in case of {@link #setStripedSingletonLocking striped locking}.
+	 * @param beanName the name of the bean
+	 * @return the acquired lock, or {@code null} if waiting for it would deadlock
+	 * @since 7.0
+	 */
+	@Nullable Lock acquireSingletonCreationLock(String beanName) {
+		SingletonCreationLock lock = getSingletonCreationLock(beanName);
+		if (lock.tryLock()) {
+			return lock;
+		}
+		Thread currentThread = Thread.currentThread();
+		boolean interrupted = false;
+		this.creationLockWaitingThreads.put(currentThread, lock);
+		try {
+			while (true) {
+				if (isWaitingForCurrentThread(lock, currentThread)) {
+					return null;
+				}
+				try {
+					if (lock.tryLock(CREATION_LOCK_CHECK_INTERVAL, TimeUnit.MILLISECONDS)) {
+						return lock;
+					}
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			this.creationLockWaitingThreads.remove(currentThread);
+			if (interrupted) {
+				currentThread.interrupt();
+			}
+		}
+	}
+
+	private boolean isWaitingForCurrentThread(SingletonCreationLock lock, Thread currentThread) {
+		Set<Thread> checkedThreads = new HashSet<>();
+		Thread owner = lock.getOwner();
+		while (owner != null && checkedThreads.add(owner)) {
+			if (owner == currentThread) {
+				return true;
+			}
+			SingletonCreationLock awaitedLock = this.creationLockWaitingThreads.get(owner);
+			owner = (awaitedLock != null ? awaitedLock.getOwner() : null);
+		}
+		return false;
+	}
+
 	private boolean checkDependentWaitingThreads(Thread waitingThread, Thread candidateThread) {
 		Thread threadToCheck = waitingThread;
 		while ((threadToCheck = this.lenientWaitingThreads.get(threadToCheck)) != null) {
@@ -469,8 +682,10 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 	 * @see BeanCreationException#getRelatedCauses()
 	 */
 	protected void onSuppressedException(Exception ex) {
-		if (this.suppressedExceptions != null && this.suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
-			this.suppressedExceptions.add(ex);
+		Set<Exception> suppressedExceptions = (this.stripedSingletonLocking ?
+				this.creationThreadSuppressedExceptions.get(Thread.currentThread()) : this.suppressedExceptions);
+		if (suppressedExceptions != null && suppressedExceptions.size() < SUPPRESSED_EXCEPTIONS_LIMIT) {
+			suppressedExceptions.add(ex);
 		}
 	}
 
@@ -726,6 +941,7 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		this.singletonFactories.clear();
 		this.earlySingletonObjects.clear();
 		this.registeredSingletons.clear();
+		this.singletonCreationLocks.clear();
 		this.singletonsCurrentlyInDestruction = false;
 	}
 
@@ -835,4 +1051,18 @@ public class DefaultSingletonBeanRegistry extends SimpleAliasRegistry implements
 		return new Object();
 	}
 
+
+	/**
+	 * Per-bean-name lock for singleton creation, exposing its current owner
+	 * for deadlock detection.
+	 */
+	@SuppressWarnings("serial")
+	private static final class SingletonCreationLock extends ReentrantLock {
+
+		@Override
+		public @Nullable Thread getOwner() {
+			return super.getOwner();
+		}
+	}
+
 }
@@ -18,6 +18,7 @@ package org.springframework.beans.factory.support;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 
 import org.jspecify.annotations.Nullable;
 
@@ -120,14 +121,24 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 			String beanName, boolean shouldPostProcess) {
 
 		if (factory.isSingleton() && containsSingleton(beanName)) {
-			Boolean lockFlag = isCurrentThreadAllowedToHoldSingletonLock();
+			Lock lock = this.singletonLock;
 			boolean locked;
-			if (lockFlag == null) {
-				this.singletonLock.lock();
-				locked = true;
+			if (isStripedSingletonLocking()) {
+				Lock creationLock = acquireSingletonCreationLock(beanName);
+				if (creationLock != null) {
+					lock = creationLock;
+				}
+				locked = (creationLock != null);
 			}
 			else {
-				locked = (lockFlag && this.singletonLock.tryLock());
+				Boolean lockFlag = isCurrentThreadAllowedToHoldSingletonLock();
+				if (lockFlag == null) {
+					this.singletonLock.lock();
+					locked = true;
+				}
+				else {
+					locked = (lockFlag && this.singletonLock.tryLock());
+				}
 			}
 			try {
 				// A SmartFactoryBean may return multiple object types -> do not cache.
@@ -172,7 +183,7 @@ public abstract class FactoryBeanRegistrySupport extends DefaultSingletonBeanReg
 			}
 			finally {
 				if (locked) {
-					this.singletonLock.unlock();
+					lock.unlock();
 				}
 			}
 		}
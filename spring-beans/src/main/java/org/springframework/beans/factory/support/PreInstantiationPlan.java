@@ -0,0 +1,305 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanReference;
+import org.springframework.beans.factory.config.ConstructorArgumentValues.ValueHolder;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.beans.factory.config.RuntimeBeanNameReference;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Plan for pre-instantiating singleton beans in parallel, based on a
+ * dependency graph derived from their bean definitions: depends-on
+ * declarations, factory bean references, bean references in constructor
+ * arguments and property values, as well as autowire candidates for the
+ * parameters of constructors and factory methods.
+ *
+ * <p>Dependencies on beans outside of this plan, as well as dependencies
+ * that are not derivable from bean definition metadata (for example, field
+ * injection), are simply resolved on demand when creating a bean. The plan
+ * only covers beans with a determinable instantiation strategy and without
+ * circular dependencies between them; all other beans are left to mainline
+ * pre-instantiation in registration order.
+ *
+ * @since 7.0
+ * @see DefaultListableBeanFactory#setParallelPreInstantiation
+ */
+final class PreInstantiationPlan {
+
+	private final DefaultListableBeanFactory beanFactory;
+
+	/** Planned bean names in topological order, mapped to their planned dependencies. */
+	private final Map<String, Set<String>> dependencies;
+
+
+	PreInstantiationPlan(DefaultListableBeanFactory beanFactory, List<String> beanNames) {
+		this.beanFactory = beanFactory;
+		Map<String, Set<String>> candidates = new LinkedHashMap<>();
+		for (String beanName : beanNames) {
+			Set<String> dependencies = determineDependencies(beanName);
+			if (dependencies != null) {
+				candidates.put(beanName, dependencies);
+			}
+		}
+		this.dependencies = sortTopologically(candidates);
+	}
+
+
+	/**
+	 * Return the names of the planned beans, in an order in which each bean
+	 * comes after its planned dependencies.
+	 */
+	Set<String> getBeanNames() {
+		return this.dependencies.keySet();
+	}
+
+	/**
+	 * Return the planned dependencies for the given bean.
+	 */
+	Set<String> getDependencies(String beanName) {
+		Set<String> dependencies = this.dependencies.get(beanName);
+		return (dependencies != null ? dependencies : Set.of());
+	}
+
+
+	private @Nullable Set<String> determineDependencies(String beanName) {
+		try {
+			RootBeanDefinition mbd = this.beanFactory.getMergedLocalBeanDefinition(beanName);
+			if (mbd.isAbstract() || !mbd.isSingleton() || mbd.isLazyInit() || mbd.isBackgroundInit() ||
+					this.beanFactory.containsSingleton(beanName) || this.beanFactory.isFactoryBean(beanName)) {
+				return null;
+			}
+			Set<String> dependencies = new LinkedHashSet<>();
+			String[] dependsOn = mbd.getDependsOn();
+			if (dependsOn != null) {
+				for (String dependency : dependsOn) {
+					dependencies.add(this.beanFactory.canonicalName(dependency));
+				}
+			}
+			String factoryBeanName = mbd.getFactoryBeanName();
+			if (factoryBeanName != null) {
+				dependencies.add(this.beanFactory.canonicalName(factoryBeanName));
+			}
+			if (mbd.hasConstructorArgumentValues()) {
+				for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+					addReferences(valueHolder.getValue(), dependencies);
+				}
+				for (ValueHolder valueHolder : mbd.getConstructorArgumentValues().getGenericArgumentValues()) {
+					addReferences(valueHolder.getValue(), dependencies);
+				}
+			}
+			for (PropertyValue pv : mbd.getPropertyValues().getPropertyValues()) {
+				addReferences(pv.getValue(), dependencies);
+			}
+			if (!addInjectionPointCandidates(beanName, mbd, dependencies)) {
+				return null;
+			}
+			dependencies.remove(beanName);
+			return dependencies;
+		}
+		catch (RuntimeException ex) {
+			// Not determinable -> leave it to mainline pre-instantiation.
+			return null;
+		}
+	}
+
+	private void addReferences(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof RuntimeBeanNameReference) {
+			// Just a bean name, not a dependency on the bean instance.
+		}
+		else if (value instanceof BeanReference beanReference) {
+			dependencies.add(this.beanFactory.canonicalName(beanReference.getBeanName()));
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			addReferences(holder.getBeanDefinition(), dependencies);
+		}
+		else if (value instanceof BeanDefinition beanDefinition) {
+			for (ValueHolder valueHolder : beanDefinition.getConstructorArgumentValues().getIndexedArgumentValues().values()) {
+				addReferences(valueHolder.getValue(), dependencies);
+			}
+			for (ValueHolder valueHolder : beanDefinition.getConstructorArgumentValues().getGenericArgumentValues()) {
+				addReferences(valueHolder.getValue(), dependencies);
+			}
+			for (PropertyValue pv : beanDefinition.getPropertyValues().getPropertyValues()) {
+				addReferences(pv.getValue(), dependencies);
+			}
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				addReferences(element, dependencies);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			map.forEach((key, element) -> {
+				addReferences(key, dependencies);
+				addReferences(element, dependencies);
+			});
+		}
+		else if (value instanceof Object[] array) {
+			for (Object element : array) {
+				addReferences(element, dependencies);
+			}
+		}
+	}
+
+	/**
+	 * Add the autowire candidates for all parameters of the candidate
+	 * constructors or factory methods of the given bean.
+	 * @return {@code false} if the instantiation strategy is not determinable
+	 */
+	private boolean addInjectionPointCandidates(String beanName, RootBeanDefinition mbd, Set<String> dependencies) {
+		String factoryMethodName = mbd.getFactoryMethodName();
+		if (factoryMethodName != null) {
+			Method resolvedFactoryMethod = mbd.getResolvedFactoryMethod();
+			if (resolvedFactoryMethod != null) {
+				addCandidates(resolvedFactoryMethod, dependencies);
+				return true;
+			}
+			String factoryBeanName = mbd.getFactoryBeanName();
+			Class<?> factoryClass = (factoryBeanName != null ?
+					this.beanFactory.getType(factoryBeanName, false) :
+					this.beanFactory.resolveBeanClass(mbd, beanName));
+			if (factoryClass == null) {
+				return false;
+			}
+			ReflectionUtils.doWithMethods(ClassUtils.getUserClass(factoryClass),
+					method -> addCandidates(method, dependencies),
+					method -> method.getName().equals(factoryMethodName));
+			return true;
+		}
+		if (mbd.getInstanceSupplier() != null) {
+			// Custom instantiation without constructor or factory method metadata
+			return false;
+		}
+		Class<?> beanClass = this.beanFactory.resolveBeanClass(mbd, beanName);
+		if (beanClass == null) {
+			return false;
+		}
+		Constructor<?>[] ctors = this.beanFactory.determineConstructorsFromBeanPostProcessors(beanClass, beanName);
+		if (ctors == null) {
+			if (!mbd.hasConstructorArgumentValues()) {
+				ctors = mbd.getPreferredConstructors();
+			}
+			if (ctors == null) {
+				ctors = (mbd.isNonPublicAccessAllowed() ? beanClass.getDeclaredConstructors() : beanClass.getConstructors());
+			}
+		}
+		for (Constructor<?> ctor : ctors) {
+			addCandidates(ctor, dependencies);
+		}
+		return true;
+	}
+
+	private void addCandidates(Executable executable, Set<String> dependencies) {
+		for (int i = 0; i < executable.getParameterCount(); i++) {
+			DependencyDescriptor descriptor = new DependencyDescriptor(MethodParameter.forExecutable(executable, i), false);
+			descriptor.initParameterNameDiscovery(this.beanFactory.getParameterNameDiscoverer());
+			ResolvableType type = descriptor.getResolvableType();
+			Class<?> rawType = type.resolve();
+			if (rawType == null || ObjectFactory.class.isAssignableFrom(rawType) ||
+					rawType.getName().equals("jakarta.inject.Provider")) {
+				// Lazy resolution of dependencies
+				continue;
+			}
+			if (rawType == Optional.class || Collection.class.isAssignableFrom(rawType)) {
+				type = type.getGeneric(0);
+			}
+			else if (Map.class.isAssignableFrom(rawType)) {
+				type = type.getGeneric(1);
+			}
+			else if (rawType.isArray()) {
+				type = type.getComponentType();
+			}
+			Class<?> dependencyType = type.resolve();
+			if (dependencyType == null || dependencyType == Object.class ||
+					BeanUtils.isSimpleValueType(dependencyType)) {
+				continue;
+			}
+			List<String> candidates = new ArrayList<>();
+			for (String candidate : this.beanFactory.getBeanNamesForType(dependencyType, true, false)) {
+				if (this.beanFactory.isAutowireCandidate(candidate, descriptor)) {
+					candidates.add(candidate);
+				}
+			}
+			String dependencyName = descriptor.getDependencyName();
+			if (candidates.size() > 1 && dependencyName != null && candidates.contains(dependencyName)) {
+				// Most likely resolved by parameter name
+				candidates = List.of(dependencyName);
+			}
+			dependencies.addAll(candidates);
+		}
+	}
+
+	/**
+	 * Sort the given candidates such that every bean comes after its dependencies,
+	 * keeping registration order where possible. Beans that are part of a cycle
+	 * or that depend on a bean in a cycle are left out of the plan.
+	 */
+	private static Map<String, Set<String>> sortTopologically(Map<String, Set<String>> candidates) {
+		Map<String, Integer> pendingCounts = new HashMap<>();
+		Map<String, List<String>> dependents = new HashMap<>();
+		Deque<String> ready = new ArrayDeque<>();
+		candidates.forEach((beanName, dependencies) -> {
+			dependencies.retainAll(candidates.keySet());
+			for (String dependency : dependencies) {
+				dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(beanName);
+			}
+			pendingCounts.put(beanName, dependencies.size());
+			if (dependencies.isEmpty()) {
+				ready.add(beanName);
+			}
+		});
+		Map<String, Set<String>> sorted = new LinkedHashMap<>();
+		while (!ready.isEmpty()) {
+			String beanName = ready.poll();
+			sorted.put(beanName, candidates.get(beanName));
+			for (String dependent : dependents.getOrDefault(beanName, List.of())) {
+				if (pendingCounts.merge(dependent, -1, Integer::sum) == 0) {
+					ready.add(dependent);
+				}
+			}
+		}
+		return sorted;
+	}
+
+}
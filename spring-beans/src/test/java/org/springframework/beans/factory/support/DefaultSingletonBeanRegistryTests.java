@@ -16,14 +16,22 @@
 
 package org.springframework.beans.factory.support;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.testfixture.beans.DerivedTestBean;
 import org.springframework.beans.testfixture.beans.TestBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * @author Juergen Hoeller
@@ -99,4 +107,85 @@ class DefaultSingletonBeanRegistryTests {
 		assertThat(beanRegistry.isDependent("c", "c")).isTrue();
 	}
 
+	@Test
+	void stripedLockingWithIndependentSingletons() {
+		beanRegistry.setStripedSingletonLocking(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CompletableFuture<Object> tb1 = CompletableFuture.supplyAsync(() ->
+					beanRegistry.getSingleton("tb1", () -> awaitOtherThread(latch, new TestBean("tb1"))), executor);
+			CompletableFuture<Object> tb2 = CompletableFuture.supplyAsync(() ->
+					beanRegistry.getSingleton("tb2", () -> awaitOtherThread(latch, new TestBean("tb2"))), executor);
+			assertThat(tb1.join()).isSameAs(beanRegistry.getSingleton("tb1"));
+			assertThat(tb2.join()).isSameAs(beanRegistry.getSingleton("tb2"));
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void stripedLockingWithCircularReferenceAcrossThreads() {
+		beanRegistry.setStripedSingletonLocking(true);
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		TestBean tb1 = new TestBean("tb1");
+		TestBean tb2 = new TestBean("tb2");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CompletableFuture<Object> future1 = CompletableFuture.supplyAsync(() ->
+					beanRegistry.getSingleton("tb1", () -> createWithSpouse(tb1, "tb2", tb2, barrier)), executor);
+			CompletableFuture<Object> future2 = CompletableFuture.supplyAsync(() ->
+					beanRegistry.getSingleton("tb2", () -> createWithSpouse(tb2, "tb1", tb1, barrier)), executor);
+			assertThat(future1.join()).isSameAs(tb1);
+			assertThat(future2.join()).isSameAs(tb2);
+			assertThat(tb1.getSpouse()).isSameAs(tb2);
+			assertThat(tb2.getSpouse()).isSameAs(tb1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void stripedLockingRecordsSuppressedExceptions() {
+		beanRegistry.setStripedSingletonLocking(true);
+		IllegalStateException suppressed = new IllegalStateException("suppressed");
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(() ->
+				beanRegistry.getSingleton("tb", () -> {
+					beanRegistry.onSuppressedException(suppressed);
+					throw new BeanCreationException("tb", "creation failed");
+				}))
+				.satisfies(ex -> assertThat(ex.getRelatedCauses()).containsExactly(suppressed));
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(() ->
+				beanRegistry.getSingleton("tb", () -> {
+					throw new BeanCreationException("tb", "creation failed");
+				}))
+				.satisfies(ex -> assertThat(ex.getRelatedCauses()).isNull());
+	}
+
+
+	private static TestBean awaitOtherThread(CountDownLatch latch, TestBean bean) {
+		latch.countDown();
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			throw new IllegalStateException(ex);
+		}
+		return bean;
+	}
+
+	private TestBean createWithSpouse(TestBean bean, String spouseName, TestBean spouse, CyclicBarrier barrier) {
+		beanRegistry.addSingletonFactory(bean.getName(), () -> bean);
+		try {
+			barrier.await(10, TimeUnit.SECONDS);
+		}
+		catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+		bean.setSpouse((TestBean) beanRegistry.getSingleton(spouseName, () -> spouse));
+		return bean;
+	}
+
 }
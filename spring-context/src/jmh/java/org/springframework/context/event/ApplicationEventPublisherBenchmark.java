@@ -0,0 +1,165 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * Benchmark for publishing application events to listeners for different
+ * event types, also with a listener for an unrelated event type being
+ * registered and removed around each publication.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class ApplicationEventPublisherBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"10"})
+		public int listeners;
+
+		public GenericApplicationContext context;
+
+		public OrderEvent event;
+
+		public String payload = "payload";
+
+		public AuditListener auditListener = new AuditListener();
+
+		@Setup
+		public void setup() {
+			this.context = new GenericApplicationContext();
+			for (int i = 0; i < this.listeners; i++) {
+				this.context.registerBean("orderListener" + i, OrderListener.class);
+				this.context.registerBean("shipmentListener" + i, ShipmentListener.class);
+				this.context.registerBean("payloadListener" + i, PayloadListener.class);
+			}
+			this.context.refresh();
+			this.event = new OrderEvent(this.context);
+		}
+
+		@TearDown
+		public void teardown() {
+			this.context.close();
+		}
+	}
+
+	@Benchmark
+	public void publishEvent(BenchmarkState state, Blackhole bh) {
+		state.context.publishEvent(state.event);
+		bh.consume(state.event);
+	}
+
+	@Benchmark
+	public void publishPayloadEvent(BenchmarkState state, Blackhole bh) {
+		state.context.publishEvent(state.payload);
+		bh.consume(state.payload);
+	}
+
+	@Benchmark
+	public void publishEventWithListenerChurn(BenchmarkState state, Blackhole bh) {
+		state.context.addApplicationListener(state.auditListener);
+		state.context.publishEvent(state.event);
+		state.context.removeApplicationListener(state.auditListener);
+		bh.consume(state.event);
+	}
+
+
+	@SuppressWarnings("serial")
+	public static class OrderEvent extends ApplicationEvent {
+
+		public OrderEvent(Object source) {
+			super(source);
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	public static class ShipmentEvent extends ApplicationEvent {
+
+		public ShipmentEvent(Object source) {
+			super(source);
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	public static class AuditEvent extends ApplicationEvent {
+
+		public AuditEvent(Object source) {
+			super(source);
+		}
+	}
+
+
+	public static class OrderListener implements ApplicationListener<OrderEvent> {
+
+		private int count;
+
+		@Override
+		public void onApplicationEvent(OrderEvent event) {
+			this.count++;
+		}
+	}
+
+
+	public static class ShipmentListener implements ApplicationListener<ShipmentEvent> {
+
+		private int count;
+
+		@Override
+		public void onApplicationEvent(ShipmentEvent event) {
+			this.count++;
+		}
+	}
+
+
+	public static class PayloadListener implements ApplicationListener<PayloadApplicationEvent<String>> {
+
+		private int count;
+
+		@Override
+		public void onApplicationEvent(PayloadApplicationEvent<String> event) {
+			this.count++;
+		}
+	}
+
+
+	public static class AuditListener implements ApplicationListener<AuditEvent> {
+
+		private int count;
+
+		@Override
+		public void onApplicationEvent(AuditEvent event) {
+			this.count++;
+		}
+	}
+
+}
@@ -16,11 +16,20 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
@@ -46,6 +55,18 @@ import org.springframework.util.Assert;
  * them with a predefined internal object. This behavior can be changed through the
  * {@link #ConcurrentMapCache(String, ConcurrentMap, boolean)} constructor.
  *
+ * <p>As of 7.0, a cache may also be created with a maximum size as well as
+ * with a time-to-live and/or time-to-idle for its entries, through the
+ * {@link #ConcurrentMapCache(String, boolean, long, Duration, Duration)}
+ * constructor. Once the maximum size is exceeded, entries are evicted in
+ * approximate least-recently-used order, giving recently accessed entries a
+ * second chance ("clock" algorithm). Expired entries are removed lazily on
+ * access and incrementally on write, with each write inspecting a few entries.
+ * Hit, miss, and eviction counts are available through {@link #getHitCount()},
+ * {@link #getMissCount()}, and {@link #getEvictionCount()} once
+ * {@link #setStatisticsEnabled statistics are enabled}. For more sophisticated
+ * eviction policies, consider {@link org.springframework.cache.caffeine.CaffeineCache}.
+ *
  * @author Costin Leau
  * @author Juergen Hoeller
  * @author Stephane Nicoll
@@ -54,12 +75,44 @@ import org.springframework.util.Assert;
  */
 public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 
+	/**
+	 * The number of entries inspected for expiration per write.
+	 */
+	private static final int EXPIRATION_BATCH_SIZE = 16;
+
+
 	private final String name;
 
 	private final ConcurrentMap<Object, Object> store;
 
 	private final @Nullable SerializationDelegate serialization;
 
+	private final long maximumSize;
+
+	private final long timeToLive;
+
+	private final long timeToIdle;
+
+	private final boolean bounded;
+
+	private final @Nullable Queue<CacheEntry> evictionQueue;
+
+	private final AtomicInteger evictionQueueSize = new AtomicInteger();
+
+	private final ReentrantLock expirationLock = new ReentrantLock();
+
+	private @Nullable Iterator<Map.Entry<Object, Object>> expirationCursor;
+
+	private boolean statisticsEnabled;
+
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
+
+	private Clock clock = Clock.systemUTC();
+
 
 	/**
 	 * Create a new ConcurrentMapCache with the specified name.
@@ -113,6 +166,67 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 		this.name = name;
 		this.store = store;
 		this.serialization = serialization;
+		this.maximumSize = 0;
+		this.timeToLive = 0;
+		this.timeToIdle = 0;
+		this.bounded = false;
+		this.evictionQueue = null;
+	}
+
+	/**
+	 * Create a new ConcurrentMapCache with the specified name, bounded
+	 * in size and/or with expiring entries.
+	 * @param name the name of the cache
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 * @param maximumSize the maximum number of entries, or 0 for no limit
+	 * @param timeToLive the time after which an entry expires once written,
+	 * or {@code null} for no expiration
+	 * @param timeToIdle the time after which an entry expires once last accessed,
+	 * or {@code null} for no expiration
+	 * @since 7.0
+	 */
+	public ConcurrentMapCache(String name, boolean allowNullValues, long maximumSize,
+			@Nullable Duration timeToLive, @Nullable Duration timeToIdle) {
+
+		this(name, allowNullValues, maximumSize, timeToLive, timeToIdle, null);
+	}
+
+	/**
+	 * Create a new ConcurrentMapCache with the specified name, bounded
+	 * in size and/or with expiring entries. If the {@link SerializationDelegate}
+	 * is specified, {@link #isStoreByValue() store-by-value} is enabled.
+	 * <p>The {@link #getNativeCache() native cache} of such a cache holds
+	 * internal entry objects that keep track of write and access times.
+	 * @param name the name of the cache
+	 * @param allowNullValues whether to allow {@code null} values
+	 * (adapting them to an internal null holder value)
+	 * @param maximumSize the maximum number of entries, or 0 for no limit
+	 * @param timeToLive the time after which an entry expires once written,
+	 * or {@code null} for no expiration
+	 * @param timeToIdle the time after which an entry expires once last accessed,
+	 * or {@code null} for no expiration
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache entry or {@code null} to store the reference
+	 * @since 7.0
+	 */
+	protected ConcurrentMapCache(String name, boolean allowNullValues, long maximumSize,
+			@Nullable Duration timeToLive, @Nullable Duration timeToIdle,
+			@Nullable SerializationDelegate serialization) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(maximumSize >= 0, "Maximum size must not be negative");
+		Assert.isTrue(timeToLive == null || !timeToLive.isNegative(), "Time-to-live must not be negative");
+		Assert.isTrue(timeToIdle == null || !timeToIdle.isNegative(), "Time-to-idle must not be negative");
+		this.name = name;
+		this.store = new ConcurrentHashMap<>(256);
+		this.serialization = serialization;
+		this.maximumSize = maximumSize;
+		this.timeToLive = (timeToLive != null ? timeToLive.toMillis() : 0);
+		this.timeToIdle = (timeToIdle != null ? timeToIdle.toMillis() : 0);
+		this.bounded = (this.maximumSize > 0 || this.timeToLive > 0 || this.timeToIdle > 0);
+		this.evictionQueue = (this.maximumSize > 0 ? new ConcurrentLinkedQueue<>() : null);
 	}
 
 
@@ -126,6 +240,97 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 		return (this.serialization != null);
 	}
 
+	/**
+	 * Return the maximum number of entries in this cache, or 0 if unbounded.
+	 * @since 7.0
+	 */
+	public final long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Return the time after which an entry expires once written, if any.
+	 * @since 7.0
+	 */
+	public final @Nullable Duration getTimeToLive() {
+		return (this.timeToLive > 0 ? Duration.ofMillis(this.timeToLive) : null);
+	}
+
+	/**
+	 * Return the time after which an entry expires once last accessed, if any.
+	 * @since 7.0
+	 */
+	public final @Nullable Duration getTimeToIdle() {
+		return (this.timeToIdle > 0 ? Duration.ofMillis(this.timeToIdle) : null);
+	}
+
+	/**
+	 * Configure the {@link Clock} to use to determine the expiration of entries.
+	 * <p>By default, {@link Clock#systemUTC()} is used.
+	 * @param clock the clock to use
+	 * @since 7.0
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock must not be null");
+		this.clock = clock;
+	}
+
+	/**
+	 * Return the configured clock for the expiration of entries.
+	 * @since 7.0
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Specify whether to record hit, miss, and eviction counts for this cache.
+	 * <p>Default is {@code false}, avoiding the counting overhead on each access.
+	 * @since 7.0
+	 * @see #getHitCount()
+	 * @see #getMissCount()
+	 * @see #getEvictionCount()
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
+	/**
+	 * Return whether hit, miss, and eviction counts are recorded for this cache.
+	 * @since 7.0
+	 */
+	public boolean isStatisticsEnabled() {
+		return this.statisticsEnabled;
+	}
+
+	/**
+	 * Return the number of lookups that found a value in this cache.
+	 * <p>Only recorded if {@link #setStatisticsEnabled statistics are enabled}.
+	 * @since 7.0
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of lookups that did not find a value in this cache.
+	 * <p>Only recorded if {@link #setStatisticsEnabled statistics are enabled}.
+	 * @since 7.0
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of entries removed from this cache because they
+	 * expired or because the maximum size was exceeded.
+	 * <p>Only recorded if {@link #setStatisticsEnabled statistics are enabled}.
+	 * @since 7.0
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+
 	@Override
 	public final String getName() {
 		return this.name;
@@ -138,15 +343,22 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 
 	@Override
 	protected @Nullable Object lookup(Object key) {
-		return this.store.get(key);
+		Object value = this.store.get(key);
+		if (value instanceof CacheEntry entry) {
+			value = getLiveValue(key, entry, this.clock.millis());
+		}
+		if (this.statisticsEnabled) {
+			(value != null ? this.hitCount : this.missCount).increment();
+		}
+		return value;
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
-		return (T) fromStoreValue(this.store.computeIfAbsent(key, k -> {
+		return (T) fromStoreValue(computeIfAbsent(key, () -> {
 			try {
-				return toStoreValue(valueLoader.call());
+				return valueLoader.call();
 			}
 			catch (Throwable ex) {
 				throw new ValueRetrievalException(key, valueLoader, ex);
@@ -165,18 +377,44 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 	@Override
 	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
 		return CompletableFuture.supplyAsync(() ->
-				(T) fromStoreValue(this.store.computeIfAbsent(key, k -> toStoreValue(valueLoader.get().join()))));
+				(T) fromStoreValue(computeIfAbsent(key, () -> valueLoader.get().join())));
 	}
 
 	@Override
 	public void put(Object key, @Nullable Object value) {
-		this.store.put(key, toStoreValue(value));
+		if (this.bounded) {
+			CacheEntry entry = new CacheEntry(key, toStoreValue(value), this.clock.millis());
+			this.store.put(key, entry);
+			afterWrite(entry);
+		}
+		else {
+			this.store.put(key, toStoreValue(value));
+		}
 	}
 
 	@Override
 	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
-		Object existing = this.store.putIfAbsent(key, toStoreValue(value));
-		return toValueWrapper(existing);
+		if (!this.bounded) {
+			Object existing = this.store.putIfAbsent(key, toStoreValue(value));
+			return toValueWrapper(existing);
+		}
+		long now = this.clock.millis();
+		CacheEntry entry = new CacheEntry(key, toStoreValue(value), now);
+		while (true) {
+			Object existing = this.store.putIfAbsent(key, entry);
+			if (existing == null) {
+				afterWrite(entry);
+				return null;
+			}
+			if (!(existing instanceof CacheEntry existingEntry)) {
+				return toValueWrapper(existing);
+			}
+			Object existingValue = getLiveValue(key, existingEntry, now);
+			if (existingValue != null) {
+				return toValueWrapper(existingValue);
+			}
+			// Expired entry removed: try again
+		}
 	}
 
 	@Override
@@ -192,15 +430,196 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 	@Override
 	public void clear() {
 		this.store.clear();
+		if (this.evictionQueue != null) {
+			this.evictionQueue.clear();
+			this.evictionQueueSize.set(0);
+		}
+		this.expirationCursor = null;
 	}
 
 	@Override
 	public boolean invalidate() {
 		boolean notEmpty = !this.store.isEmpty();
-		this.store.clear();
+		clear();
 		return notEmpty;
 	}
 
+	/**
+	 * Return the store value for the given key, computing it from the given
+	 * loader if not present, and keeping track of hits and misses.
+	 */
+	private Object computeIfAbsent(Object key, Supplier<@Nullable Object> valueLoader) {
+		if (!this.bounded) {
+			Object value = this.store.get(key);
+			if (value != null) {
+				recordHit();
+				return value;
+			}
+			boolean[] loaded = new boolean[1];
+			value = this.store.computeIfAbsent(key, k -> {
+				loaded[0] = true;
+				return toStoreValue(valueLoader.get());
+			});
+			if (loaded[0]) {
+				recordMiss();
+			}
+			else {
+				recordHit();
+			}
+			return value;
+		}
+
+		Object current = this.store.get(key);
+		if (current instanceof CacheEntry entry) {
+			long now = this.clock.millis();
+			Object value = getLiveValue(key, entry, now);
+			if (value != null) {
+				recordHit();
+				return value;
+			}
+		}
+		else if (current != null) {
+			recordHit();
+			return current;
+		}
+		recordMiss();
+		CacheEntry[] created = new CacheEntry[1];
+		Object result = this.store.compute(key, (k, existing) -> {
+			long now = this.clock.millis();
+			if (existing instanceof CacheEntry entry && !isExpired(entry, now)) {
+				// Loaded concurrently in the meantime
+				entry.touch(now);
+				return entry;
+			}
+			else if (existing != null && !(existing instanceof CacheEntry)) {
+				return existing;
+			}
+			created[0] = new CacheEntry(k, toStoreValue(valueLoader.get()), now);
+			return created[0];
+		});
+		if (created[0] != null) {
+			afterWrite(created[0]);
+		}
+		return (result instanceof CacheEntry entry ? entry.value : result);
+	}
+
+	/**
+	 * Return the value of the given entry, or {@code null} after removing it
+	 * from the store if it has expired.
+	 */
+	private @Nullable Object getLiveValue(Object key, CacheEntry entry, long now) {
+		if (isExpired(entry, now)) {
+			if (this.store.remove(key, entry)) {
+				recordEviction();
+			}
+			return null;
+		}
+		entry.touch(now);
+		return entry.value;
+	}
+
+	private boolean isExpired(CacheEntry entry, long now) {
+		return ((this.timeToLive > 0 && now - entry.writeTime >= this.timeToLive) ||
+				(this.timeToIdle > 0 && now - entry.accessTime >= this.timeToIdle));
+	}
+
+	/**
+	 * Enforce the maximum size and expiration after a new entry was written.
+	 */
+	private void afterWrite(CacheEntry entry) {
+		Queue<CacheEntry> queue = this.evictionQueue;
+		if (queue != null) {
+			queue.offer(entry);
+			if (this.evictionQueueSize.incrementAndGet() > 2 * this.maximumSize) {
+				// Drop entries that were replaced or removed from the store in the meantime
+				if (queue.removeIf(candidate -> this.store.get(candidate.key) != candidate)) {
+					this.evictionQueueSize.set(queue.size());
+				}
+			}
+			evictIfNecessary(queue);
+		}
+		if (this.timeToLive > 0 || this.timeToIdle > 0) {
+			removeExpiredEntries(entry.writeTime);
+		}
+	}
+
+	/**
+	 * Evict entries until the cache is within its maximum size, giving
+	 * entries that were accessed since the last pass a second chance.
+	 */
+	private void evictIfNecessary(Queue<CacheEntry> queue) {
+		long secondChances = 0;
+		while (this.store.size() > this.maximumSize) {
+			CacheEntry candidate = queue.poll();
+			if (candidate == null) {
+				return;
+			}
+			this.evictionQueueSize.decrementAndGet();
+			if (this.store.get(candidate.key) != candidate) {
+				continue;
+			}
+			if (candidate.referenced && secondChances++ < this.maximumSize) {
+				candidate.referenced = false;
+				queue.offer(candidate);
+				this.evictionQueueSize.incrementAndGet();
+				continue;
+			}
+			if (this.store.remove(candidate.key, candidate)) {
+				recordEviction();
+			}
+		}
+	}
+
+	/**
+	 * Remove expired entries from the store, inspecting a limited number of
+	 * entries per write and resuming where the previous write left off.
+	 * <p>This amortizes the cost of a full sweep across writes. A write that
+	 * finds another thread sweeping does not wait for it.
+	 */
+	private void removeExpiredEntries(long now) {
+		if (!this.expirationLock.tryLock()) {
+			return;
+		}
+		try {
+			Iterator<Map.Entry<Object, Object>> cursor = this.expirationCursor;
+			for (int i = 0; i < EXPIRATION_BATCH_SIZE; i++) {
+				if (cursor == null || !cursor.hasNext()) {
+					cursor = this.store.entrySet().iterator();
+					if (!cursor.hasNext()) {
+						break;
+					}
+				}
+				Map.Entry<Object, Object> candidate = cursor.next();
+				if (candidate.getValue() instanceof CacheEntry entry && isExpired(entry, now) &&
+						this.store.remove(candidate.getKey(), entry)) {
+					recordEviction();
+				}
+			}
+			this.expirationCursor = cursor;
+		}
+		finally {
+			this.expirationLock.unlock();
+		}
+	}
+
+	private void recordHit() {
+		if (this.statisticsEnabled) {
+			this.hitCount.increment();
+		}
+	}
+
+	private void recordMiss() {
+		if (this.statisticsEnabled) {
+			this.missCount.increment();
+		}
+	}
+
+	private void recordEviction() {
+		if (this.statisticsEnabled) {
+			this.evictionCount.increment();
+		}
+	}
+
 	@Override
 	protected Object toStoreValue(@Nullable Object userValue) {
 		Object storeValue = super.toStoreValue(userValue);
@@ -233,4 +652,42 @@ public class ConcurrentMapCache extends AbstractValueAdaptingCache {
 		}
 	}
 
+
+	/**
+	 * Holder for a store value in a bounded or expiring cache.
+	 */
+	private static final class CacheEntry {
+
+		final Object key;
+
+		final Object value;
+
+		final long writeTime;
+
+		volatile long accessTime;
+
+		volatile boolean referenced;
+
+		CacheEntry(Object key, Object value, long writeTime) {
+			this.key = key;
+			this.value = value;
+			this.writeTime = writeTime;
+			this.accessTime = writeTime;
+		}
+
+		void touch(long now) {
+			if (this.accessTime != now) {
+				this.accessTime = now;
+			}
+			if (!this.referenced) {
+				this.referenced = true;
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "CacheEntry for value [" + this.value + "]";
+		}
+	}
+
 }
@@ -16,6 +16,7 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.concurrent.ConcurrentMap;
 
 import org.jspecify.annotations.Nullable;
@@ -23,6 +24,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -47,6 +49,14 @@ public class ConcurrentMapCacheFactoryBean
 
 	private boolean allowNullValues = true;
 
+	private long maximumSize;
+
+	private @Nullable Duration timeToLive;
+
+	private @Nullable Duration timeToIdle;
+
+	private boolean statisticsEnabled;
+
 	private @Nullable ConcurrentMapCache cache;
 
 
@@ -76,6 +86,47 @@ public class ConcurrentMapCacheFactoryBean
 		this.allowNullValues = allowNullValues;
 	}
 
+	/**
+	 * Specify the maximum number of entries, evicting entries in approximate
+	 * least-recently-used order once exceeded.
+	 * <p>Default is 0, indicating no limit. Not applicable in combination
+	 * with a custom {@link #setStore store}.
+	 * @since 7.0
+	 */
+	public void setMaximumSize(long maximumSize) {
+		this.maximumSize = maximumSize;
+	}
+
+	/**
+	 * Specify the time after which an entry expires once written.
+	 * <p>Default is none. Not applicable in combination with a custom
+	 * {@link #setStore store}.
+	 * @since 7.0
+	 */
+	public void setTimeToLive(@Nullable Duration timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Specify the time after which an entry expires once last accessed.
+	 * <p>Default is none. Not applicable in combination with a custom
+	 * {@link #setStore store}.
+	 * @since 7.0
+	 */
+	public void setTimeToIdle(@Nullable Duration timeToIdle) {
+		this.timeToIdle = timeToIdle;
+	}
+
+	/**
+	 * Specify whether to record hit, miss, and eviction counts for the cache.
+	 * <p>Default is {@code false}.
+	 * @since 7.0
+	 * @see ConcurrentMapCache#setStatisticsEnabled(boolean)
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		this.statisticsEnabled = statisticsEnabled;
+	}
+
 	@Override
 	public void setBeanName(String beanName) {
 		if (!StringUtils.hasLength(this.name)) {
@@ -85,8 +136,20 @@ public class ConcurrentMapCacheFactoryBean
 
 	@Override
 	public void afterPropertiesSet() {
-		this.cache = (this.store != null ? new ConcurrentMapCache(this.name, this.store, this.allowNullValues) :
-				new ConcurrentMapCache(this.name, this.allowNullValues));
+		boolean bounded = (this.maximumSize > 0 || this.timeToLive != null || this.timeToIdle != null);
+		Assert.state(this.store == null || !bounded,
+				"Maximum size and expiration cannot be combined with a custom store");
+		if (this.store != null) {
+			this.cache = new ConcurrentMapCache(this.name, this.store, this.allowNullValues);
+		}
+		else if (bounded) {
+			this.cache = new ConcurrentMapCache(this.name, this.allowNullValues,
+					this.maximumSize, this.timeToLive, this.timeToIdle);
+		}
+		else {
+			this.cache = new ConcurrentMapCache(this.name, this.allowNullValues);
+		}
+		this.cache.setStatisticsEnabled(this.statisticsEnabled);
 	}
 
 
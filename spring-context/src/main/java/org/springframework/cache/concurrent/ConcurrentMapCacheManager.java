@@ -16,6 +16,7 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,6 +31,7 @@ import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.util.ObjectUtils;
 
 /**
  * {@link CacheManager} implementation that lazily builds {@link ConcurrentMapCache}
@@ -41,9 +43,11 @@ import org.springframework.core.serializer.support.SerializationDelegate;
  * {@link Cache#retrieve(Object, Supplier)} operations through basic
  * {@code CompletableFuture} adaptation, with early-determined cache misses.
  *
- * <p>Note: This is by no means a sophisticated CacheManager; it comes with no
- * cache configuration options. However, it may be useful for testing or simple
- * caching scenarios. For advanced local caching needs, consider
+ * <p>Note: This is by no means a sophisticated CacheManager; it comes with
+ * basic cache configuration options only, such as a {@link #setMaximumSize
+ * maximum size} and a {@link #setTimeToLive time-to-live} or
+ * {@link #setTimeToIdle time-to-idle} for entries. However, it may be useful
+ * for testing or simple caching scenarios. For advanced local caching needs, consider
  * {@link org.springframework.cache.caffeine.CaffeineCacheManager} or
  * {@link org.springframework.cache.jcache.JCacheCacheManager}.
  *
@@ -61,6 +65,14 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 
 	private boolean storeByValue = false;
 
+	private long maximumSize;
+
+	private @Nullable Duration timeToLive;
+
+	private @Nullable Duration timeToIdle;
+
+	private boolean statisticsEnabled;
+
 	private @Nullable SerializationDelegate serialization;
 
 
@@ -150,6 +162,104 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 		return this.storeByValue;
 	}
 
+	/**
+	 * Specify the maximum number of entries for each cache in this cache manager,
+	 * evicting entries in approximate least-recently-used order once exceeded.
+	 * <p>Default is 0, indicating no limit.
+	 * <p>Note: A change of the maximum size will reset all existing caches,
+	 * if any, to reconfigure them with the new limit.
+	 * @since 7.0
+	 * @see ConcurrentMapCache#ConcurrentMapCache(String, boolean, long, Duration, Duration)
+	 */
+	public void setMaximumSize(long maximumSize) {
+		if (maximumSize != this.maximumSize) {
+			this.maximumSize = maximumSize;
+			// Need to recreate all Cache instances with the new eviction configuration...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the maximum number of entries for each cache, or 0 if unbounded.
+	 * @since 7.0
+	 */
+	public long getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	/**
+	 * Specify the time after which an entry expires once written,
+	 * for each cache in this cache manager.
+	 * <p>Default is none, with entries not expiring.
+	 * <p>Note: A change of the time-to-live will reset all existing caches,
+	 * if any, to reconfigure them with the new expiration.
+	 * @since 7.0
+	 */
+	public void setTimeToLive(@Nullable Duration timeToLive) {
+		if (!ObjectUtils.nullSafeEquals(timeToLive, this.timeToLive)) {
+			this.timeToLive = timeToLive;
+			// Need to recreate all Cache instances with the new expiration configuration...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the time after which an entry expires once written, if any.
+	 * @since 7.0
+	 */
+	public @Nullable Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	/**
+	 * Specify the time after which an entry expires once last accessed,
+	 * for each cache in this cache manager.
+	 * <p>Default is none, with entries not expiring.
+	 * <p>Note: A change of the time-to-idle will reset all existing caches,
+	 * if any, to reconfigure them with the new expiration.
+	 * @since 7.0
+	 */
+	public void setTimeToIdle(@Nullable Duration timeToIdle) {
+		if (!ObjectUtils.nullSafeEquals(timeToIdle, this.timeToIdle)) {
+			this.timeToIdle = timeToIdle;
+			// Need to recreate all Cache instances with the new expiration configuration...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the time after which an entry expires once last accessed, if any.
+	 * @since 7.0
+	 */
+	public @Nullable Duration getTimeToIdle() {
+		return this.timeToIdle;
+	}
+
+	/**
+	 * Specify whether to record hit, miss, and eviction counts for each cache
+	 * in this cache manager.
+	 * <p>Default is {@code false}.
+	 * <p>Note: A change of this flag will reset all existing caches,
+	 * if any, to reconfigure them with the new setting.
+	 * @since 7.0
+	 * @see ConcurrentMapCache#setStatisticsEnabled(boolean)
+	 */
+	public void setStatisticsEnabled(boolean statisticsEnabled) {
+		if (statisticsEnabled != this.statisticsEnabled) {
+			this.statisticsEnabled = statisticsEnabled;
+			// Need to recreate all Cache instances with the new statistics setting...
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return whether hit, miss, and eviction counts are recorded for each cache.
+	 * @since 7.0
+	 */
+	public boolean isStatisticsEnabled() {
+		return this.statisticsEnabled;
+	}
+
 	@Override
 	public void setBeanClassLoader(ClassLoader classLoader) {
 		this.serialization = new SerializationDelegate(classLoader);
@@ -196,7 +306,16 @@ public class ConcurrentMapCacheManager implements CacheManager, BeanClassLoaderA
 	 */
 	protected Cache createConcurrentMapCache(String name) {
 		SerializationDelegate actualSerialization = (isStoreByValue() ? this.serialization : null);
-		return new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
+		ConcurrentMapCache cache;
+		if (this.maximumSize > 0 || this.timeToLive != null || this.timeToIdle != null) {
+			cache = new ConcurrentMapCache(name, isAllowNullValues(),
+					this.maximumSize, this.timeToLive, this.timeToIdle, actualSerialization);
+		}
+		else {
+			cache = new ConcurrentMapCache(name, new ConcurrentHashMap<>(256), isAllowNullValues(), actualSerialization);
+		}
+		cache.setStatisticsEnabled(this.statisticsEnabled);
+		return cache;
 	}
 
 }
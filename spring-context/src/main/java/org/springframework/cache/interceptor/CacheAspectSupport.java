@@ -24,8 +24,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
@@ -132,6 +135,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private final @Nullable ReactiveCachingHandler reactiveCachingHandler;
 
+	private final ConcurrentMap<InFlightKey, InFlightInvocation> inFlightInvocations = new ConcurrentHashMap<>(64);
+
+	private boolean coalesceSynchronizedInvocations = false;
+
 	private @Nullable CacheOperationSource cacheOperationSource;
 
 	private SingletonSupplier<KeyGenerator> keyGenerator = SingletonSupplier.of(SimpleKeyGenerator::new);
@@ -228,6 +235,34 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return SupplierUtils.resolve(this.cacheResolver);
 	}
 
+	/**
+	 * Set whether concurrent cache misses for the same key in a {@code sync=true}
+	 * operation should share a single method invocation, independent of the
+	 * locking guarantees of the underlying {@link Cache} implementation.
+	 * <p>Applies to imperative as well as {@code CompletableFuture} and Reactive
+	 * Streams return types. Callers that join an invocation in progress receive
+	 * its result or failure without accessing the cache themselves. A failure is
+	 * rethrown to each imperative caller in a wrapper of its own, and a caller
+	 * that is interrupted while waiting stops waiting with an exception.
+	 * <p>The default is "false", relying on {@link Cache#get(Object, Callable)}
+	 * and {@link Cache#retrieve(Object, Supplier)} alone. Switch this flag to
+	 * "true" in order to share invocations for caches without locking of their own.
+	 * @since 7.0
+	 * @see org.springframework.cache.annotation.Cacheable#sync()
+	 */
+	public void setCoalesceSynchronizedInvocations(boolean coalesceSynchronizedInvocations) {
+		this.coalesceSynchronizedInvocations = coalesceSynchronizedInvocations;
+	}
+
+	/**
+	 * Return whether concurrent cache misses for the same key in a {@code sync=true}
+	 * operation share a single method invocation.
+	 * @since 7.0
+	 */
+	public boolean isCoalesceSynchronizedInvocations() {
+		return this.coalesceSynchronizedInvocations;
+	}
+
 	/**
 	 * Set the {@link CacheManager} to use to create a default {@link CacheResolver}.
 	 * Replace the current {@link CacheResolver}, if any.
@@ -449,7 +484,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			Cache cache = context.getCaches().iterator().next();
 			if (CompletableFuture.class.isAssignableFrom(method.getReturnType())) {
 				AtomicBoolean invokeFailure = new AtomicBoolean(false);
-				CompletableFuture<?> result = doRetrieve(cache, key,
+				CompletableFuture<?> result = doRetrieveShared(cache, key, invokeFailure,
 						() -> {
 							CompletableFuture<?> invokeResult = ((CompletableFuture<?>) invokeOperation(invoker));
 							if (invokeResult == null) {
@@ -483,7 +518,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 			}
 			try {
-				return wrapCacheValue(method, doGet(cache, key, () -> unwrapReturnValue(invokeOperation(invoker))));
+				return wrapCacheValue(method, doGetShared(cache, key, () -> unwrapReturnValue(invokeOperation(invoker))));
 			}
 			catch (Cache.ValueRetrievalException ex) {
 				// Directly propagate ThrowableWrapper from the invoker,
@@ -499,6 +534,112 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+	/**
+	 * Execute {@link #doGet(Cache, Object, Callable)}, sharing the result with
+	 * concurrent callers for the same key if coalescing is enabled.
+	 * <p>A nested call for the same key on the invoking thread proceeds
+	 * independently, rather than waiting for itself.
+	 */
+	private @Nullable Object doGetShared(Cache cache, Object key, Callable<@Nullable Object> valueLoader) {
+		if (!this.coalesceSynchronizedInvocations) {
+			return doGet(cache, key, valueLoader);
+		}
+		InFlightKey inFlightKey = new InFlightKey(cache, key);
+		InFlightInvocation invocation = new InFlightInvocation(Thread.currentThread(), null);
+		InFlightInvocation existing = this.inFlightInvocations.putIfAbsent(inFlightKey, invocation);
+		if (existing != null) {
+			if (existing.leader == Thread.currentThread()) {
+				return doGet(cache, key, valueLoader);
+			}
+			try {
+				return existing.result.get();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(
+						"Interrupted while waiting for shared invocation for cache key '" + key + "'", ex);
+			}
+			catch (ExecutionException ex) {
+				// Wrap the shared failure for this caller, unwrapping any wrapper of the invoking caller
+				Throwable failure = ex.getCause();
+				if (failure instanceof Cache.ValueRetrievalException && failure.getCause() != null) {
+					failure = failure.getCause();
+				}
+				if (failure instanceof CacheOperationInvoker.ThrowableWrapper wrapper) {
+					failure = wrapper.getOriginal();
+				}
+				throw new Cache.ValueRetrievalException(key, valueLoader,
+						new CacheOperationInvoker.ThrowableWrapper(failure));
+			}
+		}
+		try {
+			Object value = doGet(cache, key, valueLoader);
+			invocation.result.complete(value);
+			return value;
+		}
+		catch (RuntimeException | Error ex) {
+			invocation.result.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.inFlightInvocations.remove(inFlightKey, invocation);
+		}
+	}
+
+	/**
+	 * Execute {@link #doRetrieve(Cache, Object, Supplier)}, sharing the result
+	 * with concurrent callers for the same key if coalescing is enabled.
+	 * <p>Each joining caller receives its own {@code CompletableFuture}, with its
+	 * given {@code invokeFailure} flag set if the shared invocation of the
+	 * underlying method failed.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> CompletableFuture<T> doRetrieveShared(Cache cache, Object key, AtomicBoolean invokeFailure,
+			Supplier<CompletableFuture<T>> valueLoader) {
+
+		if (!this.coalesceSynchronizedInvocations) {
+			return doRetrieve(cache, key, valueLoader);
+		}
+		InFlightKey inFlightKey = new InFlightKey(cache, key);
+		InFlightInvocation invocation = new InFlightInvocation(null, invokeFailure);
+		InFlightInvocation existing = this.inFlightInvocations.putIfAbsent(inFlightKey, invocation);
+		if (existing != null) {
+			AtomicBoolean sharedInvokeFailure = existing.invokeFailure;
+			CompletableFuture<T> result = new CompletableFuture<>();
+			existing.result.whenComplete((value, ex) -> {
+				if (ex != null) {
+					if (sharedInvokeFailure != null && sharedInvokeFailure.get()) {
+						invokeFailure.set(true);
+					}
+					result.completeExceptionally(ex);
+				}
+				else {
+					result.complete((T) value);
+				}
+			});
+			return result;
+		}
+		CompletableFuture<T> result;
+		try {
+			result = doRetrieve(cache, key, valueLoader);
+		}
+		catch (RuntimeException | Error ex) {
+			this.inFlightInvocations.remove(inFlightKey, invocation);
+			invocation.result.completeExceptionally(ex);
+			throw ex;
+		}
+		result.whenComplete((value, ex) -> {
+			this.inFlightInvocations.remove(inFlightKey, invocation);
+			if (ex != null) {
+				invocation.result.completeExceptionally(ex);
+			}
+			else {
+				invocation.result.complete(value);
+			}
+		});
+		return result;
+	}
+
 	/**
 	 * Find a cached value only for {@link CacheableOperation} that passes the condition.
 	 * @param contexts the cacheable operations
@@ -1025,6 +1166,32 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	}
 
 
+	/**
+	 * Key for an invocation in progress: a cache key within a specific cache.
+	 */
+	private record InFlightKey(Cache cache, Object key) {
+	}
+
+
+	/**
+	 * Invocation in progress for a {@code sync=true} operation, to be shared
+	 * with concurrent callers for the same key.
+	 */
+	private static final class InFlightInvocation {
+
+		final @Nullable Thread leader;
+
+		final @Nullable AtomicBoolean invokeFailure;
+
+		final CompletableFuture<@Nullable Object> result = new CompletableFuture<>();
+
+		InFlightInvocation(@Nullable Thread leader, @Nullable AtomicBoolean invokeFailure) {
+			this.leader = leader;
+			this.invokeFailure = invokeFailure;
+		}
+	}
+
+
 	private class CachePutRequest {
 
 		private final CacheOperationContext context;
@@ -1119,7 +1286,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				if (adapter.isMultiValue()) {
 					// Flux or similar
 					return adapter.fromPublisher(Flux.from(Mono.fromFuture(
-							doRetrieve(cache, key,
+							doRetrieveShared(cache, key, invokeFailure,
 									() -> Flux.from(adapter.toPublisher(invokeOperation(invoker))).collectList().doOnError(ex -> invokeFailure.set(true)).toFuture())))
 							.flatMap(Flux::fromIterable)
 							.onErrorResume(RuntimeException.class, ex -> {
@@ -1138,7 +1305,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				else {
 					// Mono or similar
 					return adapter.fromPublisher(Mono.fromFuture(
-							doRetrieve(cache, key,
+							doRetrieveShared(cache, key, invokeFailure,
 									() -> Mono.from(adapter.toPublisher(invokeOperation(invoker))).doOnError(ex -> invokeFailure.set(true)).toFuture()))
 							.onErrorResume(RuntimeException.class, ex -> {
 								try {
@@ -1155,7 +1322,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				}
 			}
 			if (KotlinDetector.isSuspendingFunction(method)) {
-				return Mono.fromFuture(doRetrieve(cache, key, () -> {
+				return Mono.fromFuture(doRetrieveShared(cache, key, invokeFailure, () -> {
 					Mono<?> mono = (Mono<?>) invokeOperation(invoker);
 					if (mono != null) {
 						mono = mono.doOnError(ex -> invokeFailure.set(true));
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.annotation;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.util.Assert;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * Persistent cache for classpath scanning results, allowing a
+ * {@link ClassPathScanningCandidateComponentProvider} to skip parsing class
+ * files in jar files that did not match any of its include filters in a
+ * previous run, as long as the containing jar file is unchanged.
+ *
+ * <p>Results are stored in a file per combination of include filters within
+ * the given directory, keyed by class file URL along with a fingerprint of
+ * the containing jar file, consisting of content length and last-modified
+ * timestamp. Class files that matched an include filter are parsed again on
+ * every run, so that exclude filters and conditions are always applied against
+ * current class metadata. Entries for jar files that changed or no longer exist
+ * are dropped whenever the cache file gets rewritten.
+ *
+ * <p>Class files in file system directories are always parsed: whether such a
+ * class matches depends on its meta-annotations and supertypes, which may be
+ * changed independently of the class file itself.
+ *
+ * <p>Only applies to include filters for an annotation type or a target type,
+ * as also supported by the component index. Type hierarchy matches across
+ * jar files are not tracked: after changing a supertype in a different jar
+ * file, the cache directory needs to be cleared.
+ *
+ * @since 7.0
+ * @see ClassPathScanningCandidateComponentProvider#setScanCache
+ * @see ClassPathScanningCandidateComponentProvider#SCAN_CACHE_PROPERTY_NAME
+ */
+public class ClassPathScanCache {
+
+	private static final String FILE_PREFIX = "scan-";
+
+	private static final String FILE_SUFFIX = ".idx";
+
+	private static final String HEADER_PREFIX = "# spring-classpath-scan-cache v2 ";
+
+	private static final Log logger = LogFactory.getLog(ClassPathScanCache.class);
+
+
+	private final Path directory;
+
+	private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new {@code ClassPathScanCache} for the given directory,
+	 * which is created on demand when storing scan results.
+	 * @param directory the directory for the cache files
+	 */
+	public ClassPathScanCache(Path directory) {
+		Assert.notNull(directory, "Directory must not be null");
+		this.directory = directory;
+	}
+
+
+	/**
+	 * Return the directory for the cache files.
+	 */
+	public Path getDirectory() {
+		return this.directory;
+	}
+
+	/**
+	 * Return the segment of this cache for the given include filter keys,
+	 * loading previously stored scan results on first access.
+	 * @param filterKeys the keys of all include filters applied
+	 */
+	Segment getSegment(Collection<String> filterKeys) {
+		String key = String.join(",", new TreeSet<>(filterKeys));
+		return this.segments.computeIfAbsent(key, k -> new Segment(k, this.directory.resolve(
+				FILE_PREFIX + DigestUtils.md5DigestAsHex(k.getBytes(StandardCharsets.UTF_8)) + FILE_SUFFIX)));
+	}
+
+
+	/**
+	 * Scan results for a specific combination of include filters.
+	 */
+	static final class Segment {
+
+		private final String key;
+
+		private final Path file;
+
+		private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+		private final Map<String, String> archiveFingerprints = new ConcurrentHashMap<>();
+
+		private volatile boolean modified;
+
+		Segment(String key, Path file) {
+			this.key = key;
+			this.file = file;
+			load();
+		}
+
+		/**
+		 * Determine the fingerprint for the given class file resource, based on
+		 * the containing jar file.
+		 * @return the fingerprint, or {@code null} if the class file is not
+		 * contained in a jar file or the fingerprint is not determinable
+		 */
+		@Nullable String fingerprint(Resource resource) {
+			try {
+				URL url = resource.getURL();
+				if (!ResourceUtils.isJarURL(url)) {
+					return null;
+				}
+				String archiveKey = ResourceUtils.extractJarFileURL(url).toString();
+				String fingerprint = this.archiveFingerprints.get(archiveKey);
+				if (fingerprint == null) {
+					fingerprint = fingerprintOf(new UrlResource(archiveKey));
+					this.archiveFingerprints.put(archiveKey, fingerprint);
+				}
+				return fingerprint;
+			}
+			catch (IOException ex) {
+				return null;
+			}
+		}
+
+		private static String fingerprintOf(Resource resource) throws IOException {
+			return resource.contentLength() + ":" + resource.lastModified();
+		}
+
+		/**
+		 * Look up the previous scan result for the given class file resource.
+		 * @param resource the class file resource
+		 * @param fingerprint the current fingerprint of the resource
+		 * @return whether the class file matched an include filter, or
+		 * {@code null} if unknown or outdated
+		 */
+		@Nullable Boolean lookup(Resource resource, String fingerprint) {
+			Entry entry = this.entries.get(resource.getDescription());
+			return (entry != null && entry.fingerprint().equals(fingerprint) ? entry.match() : null);
+		}
+
+		/**
+		 * Record the scan result for the given class file resource.
+		 * @param resource the class file resource
+		 * @param fingerprint the fingerprint of the resource as scanned
+		 * @param match whether the class file matched an include filter
+		 */
+		void record(Resource resource, String fingerprint, boolean match) {
+			try {
+				String archiveKey = ResourceUtils.extractJarFileURL(resource.getURL()).toString();
+				this.entries.put(resource.getDescription(), new Entry(archiveKey, fingerprint, match));
+				this.modified = true;
+			}
+			catch (IOException ex) {
+				// Not recordable: parse again next time
+			}
+		}
+
+		/**
+		 * Store the current scan results if modified since last loaded or stored.
+		 */
+		synchronized void storeIfModified() {
+			if (!this.modified) {
+				return;
+			}
+			this.modified = false;
+			pruneEntries();
+			try {
+				Files.createDirectories(this.file.getParent());
+				Path tempFile = Files.createTempFile(this.file.getParent(), FILE_PREFIX, ".tmp");
+				try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+					writer.write(HEADER_PREFIX + this.key);
+					writer.newLine();
+					for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+						writer.write(entry.getKey() + '\t' + entry.getValue().archive() + '\t' +
+								entry.getValue().fingerprint() + '\t' + (entry.getValue().match() ? '1' : '0'));
+						writer.newLine();
+					}
+				}
+				try {
+					Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING,
+							StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex) {
+					Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			catch (IOException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to store classpath scan cache in " + this.file, ex);
+				}
+			}
+		}
+
+		/**
+		 * Remove entries for jar files which changed since the entries were
+		 * recorded, or which do not exist anymore.
+		 */
+		private void pruneEntries() {
+			Map<String, Boolean> existingArchives = new HashMap<>();
+			this.entries.values().removeIf(entry -> {
+				String fingerprint = this.archiveFingerprints.get(entry.archive());
+				if (fingerprint != null) {
+					return !fingerprint.equals(entry.fingerprint());
+				}
+				return !existingArchives.computeIfAbsent(entry.archive(), Segment::archiveExists);
+			});
+		}
+
+		private static boolean archiveExists(String archiveKey) {
+			try {
+				return new UrlResource(archiveKey).exists();
+			}
+			catch (IOException ex) {
+				return false;
+			}
+		}
+
+		private void load() {
+			if (!Files.isRegularFile(this.file)) {
+				return;
+			}
+			try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+				String header = reader.readLine();
+				if (!(HEADER_PREFIX + this.key).equals(header)) {
+					return;
+				}
+				String line;
+				while ((line = reader.readLine()) != null) {
+					int matchIndex = line.lastIndexOf('\t');
+					int fingerprintIndex = line.lastIndexOf('\t', matchIndex - 1);
+					int archiveIndex = line.lastIndexOf('\t', fingerprintIndex - 1);
+					if (archiveIndex > 0) {
+						this.entries.put(line.substring(0, archiveIndex), new Entry(
+								line.substring(archiveIndex + 1, fingerprintIndex),
+								line.substring(fingerprintIndex + 1, matchIndex), line.endsWith("\t1")));
+					}
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Loaded " + this.entries.size() + " classpath scan cache entries from " + this.file);
+				}
+			}
+			catch (IOException ex) {
+				this.entries.clear();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Ignoring unreadable classpath scan cache in " + this.file, ex);
+				}
+			}
+		}
+	}
+
+
+	private record Entry(String archive, String fingerprint, boolean match) {
+	}
+
+}
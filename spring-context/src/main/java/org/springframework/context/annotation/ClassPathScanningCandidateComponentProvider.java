@@ -18,12 +18,22 @@ package org.springframework.context.annotation;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -62,6 +72,7 @@ import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 
 /**
  * A component provider that scans for candidate components starting from a
@@ -104,9 +115,35 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	 */
 	public static final String IGNORE_CLASSFORMAT_PROPERTY_NAME = "spring.classformat.ignore";
 
+	/**
+	 * System property that instructs Spring to parse candidate class files in
+	 * parallel during classpath scanning, using the common {@link ForkJoinPool}
+	 * unless a specific {@linkplain #setScanExecutor scan executor} has been set.
+	 * @since 7.0
+	 * @see #setScanExecutor
+	 */
+	public static final String PARALLEL_SCAN_PROPERTY_NAME = "spring.classpath.scan.parallel";
+
+	/**
+	 * System property that specifies a directory for a persistent
+	 * {@link ClassPathScanCache}, unless a specific {@linkplain #setScanCache
+	 * scan cache} has been set. By default, no scan results are persisted.
+	 * @since 7.0
+	 * @see #setScanCache
+	 */
+	public static final String SCAN_CACHE_PROPERTY_NAME = "spring.classpath.scan.cache";
+
 	private static final boolean shouldIgnoreClassFormatException =
 			SpringProperties.getFlag(IGNORE_CLASSFORMAT_PROPERTY_NAME);
 
+	private static final boolean shouldScanInParallel =
+			SpringProperties.getFlag(PARALLEL_SCAN_PROPERTY_NAME);
+
+	private static final @Nullable String scanCacheDirectory =
+			SpringProperties.getProperty(SCAN_CACHE_PROPERTY_NAME);
+
+	private static volatile @Nullable ClassPathScanCache sharedScanCache;
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -126,6 +163,10 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	private @Nullable CandidateComponentsIndex componentsIndex;
 
+	private @Nullable Executor scanExecutor;
+
+	private @Nullable ClassPathScanCache scanCache;
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -304,6 +345,76 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Set an {@link Executor} for parsing candidate class files in parallel
+	 * during classpath scanning, for example, a {@link ForkJoinPool} or a
+	 * virtual thread executor.
+	 * <p>Class metadata is read concurrently, whereas filters and conditions
+	 * are still applied on the calling thread in resource order, so the set
+	 * of candidate components and its order remain the same as with
+	 * sequential scanning. The configured {@link MetadataReaderFactory} needs
+	 * to be safe for concurrent use, as is the case with the default
+	 * {@link CachingMetadataReaderFactory}.
+	 * <p>Default is none, scanning sequentially unless the
+	 * {@value #PARALLEL_SCAN_PROPERTY_NAME} system property is set to "true".
+	 * @since 7.0
+	 * @see #PARALLEL_SCAN_PROPERTY_NAME
+	 */
+	public void setScanExecutor(@Nullable Executor scanExecutor) {
+		this.scanExecutor = scanExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} for parsing candidate class files in parallel, if any.
+	 * @since 7.0
+	 */
+	public @Nullable Executor getScanExecutor() {
+		if (this.scanExecutor == null && shouldScanInParallel) {
+			return ForkJoinPool.commonPool();
+		}
+		return this.scanExecutor;
+	}
+
+	/**
+	 * Set a persistent {@link ClassPathScanCache} for skipping class files in
+	 * jar files that did not match any include filter in a previous run, as long
+	 * as the containing jar file is unchanged. Class files in file system
+	 * directories are always parsed.
+	 * <p>Only applies if all include filters are plain {@link AnnotationTypeFilter}
+	 * or {@link AssignableTypeFilter} instances, such as the default filters,
+	 * and {@link #isCandidateComponent(MetadataReader)} is not overridden.
+	 * Scan results are kept separately per combination of include filters,
+	 * including their matching options.
+	 * <p>Default is none, unless the {@value #SCAN_CACHE_PROPERTY_NAME}
+	 * system property specifies a cache directory.
+	 * @since 7.0
+	 * @see #SCAN_CACHE_PROPERTY_NAME
+	 */
+	public void setScanCache(@Nullable ClassPathScanCache scanCache) {
+		this.scanCache = scanCache;
+	}
+
+	/**
+	 * Return the persistent {@link ClassPathScanCache} to use, if any.
+	 * @since 7.0
+	 */
+	public @Nullable ClassPathScanCache getScanCache() {
+		if (this.scanCache == null && scanCacheDirectory != null) {
+			ClassPathScanCache cache = sharedScanCache;
+			if (cache == null) {
+				synchronized (ClassPathScanningCandidateComponentProvider.class) {
+					cache = sharedScanCache;
+					if (cache == null) {
+						cache = new ClassPathScanCache(Path.of(scanCacheDirectory));
+						sharedScanCache = cache;
+					}
+				}
+			}
+			return cache;
+		}
+		return this.scanCache;
+	}
+
 
 	/**
 	 * Scan the component index or class path for candidate components.
@@ -417,24 +528,59 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	private Set<BeanDefinition> scanCandidateComponents(String basePackage) {
 		Set<BeanDefinition> candidates = new LinkedHashSet<>();
+		ParallelMetadataReaders metadataReaders = null;
 		try {
 			String packageSearchPath = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
-			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPath);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			ClassPathScanCache.Segment scanCacheSegment = getScanCacheSegment();
+			Map<Resource, String> unknownFingerprints = new HashMap<>();
+			List<Resource> resources = new ArrayList<>();
+			for (Resource resource : getResourcePatternResolver().getResources(packageSearchPath)) {
+				if (isCglibClass(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
+				if (scanCacheSegment != null) {
+					String fingerprint = scanCacheSegment.fingerprint(resource);
+					if (fingerprint != null) {
+						Boolean match = scanCacheSegment.lookup(resource, fingerprint);
+						if (match == null) {
+							unknownFingerprints.put(resource, fingerprint);
+						}
+						else if (!match) {
+							if (traceEnabled) {
+								logger.trace("Ignored because not matching any filter in scan cache: " + resource);
+							}
+							continue;
+						}
+					}
+				}
+				resources.add(resource);
+			}
+			Executor executor = getScanExecutor();
+			if (executor != null && resources.size() > 1) {
+				metadataReaders = new ParallelMetadataReaders(resources, getMetadataReaderFactory(), executor);
+			}
+			for (int i = 0; i < resources.size(); i++) {
+				Resource resource = resources.get(i);
 				if (traceEnabled) {
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
-					if (isCandidateComponent(metadataReader)) {
+					MetadataReader metadataReader;
+					if (metadataReaders != null) {
+						metadataReader = metadataReaders.get(i);
+					}
+					else {
+						metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					}
+					String fingerprint = unknownFingerprints.get(resource);
+					boolean candidate = (scanCacheSegment != null && fingerprint != null ?
+							isCandidateComponent(metadataReader, scanCacheSegment, resource, fingerprint) :
+							isCandidateComponent(metadataReader));
+					if (candidate) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
 						if (isCandidateComponent(sbd)) {
@@ -476,13 +622,72 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					throw new BeanDefinitionStoreException("Failed to read candidate component class: " + resource, ex);
 				}
 			}
+			if (scanCacheSegment != null) {
+				scanCacheSegment.storeIfModified();
+			}
 		}
 		catch (IOException ex) {
 			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
 		}
+		finally {
+			if (metadataReaders != null) {
+				// Skip pending tasks after a scanning failure
+				metadataReaders.cancel();
+			}
+		}
 		return candidates;
 	}
 
+	private ClassPathScanCache.@Nullable Segment getScanCacheSegment() {
+		ClassPathScanCache cache = getScanCache();
+		if (cache == null || this.includeFilters.isEmpty() || !indexSupportsIncludeFilters() ||
+				hasCustomCandidateComponentCheck()) {
+			return null;
+		}
+		List<String> filterKeys = new ArrayList<>(this.includeFilters.size());
+		for (TypeFilter filter : this.includeFilters) {
+			String filterKey = getScanCacheFilterKey(filter);
+			if (filterKey == null) {
+				return null;
+			}
+			filterKeys.add(filterKey);
+		}
+		return cache.getSegment(filterKeys);
+	}
+
+	/**
+	 * Build a key that identifies how the given include filter matches, or
+	 * {@code null} if the filter's matching cannot be fully described, for
+	 * example, in case of a custom filter subclass.
+	 */
+	private static @Nullable String getScanCacheFilterKey(TypeFilter filter) {
+		if (filter.getClass() == AnnotationTypeFilter.class) {
+			AnnotationTypeFilter annotationTypeFilter = (AnnotationTypeFilter) filter;
+			return AnnotationTypeFilter.class.getName() + ':' + annotationTypeFilter.getAnnotationType().getName() +
+					':' + annotationTypeFilter.isConsiderMetaAnnotations() +
+					':' + annotationTypeFilter.isConsiderInterfaces();
+		}
+		if (filter.getClass() == AssignableTypeFilter.class) {
+			return AssignableTypeFilter.class.getName() + ':' +
+					((AssignableTypeFilter) filter).getTargetType().getName();
+		}
+		return null;
+	}
+
+	/**
+	 * Determine whether a subclass overrides {@link #isCandidateComponent(MetadataReader)},
+	 * in which case the scan cache cannot rely on the include filters alone.
+	 */
+	private boolean hasCustomCandidateComponentCheck() {
+		Method method = ReflectionUtils.findMethod(getClass(), "isCandidateComponent", MetadataReader.class);
+		return (method != null && method.getDeclaringClass() != ClassPathScanningCandidateComponentProvider.class);
+	}
+
+	private static boolean isCglibClass(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 
 	/**
 	 * Resolve the specified base package into a pattern specification for
@@ -516,6 +721,36 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		return false;
 	}
 
+	/**
+	 * Variant of {@link #isCandidateComponent(MetadataReader)} that records
+	 * in the given scan cache segment whether the class matches any include
+	 * filter, evaluating each filter only once.
+	 * @param metadataReader the ASM ClassReader for the class
+	 * @param scanCacheSegment the scan cache segment to record the match in
+	 * @param resource the class file resource
+	 * @param fingerprint the fingerprint of the class file
+	 * @return whether the class qualifies as a candidate component
+	 */
+	private boolean isCandidateComponent(MetadataReader metadataReader,
+			ClassPathScanCache.Segment scanCacheSegment, Resource resource, String fingerprint) throws IOException {
+
+		for (TypeFilter tf : this.excludeFilters) {
+			if (tf.match(metadataReader, getMetadataReaderFactory())) {
+				// Include filters not evaluated: keep reading the class in subsequent scans
+				scanCacheSegment.record(resource, fingerprint, true);
+				return false;
+			}
+		}
+		for (TypeFilter tf : this.includeFilters) {
+			if (tf.match(metadataReader, getMetadataReaderFactory())) {
+				scanCacheSegment.record(resource, fingerprint, true);
+				return isConditionMatch(metadataReader);
+			}
+		}
+		scanCacheSegment.record(resource, fingerprint, false);
+		return false;
+	}
+
 	/**
 	 * Determine whether the given class is a candidate component based on any
 	 * {@code @Conditional} annotations.
@@ -557,4 +792,94 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		}
 	}
 
+
+	/**
+	 * Reads class metadata for a list of resources in parallel, ahead of the
+	 * calling thread that consumes the metadata in resource order. The number
+	 * of reads in flight is bounded by a window that is proportional to the
+	 * parallelism of the executor, in order to limit the number of parsed
+	 * class files retained at any time.
+	 */
+	private static class ParallelMetadataReaders {
+
+		private static final int WINDOW_PER_THREAD = 4;
+
+		private final List<Resource> resources;
+
+		private final MetadataReaderFactory metadataReaderFactory;
+
+		private final Executor executor;
+
+		private final int window;
+
+		private final List<@Nullable CompletableFuture<MetadataReader>> metadataReaders;
+
+		ParallelMetadataReaders(List<Resource> resources, MetadataReaderFactory metadataReaderFactory,
+				Executor executor) {
+
+			this.resources = resources;
+			this.metadataReaderFactory = metadataReaderFactory;
+			this.executor = executor;
+			int parallelism = (executor instanceof ForkJoinPool forkJoinPool ?
+					forkJoinPool.getParallelism() : Runtime.getRuntime().availableProcessors());
+			this.window = Math.max(parallelism, 1) * WINDOW_PER_THREAD;
+			this.metadataReaders = new ArrayList<>(Collections.nCopies(resources.size(), null));
+			for (int i = 0; i < Math.min(this.window, resources.size()); i++) {
+				this.metadataReaders.set(i, readMetadata(resources.get(i)));
+			}
+		}
+
+		/**
+		 * Return the metadata for the resource at the given index, submitting
+		 * the read of the next resource beyond the current window.
+		 */
+		MetadataReader get(int index) throws IOException {
+			// Release the reference for garbage collection
+			CompletableFuture<MetadataReader> metadataReader = this.metadataReaders.set(index, null);
+			Assert.state(metadataReader != null, "No pending MetadataReader");
+			int next = index + this.window;
+			if (next < this.resources.size()) {
+				this.metadataReaders.set(next, readMetadata(this.resources.get(next)));
+			}
+			try {
+				return metadataReader.join();
+			}
+			catch (CompletionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof UncheckedIOException uioe) {
+					throw uioe.getCause();
+				}
+				if (cause instanceof RuntimeException rex) {
+					throw rex;
+				}
+				if (cause instanceof Error err) {
+					throw err;
+				}
+				throw ex;
+			}
+		}
+
+		/**
+		 * Cancel all reads that are still pending.
+		 */
+		void cancel() {
+			for (CompletableFuture<MetadataReader> metadataReader : this.metadataReaders) {
+				if (metadataReader != null) {
+					metadataReader.cancel(false);
+				}
+			}
+		}
+
+		private CompletableFuture<MetadataReader> readMetadata(Resource resource) {
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					return this.metadataReaderFactory.getMetadataReader(resource);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}, this.executor);
+		}
+	}
+
 }
@@ -18,10 +18,10 @@ package org.springframework.context.event;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
@@ -107,11 +107,15 @@ public abstract class AbstractApplicationEventMulticaster
 			// Explicitly remove target for a proxy, if registered already,
 			// in order to avoid double invocations of the same listener.
 			Object singletonTarget = AopProxyUtils.getSingletonTarget(listener);
-			if (singletonTarget instanceof ApplicationListener) {
-				this.defaultRetriever.applicationListeners.remove(singletonTarget);
+			if (singletonTarget instanceof ApplicationListener<?> targetListener &&
+					this.defaultRetriever.applicationListeners.remove(targetListener)) {
+				invalidateRetrieverCache(targetListener);
+			}
+			if (this.defaultRetriever.applicationListeners.add(listener)) {
+				// Only invalidate cached retrievers for event types supported by the new listener.
+				this.retrieverCache.entrySet().removeIf(entry ->
+						supportsEvent(listener, entry.getKey().eventType, entry.getKey().sourceType));
 			}
-			this.defaultRetriever.applicationListeners.add(listener);
-			this.retrieverCache.clear();
 		}
 	}
 
@@ -126,8 +130,9 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListener(ApplicationListener<?> listener) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.remove(listener);
-			this.retrieverCache.clear();
+			if (this.defaultRetriever.applicationListeners.remove(listener)) {
+				invalidateRetrieverCache(listener);
+			}
 		}
 	}
 
@@ -142,8 +147,13 @@ public abstract class AbstractApplicationEventMulticaster
 	@Override
 	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
 		synchronized (this.defaultRetriever) {
-			this.defaultRetriever.applicationListeners.removeIf(predicate);
-			this.retrieverCache.clear();
+			for (Iterator<ApplicationListener<?>> it = this.defaultRetriever.applicationListeners.iterator(); it.hasNext();) {
+				ApplicationListener<?> listener = it.next();
+				if (predicate.test(listener)) {
+					it.remove();
+					invalidateRetrieverCache(listener);
+				}
+			}
 		}
 	}
 
@@ -164,6 +174,15 @@ public abstract class AbstractApplicationEventMulticaster
 		}
 	}
 
+	/**
+	 * Remove all cached retrievers which contain the given listener,
+	 * keeping the pre-filtered listeners for all other event types.
+	 * <p>To be called within synchronization on the default retriever.
+	 */
+	private void invalidateRetrieverCache(ApplicationListener<?> listener) {
+		this.retrieverCache.values().removeIf(retriever -> retriever.mayContain(listener));
+	}
+
 
 	/**
 	 * Return a Collection containing all ApplicationListeners.
@@ -182,7 +201,8 @@ public abstract class AbstractApplicationEventMulticaster
 	 * @param event the event to be propagated. Allows for excluding
 	 * non-matching listeners early, based on cached matching information.
 	 * @param eventType the event type
-	 * @return a Collection of ApplicationListeners
+	 * @return a Collection of ApplicationListeners (not to be modified, since
+	 * potentially shared across event publications as of 7.0)
 	 * @see org.springframework.context.ApplicationListener
 	 */
 	protected Collection<ApplicationListener<?>> getApplicationListeners(
@@ -316,6 +336,7 @@ public abstract class AbstractApplicationEventMulticaster
 		if (retriever != null) {
 			if (CollectionUtils.isEmpty(filteredListenerBeans)) {
 				retriever.applicationListeners = new LinkedHashSet<>(allListeners);
+				retriever.sortedListeners = List.copyOf(allListeners);
 				retriever.applicationListenerBeans = filteredListenerBeans;
 			}
 			else {
@@ -408,10 +429,13 @@ public abstract class AbstractApplicationEventMulticaster
 
 		private final @Nullable Class<?> sourceType;
 
+		private final int hashCode;
+
 		public ListenerCacheKey(ResolvableType eventType, @Nullable Class<?> sourceType) {
 			Assert.notNull(eventType, "Event type must not be null");
 			this.eventType = eventType;
 			this.sourceType = sourceType;
+			this.hashCode = this.eventType.hashCode() * 29 + ObjectUtils.nullSafeHashCode(this.sourceType);
 		}
 
 		@Override
@@ -423,7 +447,7 @@ public abstract class AbstractApplicationEventMulticaster
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.eventType, this.sourceType);
+			return this.hashCode;
 		}
 
 		@Override
@@ -459,7 +483,21 @@ public abstract class AbstractApplicationEventMulticaster
 
 		public volatile @Nullable Set<String> applicationListenerBeans;
 
+		/** Pre-sorted immutable listeners, in case of no listener beans to retrieve per event. */
+		public volatile @Nullable List<ApplicationListener<?>> sortedListeners;
+
+		public boolean mayContain(ApplicationListener<?> listener) {
+			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
+			return (applicationListeners == null || applicationListeners.contains(listener));
+		}
+
 		public @Nullable Collection<ApplicationListener<?>> getApplicationListeners() {
+			List<ApplicationListener<?>> sortedListeners = this.sortedListeners;
+			if (sortedListeners != null) {
+				// Fully populated with pre-sorted listeners: no need to copy
+				return sortedListeners;
+			}
+
 			Set<ApplicationListener<?>> applicationListeners = this.applicationListeners;
 			Set<String> applicationListenerBeans = this.applicationListenerBeans;
 			if (applicationListeners == null || applicationListenerBeans == null) {
@@ -37,8 +37,11 @@ import org.reactivestreams.Subscription;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.PayloadApplicationEvent;
 import org.springframework.context.expression.AnnotatedElementKey;
+import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.core.BridgeMethodResolver;
 import org.springframework.core.CoroutinesUtils;
 import org.springframework.core.KotlinDetector;
@@ -49,6 +52,7 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.lang.Contract;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
@@ -65,6 +69,9 @@ import org.springframework.util.StringUtils;
  * to define any arbitrary event type. If a condition is defined, it is
  * evaluated prior to invoking the underlying method.
  *
+ * <p>For a method annotated with {@link EventBatch @EventBatch}, events are
+ * buffered and the underlying method is invoked with a list of events.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -96,6 +103,8 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 
 	private final int order;
 
+	private final @Nullable EventBatcher batcher;
+
 	private volatile @Nullable String listenerId;
 
 	private @Nullable ApplicationContext applicationContext;
@@ -117,20 +126,30 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		this.methodKey = new AnnotatedElementKey(this.targetMethod, targetClass);
 
 		EventListener ann = AnnotatedElementUtils.findMergedAnnotation(this.targetMethod, EventListener.class);
-		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann);
+		EventBatch batch = AnnotatedElementUtils.findMergedAnnotation(this.targetMethod, EventBatch.class);
+		this.declaredEventTypes = resolveDeclaredEventTypes(method, ann, batch != null);
 		this.condition = (ann != null ? ann.condition() : null);
 		this.defaultExecution = (ann == null || ann.defaultExecution());
 		this.order = resolveOrder(this.targetMethod);
 		String id = (ann != null ? ann.id() : "");
 		this.listenerId = (!id.isEmpty() ? id : null);
+		this.batcher = (batch != null ?
+				new EventBatcher(batch.maxSize(), batch.maxDelay(), batch.capacity(), this::processBatch) : null);
 	}
 
-	private static List<ResolvableType> resolveDeclaredEventTypes(Method method, @Nullable EventListener ann) {
+	private static List<ResolvableType> resolveDeclaredEventTypes(
+			Method method, @Nullable EventListener ann, boolean batch) {
+
 		int count = (KotlinDetector.isSuspendingFunction(method) ? method.getParameterCount() - 1 : method.getParameterCount());
 		if (count > 1) {
 			throw new IllegalStateException(
 					"Maximum one parameter is allowed for event listener method: " + method);
 		}
+		if (batch && (count == 0 || (method.getParameterTypes()[0] != List.class &&
+				method.getParameterTypes()[0] != Collection.class))) {
+			throw new IllegalStateException(
+					"List or Collection parameter is mandatory for batching event listener method: " + method);
+		}
 
 		if (ann != null) {
 			Class<?>[] classes = ann.classes();
@@ -147,7 +166,8 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 			throw new IllegalStateException(
 					"Event parameter is mandatory for event listener method: " + method);
 		}
-		return Collections.singletonList(ResolvableType.forMethodParameter(method, 0));
+		ResolvableType parameterType = ResolvableType.forMethodParameter(method, 0);
+		return Collections.singletonList(batch ? parameterType.asCollection().getGeneric() : parameterType);
 	}
 
 	private static int resolveOrder(Method method) {
@@ -162,6 +182,19 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	void init(ApplicationContext applicationContext, @Nullable EventExpressionEvaluator evaluator) {
 		this.applicationContext = applicationContext;
 		this.evaluator = evaluator;
+		EventBatcher batcher = this.batcher;
+		if (batcher != null) {
+			String multicasterName = AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME;
+			if (applicationContext.containsBean(multicasterName) &&
+					applicationContext.getBean(multicasterName) instanceof SimpleApplicationEventMulticaster multicaster) {
+				batcher.setExecutor(multicaster.getTaskExecutor());
+				batcher.setErrorHandler(multicaster.getErrorHandler());
+			}
+			batcher.setScheduler(applicationContext.getBeanProvider(TaskScheduler.class).getIfUnique());
+			if (applicationContext instanceof ConfigurableApplicationContext cac) {
+				cac.addApplicationListener(new BatchClosingListener(applicationContext, batcher));
+			}
+		}
 	}
 
 
@@ -199,6 +232,17 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		return true;
 	}
 
+	/**
+	 * This implementation returns {@code false} for a batching listener,
+	 * buffering each event in the publishing thread and delivering batches
+	 * on the multicaster's task executor (if any) instead.
+	 * @see EventBatch
+	 */
+	@Override
+	public boolean supportsAsyncExecution() {
+		return (this.batcher == null);
+	}
+
 	@Override
 	public int getOrder() {
 		return this.order;
@@ -249,6 +293,12 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	public void processEvent(ApplicationEvent event) {
 		@Nullable Object[] args = resolveArguments(event);
 		if (shouldHandle(event, args)) {
+			if (this.batcher != null) {
+				if (args.length > 0 && args[0] != null) {
+					this.batcher.add(args[0]);
+				}
+				return;
+			}
 			Object result = doInvoke(args);
 			if (result != null) {
 				handleResult(result);
@@ -259,6 +309,21 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 		}
 	}
 
+	/**
+	 * Process the given batch of buffered events (or payloads) through the
+	 * listener method, handling a non-null result, if any.
+	 * @param batch the events to process
+	 */
+	private void processBatch(List<Object> batch) {
+		Object result = doInvoke(batch);
+		if (result != null) {
+			handleResult(result);
+		}
+		else {
+			logger.trace("No result object given - no result to handle");
+		}
+	}
+
 	/**
 	 * Determine whether the listener method would actually handle the given
 	 * event, checking if the condition matches.
@@ -496,6 +561,35 @@ public class ApplicationListenerMethodAdapter implements GenericApplicationListe
 	}
 
 
+	/**
+	 * Listener delivering the pending events of a batching listener method
+	 * on close of its application context.
+	 */
+	private static class BatchClosingListener implements ApplicationListener<ContextClosedEvent> {
+
+		private final ApplicationContext applicationContext;
+
+		private final EventBatcher batcher;
+
+		BatchClosingListener(ApplicationContext applicationContext, EventBatcher batcher) {
+			this.applicationContext = applicationContext;
+			this.batcher = batcher;
+		}
+
+		@Override
+		public void onApplicationEvent(ContextClosedEvent event) {
+			if (event.getApplicationContext() == this.applicationContext) {
+				this.batcher.close();
+			}
+		}
+
+		@Override
+		public boolean supportsAsyncExecution() {
+			return false;
+		}
+	}
+
+
 	/**
 	 * Inner class to avoid a hard dependency on the Reactive Streams API at runtime.
 	 */
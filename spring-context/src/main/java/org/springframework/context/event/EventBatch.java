@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.aot.hint.annotation.Reflective;
+
+/**
+ * Annotation that switches an {@link EventListener @EventListener} method
+ * to batching delivery: events are buffered per listener and delivered to
+ * the method as a {@code List} once {@link #maxSize} events are pending or
+ * once the first pending event has waited for {@link #maxDelay} milliseconds.
+ *
+ * <pre class="code">
+ * &#064;EventListener
+ * &#064;EventBatch(maxSize = 500, maxDelay = 200)
+ * public void onAuditEvents(List&lt;AuditEvent&gt; events) {
+ *     // ...
+ * }</pre>
+ *
+ * <p>The listener method needs to declare a single {@code List} or
+ * {@code Collection} parameter, with its element type indicating the event
+ * type to listen to (unless specified through {@link EventListener#classes}).
+ * A listener {@link EventListener#condition condition} is evaluated for each
+ * individual event, with the event as method argument.
+ *
+ * <p>Batches are delivered on the
+ * {@link SimpleApplicationEventMulticaster#setTaskExecutor task executor} of
+ * the application event multicaster, if any: as one task per batch rather than
+ * one task per event. Without a task executor, a full batch is delivered in the
+ * publishing thread and a timed-out batch in a new thread. Timed deliveries are
+ * triggered by the context's unique {@link org.springframework.scheduling.TaskScheduler},
+ * if any, or by a timer thread per listener otherwise. Publishing threads are
+ * blocked once {@link #capacity} events are pending, until the listener catches
+ * up; events published by the listener itself are accepted beyond capacity.
+ * On context close, pending events are delivered right away.
+ *
+ * <p>An exception thrown by the listener method is passed to the
+ * {@link SimpleApplicationEventMulticaster#setErrorHandler error handler} of the
+ * multicaster, if any, or logged otherwise; it is never propagated to a publishing
+ * thread. The failed batch is delivered again after {@link #maxDelay}, with further
+ * batches waiting for it, and only dropped if it fails on context close.
+ *
+ * <p>Can be combined with {@code @TransactionalEventListener}, buffering
+ * each event once its transaction reached the specified phase, as well as with
+ * {@link org.springframework.scheduling.annotation.Async @Async}, delivering
+ * each batch asynchronously.
+ *
+ * @since 7.0
+ * @see EventListener
+ * @see ApplicationListenerMethodAdapter
+ */
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Reflective
+public @interface EventBatch {
+
+	/**
+	 * The maximum number of events per batch: 100 by default.
+	 * <p>A batch is delivered as soon as this number of events is pending.
+	 */
+	int maxSize() default 100;
+
+	/**
+	 * The maximum delay in milliseconds between buffering the first event
+	 * of a batch and delivering the batch: 1000 by default.
+	 */
+	long maxDelay() default 1000;
+
+	/**
+	 * The maximum number of pending events for the listener: 10000 by default.
+	 * <p>Once reached, publishing threads are blocked until pending events have
+	 * been delivered. Needs to be at least {@link #maxSize}.
+	 */
+	int capacity() default 10000;
+
+}
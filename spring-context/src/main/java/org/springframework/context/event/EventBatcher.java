@@ -0,0 +1,375 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ConcurrentTaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Buffer for the events of a single {@link EventBatch @EventBatch} listener,
+ * delivering them in batches by size or by time and blocking publishers once
+ * the buffer capacity has been reached.
+ *
+ * <p>At most one batch is delivered at any given time, preserving the order
+ * of buffered events. A batch whose delivery failed is put back in front of
+ * the buffer and delivered again after the maximum delay.
+ *
+ * @since 7.0
+ * @see ApplicationListenerMethodAdapter
+ */
+final class EventBatcher {
+
+	private static final Log logger = LogFactory.getLog(EventBatcher.class);
+
+
+	private final int maxSize;
+
+	private final long maxDelay;
+
+	private final int capacity;
+
+	private final Consumer<List<Object>> consumer;
+
+	private volatile @Nullable TaskScheduler scheduler;
+
+	private volatile @Nullable Executor executor;
+
+	private volatile @Nullable ErrorHandler errorHandler;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Condition bufferChanged = this.lock.newCondition();
+
+	private final List<Object> buffer = new ArrayList<>();
+
+	private @Nullable Thread deliveringThread;
+
+	private boolean delivering;
+
+	private boolean failed;
+
+	private boolean closed;
+
+	private @Nullable ScheduledFuture<?> scheduledDelivery;
+
+	private @Nullable ScheduledThreadPoolExecutor timer;
+
+	private @Nullable Executor timeoutExecutor;
+
+
+	EventBatcher(int maxSize, long maxDelay, int capacity, Consumer<List<Object>> consumer) {
+		Assert.isTrue(maxSize > 0, "EventBatch maxSize must be greater than 0");
+		Assert.isTrue(maxDelay > 0, "EventBatch maxDelay must be greater than 0");
+		Assert.isTrue(capacity >= maxSize, "EventBatch capacity must be at least maxSize");
+		this.maxSize = maxSize;
+		this.maxDelay = maxDelay;
+		this.capacity = capacity;
+		this.consumer = consumer;
+	}
+
+
+	/**
+	 * Set the scheduler for triggering timed deliveries, if any.
+	 * <p>By default, a timer thread of this batcher's own is used, ending
+	 * when idle and shut down on {@link #close()}.
+	 */
+	void setScheduler(@Nullable TaskScheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Set the executor to deliver batches on, if any.
+	 * <p>Without an executor, a full batch is delivered in the publishing thread,
+	 * and a timed-out batch in a new thread.
+	 */
+	void setExecutor(@Nullable Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Set the handler for failed batch deliveries, if any.
+	 * <p>By default, failures are logged at error level.
+	 */
+	void setErrorHandler(@Nullable ErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Buffer the given event, blocking while the buffer is at capacity.
+	 * <p>Events added by the listener itself while a batch is being delivered
+	 * are accepted beyond capacity, since only the listener could free it up.
+	 * @param event the event (or payload) to buffer
+	 */
+	void add(Object event) {
+		boolean deliverNow = false;
+		boolean closed;
+		this.lock.lock();
+		try {
+			boolean interrupted = false;
+			while (this.buffer.size() >= this.capacity && !this.closed &&
+					this.deliveringThread != Thread.currentThread()) {
+				try {
+					this.bufferChanged.await();
+				}
+				catch (InterruptedException ex) {
+					// Accept the event beyond capacity rather than losing it
+					interrupted = true;
+					break;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+			closed = this.closed;
+			this.buffer.add(event);
+			if (closed) {
+				deliverNow = !this.delivering;
+				this.delivering = true;
+			}
+			else if (this.buffer.size() >= this.maxSize && !this.failed) {
+				if (!this.delivering) {
+					this.delivering = true;
+					cancelScheduledDelivery();
+					deliverNow = true;
+				}
+			}
+			else if (this.scheduledDelivery == null && !this.delivering) {
+				scheduleDelivery();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		if (deliverNow) {
+			Executor executor = this.executor;
+			if (executor != null && !closed) {
+				try {
+					executor.execute(() -> deliver(false));
+					return;
+				}
+				catch (RejectedExecutionException ex) {
+					// Probably on shutdown -> deliver locally instead
+				}
+			}
+			deliver(closed);
+		}
+	}
+
+	/**
+	 * Deliver all pending events and switch to immediate delivery of subsequent
+	 * events, waiting for a batch currently being delivered in another thread.
+	 */
+	void close() {
+		this.lock.lock();
+		try {
+			this.closed = true;
+			cancelScheduledDelivery();
+			if (this.timer != null) {
+				this.timer.shutdownNow();
+				this.timer = null;
+			}
+			if (this.deliveringThread == Thread.currentThread()) {
+				// Closed from within the listener: remaining events to be delivered right after
+				return;
+			}
+			while (this.delivering) {
+				try {
+					this.bufferChanged.await();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+			this.delivering = true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		deliver(true);
+	}
+
+	private void deliverOnTimeout() {
+		this.lock.lock();
+		try {
+			this.scheduledDelivery = null;
+			if (this.delivering || this.buffer.isEmpty()) {
+				return;
+			}
+			this.delivering = true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+
+		Executor executor = this.executor;
+		if (executor != null) {
+			try {
+				executor.execute(() -> deliver(true));
+				return;
+			}
+			catch (RejectedExecutionException ex) {
+				// Probably on shutdown -> deliver in separate thread instead
+			}
+		}
+		// Do not hold up the scheduler thread with the listener invocation
+		getTimeoutExecutor().execute(() -> deliver(true));
+	}
+
+	/**
+	 * Deliver pending events in batches of at most {@code maxSize} events.
+	 * To be called by the thread which switched the {@code delivering} flag on.
+	 * @param all whether to deliver all pending events or full batches only
+	 */
+	private void deliver(boolean all) {
+		this.lock.lock();
+		try {
+			this.deliveringThread = Thread.currentThread();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		while (true) {
+			List<Object> batch;
+			this.lock.lock();
+			try {
+				if (this.buffer.isEmpty() || (!all && !this.closed && this.buffer.size() < this.maxSize)) {
+					this.failed = false;
+					finishDelivery();
+					return;
+				}
+				List<Object> pending = this.buffer.subList(0, Math.min(this.maxSize, this.buffer.size()));
+				batch = new ArrayList<>(pending);
+				pending.clear();
+				this.bufferChanged.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+			try {
+				this.consumer.accept(batch);
+			}
+			catch (Throwable ex) {
+				handleFailure(batch, ex);
+				return;
+			}
+		}
+	}
+
+	private void handleFailure(List<Object> batch, Throwable ex) {
+		boolean closed;
+		this.lock.lock();
+		try {
+			closed = this.closed;
+			if (!closed) {
+				// Keep the failed batch for another attempt after the maximum delay.
+				this.buffer.addAll(0, batch);
+				this.failed = true;
+			}
+			finishDelivery();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		ErrorHandler errorHandler = this.errorHandler;
+		if (errorHandler != null) {
+			try {
+				errorHandler.handleError(ex);
+			}
+			catch (Throwable handlerEx) {
+				logger.error("Error handler failed for batch of " + batch.size() + " events", handlerEx);
+			}
+		}
+		else if (closed) {
+			logger.error("Failed to deliver final batch of " + batch.size() + " events on close", ex);
+		}
+		else {
+			logger.error("Failed to deliver batch of " + batch.size() + " events - to be retried in " +
+					this.maxDelay + " ms", ex);
+		}
+	}
+
+	private void finishDelivery() {
+		this.delivering = false;
+		this.deliveringThread = null;
+		if (!this.buffer.isEmpty() && this.scheduledDelivery == null && !this.closed) {
+			scheduleDelivery();
+		}
+		this.bufferChanged.signalAll();
+	}
+
+	private void scheduleDelivery() {
+		TaskScheduler scheduler = this.scheduler;
+		if (scheduler == null) {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("event-batch-timer-");
+			threadFactory.setDaemon(true);
+			ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, threadFactory);
+			timer.setKeepAliveTime(this.maxDelay + 1000, TimeUnit.MILLISECONDS);
+			timer.allowCoreThreadTimeOut(true);
+			timer.setRemoveOnCancelPolicy(true);
+			this.timer = timer;
+			scheduler = new ConcurrentTaskScheduler(timer);
+			this.scheduler = scheduler;
+		}
+		this.scheduledDelivery = scheduler.schedule(this::deliverOnTimeout,
+				scheduler.getClock().instant().plusMillis(this.maxDelay));
+	}
+
+	private void cancelScheduledDelivery() {
+		ScheduledFuture<?> scheduledDelivery = this.scheduledDelivery;
+		if (scheduledDelivery != null) {
+			scheduledDelivery.cancel(false);
+			this.scheduledDelivery = null;
+		}
+	}
+
+	private Executor getTimeoutExecutor() {
+		this.lock.lock();
+		try {
+			Executor timeoutExecutor = this.timeoutExecutor;
+			if (timeoutExecutor == null) {
+				timeoutExecutor = new SimpleAsyncTaskExecutor("event-batch-");
+				this.timeoutExecutor = timeoutExecutor;
+			}
+			return timeoutExecutor;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.resilience;
+
+/**
+ * Exception thrown when a method invocation has been rejected since
+ * its concurrency limit has been reached.
+ *
+ * @since 7.0
+ * @see org.springframework.resilience.annotation.ConcurrencyLimit.ThrottlePolicy#REJECT
+ */
+@SuppressWarnings("serial")
+public class InvocationRejectedException extends RuntimeException {
+
+	/**
+	 * Create a new {@code InvocationRejectedException}
+	 * with the specified detail message.
+	 * @param msg the detail message
+	 */
+	public InvocationRejectedException(String msg) {
+		super(msg);
+	}
+
+}
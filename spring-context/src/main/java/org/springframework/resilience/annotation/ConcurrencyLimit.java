@@ -62,4 +62,30 @@ public @interface ConcurrencyLimit {
 	 */
 	int value() default 1;
 
+	/**
+	 * The policy to apply when the concurrency limit has been reached:
+	 * {@link ThrottlePolicy#BLOCK} by default.
+	 * @since 7.0
+	 */
+	ThrottlePolicy policy() default ThrottlePolicy.BLOCK;
+
+
+	/**
+	 * Policy for invocations exceeding the concurrency limit.
+	 * @since 7.0
+	 */
+	enum ThrottlePolicy {
+
+		/**
+		 * Block the invocation until the concurrency count allows for entering.
+		 */
+		BLOCK,
+
+		/**
+		 * Reject the invocation right away, throwing an
+		 * {@link org.springframework.resilience.InvocationRejectedException}.
+		 */
+		REJECT
+	}
+
 }
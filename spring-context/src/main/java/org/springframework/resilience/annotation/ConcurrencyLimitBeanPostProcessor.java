@@ -32,6 +32,7 @@ import org.springframework.aop.support.ComposablePointcut;
 import org.springframework.aop.support.DefaultPointcutAdvisor;
 import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.resilience.InvocationRejectedException;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
@@ -46,6 +47,9 @@ import org.springframework.util.ConcurrentReferenceHashMap;
 @SuppressWarnings("serial")
 public class ConcurrencyLimitBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
 
+	private boolean lockFreeThrottle = false;
+
+
 	public ConcurrencyLimitBeanPostProcessor() {
 		setBeforeExistingAdvisors(true);
 
@@ -57,7 +61,20 @@ public class ConcurrencyLimitBeanPostProcessor extends AbstractBeanFactoryAwareA
 	}
 
 
-	private static class ConcurrencyLimitInterceptor implements MethodInterceptor {
+	/**
+	 * Specify whether the concurrency throttles should maintain their counts
+	 * in a lock-free manner, with invocations exceeding the concurrency limit
+	 * waiting in a fair queue rather than on a common lock.
+	 * <p>The default is {@code false}. Consider switching this to {@code true}
+	 * for a high rate of concurrent invocations, for example with Virtual Threads.
+	 * @see org.springframework.util.ConcurrencyThrottleSupport#setLockFree
+	 */
+	public void setLockFreeThrottle(boolean lockFreeThrottle) {
+		this.lockFreeThrottle = lockFreeThrottle;
+	}
+
+
+	private class ConcurrencyLimitInterceptor implements MethodInterceptor {
 
 		private final Map<Object, ConcurrencyThrottleCache> cachePerInstance =
 				new ConcurrentReferenceHashMap<>(16, ConcurrentReferenceHashMap.ReferenceType.WEAK);
@@ -93,7 +110,7 @@ public class ConcurrencyLimitBeanPostProcessor extends AbstractBeanFactoryAwareA
 						}
 						if (interceptor == null) {
 							Assert.state(limit != null, "No @ConcurrencyLimit annotation found");
-							interceptor = new ConcurrencyThrottleInterceptor(limit.value());
+							interceptor = createThrottleInterceptor(limit);
 							if (!perMethod) {
 								cache.classInterceptor = interceptor;
 							}
@@ -104,6 +121,27 @@ public class ConcurrencyLimitBeanPostProcessor extends AbstractBeanFactoryAwareA
 			}
 			return interceptor.invoke(invocation);
 		}
+
+		private ConcurrencyThrottleInterceptor createThrottleInterceptor(ConcurrencyLimit limit) {
+			ConcurrencyThrottleInterceptor interceptor = (limit.policy() == ConcurrencyLimit.ThrottlePolicy.REJECT ?
+					new RejectingConcurrencyThrottleInterceptor(limit.value()) :
+					new ConcurrencyThrottleInterceptor(limit.value()));
+			interceptor.setLockFree(lockFreeThrottle);
+			return interceptor;
+		}
+	}
+
+
+	private static class RejectingConcurrencyThrottleInterceptor extends ConcurrencyThrottleInterceptor {
+
+		RejectingConcurrencyThrottleInterceptor(int concurrencyLimit) {
+			super(concurrencyLimit);
+		}
+
+		@Override
+		protected void onLimitReached() {
+			throw new InvocationRejectedException("Concurrency limit reached: " + getConcurrencyLimit());
+		}
 	}
 
 
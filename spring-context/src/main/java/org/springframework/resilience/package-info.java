@@ -0,0 +1,8 @@
+/**
+ * Common resilience support classes, shared by the annotation-based
+ * retry and concurrency limit support.
+ */
+@NullMarked
+package org.springframework.resilience;
+
+import org.jspecify.annotations.NullMarked;
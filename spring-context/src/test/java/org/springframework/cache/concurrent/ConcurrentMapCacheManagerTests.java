@@ -16,6 +16,8 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.Test;
 
 import org.springframework.cache.Cache;
@@ -131,4 +133,26 @@ class ConcurrentMapCacheManagerTests {
 		assertThat(cache1x.get("key")).isNull();
 	}
 
+	@Test
+	void testChangeMaximumSizeAndExpiration() {
+		ConcurrentMapCacheManager cm = new ConcurrentMapCacheManager("c1");
+		Cache cache1 = cm.getCache("c1");
+		assertThat(((ConcurrentMapCache) cache1).getMaximumSize()).isZero();
+
+		cm.setMaximumSize(2);
+		cm.setTimeToLive(Duration.ofMinutes(10));
+		cm.setTimeToIdle(Duration.ofMinutes(5));
+		ConcurrentMapCache cache1x = (ConcurrentMapCache) cm.getCache("c1");
+		assertThat(cache1x).isNotSameAs(cache1);
+		assertThat(cache1x.getMaximumSize()).isEqualTo(2);
+		assertThat(cache1x.getTimeToLive()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(cache1x.getTimeToIdle()).isEqualTo(Duration.ofMinutes(5));
+
+		cache1x.put("key1", 1);
+		cache1x.put("key2", 2);
+		cache1x.put("key3", 3);
+		assertThat(cache1x.getNativeCache()).hasSize(2);
+		assertThat(cache1x.get("key3").get()).isEqualTo(3);
+	}
+
 }
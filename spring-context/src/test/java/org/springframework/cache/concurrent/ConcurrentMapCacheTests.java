@@ -16,6 +16,8 @@
 
 package org.springframework.cache.concurrent;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -121,4 +123,97 @@ class ConcurrentMapCacheTests extends AbstractValueAdaptingCacheTests<Concurrent
 				new SerializationDelegate(ConcurrentMapCacheTests.class.getClassLoader()));
 	}
 
+	@Test
+	void testMaximumSize() {
+		ConcurrentMapCache cache = new ConcurrentMapCache(CACHE_NAME, true, 3, null, null);
+		cache.setStatisticsEnabled(true);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+		assertThat(cache.get("a").get()).isEqualTo(1);
+
+		cache.put("d", 4);
+		assertThat(cache.getNativeCache()).hasSize(3);
+		assertThat(cache.get("a").get()).isEqualTo(1);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		assertThat(cache.getNativeCache()).hasSize(3);
+		assertThat(cache.get(99).get()).isEqualTo(99);
+	}
+
+	@Test
+	void testTimeToLive() {
+		ConcurrentMapCache cache = new ConcurrentMapCache(CACHE_NAME, true, 0, Duration.ofMinutes(5), null);
+		cache.setStatisticsEnabled(true);
+		cache.put("key", "value");
+		cache.setClock(Clock.offset(cache.getClock(), Duration.ofMinutes(4)));
+		assertThat(cache.get("key").get()).isEqualTo("value");
+
+		cache.setClock(Clock.offset(cache.getClock(), Duration.ofMinutes(1)));
+		assertThat(cache.get("key")).isNull();
+		assertThat(cache.getNativeCache()).isEmpty();
+		assertThat(cache.get("key", () -> "other")).isEqualTo("other");
+		assertThat(cache.putIfAbsent("key", "another").get()).isEqualTo("other");
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void testTimeToIdle() {
+		ConcurrentMapCache cache = new ConcurrentMapCache(CACHE_NAME, true, 0, null, Duration.ofMinutes(5));
+		cache.put("key", "value");
+		cache.put("other", "value");
+		cache.setClock(Clock.offset(cache.getClock(), Duration.ofMinutes(4)));
+		assertThat(cache.get("key").get()).isEqualTo("value");
+
+		cache.setClock(Clock.offset(cache.getClock(), Duration.ofMinutes(4)));
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.putIfAbsent("other", "another")).isNull();
+		assertThat(cache.get("other").get()).isEqualTo("another");
+	}
+
+	@Test
+	void testExpiredEntriesRemovedIncrementallyOnWrite() {
+		ConcurrentMapCache cache = new ConcurrentMapCache(CACHE_NAME, true, 0, Duration.ofMinutes(5), null);
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		cache.setClock(Clock.offset(cache.getClock(), Duration.ofMinutes(5)));
+
+		cache.put("key", "value");
+		assertThat(cache.getNativeCache()).hasSizeGreaterThan(50);
+		for (int i = 0; i < 10; i++) {
+			cache.put("key" + i, "value");
+		}
+		assertThat(cache.getNativeCache()).hasSize(11);
+	}
+
+	@Test
+	void testStatistics() {
+		this.cache.setStatisticsEnabled(true);
+		this.cache.put("key", "value");
+		this.cache.get("key");
+		this.cache.get("missing");
+		this.cache.get("key", () -> "other");
+		this.cache.get("loaded", () -> "loaded");
+
+		assertThat(this.cache.getHitCount()).isEqualTo(2);
+		assertThat(this.cache.getMissCount()).isEqualTo(2);
+		assertThat(this.cache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	void testStatisticsDisabledByDefault() {
+		this.cache.put("key", "value");
+		this.cache.get("key");
+		this.cache.get("missing");
+
+		assertThat(this.cache.isStatisticsEnabled()).isFalse();
+		assertThat(this.cache.getHitCount()).isZero();
+		assertThat(this.cache.getMissCount()).isZero();
+	}
+
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for sharing a single invocation between concurrent cache misses
+ * in {@link Cacheable#sync()} operations, on top of a cache that does not
+ * provide any locking itself.
+ *
+ * @since 7.0
+ */
+class CacheSyncCoalescingTests {
+
+	private ConfigurableApplicationContext context;
+
+	private SimpleService simpleService;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.context.getBean(CacheInterceptor.class).setCoalesceSynchronizedInvocations(true);
+		this.simpleService = this.context.getBean(SimpleService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		this.context.close();
+	}
+
+
+	@Test
+	void concurrentInvocationsShareResult() throws Exception {
+		AtomicReference<Object> leaderResult = new AtomicReference<>();
+		AtomicReference<Object> followerResult = new AtomicReference<>();
+		Thread leader = new Thread(() -> leaderResult.set(this.simpleService.get("key")));
+		Thread follower = new Thread(() -> followerResult.set(this.simpleService.get("key")));
+		this.simpleService.follower = follower;
+
+		leader.start();
+		await().until(() -> this.simpleService.invocations.get() == 1);
+		follower.start();
+		leader.join();
+		follower.join();
+
+		assertThat(leaderResult.get()).isEqualTo(1);
+		assertThat(followerResult.get()).isEqualTo(1);
+		assertThat(this.simpleService.invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentInvocationsShareFailure() throws Exception {
+		this.simpleService.failure = new IllegalStateException("failure");
+		AtomicReference<Throwable> leaderFailure = new AtomicReference<>();
+		AtomicReference<Throwable> followerFailure = new AtomicReference<>();
+		Thread leader = new Thread(() -> leaderFailure.set(catchThrowable(() -> this.simpleService.get("key"))));
+		Thread follower = new Thread(() -> followerFailure.set(catchThrowable(() -> this.simpleService.get("key"))));
+		this.simpleService.follower = follower;
+
+		leader.start();
+		await().until(() -> this.simpleService.invocations.get() == 1);
+		follower.start();
+		leader.join();
+		follower.join();
+
+		assertThat(leaderFailure.get()).isSameAs(this.simpleService.failure);
+		assertThat(followerFailure.get()).isSameAs(this.simpleService.failure);
+		assertThat(this.simpleService.invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	void interruptedFollowerStopsWaiting() throws Exception {
+		AtomicReference<Throwable> followerFailure = new AtomicReference<>();
+		AtomicBoolean followerInterrupted = new AtomicBoolean();
+		Thread leader = new Thread(() -> this.simpleService.get("key"));
+		Thread follower = new Thread(() -> {
+			followerFailure.set(catchThrowable(() -> this.simpleService.get("key")));
+			followerInterrupted.set(Thread.currentThread().isInterrupted());
+		});
+		this.simpleService.follower = follower;
+		this.simpleService.interruptFollower = true;
+
+		leader.start();
+		await().until(() -> this.simpleService.invocations.get() == 1);
+		follower.start();
+		leader.join();
+		follower.join();
+
+		assertThat(followerFailure.get()).isInstanceOf(IllegalStateException.class)
+				.hasCauseInstanceOf(InterruptedException.class);
+		assertThat(followerInterrupted).isTrue();
+		assertThat(this.simpleService.invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentFutureInvocationsShareResult() {
+		CompletableFuture<Object> first = this.simpleService.getFuture("key");
+		CompletableFuture<Object> second = this.simpleService.getFuture("key");
+		CompletableFuture<Object> other = this.simpleService.getFuture("other");
+		assertThat(this.simpleService.invocations.get()).isEqualTo(2);
+
+		this.simpleService.future.complete("value");
+		assertThat(first.join()).isEqualTo("value");
+		assertThat(second.join()).isEqualTo("value");
+		assertThat(other.join()).isEqualTo("value");
+
+		this.simpleService.getFuture("key");
+		assertThat(this.simpleService.invocations.get()).isEqualTo(3);
+	}
+
+	@Test
+	void concurrentFutureInvocationsShareFailure() {
+		CompletableFuture<Object> first = this.simpleService.getFuture("key");
+		CompletableFuture<Object> second = this.simpleService.getFuture("key");
+
+		this.simpleService.future.completeExceptionally(new IllegalStateException("failure"));
+		assertThat(first).isCompletedExceptionally();
+		assertThat(second).isCompletedExceptionally();
+		assertThat(this.simpleService.invocations.get()).isEqualTo(1);
+	}
+
+	@Test
+	void concurrentFutureInvocationsWithoutCoalescing() {
+		CacheInterceptor interceptor = this.context.getBean(CacheInterceptor.class);
+		interceptor.setCoalesceSynchronizedInvocations(false);
+		assertThat(new CacheInterceptor().isCoalesceSynchronizedInvocations()).isFalse();
+		this.simpleService.getFuture("key");
+		this.simpleService.getFuture("key");
+		assertThat(this.simpleService.invocations.get()).isEqualTo(2);
+	}
+
+
+	static class SimpleService {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		volatile Thread follower;
+
+		volatile boolean interruptFollower;
+
+		volatile RuntimeException failure;
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public Object get(Object key) {
+			int invocation = this.invocations.incrementAndGet();
+			// Wait until the concurrent caller waits for this invocation
+			await().until(() -> this.follower.getState() == Thread.State.WAITING);
+			if (this.interruptFollower) {
+				this.follower.interrupt();
+				await().until(() -> this.follower.getState() == Thread.State.TERMINATED);
+			}
+			if (this.failure != null) {
+				throw this.failure;
+			}
+			return invocation;
+		}
+
+		@Cacheable(cacheNames = "testCache", sync = true)
+		public CompletableFuture<Object> getFuture(Object key) {
+			this.invocations.incrementAndGet();
+			return this.future.thenApply(value -> value);
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config {
+
+		@Bean
+		CacheManager cacheManager() {
+			return new NoOpCacheManager();
+		}
+
+		@Bean
+		SimpleService simpleService() {
+			return new SimpleService();
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.beans.factory.BeanCurrentlyInCreationException;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.UnsatisfiedDependencyException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.beans.testfixture.beans.TestBean;
@@ -186,6 +187,45 @@ class BackgroundBootstrapTests {
 		}
 	}
 
+	@Test
+	@Timeout(10)
+	@EnabledForTestGroups(LONG_RUNNING)
+	void bootstrapWithParallelPreInstantiation() {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getDefaultListableBeanFactory().setParallelPreInstantiation(true);
+		ctx.register(ParallelPreInstantiationBeanConfig.class);
+		ctx.refresh();
+		assertThat(ctx.getBean("testBean1", TestBean.class).getName()).startsWith("Parallel-");
+		assertThat(ctx.getBean("testBean2", TestBean.class).getName()).startsWith("Parallel-");
+		assertThat(ctx.getBean("testBean3", TestBean.class).getSpouse()).isSameAs(ctx.getBean("testBean1"));
+		assertThat(ctx.getBean("testBean4", TestBean.class).getSpouse()).isSameAs(ctx.getBean("testBean5"));
+		ctx.close();
+	}
+
+	@Test
+	@Timeout(10)
+	void bootstrapWithParallelPreInstantiationAndFailingDependency() {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getDefaultListableBeanFactory().setParallelPreInstantiation(true);
+		ctx.register(ParallelPreInstantiationFailingDependencyBeanConfig.class);
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(ctx::refresh)
+				.satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("testBean1"));
+		assertThat(ParallelPreInstantiationFailingDependencyBeanConfig.dependentCreated).isFalse();
+	}
+
+	@Test
+	@Timeout(10)
+	void bootstrapWithParallelPreInstantiationAndFailingMainThread() {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getDefaultListableBeanFactory().setParallelPreInstantiation(true);
+		ctx.register(ParallelPreInstantiationFailingMainThreadBeanConfig.class);
+		assertThatExceptionOfType(BeanCreationException.class).isThrownBy(ctx::refresh)
+				.satisfies(ex -> assertThat(ex.getBeanName()).isEqualTo("testBean2"))
+				.satisfies(ex -> assertThat(ex.getSuppressed()).singleElement()
+						.isInstanceOfSatisfying(BeanCreationException.class,
+								suppressed -> assertThat(suppressed.getBeanName()).isEqualTo("testBean1")));
+	}
+
 
 	@Configuration(proxyBeanMethods = false)
 	static class UnmanagedThreadBeanConfig {
@@ -487,4 +527,98 @@ class BackgroundBootstrapTests {
 		}
 	}
 
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelPreInstantiationBeanConfig {
+
+		@Bean
+		public ThreadPoolTaskExecutor bootstrapExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("Parallel-");
+			executor.setCorePoolSize(2);
+			executor.initialize();
+			return executor;
+		}
+
+		@Bean
+		public TestBean testBean1() throws InterruptedException {
+			Thread.sleep(1000);
+			return new TestBean(Thread.currentThread().getName());
+		}
+
+		@Bean
+		public TestBean testBean2() throws InterruptedException {
+			Thread.sleep(1000);
+			return new TestBean(Thread.currentThread().getName());
+		}
+
+		@Bean
+		public TestBean testBean3(@Qualifier("testBean1") TestBean testBean1) {
+			return new TestBean(testBean1);
+		}
+
+		@Bean
+		public TestBean testBean4(ObjectProvider<TestBean> testBean5) {
+			TestBean testBean = new TestBean();
+			testBean.setSpouse(testBean5.getObject());
+			return testBean;
+		}
+
+		@Bean
+		public TestBean testBean5(@Lazy TestBean testBean4) {
+			return new TestBean(testBean4);
+		}
+	}
+
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelPreInstantiationFailingDependencyBeanConfig {
+
+		static volatile boolean dependentCreated;
+
+		@Bean
+		public ThreadPoolTaskExecutor bootstrapExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("Parallel-");
+			executor.setCorePoolSize(2);
+			executor.initialize();
+			return executor;
+		}
+
+		@Bean
+		public TestBean testBean1() {
+			throw new IllegalStateException("testBean1 failed");
+		}
+
+		@Bean
+		public TestBean testBean2(@Qualifier("testBean1") TestBean testBean1) {
+			dependentCreated = true;
+			return new TestBean(testBean1);
+		}
+	}
+
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelPreInstantiationFailingMainThreadBeanConfig {
+
+		@Bean
+		public ThreadPoolTaskExecutor bootstrapExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("Parallel-");
+			executor.setCorePoolSize(2);
+			executor.initialize();
+			return executor;
+		}
+
+		@Bean
+		public TestBean testBean1() {
+			throw new IllegalStateException("testBean1 failed");
+		}
+
+		@Bean
+		public FactoryBean<TestBean> testBean2() {
+			throw new IllegalStateException("testBean2 failed");
+		}
+	}
+
 }
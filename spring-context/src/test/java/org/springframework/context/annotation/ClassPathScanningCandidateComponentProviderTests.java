@@ -16,13 +16,25 @@
 
 package org.springframework.context.annotation;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -46,7 +58,9 @@ import example.scannable.ServiceInvocationCounter;
 import example.scannable.StubFooDao;
 import example.scannable.sub.BarComponent;
 import org.aspectj.lang.annotation.Aspect;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.testfixture.index.CandidateComponentsTestClassLoader;
@@ -54,6 +68,11 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
@@ -61,6 +80,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Controller;
 import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ResourceUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -109,6 +129,207 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, "example", true, true);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider sequentialProvider = new ClassPathScanningCandidateComponentProvider(true);
+		sequentialProvider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			provider.setScanExecutor(executor);
+			testDefault(provider, TEST_BASE_PACKAGE, true, false);
+			assertThat(provider.findCandidateComponents(TEST_BASE_PACKAGE))
+					.extracting(BeanDefinition::getBeanClassName)
+					.containsExactlyElementsOf(sequentialProvider.findCandidateComponents(TEST_BASE_PACKAGE)
+							.stream().map(BeanDefinition::getBeanClassName).toList());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void parallelScanBoundsPendingReads() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		MetadataReaderFactory metadataReaderFactory = provider.getMetadataReaderFactory();
+		AtomicInteger reads = new AtomicInteger();
+		AtomicInteger consumed = new AtomicInteger();
+		AtomicInteger maxPending = new AtomicInteger();
+		provider.setMetadataReaderFactory(new SimpleMetadataReaderFactory() {
+			@Override
+			public MetadataReader getMetadataReader(Resource resource) throws IOException {
+				maxPending.accumulateAndGet(reads.incrementAndGet() - consumed.get(), Math::max);
+				return metadataReaderFactory.getMetadataReader(resource);
+			}
+
+			@Override
+			public MetadataReader getMetadataReader(String className) throws IOException {
+				return metadataReaderFactory.getMetadataReader(className);
+			}
+		});
+		// Exclude filters are applied on the calling thread, once per resource in order
+		provider.addExcludeFilter((metadataReader, factory) -> {
+			consumed.incrementAndGet();
+			return false;
+		});
+		ForkJoinPool executor = new ForkJoinPool(1);
+		try {
+			provider.setScanExecutor(executor);
+			testDefault(provider, TEST_BASE_PACKAGE, true, false);
+			assertThat(reads.get()).isGreaterThan(8);
+			// Window of 4 reads per thread, plus the resource being processed
+			assertThat(maxPending.get()).isLessThanOrEqualTo(5);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void scanCacheForJarFile(@TempDir Path tempDir) throws IOException {
+		Path cacheDirectory = tempDir.resolve("cache");
+		Path jarFile = createScannableJar(tempDir.resolve("scannable.jar"), null);
+
+		AtomicInteger initialReads = new AtomicInteger();
+		Set<String> initialCandidates = findCandidateClassNamesWithScanCache(jarFile, cacheDirectory, initialReads);
+		assertThat(initialCandidates).contains(FooServiceImpl.class.getName());
+		assertThat(cacheDirectory).isNotEmptyDirectory();
+
+		AtomicInteger cachedReads = new AtomicInteger();
+		Set<String> cachedCandidates = findCandidateClassNamesWithScanCache(jarFile, cacheDirectory, cachedReads);
+		assertThat(cachedCandidates).isEqualTo(initialCandidates);
+		assertThat(cachedReads.get()).isGreaterThanOrEqualTo(springComponents.size()).isLessThan(initialReads.get());
+	}
+
+	@Test
+	void scanCachePrunesEntriesForRemovedJarFile(@TempDir Path tempDir) throws IOException {
+		Path cacheDirectory = tempDir.resolve("cache");
+		Path jarFile = createScannableJar(tempDir.resolve("scannable.jar"), null);
+		findCandidateClassNamesWithScanCache(jarFile, cacheDirectory, new AtomicInteger());
+		assertThat(readScanCache(cacheDirectory)).contains("scannable.jar!/example/scannable/FooDao.class");
+
+		Files.delete(jarFile);
+		Path newJarFile = createScannableJar(tempDir.resolve("scannable-2.jar"), "example/scannable/FooDao.class");
+		findCandidateClassNamesWithScanCache(newJarFile, cacheDirectory, new AtomicInteger());
+		assertThat(readScanCache(cacheDirectory)).doesNotContain("scannable.jar!/")
+				.doesNotContain("FooDao.class").contains("scannable-2.jar!/example/scannable/FooServiceImpl.class");
+	}
+
+	@Test
+	void scanCacheSeparatesIncludeFilterOptions(@TempDir Path tempDir) throws IOException {
+		Path cacheDirectory = tempDir.resolve("cache");
+		Path jarFile = createScannableJar(tempDir.resolve("scannable.jar"), null);
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] {jarFile.toUri().toURL()}, getClass().getClassLoader())) {
+			ClassPathScanningCandidateComponentProvider directProvider =
+					createProviderWithScanCache(classLoader, cacheDirectory, new AtomicInteger());
+			directProvider.resetFilters(false);
+			directProvider.addIncludeFilter(new AnnotationTypeFilter(Component.class, false));
+			assertThat(findJarCandidateClassNames(directProvider))
+					.doesNotContain(FooServiceImpl.class.getName(), StubFooDao.class.getName());
+
+			ClassPathScanningCandidateComponentProvider defaultProvider =
+					createProviderWithScanCache(classLoader, cacheDirectory, new AtomicInteger());
+			assertThat(findJarCandidateClassNames(defaultProvider))
+					.contains(FooServiceImpl.class.getName(), StubFooDao.class.getName());
+		}
+	}
+
+	@Test
+	void scanCacheIgnoresClassDirectories(@TempDir Path cacheDirectory) {
+		AtomicInteger initialReads = new AtomicInteger();
+		ClassPathScanningCandidateComponentProvider provider = createProviderWithScanCache(
+				getClass().getClassLoader(), cacheDirectory, initialReads);
+		testDefault(provider, TEST_BASE_PACKAGE, true, false);
+
+		AtomicInteger repeatedReads = new AtomicInteger();
+		provider = createProviderWithScanCache(getClass().getClassLoader(), cacheDirectory, repeatedReads);
+		testDefault(provider, TEST_BASE_PACKAGE, true, false);
+		assertThat(repeatedReads.get()).isEqualTo(initialReads.get());
+		assertThat(cacheDirectory).isEmptyDirectory();
+	}
+
+	private Set<String> findCandidateClassNamesWithScanCache(
+			Path jarFile, Path cacheDirectory, AtomicInteger jarReads) throws IOException {
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+				new URL[] {jarFile.toUri().toURL()}, getClass().getClassLoader())) {
+			return findJarCandidateClassNames(createProviderWithScanCache(classLoader, cacheDirectory, jarReads));
+		}
+	}
+
+	private Set<String> findJarCandidateClassNames(ClassPathScanningCandidateComponentProvider provider)
+			throws IOException {
+
+		Set<String> candidates = new HashSet<>();
+		for (BeanDefinition candidate : provider.findCandidateComponents(TEST_BASE_PACKAGE)) {
+			if (candidate instanceof ScannedGenericBeanDefinition sbd &&
+					sbd.getSource() instanceof Resource resource &&
+					ResourceUtils.isJarURL(resource.getURL())) {
+				candidates.add(candidate.getBeanClassName());
+			}
+		}
+		return candidates;
+	}
+
+	private ClassPathScanningCandidateComponentProvider createProviderWithScanCache(
+			ClassLoader classLoader, Path cacheDirectory, AtomicInteger reads) {
+
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(CandidateComponentsTestClassLoader.disableIndex(classLoader)));
+		MetadataReaderFactory metadataReaderFactory = provider.getMetadataReaderFactory();
+		boolean jarFilesOnly = (classLoader instanceof URLClassLoader);
+		provider.setMetadataReaderFactory(new SimpleMetadataReaderFactory() {
+			@Override
+			public MetadataReader getMetadataReader(Resource resource) throws IOException {
+				if (!jarFilesOnly || ResourceUtils.isJarURL(resource.getURL())) {
+					reads.incrementAndGet();
+				}
+				return metadataReaderFactory.getMetadataReader(resource);
+			}
+
+			@Override
+			public MetadataReader getMetadataReader(String className) throws IOException {
+				return metadataReaderFactory.getMetadataReader(className);
+			}
+		});
+		provider.setScanCache(new ClassPathScanCache(cacheDirectory));
+		return provider;
+	}
+
+	private Path createScannableJar(Path jarFile, @Nullable String excludedEntry) throws IOException {
+		Resource[] resources = new PathMatchingResourcePatternResolver(getClass().getClassLoader())
+				.getResources("classpath*:example/scannable/**/*.class");
+		try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+			for (Resource resource : resources) {
+				String url = resource.getURL().toString();
+				String entryName = url.substring(url.lastIndexOf("example/scannable/"));
+				if (!entryName.equals(excludedEntry)) {
+					jar.putNextEntry(new JarEntry(entryName));
+					try (InputStream inputStream = resource.getInputStream()) {
+						inputStream.transferTo(jar);
+					}
+					jar.closeEntry();
+				}
+			}
+		}
+		return jarFile;
+	}
+
+	private static String readScanCache(Path cacheDirectory) throws IOException {
+		try (Stream<Path> files = Files.list(cacheDirectory)) {
+			List<Path> cacheFiles = files.toList();
+			assertThat(cacheFiles).hasSize(1);
+			return Files.readString(cacheFiles.get(0));
+		}
+	}
+
 	private void testDefault(ClassPathScanningCandidateComponentProvider provider, String basePackage,
 			boolean includeScannedJakartaComponents, boolean includeIndexedComponents) {
 
@@ -639,6 +639,53 @@ class AnnotationDrivenEventListenerTests {
 		this.eventCollector.assertTotalEventsCount(1);
 	}
 
+	@Test
+	void batchingListenerDeliversFullBatches() {
+		load(BatchingEventListener.class);
+		BatchingEventListener listener = this.context.getBean(BatchingEventListener.class);
+
+		this.eventCollector.assertNoEventReceived(listener);
+		this.context.publishEvent("a");
+		this.context.publishEvent("b");
+		this.context.publishEvent("skip");
+		this.eventCollector.assertNoEventReceived(listener);
+		this.context.publishEvent("c");
+		this.eventCollector.assertEvent(listener, List.of("a", "b", "c"));
+		this.context.publishEvent("d");
+		this.context.publishEvent(new TestEvent(this));
+		this.eventCollector.assertTotalEventsCount(1);
+
+		this.context.close();
+		this.eventCollector.assertEvent(listener, List.of("a", "b", "c"), List.of("d"));
+		this.eventCollector.assertTotalEventsCount(2);
+	}
+
+	@Test
+	void batchingListenerDeliversPendingEventsAfterMaxDelay() throws InterruptedException {
+		load(TimedBatchingEventListener.class);
+		TimedBatchingEventListener listener = this.context.getBean(TimedBatchingEventListener.class);
+
+		this.context.publishEvent("a");
+		this.context.publishEvent("b");
+		assertThat(listener.latch.await(5, TimeUnit.SECONDS)).isTrue();
+		this.eventCollector.assertEvent(listener, List.of("a", "b"));
+		this.eventCollector.assertTotalEventsCount(1);
+	}
+
+	@Test
+	void batchingListenerWithoutListParameter() {
+		assertThatExceptionOfType(BeanInitializationException.class).isThrownBy(() ->
+				load(InvalidBatchingEventListener.class))
+				.withMessageContaining("List or Collection parameter is mandatory");
+	}
+
+	@Test
+	void batchingListenerWithIterableParameter() {
+		assertThatExceptionOfType(BeanInitializationException.class).isThrownBy(() ->
+				load(IterableBatchingEventListener.class))
+				.withMessageContaining("List or Collection parameter is mandatory");
+	}
+
 	@Test
 	void missingListenerBeanIgnored() {
 		load(MissingEventListener.class);
@@ -965,6 +1012,51 @@ class AnnotationDrivenEventListenerTests {
 	}
 
 
+	@Component
+	static class BatchingEventListener extends AbstractTestEventListener {
+
+		@EventListener(condition = "#root.args[0] != 'skip'")
+		@EventBatch(maxSize = 3, maxDelay = 60000)
+		public void handleStrings(List<String> batch) {
+			collectEvent(batch);
+		}
+	}
+
+
+	@Component
+	static class TimedBatchingEventListener extends AbstractTestEventListener {
+
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		@EventListener
+		@EventBatch(maxDelay = 50)
+		public void handleStrings(List<String> batch) {
+			collectEvent(batch);
+			this.latch.countDown();
+		}
+	}
+
+
+	@Component
+	static class InvalidBatchingEventListener {
+
+		@EventListener
+		@EventBatch
+		public void handleString(String content) {
+		}
+	}
+
+
+	@Component
+	static class IterableBatchingEventListener {
+
+		@EventListener
+		@EventBatch
+		public void handleStrings(Iterable<String> batch) {
+		}
+	}
+
+
 	@Component
 	static class ResolvableTypeEventListener extends AbstractTestEventListener {
 
@@ -279,6 +279,31 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		assertThat(listener1.seenEvents).hasSize(2);
 	}
 
+	@Test
+	void listenerRegistrationInvalidatesCachedRetrieversForMatchingEventTypesOnly() {
+		MyOrderedListener1 listener1 = new MyOrderedListener1();
+		MyOrderedListener2 listener2 = new MyOrderedListener2(listener1);
+
+		SimpleApplicationEventMulticaster smc = new SimpleApplicationEventMulticaster();
+		smc.addApplicationListener(listener1);
+		smc.multicastEvent(new MyEvent(this));
+		smc.multicastEvent(new MyOtherEvent(this));
+		assertThat(smc.retrieverCache).hasSize(2);
+
+		smc.addApplicationListener(listener2);
+		assertThat(smc.retrieverCache).hasSize(1);
+		smc.multicastEvent(new MyEvent(this));
+		assertThat(smc.retrieverCache).hasSize(2);
+
+		smc.removeApplicationListener(listener2);
+		assertThat(smc.retrieverCache).hasSize(1);
+		smc.removeApplicationListener(listener1);
+		assertThat(smc.retrieverCache).isEmpty();
+
+		smc.multicastEvent(new MyEvent(this));
+		assertThat(listener1.seenEvents).hasSize(3);
+	}
+
 	/**
 	 * Regression test for <a href="https://github.com/spring-projects/spring-framework/issues/28283">issue 28283</a>,
 	 * where event listeners proxied due to, for example,
@@ -344,8 +369,9 @@ class ApplicationContextEventTests extends AbstractApplicationEventListenerTests
 		context.publishEvent(event4);
 		assertThat(listener1.seenEvents).contains(event1, event2, event3, event4);
 
+		// ContextRefreshedEvent retriever retained on lazy registration of MyEvent-specific listener2
 		AbstractApplicationEventMulticaster multicaster = context.getBean(AbstractApplicationEventMulticaster.class);
-		assertThat(multicaster.retrieverCache).hasSize(2);
+		assertThat(multicaster.retrieverCache).hasSize(3);
 
 		context.close();
 	}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.event;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Tests for {@link EventBatcher}.
+ */
+class EventBatcherTests {
+
+	private final List<List<Object>> batches = new CopyOnWriteArrayList<>();
+
+	private final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(
+			runnable -> new Thread(runnable, "batch-executor"));
+
+
+	@AfterEach
+	void shutdownExecutor() {
+		this.executor.shutdownNow();
+	}
+
+
+	@Test
+	@Timeout(10)
+	void publisherBlockedAtCapacity() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		EventBatcher batcher = new EventBatcher(2, 60000, 2, batch -> {
+			awaitUninterruptibly(release);
+			this.batches.add(batch);
+		});
+		batcher.setExecutor(this.executor);
+
+		batcher.add("a");
+		batcher.add("b");
+		batcher.add("c");
+		batcher.add("d");
+		Thread publisher = new Thread(() -> batcher.add("e"));
+		publisher.start();
+		await().until(() -> publisher.getState() == Thread.State.WAITING);
+		assertThat(this.batches).isEmpty();
+
+		release.countDown();
+		publisher.join();
+		await().until(() -> this.batches.size() == 2);
+		batcher.close();
+		assertThat(this.batches).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+	}
+
+	@Test
+	@Timeout(10)
+	void fullBatchDeliveredOnExecutor() {
+		EventBatcher batcher = new EventBatcher(2, 60000, 10, batch -> {
+			this.threadNames.add(Thread.currentThread().getName());
+			this.batches.add(batch);
+		});
+		batcher.setExecutor(this.executor);
+
+		batcher.add("a");
+		batcher.add("b");
+		await().until(() -> this.batches.size() == 1);
+		assertThat(this.batches).containsExactly(List.of("a", "b"));
+		assertThat(this.threadNames).containsExactly("batch-executor");
+		batcher.close();
+	}
+
+	@Test
+	@Timeout(10)
+	void timedBatchDeliveredOnExecutor() {
+		EventBatcher batcher = new EventBatcher(10, 50, 10, batch -> {
+			this.threadNames.add(Thread.currentThread().getName());
+			this.batches.add(batch);
+		});
+		batcher.setExecutor(this.executor);
+
+		batcher.add("a");
+		await().until(() -> this.batches.size() == 1);
+		assertThat(this.batches).containsExactly(List.of("a"));
+		assertThat(this.threadNames).containsExactly("batch-executor");
+		batcher.close();
+	}
+
+	@Test
+	@Timeout(10)
+	void timedBatchWithoutExecutorDeliveredInSeparateThread() {
+		EventBatcher batcher = new EventBatcher(10, 50, 10, batch -> {
+			this.threadNames.add(Thread.currentThread().getName());
+			this.batches.add(batch);
+		});
+
+		batcher.add("a");
+		await().until(() -> this.batches.size() == 1);
+		assertThat(this.threadNames).singleElement().asString().startsWith("event-batch-");
+		assertThat(this.threadNames).noneMatch(name -> name.startsWith("event-batch-timer-"));
+		batcher.close();
+	}
+
+	@Test
+	@Timeout(10)
+	void listenerPublishingBeyondCapacity() {
+		AtomicReference<EventBatcher> batcher = new AtomicReference<>();
+		batcher.set(new EventBatcher(1, 60000, 1, batch -> {
+			if (batch.equals(List.of("a"))) {
+				batcher.get().add("b");
+				batcher.get().add("c");
+			}
+			this.batches.add(batch);
+		}));
+
+		batcher.get().add("a");
+		assertThat(this.batches).containsExactly(List.of("a"), List.of("b"), List.of("c"));
+		batcher.get().close();
+	}
+
+	@Test
+	@Timeout(10)
+	void failedBatchRetriedAfterMaxDelay() {
+		AtomicBoolean failure = new AtomicBoolean(true);
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+		EventBatcher batcher = new EventBatcher(2, 200, 10, batch -> {
+			if (failure.getAndSet(false)) {
+				throw new IllegalStateException("failure");
+			}
+			this.batches.add(batch);
+		});
+		batcher.setErrorHandler(errors::add);
+
+		batcher.add("a");
+		assertThatNoException().isThrownBy(() -> batcher.add("b"));
+		assertThat(errors).singleElement().isInstanceOf(IllegalStateException.class);
+		batcher.add("c");
+		batcher.add("d");
+		assertThat(this.batches).isEmpty();
+
+		await().until(() -> this.batches.size() == 2);
+		assertThat(this.batches).containsExactly(List.of("a", "b"), List.of("c", "d"));
+		batcher.close();
+	}
+
+	@Test
+	@Timeout(10)
+	void pendingEventsDeliveredOnClose() {
+		EventBatcher batcher = new EventBatcher(10, 60000, 10, this.batches::add);
+
+		batcher.add("a");
+		batcher.add("b");
+		batcher.close();
+		assertThat(this.batches).containsExactly(List.of("a", "b"));
+		batcher.add("c");
+		assertThat(this.batches).containsExactly(List.of("a", "b"), List.of("c"));
+	}
+
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
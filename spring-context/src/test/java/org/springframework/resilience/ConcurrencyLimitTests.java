@@ -19,6 +19,7 @@ package org.springframework.resilience;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,7 @@ import org.springframework.resilience.annotation.ConcurrencyLimit;
 import org.springframework.resilience.annotation.ConcurrencyLimitBeanPostProcessor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 /**
  * @author Juergen Hoeller
@@ -73,6 +75,43 @@ class ConcurrencyLimitTests {
 		assertThat(target.current).hasValue(0);
 	}
 
+	@Test
+	void withPostProcessorForMethodAndLockFreeThrottle() {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		bf.registerBeanDefinition("bean", new RootBeanDefinition(AnnotatedMethodBean.class));
+		ConcurrencyLimitBeanPostProcessor bpp = new ConcurrencyLimitBeanPostProcessor();
+		bpp.setLockFreeThrottle(true);
+		bpp.setBeanFactory(bf);
+		bf.addBeanPostProcessor(bpp);
+		AnnotatedMethodBean proxy = bf.getBean(AnnotatedMethodBean.class);
+		AnnotatedMethodBean target = (AnnotatedMethodBean) AopProxyUtils.getSingletonTarget(proxy);
+
+		List<CompletableFuture<?>> futures = new ArrayList<>(10);
+		for (int i = 0; i < 10; i++) {
+			futures.add(CompletableFuture.runAsync(proxy::concurrentOperation));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		assertThat(target.current).hasValue(0);
+	}
+
+	@Test
+	void withPostProcessorForMethodAndRejectPolicy() throws Exception {
+		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
+		bf.registerBeanDefinition("bean", new RootBeanDefinition(RejectingMethodBean.class));
+		ConcurrencyLimitBeanPostProcessor bpp = new ConcurrencyLimitBeanPostProcessor();
+		bpp.setBeanFactory(bf);
+		bf.addBeanPostProcessor(bpp);
+		RejectingMethodBean proxy = bf.getBean(RejectingMethodBean.class);
+		RejectingMethodBean target = (RejectingMethodBean) AopProxyUtils.getSingletonTarget(proxy);
+
+		CompletableFuture<?> future = CompletableFuture.runAsync(proxy::blockingOperation);
+		target.entered.await();
+		assertThatExceptionOfType(InvocationRejectedException.class).isThrownBy(proxy::blockingOperation);
+		target.release.countDown();
+		future.join();
+		assertThat(target.invocations).hasValue(1);
+	}
+
 	@Test
 	void withPostProcessorForClass() {
 		DefaultListableBeanFactory bf = new DefaultListableBeanFactory();
@@ -137,6 +176,28 @@ class ConcurrencyLimitTests {
 	}
 
 
+	static class RejectingMethodBean {
+
+		CountDownLatch entered = new CountDownLatch(1);
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		@ConcurrencyLimit(value = 1, policy = ConcurrencyLimit.ThrottlePolicy.REJECT)
+		public void blockingOperation() {
+			invocations.incrementAndGet();
+			entered.countDown();
+			try {
+				release.await();
+			}
+			catch (InterruptedException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+
 	@ConcurrencyLimit(2)
 	static class AnnotatedClassBean {
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for {@link ConcurrencyThrottleSupport}, comparing the default
+ * lock-based throttle with the {@link ConcurrencyThrottleSupport#setLockFree
+ * lock-free} variant under contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Threads(Threads.MAX)
+public class ConcurrencyThrottleSupportBenchmark {
+
+	@Benchmark
+	public void throttledAccess(BenchmarkData data, Blackhole bh) {
+		data.throttle.beforeAccess();
+		try {
+			Blackhole.consumeCPU(data.work);
+			bh.consume(data.throttle);
+		}
+		finally {
+			data.throttle.afterAccess();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		@Param({"false", "true"})
+		public boolean lockFree;
+
+		@Param({"4", "64"})
+		public int concurrencyLimit;
+
+		@Param({"100"})
+		public long work;
+
+		Throttle throttle;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.throttle = new Throttle();
+			this.throttle.setConcurrencyLimit(this.concurrencyLimit);
+			this.throttle.setLockFree(this.lockFree);
+		}
+	}
+
+	@SuppressWarnings("serial")
+	static class Throttle extends ConcurrencyThrottleSupport {
+	}
+
+}
@@ -197,6 +197,20 @@ public class SimpleAsyncTaskExecutor extends CustomizableThreadCreator
 		this.rejectTasksWhenLimitReached = rejectTasksWhenLimitReached;
 	}
 
+	/**
+	 * Specify whether the concurrency throttle should maintain its count
+	 * in a lock-free manner, with submitters exceeding the concurrency limit
+	 * waiting in a fair queue rather than on a common lock.
+	 * <p>The default is {@code false}. Consider switching this to {@code true}
+	 * for a high rate of concurrent submissions, for example with Virtual Threads.
+	 * @since 7.0
+	 * @see #setConcurrencyLimit
+	 * @see ConcurrencyThrottleSupport#setLockFree
+	 */
+	public void setLockFreeThrottle(boolean lockFreeThrottle) {
+		this.concurrencyThrottle.setLockFree(lockFreeThrottle);
+	}
+
 	/**
 	 * Set the maximum number of parallel task executions allowed.
 	 * The default of -1 indicates no concurrency limit at all.
@@ -17,7 +17,7 @@
 package org.springframework.core.type.classreading;
 
 import java.io.IOException;
-import java.util.LinkedHashMap;
+import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
@@ -26,6 +26,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Caching implementation of the {@link MetadataReaderFactory} interface,
@@ -44,9 +45,12 @@ public class CachingMetadataReaderFactory extends AbstractMetadataReaderFactory
 
 	private final MetadataReaderFactory delegate;
 
-	/** MetadataReader cache: either local or shared at the ResourceLoader level. */
+	/** MetadataReader cache shared at the ResourceLoader level, if any. */
 	private @Nullable Map<Resource, MetadataReader> metadataReaderCache;
 
+	/** Local MetadataReader cache, if any: safe for concurrent access. */
+	private @Nullable ConcurrentLruCache<Resource, MetadataReader> localMetadataReaderCache;
+
 
 	/**
 	 * Create a new CachingMetadataReaderFactory for the default class loader,
@@ -93,16 +97,19 @@ public class CachingMetadataReaderFactory extends AbstractMetadataReaderFactory
 	 * <p>Default is 256 for a local cache, whereas a shared cache is
 	 * typically unbounded. This method enforces a local resource cache,
 	 * even if the {@link ResourceLoader} supports a shared resource cache.
+	 * <p>As of 7.0, the local cache is safe for concurrent access without
+	 * global locking, allowing for class files to be parsed in parallel.
+	 * Note that changing the limit of an existing local cache clears it.
 	 */
 	public void setCacheLimit(int cacheLimit) {
 		if (cacheLimit <= 0) {
 			this.metadataReaderCache = null;
+			this.localMetadataReaderCache = null;
 		}
-		else if (this.metadataReaderCache instanceof LocalResourceCache localResourceCache) {
-			localResourceCache.setCacheLimit(cacheLimit);
-		}
-		else {
-			this.metadataReaderCache = new LocalResourceCache(cacheLimit);
+		else if (this.localMetadataReaderCache == null ||
+				this.localMetadataReaderCache.capacity() != cacheLimit) {
+			this.metadataReaderCache = null;
+			this.localMetadataReaderCache = new ConcurrentLruCache<>(cacheLimit, this::readMetadata);
 		}
 	}
 
@@ -110,8 +117,8 @@ public class CachingMetadataReaderFactory extends AbstractMetadataReaderFactory
 	 * Return the maximum number of entries for the MetadataReader cache.
 	 */
 	public int getCacheLimit() {
-		if (this.metadataReaderCache instanceof LocalResourceCache localResourceCache) {
-			return localResourceCache.getCacheLimit();
+		if (this.localMetadataReaderCache != null) {
+			return this.localMetadataReaderCache.capacity();
 		}
 		else {
 			return (this.metadataReaderCache != null ? Integer.MAX_VALUE : 0);
@@ -120,7 +127,15 @@ public class CachingMetadataReaderFactory extends AbstractMetadataReaderFactory
 
 	@Override
 	public MetadataReader getMetadataReader(Resource resource) throws IOException {
-		if (this.metadataReaderCache instanceof ConcurrentMap) {
+		if (this.localMetadataReaderCache != null) {
+			try {
+				return this.localMetadataReaderCache.get(resource);
+			}
+			catch (UncheckedIOException ex) {
+				throw ex.getCause();
+			}
+		}
+		else if (this.metadataReaderCache instanceof ConcurrentMap) {
 			// No synchronization necessary...
 			MetadataReader metadataReader = this.metadataReaderCache.get(resource);
 			if (metadataReader == null) {
@@ -144,14 +159,21 @@ public class CachingMetadataReaderFactory extends AbstractMetadataReaderFactory
 		}
 	}
 
+	private MetadataReader readMetadata(Resource resource) {
+		try {
+			return this.delegate.getMetadataReader(resource);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
 	/**
 	 * Clear the local MetadataReader cache, if any, removing all cached class metadata.
 	 */
 	public void clearCache() {
-		if (this.metadataReaderCache instanceof LocalResourceCache) {
-			synchronized (this.metadataReaderCache) {
-				this.metadataReaderCache.clear();
-			}
+		if (this.localMetadataReaderCache != null) {
+			this.localMetadataReaderCache.clear();
 		}
 		else if (this.metadataReaderCache != null) {
 			// Shared resource cache -> reset to local cache.
@@ -159,29 +181,4 @@ public class CachingMetadataReaderFactory extends AbstractMetadataReaderFactory
 		}
 	}
 
-
-	@SuppressWarnings("serial")
-	private static class LocalResourceCache extends LinkedHashMap<Resource, MetadataReader> {
-
-		private volatile int cacheLimit;
-
-		public LocalResourceCache(int cacheLimit) {
-			super(cacheLimit, 0.75f, true);
-			this.cacheLimit = cacheLimit;
-		}
-
-		public void setCacheLimit(int cacheLimit) {
-			this.cacheLimit = cacheLimit;
-		}
-
-		public int getCacheLimit() {
-			return this.cacheLimit;
-		}
-
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<Resource, MetadataReader> eldest) {
-			return size() > this.cacheLimit;
-		}
-	}
-
 }
@@ -53,6 +53,24 @@ public abstract class AbstractTypeHierarchyTraversingFilter implements TypeFilte
 	}
 
 
+	/**
+	 * Return whether this filter also matches classes that inherit a match
+	 * from their superclass.
+	 * @since 7.0
+	 */
+	public final boolean isConsiderInherited() {
+		return this.considerInherited;
+	}
+
+	/**
+	 * Return whether this filter also matches classes that implement a
+	 * matching interface.
+	 * @since 7.0
+	 */
+	public final boolean isConsiderInterfaces() {
+		return this.considerInterfaces;
+	}
+
 	@Override
 	public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory)
 			throws IOException {
@@ -19,12 +19,16 @@ package org.springframework.util;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 
 /**
  * Support class for throttling concurrent access to a specific resource.
@@ -38,6 +42,11 @@ import org.apache.commons.logging.LogFactory;
  * ("unbounded concurrency"). Subclasses may override this default;
  * check the javadoc of the concrete class that you're using.
  *
+ * <p>By default, the concurrency count is guarded by a common lock. As of 7.0,
+ * a {@link #setLockFree lock-free} variant is available as well, maintaining
+ * the concurrency count in an atomic counter with a fair queue of waiting
+ * threads, for highly concurrent access (for example, from Virtual Threads).
+ *
  * @author Juergen Hoeller
  * @since 1.2.5
  * @see #setConcurrencyLimit
@@ -71,6 +80,10 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 
 	private int concurrencyCount = 0;
 
+	private boolean lockFree = false;
+
+	private transient @Nullable FairConcurrencyCounter lockFreeCounter;
+
 
 	/**
 	 * Set the maximum number of concurrent access attempts allowed.
@@ -92,6 +105,34 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 		return this.concurrencyLimit;
 	}
 
+	/**
+	 * Specify whether to maintain the concurrency count in a lock-free manner.
+	 * <p>The default is {@code false}, guarding the concurrency count with a
+	 * common lock and blocking callers on a condition once the limit has been
+	 * reached. Switch this to {@code true} for an atomic counter which callers
+	 * increment through compare-and-set, with callers exceeding the limit
+	 * waiting in a fair queue for their turn. This avoids contention on a
+	 * common monitor with many concurrent callers below the limit; beyond the
+	 * limit, callers are served in arrival order, similar to a fair lock.
+	 * <p>NOTE: This is designed as a config time setting. Do not switch it
+	 * while the throttle is in use, as this will lead to inconsistent
+	 * concurrency counts.
+	 * @since 7.0
+	 * @see #onLimitReached()
+	 */
+	public void setLockFree(boolean lockFree) {
+		this.lockFree = lockFree;
+		this.lockFreeCounter = (lockFree ? new FairConcurrencyCounter() : null);
+	}
+
+	/**
+	 * Return whether the concurrency count is maintained in a lock-free manner.
+	 * @since 7.0
+	 */
+	public boolean isLockFree() {
+		return this.lockFree;
+	}
+
 	/**
 	 * Return whether this throttle is currently active.
 	 * @return {@code true} if the concurrency limit for this instance is active
@@ -114,6 +155,16 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 					"Currently no invocations allowed - concurrency limit set to NO_CONCURRENCY");
 		}
 		if (this.concurrencyLimit > 0) {
+			FairConcurrencyCounter counter = this.lockFreeCounter;
+			if (counter != null) {
+				if (!counter.tryIncrement(this.concurrencyLimit)) {
+					onLimitReached();
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Entered throttle at concurrency count " + counter.get());
+				}
+				return;
+			}
 			this.concurrencyLock.lock();
 			try {
 				if (this.concurrencyCount >= this.concurrencyLimit) {
@@ -133,9 +184,22 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 	/**
 	 * Triggered by {@link #beforeAccess()} when the concurrency limit has been reached.
 	 * The default implementation blocks until the concurrency count allows for entering.
+	 * <p>In {@link #setLockFree lock-free} mode, the default implementation waits
+	 * in a fair queue and enters the throttle (incrementing the concurrency count)
+	 * once it is its turn. An overriding implementation that does not delegate
+	 * to this method must throw an exception in order to prevent entering.
 	 * @since 6.2.6
 	 */
 	protected void onLimitReached() {
+		FairConcurrencyCounter counter = this.lockFreeCounter;
+		if (counter != null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Concurrency count " + counter.get() +
+						" has reached limit " + this.concurrencyLimit + " - waiting in queue");
+			}
+			counter.increment(this);
+			return;
+		}
 		boolean interrupted = false;
 		while (this.concurrencyCount >= this.concurrencyLimit) {
 			if (interrupted) {
@@ -164,6 +228,14 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 	protected void afterAccess() {
 		if (this.concurrencyLimit >= 0) {
 			boolean debug = logger.isDebugEnabled();
+			FairConcurrencyCounter counter = this.lockFreeCounter;
+			if (counter != null) {
+				int count = counter.decrement(this.concurrencyLimit);
+				if (debug) {
+					logger.debug("Returning from throttle at concurrency count " + count);
+				}
+				return;
+			}
 			this.concurrencyLock.lock();
 			try {
 				this.concurrencyCount--;
@@ -189,6 +261,93 @@ public abstract class ConcurrencyThrottleSupport implements Serializable {
 
 		// Initialize transient fields.
 		this.logger = LogFactory.getLog(getClass());
+		if (this.lockFree) {
+			this.lockFreeCounter = new FairConcurrencyCounter();
+		}
+	}
+
+
+	/**
+	 * Lock-free concurrency counter with a FIFO queue of waiting threads:
+	 * callers only increment the counter directly while nobody is waiting,
+	 * otherwise taking their turn in arrival order.
+	 */
+	private static final class FairConcurrencyCounter {
+
+		private static final int MAX_SPINS = (Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 0);
+
+		private final AtomicInteger count = new AtomicInteger();
+
+		private final ConcurrentLinkedQueue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+		int get() {
+			return this.count.get();
+		}
+
+		boolean tryIncrement(int limit) {
+			return (this.waiters.isEmpty() && incrementIfBelow(limit));
+		}
+
+		void increment(ConcurrencyThrottleSupport throttle) {
+			Thread thread = Thread.currentThread();
+			this.waiters.add(thread);
+			boolean interrupted = false;
+			try {
+				int spins = MAX_SPINS;
+				while (this.waiters.peek() != thread || !incrementIfBelow(throttle.concurrencyLimit)) {
+					if (interrupted) {
+						throw new IllegalStateException("Thread was interrupted while waiting for invocation access, " +
+								"but concurrency limit still does not allow for entering");
+					}
+					if (spins > 0 && this.waiters.peek() == thread) {
+						// Briefly spin at the head of the queue before parking
+						spins--;
+						Thread.onSpinWait();
+						continue;
+					}
+					LockSupport.park(throttle);
+					// Clear the interrupt flag for parking again, re-interrupting on exit.
+					interrupted = Thread.interrupted();
+				}
+			}
+			finally {
+				this.waiters.remove(thread);
+				if (interrupted) {
+					thread.interrupt();
+				}
+				// Wake up the next in line: to enter in case of further capacity,
+				// or to start spinning at the head of the queue (if applicable)
+				if (MAX_SPINS > 0 || this.count.get() < throttle.concurrencyLimit) {
+					signalNext();
+				}
+			}
+		}
+
+		int decrement(int limit) {
+			int count = this.count.decrementAndGet();
+			if (count < limit) {
+				signalNext();
+			}
+			return count;
+		}
+
+		private boolean incrementIfBelow(int limit) {
+			int current = this.count.get();
+			while (current < limit) {
+				if (this.count.compareAndSet(current, current + 1)) {
+					return true;
+				}
+				current = this.count.get();
+			}
+			return false;
+		}
+
+		private void signalNext() {
+			Thread next = this.waiters.peek();
+			if (next != null) {
+				LockSupport.unpark(next);
+			}
+		}
 	}
 
 }
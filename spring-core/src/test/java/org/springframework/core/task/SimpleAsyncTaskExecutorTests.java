@@ -69,6 +69,18 @@ class SimpleAsyncTaskExecutorTests {
 		}
 	}
 
+	@Test
+	void taskRejectedWhenConcurrencyLimitReachedWithLockFreeThrottle() {
+		try (SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor()) {
+			executor.setConcurrencyLimit(1);
+			executor.setLockFreeThrottle(true);
+			executor.setRejectTasksWhenLimitReached(true);
+			assertThat(executor.isThrottleActive()).isTrue();
+			executor.execute(new NoOpRunnable());
+			assertThatExceptionOfType(TaskRejectedException.class).isThrownBy(() -> executor.execute(new NoOpRunnable()));
+		}
+	}
+
 	@Test
 	void threadNameGetsSetCorrectly() {
 		String customPrefix = "chankPop#";
@@ -16,10 +16,18 @@
 
 package org.springframework.core.type.classreading;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.Test;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -43,6 +51,39 @@ class CachingMetadataReaderFactoryTests {
 		verify(delegate, times(1)).getMetadataReader(any(Resource.class));
 	}
 
+	@Test
+	void shouldCacheResourcesConcurrently() throws Exception {
+		MetadataReaderFactory delegate = mock(MetadataReaderFactory.class);
+		when(delegate.getMetadataReader(any(Resource.class))).thenReturn(mock(MetadataReader.class));
+
+		CachingMetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(delegate);
+		readerFactory.setCacheLimit(16);
+		assertThat(readerFactory.getCacheLimit()).isEqualTo(16);
+		Resource resource = new ClassPathResource(TestClass.class.getName().replace('.', '/') + ".class");
+		readerFactory.getMetadataReader(resource);
+		IntStream.range(0, 100).parallel().forEach(i -> {
+			try {
+				readerFactory.getMetadataReader(resource);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+
+		verify(delegate, times(1)).getMetadataReader(any(Resource.class));
+	}
+
+	@Test
+	void shouldPropagateIOException() throws Exception {
+		MetadataReaderFactory delegate = mock(MetadataReaderFactory.class);
+		when(delegate.getMetadataReader(any(Resource.class))).thenThrow(new FileNotFoundException("missing"));
+
+		CachingMetadataReaderFactory readerFactory = new CachingMetadataReaderFactory(delegate);
+		readerFactory.setCacheLimit(16);
+		assertThatExceptionOfType(FileNotFoundException.class)
+				.isThrownBy(() -> readerFactory.getMetadataReader(new ClassPathResource("missing.class")));
+	}
+
 	public static class TestClass {
 	}
 
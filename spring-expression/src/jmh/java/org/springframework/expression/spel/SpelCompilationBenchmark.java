@@ -0,0 +1,235 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.expression.spel.standard.SpelCompiler;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Benchmarks for evaluating a corpus of typical SpEL expressions, as found in
+ * cache keys, method security, and event listener conditions, either in
+ * interpreted or in compiled form. The fraction of the corpus that compiles
+ * is reported as the {@code compiledFraction} secondary result of
+ * {@link #evaluateCompiledCorpus}.
+ * @see SpelBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+public class SpelCompilationBenchmark {
+
+	static final String[] CORPUS = {
+			// Cache keys
+			"id",
+			"customer.id + '-' + region",
+			"#root.tags.?[startsWith('a')]",
+			"items.![sku]",
+			"items.![sku + ':' + quantity]",
+			"attributes['tenant']",
+			"attributes['tenant'] ?: 'default'",
+			"priority ?: 0",
+			"key('orders', id, region)",
+			// Method security
+			"customer.roles.contains('ADMIN')",
+			"customer.roles.?[#this == 'ADMIN'].size() > 0",
+			"customer.name == #root.attributes['owner']",
+			"!customer.roles.isEmpty() and region == 'EU'",
+			"hasAnyRole('ADMIN', 'SUPPORT')",
+			// Event listener conditions
+			"items.^[quantity > 10] != null",
+			"items.$[quantity > 0].sku",
+			"items.?[quantity > 1].size() > 1",
+			"items.?[price > 100.0].![sku].contains('A-1')",
+			"tags.?[length() > 3] == null ? false : true",
+			"total() > 100.0",
+	};
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		StandardEvaluationContext context;
+
+		List<SpelExpression> interpreted = new ArrayList<>();
+
+		List<SpelExpression> compiled = new ArrayList<>();
+
+		int compilable;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.context = new StandardEvaluationContext(new Order());
+			SpelExpressionParser parser = new SpelExpressionParser(
+					new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+			for (String spel : CORPUS) {
+				SpelExpression interpretedExpression = parser.parseRaw(spel);
+				interpretedExpression.getValue(this.context);
+				this.interpreted.add(interpretedExpression);
+
+				SpelExpression compiledExpression = parser.parseRaw(spel);
+				compiledExpression.getValue(this.context);
+				if (SpelCompiler.compile(compiledExpression)) {
+					this.compilable++;
+				}
+				this.compiled.add(compiledExpression);
+			}
+		}
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class CompilationCounters {
+
+		public int compiledExpressions;
+
+		public int corpusExpressions;
+
+		@Setup(Level.Iteration)
+		public void setup(BenchmarkData data) {
+			this.compiledExpressions = data.compilable;
+			this.corpusExpressions = CORPUS.length;
+		}
+
+		public double compiledFraction() {
+			return (double) this.compiledExpressions / this.corpusExpressions;
+		}
+	}
+
+	@Benchmark
+	public void interpretCorpus(BenchmarkData data, Blackhole bh) {
+		for (SpelExpression expression : data.interpreted) {
+			bh.consume(expression.getValue(data.context));
+		}
+	}
+
+	@Benchmark
+	public void evaluateCompiledCorpus(BenchmarkData data, CompilationCounters counters, Blackhole bh) {
+		for (SpelExpression expression : data.compiled) {
+			bh.consume(expression.getValue(data.context));
+		}
+	}
+
+
+	public static class Order {
+
+		private final String id = "1234";
+
+		private final String region = "EU";
+
+		private final Integer priority = null;
+
+		private final Customer customer = new Customer();
+
+		private final List<Item> items = List.of(new Item("A-1", 2, 120.0), new Item("B-2", 12, 15.5),
+				new Item("C-3", 1, 99.0));
+
+		private final List<String> tags = List.of("alpha", "beta", "gamma");
+
+		private final Map<String, Object> attributes = new LinkedHashMap<>(Map.of("owner", "Sam"));
+
+		public String key(String prefix, String id, String region) {
+			return prefix + ":" + id + ":" + region;
+		}
+
+		public boolean hasAnyRole(String... roles) {
+			for (String role : roles) {
+				if (this.customer.roles.contains(role)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		public double total() {
+			double total = 0;
+			for (Item item : this.items) {
+				total += item.price * item.quantity;
+			}
+			return total;
+		}
+
+		public String getId() {
+			return this.id;
+		}
+
+		public String getRegion() {
+			return this.region;
+		}
+
+		public Integer getPriority() {
+			return this.priority;
+		}
+
+		public Customer getCustomer() {
+			return this.customer;
+		}
+
+		public List<Item> getItems() {
+			return this.items;
+		}
+
+		public List<String> getTags() {
+			return this.tags;
+		}
+
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+	}
+
+
+	public static class Customer {
+
+		private final String id = "c-42";
+
+		private final String name = "Sam";
+
+		private final List<String> roles = List.of("USER", "ADMIN");
+
+		public String getId() {
+			return this.id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public List<String> getRoles() {
+			return this.roles;
+		}
+	}
+
+
+	public record Item(String sku, int quantity, double price) {
+	}
+
+}
@@ -88,9 +88,18 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the EvaluationContext passed to
+	 * the main evaluation method).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * Local variables holding the target for nested scopes, such as the current
+	 * element during a collection selection or projection. Empty if the target
+	 * is what was passed into the main evaluation method.
+	 */
+	private final Deque<Integer> targetVariables = new ArrayDeque<>();
 
 
 	/**
@@ -108,13 +117,57 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context), or the current element within
+	 * a {@linkplain #enterTargetScope(int) nested target scope})
 	 * @param mv the method visitor into which the load instruction should be inserted
 	 */
 	public void loadTarget(MethodVisitor mv) {
+		Integer targetVariable = this.targetVariables.peek();
+		mv.visitVarInsn(ALOAD, (targetVariable != null ? targetVariable : 1));
+	}
+
+	/**
+	 * Push the byte code to load the root object (i.e. what was passed as the first
+	 * argument to CompiledExpression.getValue(target, context)), irrespective of any
+	 * nested target scope.
+	 * @param mv the method visitor into which the load instruction should be inserted
+	 * @since 7.0
+	 */
+	public void loadRoot(MethodVisitor mv) {
 		mv.visitVarInsn(ALOAD, 1);
 	}
 
+	/**
+	 * Enter a nested scope in which the target is held in the given local variable,
+	 * for example the current element while evaluating a selection or projection
+	 * expression. {@link #loadTarget(MethodVisitor)} loads that variable until the
+	 * corresponding {@link #exitTargetScope()}.
+	 * @param variableId the local variable holding the target
+	 * @since 7.0
+	 * @see #nextFreeVariableId()
+	 */
+	public void enterTargetScope(int variableId) {
+		this.targetVariables.push(variableId);
+	}
+
+	/**
+	 * Enter a nested scope in which the target is the root object again, for
+	 * example while evaluating an index expression that is resolved against
+	 * the root object.
+	 * @since 7.0
+	 */
+	public void enterRootTargetScope() {
+		this.targetVariables.push(1);
+	}
+
+	/**
+	 * Exit the most recently entered target scope.
+	 * @since 7.0
+	 */
+	public void exitTargetScope() {
+		this.targetVariables.pop();
+	}
+
 	/**
 	 * Push the bytecode to load the EvaluationContext (the second parameter passed to
 	 * the compiled expression method).
@@ -74,6 +74,10 @@ public class Elvis extends SpelNodeImpl {
 
 		// If this check is changed, the generateCode method will need changing too
 		if (leftHandValue != null && !"".equals(leftHandValue)) {
+			String leftHandDescriptor = this.children[0].exitTypeDescriptor;
+			if (CodeFlow.isPrimitive(leftHandDescriptor)) {
+				this.exitTypeDescriptor = leftHandDescriptor;
+			}
 			return leftHandTypedValue;
 		}
 		else {
@@ -92,12 +96,26 @@ public class Elvis extends SpelNodeImpl {
 	public boolean isCompilable() {
 		SpelNodeImpl condition = this.children[0];
 		SpelNodeImpl ifNullValue = this.children[1];
+		if (condition.isCompilable() && CodeFlow.isPrimitive(condition.exitTypeDescriptor)) {
+			// A primitive value is never null or empty: the alternative is never evaluated.
+			return true;
+		}
 		return (condition.isCompilable() && ifNullValue.isCompilable() &&
 				condition.exitTypeDescriptor != null && ifNullValue.exitTypeDescriptor != null);
 	}
 
 	@Override
 	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String conditionDescriptor = this.children[0].exitTypeDescriptor;
+		if (CodeFlow.isPrimitive(conditionDescriptor)) {
+			this.exitTypeDescriptor = conditionDescriptor;
+			cf.enterCompilationScope();
+			this.children[0].generateCode(mv, cf);
+			cf.exitCompilationScope();
+			cf.pushDescriptor(this.exitTypeDescriptor);
+			return;
+		}
+
 		// exit type descriptor can be null if both components are literal expressions
 		computeExitTypeDescriptor();
 		cf.enterCompilationScope();
@@ -138,6 +156,11 @@ public class Elvis extends SpelNodeImpl {
 			if (ObjectUtils.nullSafeEquals(conditionDescriptor, ifNullValueDescriptor)) {
 				this.exitTypeDescriptor = conditionDescriptor;
 			}
+			else if (CodeFlow.isPrimitive(ifNullValueDescriptor) &&
+					conditionDescriptor.equals(CodeFlow.toBoxedDescriptor(ifNullValueDescriptor))) {
+				// For example, an Integer with an int alternative: box the alternative
+				this.exitTypeDescriptor = conditionDescriptor;
+			}
 			else {
 				// Use the easiest to compute common supertype
 				this.exitTypeDescriptor = "Ljava/lang/Object";
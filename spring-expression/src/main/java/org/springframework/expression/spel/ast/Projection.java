@@ -19,14 +19,18 @@ package org.springframework.expression.spel.ast;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -110,6 +114,7 @@ public class Projection extends SpelNodeImpl {
 		// that can be referenced in the operation -- for example,
 		// {'a':'y', 'b':'n'}.![value == 'y' ? key : null] evaluates to ['a', null].
 		if (operand instanceof Map<?, ?> mapData) {
+			this.exitTypeDescriptor = "Ljava/util/List";
 			List<Object> result = new ArrayList<>();
 			for (Map.Entry<?, ?> entry : mapData.entrySet()) {
 				try {
@@ -130,6 +135,9 @@ public class Projection extends SpelNodeImpl {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ?
 					iterable : Arrays.asList(ObjectUtils.toObjectArray(operand)));
 
+			// The element type of a resulting array depends on the projected values
+			this.exitTypeDescriptor = (operandIsArray ? "Ljava/lang/Object" : "Ljava/util/List");
+
 			List<Object> result = new ArrayList<>();
 			Class<?> arrayElementType = null;
 			for (Object element : data) {
@@ -169,7 +177,158 @@ public class Projection extends SpelNodeImpl {
 		return "![" + getChild(0).toStringAST() + "]";
 	}
 
-	private Class<?> determineCommonType(@Nullable Class<?> oldType, Class<?> newType) {
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl projection = this.children[0];
+		return (this.exitTypeDescriptor != null && projection.isCompilable() &&
+				projection.exitTypeDescriptor != null);
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			cf.loadTarget(mv);
+		}
+		int operandVariable = cf.nextFreeVariableId();
+		int iteratorVariable = cf.nextFreeVariableId();
+		int resultVariable = cf.nextFreeVariableId();
+		int elementVariable = cf.nextFreeVariableId();
+		Label operandPresent = new Label();
+		Label nextElement = new Label();
+		Label noMoreElements = new Label();
+		Label endOfProjection = new Label();
+
+		// Resolve the operand, leaving null on the stack for a null-safe projection on null
+		mv.visitInsn(isNullSafe() ? ICONST_1 : ICONST_0);
+		CodeFlow.insertOptimalLoad(mv, getStartPosition());
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/Projection",
+				"resolveOperand", "(Ljava/lang/Object;ZI)Ljava/lang/Object;", false);
+		mv.visitInsn(DUP);
+		mv.visitVarInsn(ASTORE, operandVariable);
+		mv.visitJumpInsn(IFNONNULL, operandPresent);
+		mv.visitInsn(ACONST_NULL);
+		mv.visitJumpInsn(GOTO, endOfProjection);
+
+		mv.visitLabel(operandPresent);
+		mv.visitVarInsn(ALOAD, operandVariable);
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/Projection",
+				"elements", "(Ljava/lang/Object;)Ljava/util/Iterator;", false);
+		mv.visitVarInsn(ASTORE, iteratorVariable);
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		mv.visitVarInsn(ASTORE, resultVariable);
+
+		// Evaluate the projection against each element in turn
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, noMoreElements);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, elementVariable);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		cf.enterTargetScope(elementVariable);
+		cf.enterCompilationScope();
+		this.children[0].generateCode(mv, cf);
+		CodeFlow.insertBoxIfNecessary(mv, cf.lastDescriptor());
+		cf.exitCompilationScope();
+		cf.exitTargetScope();
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+		mv.visitInsn(POP);
+		mv.visitJumpInsn(GOTO, nextElement);
+
+		// Build the result from the projected values
+		mv.visitLabel(noMoreElements);
+		mv.visitVarInsn(ALOAD, operandVariable);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/Projection",
+				"result", "(Ljava/lang/Object;Ljava/util/List;)Ljava/lang/Object;", false);
+
+		mv.visitLabel(endOfProjection);
+		CodeFlow.insertCheckCast(mv, this.exitTypeDescriptor);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+
+	/**
+	 * Resolve the operand of a compiled projection, unwrapping an {@link Optional}
+	 * for a null-safe projection.
+	 * <p>For internal use by compiled expressions only.
+	 * @param operand the operand to project
+	 * @param nullSafe whether the projection is null-safe
+	 * @param startPosition the start position of the projection, for error reporting
+	 * @return the operand, or {@code null} for a null-safe projection on {@code null}
+	 * or an empty {@code Optional}
+	 * @throws SpelEvaluationException if the operand does not support projection
+	 * @since 7.0
+	 */
+	public static @Nullable Object resolveOperand(@Nullable Object operand, boolean nullSafe, int startPosition) {
+		if (nullSafe && operand instanceof Optional<?> optional) {
+			operand = optional.orElse(null);
+			if (operand == null) {
+				return null;
+			}
+		}
+		if (operand == null) {
+			if (nullSafe) {
+				return null;
+			}
+			throw new SpelEvaluationException(startPosition, SpelMessage.PROJECTION_NOT_SUPPORTED_ON_TYPE, "null");
+		}
+		if (!(operand instanceof Map || operand instanceof Iterable || ObjectUtils.isArray(operand))) {
+			throw new SpelEvaluationException(startPosition, SpelMessage.PROJECTION_NOT_SUPPORTED_ON_TYPE,
+					operand.getClass().getName());
+		}
+		return operand;
+	}
+
+	/**
+	 * Return an Iterator over the entries of the given Map, or over the elements
+	 * of the given Iterable or array.
+	 * <p>For internal use by compiled expressions only.
+	 * @param operand the resolved operand
+	 * @since 7.0
+	 * @see #resolveOperand
+	 */
+	public static Iterator<?> elements(Object operand) {
+		if (operand instanceof Map<?, ?> map) {
+			return map.entrySet().iterator();
+		}
+		if (operand instanceof Iterable<?> iterable) {
+			return iterable.iterator();
+		}
+		return Arrays.asList(ObjectUtils.toObjectArray(operand)).iterator();
+	}
+
+	/**
+	 * Build the result of a compiled projection, in the same form as the
+	 * interpreted projection: an array of the common type of the projected values
+	 * for an array operand, and a List otherwise.
+	 * <p>For internal use by compiled expressions only.
+	 * @param operand the resolved operand
+	 * @param values the projected values, in iteration order
+	 * @since 7.0
+	 */
+	public static Object result(Object operand, List<?> values) {
+		if (!ObjectUtils.isArray(operand)) {
+			return values;
+		}
+		Class<?> arrayElementType = null;
+		for (Object value : values) {
+			if (value != null) {
+				arrayElementType = determineCommonType(arrayElementType, value.getClass());
+			}
+		}
+		if (arrayElementType == null) {
+			arrayElementType = Object.class;
+		}
+		Object resultArray = Array.newInstance(arrayElementType, values.size());
+		System.arraycopy(values.toArray(), 0, resultArray, 0, values.size());
+		return resultArray;
+	}
+
+	private static Class<?> determineCommonType(@Nullable Class<?> oldType, Class<?> newType) {
 		if (oldType == null) {
 			return newType;
 		}
@@ -17,16 +17,24 @@
 package org.springframework.expression.spel.ast;
 
 import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -84,6 +92,8 @@ public class Selection extends SpelNodeImpl {
 
 	private final boolean nullSafe;
 
+	private @Nullable Class<?> arrayElementType;
+
 
 	public Selection(boolean nullSafe, int variant, int startPos, int endPos, SpelNodeImpl expression) {
 		super(startPos, endPos, expression);
@@ -130,6 +140,8 @@ public class Selection extends SpelNodeImpl {
 		SpelNodeImpl selectionCriteria = this.children[0];
 
 		if (operand instanceof Map<?, ?> mapdata) {
+			this.arrayElementType = null;
+			this.exitTypeDescriptor = "Ljava/util/Map";
 			Map<Object, Object> result = new HashMap<>();
 			Object lastKey = null;
 
@@ -177,6 +189,10 @@ public class Selection extends SpelNodeImpl {
 			Iterable<?> data = (operand instanceof Iterable<?> iterable ? iterable :
 					Arrays.asList(ObjectUtils.toObjectArray(operand)));
 
+			this.arrayElementType = null;
+			this.exitTypeDescriptor = (this.variant == ALL && operand instanceof Iterable ?
+					"Ljava/util/List" : "Ljava/lang/Object");
+
 			List<Object> result = new ArrayList<>();
 			for (Object element : data) {
 				try {
@@ -226,6 +242,8 @@ public class Selection extends SpelNodeImpl {
 
 			Object resultArray = Array.newInstance(elementType, result.size());
 			System.arraycopy(result.toArray(), 0, resultArray, 0, result.size());
+			this.arrayElementType = elementType;
+			this.exitTypeDescriptor = CodeFlow.toDescriptor(resultArray.getClass());
 			return new ValueRef.TypedValueHolderValueRef(new TypedValue(resultArray), this);
 		}
 
@@ -238,6 +256,191 @@ public class Selection extends SpelNodeImpl {
 		return prefix() + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		Class<?> arrayElementType = this.arrayElementType;
+		return (this.exitTypeDescriptor != null && selectionCriteria.isCompilable() &&
+				CodeFlow.isBooleanCompatible(selectionCriteria.exitTypeDescriptor) &&
+				(arrayElementType == null || Modifier.isPublic(arrayElementType.getModifiers())));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			cf.loadTarget(mv);
+		}
+		int operandVariable = cf.nextFreeVariableId();
+		int iteratorVariable = cf.nextFreeVariableId();
+		int resultVariable = cf.nextFreeVariableId();
+		int elementVariable = cf.nextFreeVariableId();
+		Label operandPresent = new Label();
+		Label nextElement = new Label();
+		Label noMoreElements = new Label();
+		Label endOfSelection = new Label();
+
+		// Resolve the operand, leaving null on the stack for a null-safe selection on null
+		mv.visitInsn(isNullSafe() ? ICONST_1 : ICONST_0);
+		CodeFlow.insertOptimalLoad(mv, getStartPosition());
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/Selection",
+				"resolveOperand", "(Ljava/lang/Object;ZI)Ljava/lang/Object;", false);
+		mv.visitInsn(DUP);
+		mv.visitVarInsn(ASTORE, operandVariable);
+		mv.visitJumpInsn(IFNONNULL, operandPresent);
+		mv.visitInsn(ACONST_NULL);
+		mv.visitJumpInsn(GOTO, endOfSelection);
+
+		mv.visitLabel(operandPresent);
+		mv.visitVarInsn(ALOAD, operandVariable);
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/Selection",
+				"elements", "(Ljava/lang/Object;)Ljava/util/Iterator;", false);
+		mv.visitVarInsn(ASTORE, iteratorVariable);
+		mv.visitTypeInsn(NEW, "java/util/ArrayList");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		mv.visitVarInsn(ASTORE, resultVariable);
+
+		// Evaluate the selection criteria against each element in turn
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, noMoreElements);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, elementVariable);
+		cf.enterTargetScope(elementVariable);
+		cf.enterCompilationScope();
+		this.children[0].generateCode(mv, cf);
+		String criteriaDescriptor = cf.lastDescriptor();
+		Assert.state(criteriaDescriptor != null, "No last descriptor");
+		if (!CodeFlow.isPrimitive(criteriaDescriptor)) {
+			CodeFlow.insertUnboxInsns(mv, 'Z', criteriaDescriptor);
+		}
+		cf.exitCompilationScope();
+		cf.exitTargetScope();
+		mv.visitJumpInsn(IFEQ, nextElement);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		mv.visitVarInsn(ALOAD, elementVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+		mv.visitInsn(POP);
+		mv.visitJumpInsn(GOTO, (this.variant == FIRST ? noMoreElements : nextElement));
+
+		// Build the result from the selected elements
+		mv.visitLabel(noMoreElements);
+		mv.visitVarInsn(ALOAD, operandVariable);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		CodeFlow.insertOptimalLoad(mv, this.variant);
+		if (this.arrayElementType != null) {
+			mv.visitLdcInsn(Type.getType(this.arrayElementType));
+		}
+		else {
+			mv.visitInsn(ACONST_NULL);
+		}
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/Selection",
+				"result", "(Ljava/lang/Object;Ljava/util/List;ILjava/lang/Class;)Ljava/lang/Object;", false);
+
+		mv.visitLabel(endOfSelection);
+		CodeFlow.insertCheckCast(mv, this.exitTypeDescriptor);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+	/**
+	 * Resolve the operand of a compiled selection, unwrapping an {@link Optional}
+	 * for a null-safe selection.
+	 * <p>For internal use by compiled expressions only.
+	 * @param operand the operand to select from
+	 * @param nullSafe whether the selection is null-safe
+	 * @param startPosition the start position of the selection, for error reporting
+	 * @return the operand, or {@code null} for a null-safe selection on {@code null}
+	 * or an empty {@code Optional}
+	 * @throws SpelEvaluationException if the operand does not support selection
+	 * @since 7.0
+	 */
+	public static @Nullable Object resolveOperand(@Nullable Object operand, boolean nullSafe, int startPosition) {
+		if (nullSafe && operand instanceof Optional<?> optional) {
+			operand = optional.orElse(null);
+			if (operand == null) {
+				return null;
+			}
+		}
+		if (operand == null) {
+			if (nullSafe) {
+				return null;
+			}
+			throw new SpelEvaluationException(startPosition, SpelMessage.INVALID_TYPE_FOR_SELECTION, "null");
+		}
+		if (!(operand instanceof Map || operand instanceof Iterable || ObjectUtils.isArray(operand))) {
+			throw new SpelEvaluationException(startPosition, SpelMessage.INVALID_TYPE_FOR_SELECTION,
+					operand.getClass().getName());
+		}
+		return operand;
+	}
+
+	/**
+	 * Return an Iterator over the entries of the given Map, or over the elements
+	 * of the given Iterable or array.
+	 * <p>For internal use by compiled expressions only.
+	 * @param operand the resolved operand
+	 * @since 7.0
+	 * @see #resolveOperand
+	 */
+	public static Iterator<?> elements(Object operand) {
+		if (operand instanceof Map<?, ?> map) {
+			return map.entrySet().iterator();
+		}
+		if (operand instanceof Iterable<?> iterable) {
+			return iterable.iterator();
+		}
+		return Arrays.asList(ObjectUtils.toObjectArray(operand)).iterator();
+	}
+
+	/**
+	 * Build the result of a compiled selection, in the same form as the
+	 * interpreted selection.
+	 * <p>For internal use by compiled expressions only.
+	 * @param operand the resolved operand
+	 * @param selected the selected Map entries or elements, in iteration order
+	 * @param variant the selection variant ({@link #ALL}, {@link #FIRST}, or {@link #LAST})
+	 * @param arrayElementType the element type of the resulting array, if the
+	 * operand is an array
+	 * @since 7.0
+	 */
+	public static @Nullable Object result(
+			Object operand, List<?> selected, int variant, @Nullable Class<?> arrayElementType) {
+
+		if ((variant == FIRST || variant == LAST) && selected.isEmpty()) {
+			return null;
+		}
+		if (operand instanceof Map) {
+			Map<Object, Object> result = new HashMap<>();
+			if (variant == LAST) {
+				Map.Entry<?, ?> entry = (Map.Entry<?, ?>) CollectionUtils.lastElement(selected);
+				Assert.state(entry != null, "No last entry");
+				result.put(entry.getKey(), entry.getValue());
+			}
+			else {
+				for (Object element : selected) {
+					Map.Entry<?, ?> entry = (Map.Entry<?, ?>) element;
+					result.put(entry.getKey(), entry.getValue());
+				}
+			}
+			return result;
+		}
+		if (variant == FIRST) {
+			return selected.get(0);
+		}
+		if (variant == LAST) {
+			return CollectionUtils.lastElement(selected);
+		}
+		if (operand instanceof Iterable) {
+			return selected;
+		}
+		Assert.state(arrayElementType != null, "Unresolvable element type");
+		Object resultArray = Array.newInstance(arrayElementType, selected.size());
+		System.arraycopy(selected.toArray(), 0, resultArray, 0, selected.size());
+		return resultArray;
+	}
+
 	private String prefix() {
 		return switch (this.variant) {
 			case ALL -> "?[";
@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.stream.Collectors;
@@ -112,6 +113,8 @@ import static org.springframework.expression.spel.standard.SpelExpressionTestUti
  * FunctionReference
  * InlineList
  * OpModulus
+ * Selection
+ * Projection
  *
  * <p>Not yet compiled (some may never need to be):
  *
@@ -123,9 +126,7 @@ import static org.springframework.expression.spel.standard.SpelExpressionTestUti
  * OpMatches
  * OpPower
  * OpInc
- * Projection
  * QualifiedId
- * Selection
  *
  * @author Andy Clement
  * @author Sam Brannen
@@ -1277,6 +1278,77 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		}
 	}
 
+	@Nested
+	class SelectionAndProjectionTests {
+
+		private final StandardEvaluationContext context = new StandardEvaluationContext("Sam");
+
+		SelectionAndProjectionTests() {
+			this.context.setVariable("names", List.of("Andy", "Sam", "Juergen"));
+			this.context.setVariable("numbers", new int[] {1, 2, 3});
+			Map<String, Integer> map = new HashMap<>();
+			map.put("a", 1);
+			map.put("b", 2);
+			this.context.setVariable("map", map);
+		}
+
+		@Test
+		void selectionOnList() {
+			assertCompiledValue("#names.?[length() > 3]", List.of("Andy", "Juergen"));
+			assertCompiledValue("#names.^[length() > 3]", "Andy");
+			assertCompiledValue("#names.$[length() > 3]", "Juergen");
+			assertCompiledValue("#names.^[length() > 10]", null);
+			assertCompiledValue("#names.?[length() == #root.length()]", List.of("Sam"));
+			assertCompiledValue("#names.?[#this.startsWith('J')]", List.of("Juergen"));
+		}
+
+		@Test
+		void selectionOnArray() {
+			assertCompiledValue("#numbers.?[#this > 1]", new Integer[] {2, 3});
+			assertCompiledValue("#numbers.$[#this < 3]", 2);
+		}
+
+		@Test
+		void selectionOnMap() {
+			assertCompiledValue("#map.?[value > 1]", Map.of("b", 2));
+			assertCompiledValue("#map.?[value > 5]", Map.of());
+			assertCompiledValue("#map.^[value > 5]", null);
+		}
+
+		@Test
+		void projection() {
+			assertCompiledValue("#names.![length()]", List.of(4, 3, 7));
+			assertCompiledValue("#numbers.![#this * 2]", new Integer[] {2, 4, 6});
+			assertCompiledValue("#map.![key]", List.of("a", "b"));
+			assertCompiledValue("#names.?[length() > 3].![toUpperCase()]", List.of("ANDY", "JUERGEN"));
+			assertCompiledValue("#names.![#names.?[length() < 4].size()]", List.of(1, 1, 1));
+		}
+
+		@Test
+		void nullSafeSelectionAndProjection() {
+			expression = parser.parseExpression("#names?.?[length() > 3]");
+			assertThat(expression.getValue(this.context)).isEqualTo(List.of("Andy", "Juergen"));
+			assertCanCompile(expression);
+			this.context.setVariable("names", null);
+			assertThat(expression.getValue(this.context)).isNull();
+			this.context.setVariable("names", Optional.of(List.of("Sam")));
+			assertThat(expression.getValue(this.context)).isEqualTo(List.of());
+
+			expression = parser.parseExpression("#names?.![length()]");
+			assertThat(expression.getValue(this.context)).isEqualTo(List.of(3));
+			assertCanCompile(expression);
+			this.context.setVariable("names", Optional.empty());
+			assertThat(expression.getValue(this.context)).isNull();
+		}
+
+		private void assertCompiledValue(String spel, @Nullable Object expected) {
+			expression = parser.parseExpression(spel);
+			assertThat(expression.getValue(this.context)).isEqualTo(expected);
+			assertCanCompile(expression);
+			assertThat(expression.getValue(this.context)).isEqualTo(expected);
+		}
+	}
+
 	@Nested
 	class PropertyVisibilityTests {
 
@@ -2310,6 +2382,21 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertCanCompile(expression);
 	}
 
+	@Test
+	void elvisWithPrimitiveCondition() {
+		// The alternative is never evaluated for a primitive condition
+		expression = parser.parseExpression("length() ?: 0");
+		assertThat(expression.getValue("abc", Integer.class)).isEqualTo(3);
+		assertCanCompile(expression);
+		assertThat(expression.getValue("abc", Integer.class)).isEqualTo(3);
+		assertThat(getAst().getExitDescriptor()).isEqualTo("I");
+
+		expression = parser.parseExpression("(length() ?: 0) + 1");
+		assertThat(expression.getValue("abc", Integer.class)).isEqualTo(4);
+		assertCanCompile(expression);
+		assertThat(expression.getValue("abc", Integer.class)).isEqualTo(4);
+	}
+
 
 	public static String concat(String a, String b) {
 		return a+b;
@@ -2521,8 +2608,9 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 
 		expression = parser.parseExpression("#negate(#ints.?[#this<2][0])");
 		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
-		// Selection isn't compilable.
-		assertThat(((SpelExpression) expression).getAST().isCompilable()).isFalse();
+		// Selection is compilable as of 7.0.
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context, Integer.class).toString()).isEqualTo("-1");
 	}
 
 	@Test
@@ -30,6 +30,8 @@ public class AggregatedBatchUpdateException extends BatchUpdateException {
 
 	private final int[][] successfulUpdateCounts;
 
+	private final int batchIndex;
+
 	private final BatchUpdateException originalException;
 
 	/**
@@ -39,9 +41,28 @@ public class AggregatedBatchUpdateException extends BatchUpdateException {
 	 * @param original the exception this instance aggregates
 	 */
 	public AggregatedBatchUpdateException(int[][] successfulUpdateCounts, BatchUpdateException original) {
+		this(successfulUpdateCounts, successfulUpdateCounts.length, original);
+	}
+
+	/**
+	 * Create an aggregated exception for the batch at the given index, without
+	 * retaining the update counts of the batches that have completed before,
+	 * for example when streaming a large number of batches.
+	 * @param batchIndex the index of the batch that failed
+	 * @param original the exception this instance aggregates
+	 * @since 7.0
+	 */
+	public AggregatedBatchUpdateException(int batchIndex, BatchUpdateException original) {
+		this(new int[0][], batchIndex, original);
+	}
+
+	private AggregatedBatchUpdateException(int[][] successfulUpdateCounts, int batchIndex,
+			BatchUpdateException original) {
+
 		super(original.getMessage(), original.getSQLState(), original.getErrorCode(),
 				original.getUpdateCounts(), original.getCause());
 		this.successfulUpdateCounts = successfulUpdateCounts;
+		this.batchIndex = batchIndex;
 		this.originalException = original;
 		// Copy state of the original exception
 		setNextException(original.getNextException());
@@ -62,6 +83,17 @@ public class AggregatedBatchUpdateException extends BatchUpdateException {
 		return this.successfulUpdateCounts;
 	}
 
+	/**
+	 * Return the index of the batch that failed, starting at 0.
+	 * <p>For a streaming batch update, this is the only information about the
+	 * batches that completed before, and {@link #getSuccessfulUpdateCounts()}
+	 * is empty.
+	 * @since 7.0
+	 */
+	public int getBatchIndex() {
+		return this.batchIndex;
+	}
+
 	/**
 	 * Return the original {@link BatchUpdateException} that this exception aggregates.
 	 * @return the original exception
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.sql.Statement;
+
+/**
+ * Aggregated update counts of a streaming batch update, as an alternative to
+ * holding on to the update counts of each individual statement.
+ *
+ * @since 7.0
+ * @param batchCount the number of batches executed
+ * @param statementCount the number of statements executed across all batches
+ * @param rowsAffected the total number of rows affected, as far as reported
+ * by the driver
+ * @param successNoInfoCount the number of statements that succeeded without
+ * reporting the number of rows affected ({@link Statement#SUCCESS_NO_INFO})
+ * @see JdbcOperations#batchUpdate(String, java.util.stream.Stream, int, ParameterizedPreparedStatementSetter)
+ */
+public record BatchUpdateCounts(long batchCount, long statementCount, long rowsAffected, long successNoInfoCount) {
+
+	private static final BatchUpdateCounts EMPTY = new BatchUpdateCounts(0, 0, 0, 0);
+
+
+	/**
+	 * Return a new instance that adds the update counts of another batch.
+	 * @param updateCounts the update counts returned from executing the batch
+	 */
+	public BatchUpdateCounts add(int[] updateCounts) {
+		long rows = this.rowsAffected;
+		long successNoInfo = this.successNoInfoCount;
+		for (int count : updateCounts) {
+			if (count >= 0) {
+				rows += count;
+			}
+			else if (count == Statement.SUCCESS_NO_INFO) {
+				successNoInfo++;
+			}
+		}
+		return new BatchUpdateCounts(this.batchCount + 1, this.statementCount + updateCounts.length,
+				rows, successNoInfo);
+	}
+
+	/**
+	 * Return a new instance that combines these counts with the given counts.
+	 * @param other the counts to add
+	 */
+	public BatchUpdateCounts add(BatchUpdateCounts other) {
+		return new BatchUpdateCounts(this.batchCount + other.batchCount,
+				this.statementCount + other.statementCount, this.rowsAffected + other.rowsAffected,
+				this.successNoInfoCount + other.successNoInfoCount);
+	}
+
+
+	/**
+	 * Return an instance with all counts at 0.
+	 */
+	public static BatchUpdateCounts empty() {
+		return EMPTY;
+	}
+
+}
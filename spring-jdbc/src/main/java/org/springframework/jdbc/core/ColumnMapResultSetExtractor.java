@@ -0,0 +1,114 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jdbc.support.JdbcUtils;
+
+/**
+ * {@link ResultSetExtractor} implementation that creates a {@code java.util.Map}
+ * for each row, representing all columns as key-value pairs: one entry for each
+ * column, with the column name as key.
+ *
+ * <p>In contrast to a {@link ColumnMapRowMapper} within a
+ * {@link RowMapperResultSetExtractor}, this extractor reads the column names
+ * only once per {@link ResultSet}. All rows share the same immutable key layout,
+ * with each row Map just holding an array of column values. The row Maps behave
+ * like a {@link org.springframework.util.LinkedCaseInsensitiveMap}, preserving
+ * column order and allowing any casing to be used for column names; they are
+ * mutable but become a regular {@code LinkedCaseInsensitiveMap} underneath
+ * once a new key gets added.
+ *
+ * <p>Note that the row Maps are not {@code LinkedCaseInsensitiveMap} instances
+ * themselves, so calling code must not rely on that concrete type. This strategy
+ * is used by {@link JdbcTemplate#queryForList(String)} and its variants when
+ * {@link JdbcTemplate#setCompactColumnMaps "compactColumnMaps"} is switched on,
+ * unless {@link JdbcTemplate#getColumnMapRowMapper()} has been overridden to
+ * return a custom {@code RowMapper}.
+ *
+ * @since 7.0
+ * @see ColumnMapRowMapper
+ * @see JdbcTemplate#setCompactColumnMaps
+ */
+public class ColumnMapResultSetExtractor implements ResultSetExtractor<List<Map<String, @Nullable Object>>> {
+
+	private final int rowsExpected;
+
+	private final int maxRows;
+
+
+	/**
+	 * Create a new ColumnMapResultSetExtractor.
+	 */
+	public ColumnMapResultSetExtractor() {
+		this(0, -1);
+	}
+
+	/**
+	 * Create a new ColumnMapResultSetExtractor.
+	 * @param rowsExpected the number of expected rows
+	 * (just used for optimized collection handling)
+	 * @param maxRows the number of max rows (or -1 for the driver's default)
+	 */
+	public ColumnMapResultSetExtractor(int rowsExpected, int maxRows) {
+		this.rowsExpected = rowsExpected;
+		this.maxRows = maxRows;
+	}
+
+
+	@Override
+	public List<Map<String, @Nullable Object>> extractData(ResultSet rs) throws SQLException {
+		List<Map<String, @Nullable Object>> results =
+				(this.rowsExpected > 0 ? new ArrayList<>(this.rowsExpected) : new ArrayList<>());
+		CompactColumnMap.Layout layout = null;
+		int rowNum = 0;
+		while (rs.next() && (this.maxRows == -1 || rowNum < this.maxRows)) {
+			if (layout == null) {
+				layout = CompactColumnMap.Layout.of(rs);
+			}
+			@Nullable Object[] values = new Object[layout.size()];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = getColumnValue(rs, layout.columnIndexes[i]);
+			}
+			results.add(new CompactColumnMap(layout, values));
+			rowNum++;
+		}
+		return results;
+	}
+
+	/**
+	 * Retrieve a JDBC object value for the specified column.
+	 * <p>The default implementation uses the {@code getObject} method.
+	 * Additionally, this implementation includes a "hack" to get around Oracle
+	 * returning a non-standard object for their TIMESTAMP data type.
+	 * @param rs the ResultSet holding the data
+	 * @param index the column index
+	 * @return the Object returned
+	 * @see org.springframework.jdbc.support.JdbcUtils#getResultSetValue
+	 */
+	protected @Nullable Object getColumnValue(ResultSet rs, int index) throws SQLException {
+		return JdbcUtils.getResultSetValue(rs, index);
+	}
+
+}
@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core;
 
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -39,21 +40,33 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  * with case-insensitive keys, to preserve column order as well as allow any
  * casing to be used for column names.
  *
+ * <p>As of 7.0, the column keys are determined once per {@link ResultSet}
+ * rather than for every row. For reading an entire result set into a List of
+ * Maps, consider a {@link ColumnMapResultSetExtractor} which also shares the
+ * key layout between the Maps of all rows.
+ *
  * @author Juergen Hoeller
  * @since 1.2
  * @see JdbcTemplate#queryForList(String)
  * @see JdbcTemplate#queryForMap(String)
+ * @see ColumnMapResultSetExtractor
  */
 public class ColumnMapRowMapper implements RowMapper<Map<String, @Nullable Object>> {
 
+	private volatile @Nullable ColumnKeys columnKeys;
+
+
 	@Override
 	public Map<String, @Nullable Object> mapRow(ResultSet rs, int rowNum) throws SQLException {
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		Map<String, @Nullable Object> mapOfColumnValues = createColumnMap(columnCount);
-		for (int i = 1; i <= columnCount; i++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, i);
-			mapOfColumnValues.putIfAbsent(getColumnKey(column), getColumnValue(rs, i));
+		ColumnKeys columnKeys = this.columnKeys;
+		if (columnKeys == null || columnKeys.resultSet.get() != rs) {
+			columnKeys = new ColumnKeys(rs);
+			this.columnKeys = columnKeys;
+		}
+		String[] keys = columnKeys.keys;
+		Map<String, @Nullable Object> mapOfColumnValues = createColumnMap(keys.length);
+		for (int i = 0; i < keys.length; i++) {
+			mapOfColumnValues.putIfAbsent(keys[i], getColumnValue(rs, i + 1));
 		}
 		return mapOfColumnValues;
 	}
@@ -95,4 +108,25 @@ public class ColumnMapRowMapper implements RowMapper<Map<String, @Nullable Objec
 		return JdbcUtils.getResultSetValue(rs, index);
 	}
 
+
+	/**
+	 * Column keys for a specific ResultSet, held weakly to not retain
+	 * the ResultSet once it is done with.
+	 */
+	private final class ColumnKeys {
+
+		final WeakReference<ResultSet> resultSet;
+
+		final String[] keys;
+
+		ColumnKeys(ResultSet rs) throws SQLException {
+			this.resultSet = new WeakReference<>(rs);
+			ResultSetMetaData rsmd = rs.getMetaData();
+			this.keys = new String[rsmd.getColumnCount()];
+			for (int i = 0; i < this.keys.length; i++) {
+				this.keys[i] = getColumnKey(JdbcUtils.lookupColumnName(rsmd, i + 1));
+			}
+		}
+	}
+
 }
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.io.Serializable;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+/**
+ * Compact column Map for a single row, holding the column values in an array
+ * and sharing an immutable {@link Layout} of column keys with all other rows
+ * of the same result set.
+ *
+ * <p>Behaves like a {@link LinkedCaseInsensitiveMap}: keys are matched
+ * case-insensitively and iterated in column order. Values of existing columns
+ * can be replaced and removed in place; adding a column that is not part of
+ * the layout turns this Map into a regular {@code LinkedCaseInsensitiveMap}
+ * underneath. Serialized as a {@code LinkedCaseInsensitiveMap} as well.
+ * Iterators are fail-fast, including when the Map turns into a
+ * {@code LinkedCaseInsensitiveMap} while being iterated.
+ *
+ * @since 7.0
+ * @see ColumnMapResultSetExtractor
+ */
+@SuppressWarnings("serial")
+final class CompactColumnMap extends AbstractMap<String, @Nullable Object> implements Serializable {
+
+	private static final Object REMOVED = new Object();
+
+
+	private final Layout layout;
+
+	private final @Nullable Object[] values;
+
+	private int size;
+
+	private transient int modCount;
+
+	private @Nullable LinkedCaseInsensitiveMap<@Nullable Object> targetMap;
+
+	private transient @Nullable Set<Map.Entry<String, @Nullable Object>> entrySet;
+
+
+	CompactColumnMap(Layout layout, @Nullable Object[] values) {
+		this.layout = layout;
+		this.values = values;
+		this.size = values.length;
+	}
+
+
+	@Override
+	public int size() {
+		return (this.targetMap != null ? this.targetMap.size() : this.size);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (size() == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (this.targetMap != null) {
+			return this.targetMap.containsKey(key);
+		}
+		int index = this.layout.indexOf(key);
+		return (index >= 0 && this.values[index] != REMOVED);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		if (this.targetMap != null) {
+			return this.targetMap.get(key);
+		}
+		int index = this.layout.indexOf(key);
+		if (index >= 0) {
+			Object value = this.values[index];
+			return (value != REMOVED ? value : null);
+		}
+		return null;
+	}
+
+	@Override
+	public @Nullable Object put(String key, @Nullable Object value) {
+		if (this.targetMap == null) {
+			int index = this.layout.indexOf(key);
+			// Replace in place unless the key casing or the iteration order would change.
+			if (index >= 0 && this.values[index] != REMOVED && this.layout.keys[index].equals(key)) {
+				Object oldValue = this.values[index];
+				this.values[index] = value;
+				return oldValue;
+			}
+		}
+		return inflate().put(key, value);
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+		if (this.targetMap != null) {
+			return this.targetMap.remove(key);
+		}
+		int index = this.layout.indexOf(key);
+		if (index >= 0) {
+			Object oldValue = this.values[index];
+			if (oldValue != REMOVED) {
+				this.values[index] = REMOVED;
+				this.size--;
+				this.modCount++;
+				return oldValue;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		if (this.targetMap != null) {
+			this.targetMap.clear();
+		}
+		else {
+			for (int i = 0; i < this.values.length; i++) {
+				this.values[i] = REMOVED;
+			}
+			this.size = 0;
+			this.modCount++;
+		}
+	}
+
+	@Override
+	public Set<Map.Entry<String, @Nullable Object>> entrySet() {
+		if (this.targetMap != null) {
+			return this.targetMap.entrySet();
+		}
+		Set<Map.Entry<String, @Nullable Object>> entrySet = this.entrySet;
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+			this.entrySet = entrySet;
+		}
+		return entrySet;
+	}
+
+	private LinkedCaseInsensitiveMap<@Nullable Object> inflate() {
+		LinkedCaseInsensitiveMap<@Nullable Object> targetMap = this.targetMap;
+		if (targetMap == null) {
+			targetMap = new LinkedCaseInsensitiveMap<>(this.values.length + 1);
+			for (int i = 0; i < this.values.length; i++) {
+				Object value = this.values[i];
+				if (value != REMOVED) {
+					targetMap.put(this.layout.keys[i], value);
+				}
+			}
+			this.targetMap = targetMap;
+			this.entrySet = null;
+			this.modCount++;
+		}
+		return targetMap;
+	}
+
+	private Object writeReplace() {
+		LinkedCaseInsensitiveMap<@Nullable Object> copy = new LinkedCaseInsensitiveMap<>(size());
+		copy.putAll(this);
+		return copy;
+	}
+
+
+	private class EntrySet extends AbstractSet<Map.Entry<String, @Nullable Object>> {
+
+		@Override
+		public int size() {
+			return CompactColumnMap.this.size();
+		}
+
+		@Override
+		public Iterator<Map.Entry<String, @Nullable Object>> iterator() {
+			return (targetMap != null ? targetMap.entrySet().iterator() : new EntryIterator());
+		}
+	}
+
+
+	private class EntryIterator implements Iterator<Map.Entry<String, @Nullable Object>> {
+
+		private int next = advance(0);
+
+		private int last = -1;
+
+		private int expectedModCount = modCount;
+
+		private int advance(int from) {
+			int index = from;
+			while (index < values.length && values[index] == REMOVED) {
+				index++;
+			}
+			return index;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return (this.next < values.length);
+		}
+
+		@Override
+		public Map.Entry<String, @Nullable Object> next() {
+			checkForComodification();
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.last = this.next;
+			this.next = advance(this.next + 1);
+			return new Entry(this.last);
+		}
+
+		@Override
+		public void remove() {
+			checkForComodification();
+			if (this.last < 0 || values[this.last] == REMOVED) {
+				throw new IllegalStateException("No current entry to remove");
+			}
+			values[this.last] = REMOVED;
+			size--;
+			this.expectedModCount = ++modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+
+	private class Entry implements Map.Entry<String, @Nullable Object> {
+
+		private final int index;
+
+		Entry(int index) {
+			this.index = index;
+		}
+
+		@Override
+		public String getKey() {
+			return layout.keys[this.index];
+		}
+
+		@Override
+		public @Nullable Object getValue() {
+			Object value = values[this.index];
+			return (value != REMOVED ? value : null);
+		}
+
+		@Override
+		public @Nullable Object setValue(@Nullable Object value) {
+			if (targetMap != null) {
+				throw new ConcurrentModificationException();
+			}
+			Object oldValue = getValue();
+			if (values[this.index] != REMOVED) {
+				values[this.index] = value;
+			}
+			return oldValue;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof Map.Entry<?, ?> that &&
+					getKey().equals(that.getKey()) && Objects.equals(getValue(), that.getValue())));
+		}
+
+		@Override
+		public int hashCode() {
+			Object value = getValue();
+			return (getKey().hashCode() ^ (value != null ? value.hashCode() : 0));
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+
+	/**
+	 * Immutable key layout for the column Maps of a given result set,
+	 * resolving keys case-insensitively to column positions.
+	 */
+	static final class Layout {
+
+		final String[] keys;
+
+		final int[] columnIndexes;
+
+		private final Locale locale;
+
+		private final Map<String, Integer> positions;
+
+		Layout(String[] columnNames) {
+			this.locale = Locale.getDefault();
+			Map<String, Integer> caseInsensitivePositions = CollectionUtils.newHashMap(columnNames.length);
+			int count = 0;
+			String[] keys = new String[columnNames.length];
+			int[] columnIndexes = new int[columnNames.length];
+			for (int i = 0; i < columnNames.length; i++) {
+				// Preserve the first column for any given name, as with putIfAbsent.
+				if (caseInsensitivePositions.putIfAbsent(convertKey(columnNames[i]), count) == null) {
+					keys[count] = columnNames[i];
+					columnIndexes[count] = i + 1;
+					count++;
+				}
+			}
+			this.keys = (count < keys.length ? Arrays.copyOf(keys, count) : keys);
+			this.columnIndexes = (count < columnIndexes.length ? Arrays.copyOf(columnIndexes, count) : columnIndexes);
+			this.positions = CollectionUtils.newHashMap(count * 2);
+			for (int i = 0; i < count; i++) {
+				this.positions.put(this.keys[i], i);
+			}
+			caseInsensitivePositions.forEach(this.positions::putIfAbsent);
+		}
+
+		/**
+		 * Return the number of distinct columns in this layout.
+		 */
+		int size() {
+			return this.keys.length;
+		}
+
+		/**
+		 * Determine the position of the given key, trying an exact match first.
+		 * @return the position in this layout, or -1 if not contained
+		 */
+		int indexOf(@Nullable Object key) {
+			if (key instanceof String name) {
+				Integer position = this.positions.get(name);
+				if (position == null) {
+					position = this.positions.get(convertKey(name));
+				}
+				if (position != null) {
+					return position;
+				}
+			}
+			return -1;
+		}
+
+		private String convertKey(String key) {
+			return key.toLowerCase(this.locale);
+		}
+
+		/**
+		 * Read the column names of the given ResultSet into a new layout.
+		 */
+		static Layout of(ResultSet rs) throws SQLException {
+			ResultSetMetaData rsmd = rs.getMetaData();
+			String[] columnNames = new String[rsmd.getColumnCount()];
+			for (int i = 0; i < columnNames.length; i++) {
+				columnNames[i] = JdbcUtils.lookupColumnName(rsmd, i + 1);
+			}
+			return new Layout(columnNames);
+		}
+	}
+
+}
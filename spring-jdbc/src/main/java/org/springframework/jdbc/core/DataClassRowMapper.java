@@ -52,7 +52,7 @@ import org.springframework.util.Assert;
  *
  * <p>Please note that this class is designed to provide convenience rather than
  * high performance. For best performance, consider using a custom {@code RowMapper}
- * implementation.
+ * implementation, or {@link DirectPropertyRowMapper} for large result sets.
  *
  * @author Juergen Hoeller
  * @author Sam Brannen
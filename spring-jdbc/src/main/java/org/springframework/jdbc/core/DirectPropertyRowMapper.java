@@ -0,0 +1,338 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link RowMapper} implementation that converts a row into a new instance
+ * of the specified mapped target class, with the same mapping rules as
+ * {@link DataClassRowMapper}, but designed for throughput on large result sets.
+ *
+ * <p>The mapped target class is introspected once and the result is shared
+ * across all mappers for the same class: its data class constructor, if any,
+ * along with accessors for its bean property setters, generated at runtime
+ * through {@link LambdaMetafactory} so that they are invoked like regular
+ * method calls. For each {@link ResultSet}, the columns are resolved once
+ * against the constructor parameters and properties, and every row is then
+ * mapped by reading the columns by index and passing the values straight to
+ * the constructor and setters, without a {@code BeanWrapper}. Values are only
+ * passed through the {@link ConversionService} if they do not match the
+ * target type already.
+ *
+ * <p>Setters that cannot be accessed through a generated accessor, for
+ * example in a native image, are invoked reflectively instead.
+ *
+ * <p>In contrast to {@link BeanPropertyRowMapper}, this class does not offer
+ * extension hooks for customizing the mapping per column, and it does not
+ * apply JavaBeans {@code PropertyEditors}.
+ *
+ * @since 7.0
+ * @param <T> the result type
+ * @see BeanPropertyRowMapper
+ * @see DataClassRowMapper
+ */
+public class DirectPropertyRowMapper<T> implements RowMapper<T> {
+
+	private static final Log logger = LogFactory.getLog(DirectPropertyRowMapper.class);
+
+	private static final Map<Class<?>, MappedClass<?>> mappedClassCache = new ConcurrentReferenceHashMap<>();
+
+
+	private final MappedClass<T> mappedClass;
+
+	private final ConversionService conversionService;
+
+	private boolean primitivesDefaultedForNullValue = false;
+
+	private volatile @Nullable ColumnMapping columnMapping;
+
+
+	/**
+	 * Create a new {@code DirectPropertyRowMapper}, using the shared
+	 * {@link DefaultConversionService}.
+	 * @param mappedClass the class that each row should be mapped to
+	 */
+	public DirectPropertyRowMapper(Class<T> mappedClass) {
+		this(mappedClass, DefaultConversionService.getSharedInstance());
+	}
+
+	/**
+	 * Create a new {@code DirectPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 * @param conversionService the {@link ConversionService} for binding
+	 * JDBC values to constructor arguments and bean properties
+	 */
+	@SuppressWarnings("unchecked")
+	public DirectPropertyRowMapper(Class<T> mappedClass, ConversionService conversionService) {
+		Assert.notNull(mappedClass, "Mapped class must not be null");
+		Assert.notNull(conversionService, "ConversionService must not be null");
+		this.mappedClass = (MappedClass<T>) mappedClassCache.computeIfAbsent(mappedClass, MappedClass::new);
+		this.conversionService = conversionService;
+	}
+
+
+	/**
+	 * Get the class that we are mapping to.
+	 */
+	public final Class<T> getMappedClass() {
+		return this.mappedClass.type;
+	}
+
+	/**
+	 * Set whether a {@code NULL} database column value should be ignored when
+	 * mapping to a corresponding primitive property in the target class.
+	 * <p>Default is {@code false}, throwing a {@link TypeMismatchException}.
+	 * @see BeanPropertyRowMapper#setPrimitivesDefaultedForNullValue
+	 */
+	public void setPrimitivesDefaultedForNullValue(boolean primitivesDefaultedForNullValue) {
+		this.primitivesDefaultedForNullValue = primitivesDefaultedForNullValue;
+	}
+
+	/**
+	 * Get the value of the {@code primitivesDefaultedForNullValue} flag.
+	 */
+	public boolean isPrimitivesDefaultedForNullValue() {
+		return this.primitivesDefaultedForNullValue;
+	}
+
+
+	@Override
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		ColumnMapping columnMapping = this.columnMapping;
+		if (columnMapping == null || !columnMapping.isFor(rs)) {
+			columnMapping = new ColumnMapping(rs, this.mappedClass);
+			this.columnMapping = columnMapping;
+		}
+
+		@Nullable Object[] args = new Object[columnMapping.constructorColumns.length];
+		for (int i = 0; i < args.length; i++) {
+			TypeDescriptor type = this.mappedClass.constructorParameterTypes[i];
+			args[i] = getColumnValue(rs, columnMapping.constructorColumns[i], type);
+		}
+		T mappedObject = BeanUtils.instantiateClass(this.mappedClass.constructor, args);
+
+		for (int i = 0; i < columnMapping.propertyColumns.length; i++) {
+			Property property = columnMapping.properties[i];
+			Object value = getColumnValue(rs, columnMapping.propertyColumns[i], property.type);
+			if (value == null && property.type.isPrimitive()) {
+				if (isPrimitivesDefaultedForNullValue()) {
+					continue;
+				}
+				throw new TypeMismatchException(
+						new PropertyChangeEvent(mappedObject, property.name, null, null), property.type.getType());
+			}
+			property.setter.accept(mappedObject, value);
+		}
+		return mappedObject;
+	}
+
+	private @Nullable Object getColumnValue(ResultSet rs, int index, TypeDescriptor type) throws SQLException {
+		Object value = JdbcUtils.getResultSetValue(rs, index, type.getType());
+		if (value == null || ClassUtils.isAssignableValue(type.getType(), value)) {
+			return value;
+		}
+		return this.conversionService.convert(value, TypeDescriptor.forObject(value), type);
+	}
+
+
+	/**
+	 * Static factory method to create a new {@code DirectPropertyRowMapper}.
+	 * @param mappedClass the class that each row should be mapped to
+	 */
+	public static <T> DirectPropertyRowMapper<T> newInstance(Class<T> mappedClass) {
+		return new DirectPropertyRowMapper<>(mappedClass);
+	}
+
+
+	private static String lowerCaseName(@Nullable String name) {
+		return (StringUtils.hasLength(name) ? name.toLowerCase(Locale.US) : "");
+	}
+
+
+	/**
+	 * Introspection result for a mapped class.
+	 */
+	private static final class MappedClass<T> {
+
+		final Class<T> type;
+
+		final Constructor<T> constructor;
+
+		final String[] constructorParameterNames;
+
+		final TypeDescriptor[] constructorParameterTypes;
+
+		/** Properties by lower case and underscore name. */
+		final Map<String, Property> properties = new HashMap<>();
+
+		MappedClass(Class<T> type) {
+			this.type = type;
+			this.constructor = BeanUtils.getResolvableConstructor(type);
+			int paramCount = this.constructor.getParameterCount();
+			this.constructorParameterNames = (paramCount > 0 ?
+					BeanUtils.getParameterNames(this.constructor) : new String[0]);
+			this.constructorParameterTypes = new TypeDescriptor[paramCount];
+			for (int i = 0; i < paramCount; i++) {
+				this.constructorParameterTypes[i] = new TypeDescriptor(new MethodParameter(this.constructor, i));
+			}
+			for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(type)) {
+				Method writeMethod = pd.getWriteMethod();
+				if (writeMethod != null) {
+					Property property = new Property(pd.getName(),
+							new TypeDescriptor(new MethodParameter(writeMethod, 0)), createSetter(writeMethod));
+					this.properties.put(lowerCaseName(pd.getName()), property);
+					this.properties.put(JdbcUtils.convertPropertyNameToUnderscoreName(pd.getName()), property);
+				}
+			}
+			// Constructor arguments take precedence over setters
+			for (String name : this.constructorParameterNames) {
+				this.properties.remove(lowerCaseName(name));
+				this.properties.remove(JdbcUtils.convertPropertyNameToUnderscoreName(name));
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private static BiConsumer<Object, @Nullable Object> createSetter(Method writeMethod) {
+			Class<?> declaringClass = writeMethod.getDeclaringClass();
+			if (!NativeDetector.inNativeImage()) {
+				try {
+					MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+					MethodHandle target = lookup.unreflect(writeMethod);
+					Class<?> valueType = ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]);
+					CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+							MethodType.methodType(BiConsumer.class),
+							MethodType.methodType(void.class, Object.class, Object.class), target,
+							MethodType.methodType(void.class, declaringClass, valueType));
+					return (BiConsumer<Object, @Nullable Object>) callSite.getTarget().invoke();
+				}
+				catch (Throwable ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Falling back to reflective invocation of " + writeMethod + ": " + ex);
+					}
+				}
+			}
+			ReflectionUtils.makeAccessible(writeMethod);
+			return (target, value) -> ReflectionUtils.invokeMethod(writeMethod, target, value);
+		}
+	}
+
+
+	/**
+	 * A writable property of a mapped class.
+	 */
+	private record Property(String name, TypeDescriptor type, BiConsumer<Object, @Nullable Object> setter) {
+	}
+
+
+	/**
+	 * The column indexes for the constructor parameters and properties of a
+	 * mapped class, resolved for a specific {@link ResultSet}.
+	 */
+	private static final class ColumnMapping {
+
+		private final WeakReference<ResultSet> resultSet;
+
+		final int[] constructorColumns;
+
+		final int[] propertyColumns;
+
+		final Property[] properties;
+
+		ColumnMapping(ResultSet rs, MappedClass<?> mappedClass) throws SQLException {
+			this.resultSet = new WeakReference<>(rs);
+			ResultSetMetaData rsmd = rs.getMetaData();
+			int columnCount = rsmd.getColumnCount();
+			Map<String, Integer> columns = new HashMap<>(columnCount * 2);
+			int[] propertyColumns = new int[columnCount];
+			Property[] properties = new Property[columnCount];
+			int propertyCount = 0;
+			for (int index = 1; index <= columnCount; index++) {
+				String column = lowerCaseName(StringUtils.delete(JdbcUtils.lookupColumnName(rsmd, index), " "));
+				columns.putIfAbsent(column, index);
+				Property property = mappedClass.properties.get(column);
+				if (property != null) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Mapping column '" + column + "' to property '" + property.name() +
+								"' of type '" + ClassUtils.getQualifiedName(property.type().getType()) + "'");
+					}
+					propertyColumns[propertyCount] = index;
+					properties[propertyCount] = property;
+					propertyCount++;
+				}
+			}
+			this.propertyColumns = new int[propertyCount];
+			this.properties = new Property[propertyCount];
+			System.arraycopy(propertyColumns, 0, this.propertyColumns, 0, propertyCount);
+			System.arraycopy(properties, 0, this.properties, 0, propertyCount);
+
+			this.constructorColumns = new int[mappedClass.constructorParameterNames.length];
+			for (int i = 0; i < this.constructorColumns.length; i++) {
+				String name = mappedClass.constructorParameterNames[i];
+				Integer index = columns.get(lowerCaseName(name));
+				if (index == null) {
+					index = columns.get(JdbcUtils.convertPropertyNameToUnderscoreName(name));
+				}
+				if (index == null) {
+					throw new InvalidDataAccessApiUsageException("Given ResultSet does not contain a column for " +
+							"constructor parameter '" + name + "' of " + mappedClass.type);
+				}
+				this.constructorColumns[i] = index;
+			}
+		}
+
+		boolean isFor(ResultSet rs) {
+			return (this.resultSet.get() == rs);
+		}
+	}
+
+}
@@ -1046,6 +1046,36 @@ public interface JdbcOperations {
 	<T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
 			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the stream of
+	 * supplied arguments. The arguments' values will be set using the
+	 * ParameterizedPreparedStatementSetter. Each batch should be of size indicated
+	 * in 'batchSize'.
+	 * <p>In contrast to {@link #batchUpdate(String, Collection, int, ParameterizedPreparedStatementSetter)},
+	 * the arguments are consumed as they are sent to the database, and the update
+	 * counts are aggregated rather than kept per statement, which makes this
+	 * variant suitable for a very large number of updates. A failing batch is
+	 * reported through an {@link AggregatedBatchUpdateException} as the cause
+	 * of the {@code DataAccessException}, exposing the index of the batch.
+	 * <p>All batches participate in the current transaction, if any, and are
+	 * committed along with it. Outside of a transaction, commits follow the
+	 * auto-commit mode of the connection: with auto-commit enabled, each batch
+	 * is committed as it is executed, so earlier batches remain committed if a
+	 * later one fails. With auto-commit disabled, as configured in some
+	 * connection pools, nothing is committed; use a transaction in that case.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the stream of arguments for the statements; not closed
+	 * by this method
+	 * @param batchSize batch size
+	 * @param pss the ParameterizedPreparedStatementSetter to use
+	 * @return the aggregated update counts of all batches
+	 * @throws DataAccessException if there is any problem issuing the update
+	 * @since 7.0
+	 * @see ParallelBatchUpdater
+	 */
+	<T> BatchUpdateCounts batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
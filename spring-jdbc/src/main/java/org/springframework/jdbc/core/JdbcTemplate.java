@@ -29,8 +29,10 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -165,6 +167,12 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 	 */
 	private boolean resultsMapCaseInsensitive = false;
 
+	/**
+	 * If this variable is set to true then {@code queryForList} will return compact
+	 * column Maps which share their column keys across all rows of a result set.
+	 */
+	private boolean compactColumnMaps = false;
+
 
 	/**
 	 * Construct a new JdbcTemplate for bean usage.
@@ -351,6 +359,30 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		return this.resultsMapCaseInsensitive;
 	}
 
+	/**
+	 * Set whether {@code queryForList} should return compact column Maps which
+	 * share their column keys across all rows of a result set, reading the
+	 * column names only once per result set.
+	 * <p>Default is {@code false}, returning a
+	 * {@link org.springframework.util.LinkedCaseInsensitiveMap} per row.
+	 * Switch this flag to {@code true} for large result sets if the calling code
+	 * only relies on the {@code java.util.Map} interface of the returned rows.
+	 * @since 7.0
+	 * @see ColumnMapResultSetExtractor
+	 */
+	public void setCompactColumnMaps(boolean compactColumnMaps) {
+		this.compactColumnMaps = compactColumnMaps;
+	}
+
+	/**
+	 * Return whether {@code queryForList} returns compact column Maps which
+	 * share their column keys across all rows of a result set.
+	 * @since 7.0
+	 */
+	public boolean isCompactColumnMaps() {
+		return this.compactColumnMaps;
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with a plain java.sql.Connection
@@ -551,7 +583,7 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 
 	@Override
 	public List<Map<String, @Nullable Object>> queryForList(String sql) throws DataAccessException {
-		return query(sql, getColumnMapRowMapper());
+		return result(query(sql, getColumnMapResultSetExtractor()));
 	}
 
 	@Override
@@ -950,12 +982,12 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 
 	@Override
 	public List<Map<String, @Nullable Object>> queryForList(String sql, @Nullable Object @Nullable [] args, int[] argTypes) throws DataAccessException {
-		return query(sql, args, argTypes, getColumnMapRowMapper());
+		return result(query(sql, args, argTypes, getColumnMapResultSetExtractor()));
 	}
 
 	@Override
 	public List<Map<String, @Nullable Object>> queryForList(String sql, @Nullable Object @Nullable ... args) throws DataAccessException {
-		return query(sql, newArgPreparedStatementSetter(args), getColumnMapRowMapper());
+		return result(query(sql, newArgPreparedStatementSetter(args), getColumnMapResultSetExtractor()));
 	}
 
 	@Override
@@ -1151,6 +1183,63 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		return result;
 	}
 
+	@Override
+	public <T> BatchUpdateCounts batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing streaming SQL batch update [" + sql + "] with a batch size of " + batchSize);
+		}
+		BatchUpdateCounts result = execute(sql, (PreparedStatementCallback<BatchUpdateCounts>) ps -> {
+			try {
+				boolean batchSupported = JdbcUtils.supportsBatchUpdates(ps.getConnection());
+				BatchUpdateCounts counts = BatchUpdateCounts.empty();
+				// Without batch support, statements are executed one by one but counted per batch
+				int[] updateCounts = (batchSupported ? null : new int[batchSize]);
+				Iterator<T> iterator = batchArgs.iterator();
+				int items = 0;
+				while (iterator.hasNext()) {
+					pss.setValues(ps, iterator.next());
+					if (updateCounts != null) {
+						updateCounts[items] = ps.executeUpdate();
+					}
+					else {
+						ps.addBatch();
+					}
+					items++;
+					if (items == batchSize || !iterator.hasNext()) {
+						if (updateCounts != null) {
+							counts = counts.add(Arrays.copyOf(updateCounts, items));
+						}
+						else {
+							if (logger.isTraceEnabled()) {
+								logger.trace("Sending SQL batch update #" + (counts.batchCount() + 1) +
+										" with " + items + " items");
+							}
+							try {
+								counts = counts.add(ps.executeBatch());
+							}
+							catch (BatchUpdateException ex) {
+								throw new AggregatedBatchUpdateException((int) counts.batchCount(), ex);
+							}
+						}
+						items = 0;
+					}
+				}
+				return counts;
+			}
+			finally {
+				if (pss instanceof ParameterDisposer parameterDisposer) {
+					parameterDisposer.cleanupParameters();
+				}
+			}
+		});
+
+		Assert.state(result != null, "No batch update counts");
+		return result;
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
@@ -1407,6 +1496,25 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		return new ColumnMapRowMapper();
 	}
 
+	/**
+	 * Create a new ResultSetExtractor for reading all rows as column Maps.
+	 * <p>The default implementation applies the RowMapper returned from
+	 * {@link #getColumnMapRowMapper()} to each row. If
+	 * {@link #setCompactColumnMaps "compactColumnMaps"} has been switched on
+	 * and no custom RowMapper is in place, a {@link ColumnMapResultSetExtractor}
+	 * gets returned instead, sharing the column key layout across rows.
+	 * @return the ResultSetExtractor to use
+	 * @since 7.0
+	 * @see ColumnMapResultSetExtractor
+	 */
+	protected ResultSetExtractor<List<Map<String, @Nullable Object>>> getColumnMapResultSetExtractor() {
+		RowMapper<Map<String, @Nullable Object>> rowMapper = getColumnMapRowMapper();
+		if (this.compactColumnMaps && rowMapper.getClass() == ColumnMapRowMapper.class) {
+			return new ColumnMapResultSetExtractor(0, this.maxRows);
+		}
+		return new RowMapperResultSetExtractor<>(rowMapper, 0, this.maxRows);
+	}
+
 	/**
 	 * Create a new RowMapper for reading result objects from a single column.
 	 * @param requiredType the type that each result object is expected to match
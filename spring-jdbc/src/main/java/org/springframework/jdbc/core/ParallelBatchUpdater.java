@@ -0,0 +1,423 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Executes a streaming batch update across several connections in parallel,
+ * for loading a very large number of rows.
+ *
+ * <p>The calling thread consumes the given {@link Stream} of arguments and
+ * hands batches of the configured size over to a number of workers, each of
+ * which executes the batches it receives on a connection of its own obtained
+ * from the {@link DataSource} of the given {@link JdbcTemplate}. The number
+ * of batches waiting for a worker is bounded, so the arguments are consumed
+ * at the pace of the database. Update counts are aggregated into
+ * {@link BatchUpdateCounts} rather than kept per statement.
+ *
+ * <p>Since the workers use connections of their own, the batches do not
+ * participate in a transaction of the calling thread. Each connection either
+ * commits according to its auto-commit mode, or, with
+ * {@link #setCommitPerBatch commitPerBatch}, after each batch. Note that a
+ * connection pool that hands out connections with auto-commit disabled leaves
+ * the batches uncommitted unless {@code commitPerBatch} is enabled: most pools
+ * roll back pending changes when such a connection is returned. On failure,
+ * no further batches are started, and the exception for the first failed
+ * batch is thrown, with the failures of other batches as suppressed
+ * exceptions. A {@link BatchUpdateException} is exposed as an
+ * {@link AggregatedBatchUpdateException} that provides the index of the
+ * failed batch.
+ *
+ * <p>For a concurrency higher than 1, the given
+ * {@link ParameterizedPreparedStatementSetter} is invoked from several threads
+ * concurrently and therefore needs to be thread-safe.
+ *
+ * @since 7.0
+ * @see JdbcTemplate#batchUpdate(String, Stream, int, ParameterizedPreparedStatementSetter)
+ */
+public class ParallelBatchUpdater {
+
+	private static final Log logger = LogFactory.getLog(ParallelBatchUpdater.class);
+
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private int concurrency = 1;
+
+	private boolean commitPerBatch;
+
+	private Executor taskExecutor = new SimpleAsyncTaskExecutor("batch-update-");
+
+
+	/**
+	 * Create a new {@code ParallelBatchUpdater} for the given {@link DataSource}.
+	 * @param dataSource the DataSource to obtain connections from
+	 */
+	public ParallelBatchUpdater(DataSource dataSource) {
+		this(new JdbcTemplate(dataSource));
+	}
+
+	/**
+	 * Create a new {@code ParallelBatchUpdater} for the given {@link JdbcTemplate},
+	 * using its DataSource, exception translator, and statement settings.
+	 * @param jdbcTemplate the JdbcTemplate to use
+	 */
+	public ParallelBatchUpdater(JdbcTemplate jdbcTemplate) {
+		Assert.notNull(jdbcTemplate, "JdbcTemplate must not be null");
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+
+	/**
+	 * Set the number of connections to execute batches on in parallel.
+	 * <p>Default is 1, executing batches one after the other on a single
+	 * connection while the next batch is being prepared.
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than 0");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Return the number of connections to execute batches on in parallel.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * Set whether to commit after each batch, switching the connections to
+	 * manual commit mode for the duration of the batch update. A batch that
+	 * fails is rolled back in that case.
+	 * <p>Default is {@code false}, leaving commits to the auto-commit mode of
+	 * the connections. Set this flag to {@code true} for a {@link DataSource}
+	 * whose connections have auto-commit disabled, since nothing is committed
+	 * otherwise. Their auto-commit mode is left as is in that case.
+	 */
+	public void setCommitPerBatch(boolean commitPerBatch) {
+		this.commitPerBatch = commitPerBatch;
+	}
+
+	/**
+	 * Return whether to commit after each batch.
+	 */
+	public boolean isCommitPerBatch() {
+		return this.commitPerBatch;
+	}
+
+	/**
+	 * Set the {@link Executor} to run the workers with, one task per connection.
+	 * <p>Default is a {@link SimpleAsyncTaskExecutor}.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "Executor must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Return the {@link Executor} to run the workers with.
+	 */
+	public Executor getTaskExecutor() {
+		return this.taskExecutor;
+	}
+
+
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the stream
+	 * of supplied arguments, spread across the configured number of connections.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the stream of arguments for the statements; not closed
+	 * by this method
+	 * @param batchSize batch size
+	 * @param pss the ParameterizedPreparedStatementSetter to use
+	 * @return the aggregated update counts of all batches
+	 * @throws DataAccessException if there is any problem issuing the update
+	 */
+	public <T> BatchUpdateCounts batchUpdate(String sql, Stream<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+
+		Assert.hasText(sql, "SQL must not be empty");
+		Assert.notNull(batchArgs, "Batch arguments must not be null");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		DataSource dataSource = this.jdbcTemplate.getDataSource();
+		Assert.state(dataSource != null, "No DataSource set");
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing SQL batch update [" + sql + "] with a batch size of " + batchSize +
+					" on " + this.concurrency + " connection(s)");
+		}
+
+		BatchQueue<T> queue = new BatchQueue<>(this.concurrency * 2);
+		List<CompletableFuture<BatchUpdateCounts>> workers = new ArrayList<>(this.concurrency);
+		try {
+			try {
+				for (int i = 0; i < this.concurrency; i++) {
+					workers.add(CompletableFuture.supplyAsync(() -> executeBatches(dataSource, sql, queue, pss), this.taskExecutor));
+				}
+				Iterator<T> iterator = batchArgs.iterator();
+				int batchIndex = 0;
+				List<T> items = new ArrayList<>(batchSize);
+				while (iterator.hasNext() && !queue.isAborted()) {
+					items.add(iterator.next());
+					if (items.size() == batchSize || !iterator.hasNext()) {
+						queue.put(new Batch<>(batchIndex++, items));
+						items = new ArrayList<>(batchSize);
+					}
+				}
+				queue.complete();
+			}
+			catch (RuntimeException | Error ex) {
+				queue.abort();
+				throw ex;
+			}
+
+			BatchUpdateCounts counts = BatchUpdateCounts.empty();
+			for (CompletableFuture<BatchUpdateCounts> worker : workers) {
+				counts = counts.add(worker.join());
+			}
+			queue.rethrowFailures();
+			return counts;
+		}
+		finally {
+			if (pss instanceof ParameterDisposer parameterDisposer) {
+				parameterDisposer.cleanupParameters();
+			}
+		}
+	}
+
+	private <T> BatchUpdateCounts executeBatches(DataSource dataSource, String sql, BatchQueue<T> queue,
+			ParameterizedPreparedStatementSetter<T> pss) {
+
+		BatchUpdateCounts counts = BatchUpdateCounts.empty();
+		Batch<T> batch = null;
+		Connection con = null;
+		PreparedStatement ps = null;
+		boolean resetAutoCommit = false;
+		try {
+			con = DataSourceUtils.getConnection(dataSource);
+			boolean batchSupported = JdbcUtils.supportsBatchUpdates(con);
+			if (this.commitPerBatch && con.getAutoCommit()) {
+				con.setAutoCommit(false);
+				resetAutoCommit = true;
+			}
+			ps = con.prepareStatement(sql);
+			this.jdbcTemplate.applyStatementSettings(ps);
+			while ((batch = queue.take()) != null) {
+				if (logger.isTraceEnabled()) {
+					logger.trace("Sending SQL batch update #" + (batch.index() + 1) +
+							" with " + batch.items().size() + " items");
+				}
+				int[] updateCounts = (batchSupported ? null : new int[batch.items().size()]);
+				int i = 0;
+				for (T item : batch.items()) {
+					pss.setValues(ps, item);
+					if (updateCounts != null) {
+						updateCounts[i++] = ps.executeUpdate();
+					}
+					else {
+						ps.addBatch();
+					}
+				}
+				if (updateCounts != null) {
+					counts = counts.add(updateCounts);
+				}
+				else {
+					try {
+						counts = counts.add(ps.executeBatch());
+					}
+					catch (BatchUpdateException ex) {
+						throw new AggregatedBatchUpdateException(batch.index(), ex);
+					}
+				}
+				if (this.commitPerBatch) {
+					con.commit();
+				}
+			}
+		}
+		catch (SQLException ex) {
+			queue.abort();
+			rollback(con);
+			String task = (batch != null ? "Batch update #" + (batch.index() + 1) : "Batch update");
+			queue.fail(batch, this.jdbcTemplate.translateException(task, sql, ex));
+		}
+		catch (RuntimeException | Error ex) {
+			queue.abort();
+			rollback(con);
+			queue.fail(batch, ex);
+		}
+		finally {
+			JdbcUtils.closeStatement(ps);
+			if (con != null && resetAutoCommit) {
+				try {
+					con.setAutoCommit(true);
+				}
+				catch (SQLException ex) {
+					logger.debug("Could not reset auto-commit after batch update", ex);
+				}
+			}
+			DataSourceUtils.releaseConnection(con, dataSource);
+		}
+		return counts;
+	}
+
+	private void rollback(@Nullable Connection con) {
+		if (con != null && this.commitPerBatch) {
+			try {
+				con.rollback();
+			}
+			catch (SQLException ex) {
+				logger.debug("Could not roll back failed batch update", ex);
+			}
+		}
+	}
+
+
+	/**
+	 * A batch of arguments, along with its position in the stream of batches.
+	 */
+	private record Batch<T>(int index, List<T> items) {
+	}
+
+
+	/**
+	 * Bounded queue of batches between the thread consuming the arguments and
+	 * the workers, also keeping track of failures.
+	 */
+	private static final class BatchQueue<T> {
+
+		private static final long POLL_INTERVAL = 100;
+
+		private final BlockingQueue<Batch<T>> batches;
+
+		private final List<Failure> failures = new ArrayList<>();
+
+		private volatile boolean completed;
+
+		private volatile boolean aborted;
+
+		BatchQueue(int capacity) {
+			this.batches = new ArrayBlockingQueue<>(capacity);
+		}
+
+		void put(Batch<T> batch) {
+			try {
+				while (!this.aborted) {
+					if (this.batches.offer(batch, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+						return;
+					}
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				abort();
+				throw new IllegalStateException("Interrupted while waiting for batch update to proceed", ex);
+			}
+		}
+
+		/**
+		 * Return the next batch, or {@code null} if there are no further
+		 * batches to execute.
+		 */
+		@Nullable Batch<T> take() {
+			try {
+				while (!this.aborted) {
+					Batch<T> batch = this.batches.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+					if (batch != null) {
+						return batch;
+					}
+					if (this.completed && this.batches.isEmpty()) {
+						return null;
+					}
+				}
+				return null;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				abort();
+				return null;
+			}
+		}
+
+		void complete() {
+			this.completed = true;
+		}
+
+		void abort() {
+			this.aborted = true;
+		}
+
+		boolean isAborted() {
+			return this.aborted;
+		}
+
+		void fail(@Nullable Batch<T> batch, Throwable ex) {
+			synchronized (this.failures) {
+				this.failures.add(new Failure((batch != null ? batch.index() : -1), ex));
+			}
+			abort();
+		}
+
+		void rethrowFailures() {
+			List<Failure> failures;
+			synchronized (this.failures) {
+				failures = new ArrayList<>(this.failures);
+			}
+			if (failures.isEmpty()) {
+				return;
+			}
+			failures.sort(Comparator.comparingInt(Failure::batchIndex));
+			Throwable ex = failures.get(0).exception();
+			for (int i = 1; i < failures.size(); i++) {
+				ex.addSuppressed(failures.get(i).exception());
+			}
+			if (ex instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw (Error) ex;
+		}
+	}
+
+
+	private record Failure(int batchIndex, Throwable exception) {
+	}
+
+}
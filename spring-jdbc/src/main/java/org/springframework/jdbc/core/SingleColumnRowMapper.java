@@ -16,6 +16,7 @@
 
 package org.springframework.jdbc.core;
 
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -52,6 +53,8 @@ public class SingleColumnRowMapper<T> implements RowMapper<@Nullable T> {
 
 	private @Nullable ConversionService conversionService = DefaultConversionService.getSharedInstance();
 
+	private volatile @Nullable WeakReference<ResultSet> validatedResultSet;
+
 
 	/**
 	 * Create a new {@code SingleColumnRowMapper} for bean-style configuration.
@@ -106,8 +109,8 @@ public class SingleColumnRowMapper<T> implements RowMapper<@Nullable T> {
 
 	/**
 	 * Extract a value for the single column in the current row.
-	 * <p>Validates that there is only one column selected,
-	 * then delegates to {@code getColumnValue()} and also
+	 * <p>Validates that there is only one column selected (once per
+	 * {@code ResultSet}), then delegates to {@code getColumnValue()} and also
 	 * {@code convertValueToRequiredType}, if necessary.
 	 * @see java.sql.ResultSetMetaData#getColumnCount()
 	 * @see #getColumnValue(java.sql.ResultSet, int, Class)
@@ -116,11 +119,14 @@ public class SingleColumnRowMapper<T> implements RowMapper<@Nullable T> {
 	@Override
 	@SuppressWarnings("unchecked")
 	public @Nullable T mapRow(ResultSet rs, int rowNum) throws SQLException {
-		// Validate column count.
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int nrOfColumns = rsmd.getColumnCount();
-		if (nrOfColumns != 1) {
-			throw new IncorrectResultSetColumnCountException(1, nrOfColumns);
+		// Validate column count, once per ResultSet.
+		WeakReference<ResultSet> validatedResultSet = this.validatedResultSet;
+		if (validatedResultSet == null || validatedResultSet.get() != rs) {
+			int nrOfColumns = rs.getMetaData().getColumnCount();
+			if (nrOfColumns != 1) {
+				throw new IncorrectResultSetColumnCountException(1, nrOfColumns);
+			}
+			this.validatedResultSet = new WeakReference<>(rs);
 		}
 
 		// Extract column value from JDBC ResultSet.
@@ -131,6 +137,7 @@ public class SingleColumnRowMapper<T> implements RowMapper<@Nullable T> {
 				return (T) convertValueToRequiredType(result, this.requiredType);
 			}
 			catch (IllegalArgumentException ex) {
+				ResultSetMetaData rsmd = rs.getMetaData();
 				throw new TypeMismatchDataAccessException(
 						"Type mismatch affecting row number " + rowNum + " and column type '" +
 						rsmd.getColumnTypeName(1) + "': " + ex.getMessage());
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.jdbc.core.test.ConcretePerson;
+import org.springframework.jdbc.core.test.ConstructorPerson;
+import org.springframework.jdbc.core.test.ConstructorPersonWithGenerics;
+import org.springframework.jdbc.core.test.ConstructorPersonWithSetters;
+import org.springframework.jdbc.core.test.EmailPerson;
+import org.springframework.jdbc.core.test.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link DirectPropertyRowMapper}.
+ */
+class DirectPropertyRowMapperTests extends AbstractRowMapperTests {
+
+	private static final String SELECT_NULL_AS_AGE = "select null as age from people";
+
+
+	@Test
+	void staticQueryWithRowMapper() throws Exception {
+		Mock mock = new Mock();
+		Person person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(Person.class));
+		verifyPerson(person);
+
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingWithInheritance() throws Exception {
+		Mock mock = new Mock();
+		ConcretePerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(ConcretePerson.class));
+		verifyPerson(person);
+
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingWithUnderscoreName() throws Exception {
+		Mock mock = new Mock();
+		EmailPerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance, e_mail from people",
+				new DirectPropertyRowMapper<>(EmailPerson.class));
+		verifyPerson(person);
+
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingNullValue() throws Exception {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		Mock mock = new Mock(MockType.TWO);
+		assertThatExceptionOfType(TypeMismatchException.class)
+				.isThrownBy(() -> mock.getJdbcTemplate().query(SELECT_NULL_AS_AGE, mapper));
+	}
+
+	@Test
+	void mappingNullValueWithPrimitivesDefaultedForNullValue() throws Exception {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		mapper.setPrimitivesDefaultedForNullValue(true);
+		Mock mock = new Mock(MockType.TWO);
+		Person person = mock.getJdbcTemplate().queryForObject(SELECT_NULL_AS_AGE, mapper);
+		assertThat(person).extracting(Person::getAge).isEqualTo(42L);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataClass() throws Exception {
+		Mock mock = new Mock();
+		ConstructorPerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(ConstructorPerson.class));
+		verifyPerson(person);
+
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataClassAndGenerics() throws Exception {
+		Mock mock = new Mock();
+		ConstructorPersonWithGenerics person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people",
+				new DirectPropertyRowMapper<>(ConstructorPersonWithGenerics.class));
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birthDate()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).containsExactly(new BigDecimal("1234.56"));
+
+		mock.verifyClosed();
+	}
+
+	@Test
+	void staticQueryWithDataClassAndSetters() throws Exception {
+		Mock mock = new Mock(MockType.FOUR);
+		ConstructorPersonWithSetters person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birthdate, balance from people",
+				new DirectPropertyRowMapper<>(ConstructorPersonWithSetters.class));
+		assertThat(person.name()).isEqualTo("BUBBA");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birthDate()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+
+		mock.verifyClosed();
+	}
+
+	@Test
+	void sameMapperForDifferentResultSets() throws Exception {
+		DirectPropertyRowMapper<EmailPerson> mapper = new DirectPropertyRowMapper<>(EmailPerson.class);
+		for (int i = 0; i < 2; i++) {
+			Mock mock = new Mock();
+			EmailPerson person = mock.getJdbcTemplate().queryForObject(
+					"select name, age, birth_date, balance, e_mail from people", mapper);
+			verifyPerson(person);
+			mock.verifyClosed();
+		}
+	}
+
+}
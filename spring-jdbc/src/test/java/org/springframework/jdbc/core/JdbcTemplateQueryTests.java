@@ -23,6 +23,8 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Statement;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -34,6 +36,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.util.LinkedCaseInsensitiveMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -118,6 +121,111 @@ class JdbcTemplateQueryTests {
 		verify(this.connection).close();
 	}
 
+	@Test
+	void testQueryForListReturnsLinkedCaseInsensitiveMapsByDefault() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < 3";
+		given(this.resultSet.next()).willReturn(true, false);
+		given(this.resultSet.getObject(1)).willReturn(11);
+		List<Map<String, Object>> li = this.template.queryForList(sql);
+		assertThat(this.template.isCompactColumnMaps()).isFalse();
+		assertThat(li).singleElement().isInstanceOf(LinkedCaseInsensitiveMap.class);
+		assertThat(li.get(0).get("AGE")).isEqualTo(11);
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	void testQueryForListWithCompactColumnMaps() throws Exception {
+		String sql = "SELECT ID, NAME, NAME FROM CUSTMR WHERE ID < 3";
+		this.template.setCompactColumnMaps(true);
+		given(this.resultSet.next()).willReturn(true, true, false);
+		given(this.resultSetMetaData.getColumnCount()).willReturn(3);
+		given(this.resultSetMetaData.getColumnLabel(1)).willReturn("ID");
+		given(this.resultSetMetaData.getColumnLabel(2)).willReturn("Name");
+		given(this.resultSetMetaData.getColumnLabel(3)).willReturn("name");
+		given(this.resultSet.getObject(1)).willReturn(1, 2);
+		given(this.resultSet.getObject(2)).willReturn("Rod", "Juergen");
+		given(this.resultSet.getObject(3)).willReturn("other", "other");
+		List<Map<String, Object>> li = this.template.queryForList(sql);
+		assertThat(li).hasSize(2);
+		assertThat(li.get(0)).containsExactly(Map.entry("ID", 1), Map.entry("Name", "Rod"));
+		assertThat(li.get(1).get("id")).isEqualTo(2);
+		assertThat(li.get(1).get("NAME")).isEqualTo("Juergen");
+		assertThat(li.get(1)).isEqualTo(Map.of("ID", 2, "Name", "Juergen"));
+		li.get(1).put("name", "Sam");
+		li.get(1).put("extra", 42);
+		assertThat(li.get(1)).containsExactly(Map.entry("ID", 2), Map.entry("name", "Sam"), Map.entry("extra", 42));
+		assertThat(li.get(1).get("EXTRA")).isEqualTo(42);
+		verify(this.resultSetMetaData).getColumnCount();
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	void testQueryForListWithCompactColumnMapsFailsFastOnConcurrentModification() throws Exception {
+		String sql = "SELECT ID, NAME FROM CUSTMR WHERE ID < 3";
+		this.template.setCompactColumnMaps(true);
+		given(this.resultSet.next()).willReturn(true, false);
+		given(this.resultSetMetaData.getColumnCount()).willReturn(2);
+		given(this.resultSetMetaData.getColumnLabel(1)).willReturn("ID");
+		given(this.resultSetMetaData.getColumnLabel(2)).willReturn("NAME");
+		given(this.resultSet.getObject(1)).willReturn(1);
+		given(this.resultSet.getObject(2)).willReturn("Rod");
+		Map<String, Object> row = this.template.queryForList(sql).get(0);
+
+		Iterator<Map.Entry<String, Object>> it = row.entrySet().iterator();
+		it.next();
+		row.remove("name");
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(it::next);
+
+		it = row.entrySet().iterator();
+		it.next();
+		row.put("extra", 42);
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(it::next);
+		assertThat(row).containsExactly(Map.entry("ID", 1), Map.entry("extra", 42));
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	void testQueryForListWithCustomColumnMapRowMapper() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < 3";
+		given(this.resultSet.next()).willReturn(true, false);
+		given(this.resultSet.getObject(1)).willReturn(11);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource) {
+			@Override
+			protected RowMapper<Map<String, Object>> getColumnMapRowMapper() {
+				return new ColumnMapRowMapper() {
+					@Override
+					protected String getColumnKey(String columnName) {
+						return "customer." + columnName;
+					}
+				};
+			}
+		};
+		List<Map<String, Object>> li = template.queryForList(sql);
+		assertThat(li).containsExactly(Map.of("customer.age", 11));
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	void testQueryForListWithIntegerElementsValidatesColumnCountOnce() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID < 3";
+		given(this.resultSet.next()).willReturn(true, true, true, false);
+		given(this.resultSet.getInt(1)).willReturn(11, 12, 13);
+		List<Integer> li = this.template.queryForList(sql, Integer.class);
+		assertThat(li).containsExactly(11, 12, 13);
+		verify(this.resultSetMetaData).getColumnCount();
+		verify(this.resultSet).close();
+		verify(this.statement).close();
+		verify(this.connection).close();
+	}
+
 	@Test
 	void testQueryForListWithIntegerElement() throws Exception {
 		String sql = "SELECT AGE FROM CUSTMR WHERE ID < 3";
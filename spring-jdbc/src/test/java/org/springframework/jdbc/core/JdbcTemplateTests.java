@@ -805,12 +805,81 @@ class JdbcTemplateTests {
 		verify(this.connection, atLeastOnce()).close();
 	}
 
+	@Test
+	void testBatchUpdateWithStreamOfObjects() throws Exception {
+		final String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 2}, new int[] {Statement.SUCCESS_NO_INFO});
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		BatchUpdateCounts counts = template.batchUpdate(sql, Stream.of(100, 200, 300), 2, setter);
+		assertThat(counts.batchCount()).isEqualTo(2);
+		assertThat(counts.statementCount()).isEqualTo(3);
+		assertThat(counts.rowsAffected()).isEqualTo(3);
+		assertThat(counts.successNoInfoCount()).isEqualTo(1);
+
+		verify(this.preparedStatement, times(3)).addBatch();
+		verify(this.preparedStatement, times(2)).executeBatch();
+		verify(this.preparedStatement).setInt(1, 100);
+		verify(this.preparedStatement).setInt(1, 200);
+		verify(this.preparedStatement).setInt(1, 300);
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
+	@Test
+	void testBatchUpdateWithStreamOfObjectsAndNoBatchSupport() throws Exception {
+		final String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		given(this.preparedStatement.executeUpdate()).willReturn(1, 2, 3);
+		mockDatabaseMetaData(false);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		BatchUpdateCounts counts = template.batchUpdate(sql, Stream.of(100, 200, 300), 2, setter);
+		assertThat(counts.batchCount()).isEqualTo(2);
+		assertThat(counts.statementCount()).isEqualTo(3);
+		assertThat(counts.rowsAffected()).isEqualTo(6);
+
+		verify(this.preparedStatement, never()).addBatch();
+		verify(this.preparedStatement, times(3)).executeUpdate();
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
+	@Test
+	void testBatchUpdateWithStreamOfObjectsFailingHasBatchIndex() throws Exception {
+		String sql = "INSERT INTO NOSUCHTABLE values (?)";
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}).willThrow(new BatchUpdateException(
+				"duplicate key value violates unique constraint \"NOSUCHTABLE_pkey\" Detail: Key (id)=(2) already exists.",
+				"23505", 0, new int[] { -3, -3 }));
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		assertThatExceptionOfType(DuplicateKeyException.class)
+				.isThrownBy(() -> template.batchUpdate(sql, Stream.of(1, 2, 3, 2, 4, 5), 2, setter))
+				.havingCause().isInstanceOfSatisfying(AggregatedBatchUpdateException.class, ex -> {
+					assertThat(ex.getBatchIndex()).isEqualTo(1);
+					assertThat(ex.getSuccessfulUpdateCounts()).isEmpty();
+					assertThat(ex.getUpdateCounts()).contains(-3, -3);
+				});
+		verify(this.preparedStatement, times(4)).addBatch();
+		verify(this.preparedStatement, times(2)).executeBatch();
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
 	@Test
 	void testBatchUpdateWithBatchFailingHasUpdateCounts() throws Exception {
 		test3BatchesOf2ItemsFailing(exception -> assertThat(exception).cause()
 				.isInstanceOfSatisfying(AggregatedBatchUpdateException.class, ex -> {
 					assertThat(ex.getSuccessfulUpdateCounts()).hasDimensions(1, 2)
 							.contains(new int[] { 1, 1 }, Index.atIndex(0));
+					assertThat(ex.getBatchIndex()).isEqualTo(1);
 					assertThat(ex.getUpdateCounts()).contains(-3, -3);
 				}));
 	}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Mock object based tests for {@link ParallelBatchUpdater}.
+ */
+class ParallelBatchUpdaterTests {
+
+	private static final String SQL = "INSERT INTO NOSUCHTABLE values (?)";
+
+	private final DataSource dataSource = mock();
+
+	private final Connection connection = mock();
+
+	private final PreparedStatement preparedStatement = mock();
+
+	private final ParallelBatchUpdater batchUpdater = new ParallelBatchUpdater(new JdbcTemplate(this.dataSource, false));
+
+	private final ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+
+
+	@BeforeEach
+	void setup() throws Exception {
+		DatabaseMetaData databaseMetaData = mock();
+		given(databaseMetaData.getDatabaseProductName()).willReturn("MySQL");
+		given(databaseMetaData.supportsBatchUpdates()).willReturn(true);
+		given(this.dataSource.getConnection()).willReturn(this.connection);
+		given(this.connection.getMetaData()).willReturn(databaseMetaData);
+		given(this.connection.prepareStatement(anyString())).willReturn(this.preparedStatement);
+	}
+
+
+	@Test
+	void batchUpdate() throws Exception {
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1, 1}, new int[] {1});
+
+		BatchUpdateCounts counts = this.batchUpdater.batchUpdate(SQL, Stream.of(1, 2, 3, 4, 5), 2, this.setter);
+
+		assertThat(counts).isEqualTo(new BatchUpdateCounts(3, 5, 5, 0));
+		verify(this.preparedStatement, times(5)).addBatch();
+		verify(this.preparedStatement, times(3)).executeBatch();
+		verify(this.connection, never()).commit();
+		verify(this.preparedStatement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	void batchUpdateWithEmptyStream() throws Exception {
+		BatchUpdateCounts counts = this.batchUpdater.batchUpdate(SQL, Stream.empty(), 2, this.setter);
+
+		assertThat(counts).isEqualTo(BatchUpdateCounts.empty());
+		verify(this.preparedStatement, never()).executeBatch();
+		verify(this.connection).close();
+	}
+
+	@Test
+	void batchUpdateOnSeveralConnectionsWithCommitPerBatch() throws Exception {
+		given(this.connection.getAutoCommit()).willReturn(true);
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1, 1, 1, 1, 1, 1, 1, 1, 1});
+		this.batchUpdater.setConcurrency(3);
+		this.batchUpdater.setCommitPerBatch(true);
+
+		BatchUpdateCounts counts = this.batchUpdater.batchUpdate(SQL, IntStream.range(0, 100).boxed(), 10, this.setter);
+
+		assertThat(counts).isEqualTo(new BatchUpdateCounts(10, 100, 100, 0));
+		verify(this.dataSource, times(3)).getConnection();
+		verify(this.connection, times(3)).setAutoCommit(false);
+		verify(this.connection, times(10)).commit();
+		verify(this.connection, times(3)).setAutoCommit(true);
+		verify(this.preparedStatement, times(3)).close();
+		verify(this.connection, times(3)).close();
+	}
+
+	@Test
+	void batchUpdateFailingHasBatchIndex() throws Exception {
+		given(this.connection.getAutoCommit()).willReturn(true);
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}).willThrow(new BatchUpdateException(
+				"duplicate key value violates unique constraint \"NOSUCHTABLE_pkey\" Detail: Key (id)=(2) already exists.",
+				"23505", 0, new int[] {-3, -3}));
+		this.batchUpdater.setCommitPerBatch(true);
+
+		assertThatExceptionOfType(DuplicateKeyException.class)
+				.isThrownBy(() -> this.batchUpdater.batchUpdate(SQL, Stream.of(1, 2, 3, 2, 4, 5), 2, this.setter))
+				.havingCause().isInstanceOfSatisfying(AggregatedBatchUpdateException.class, ex -> {
+					assertThat(ex.getBatchIndex()).isEqualTo(1);
+					assertThat(ex.getUpdateCounts()).contains(-3, -3);
+				});
+		verify(this.connection).commit();
+		verify(this.connection).rollback();
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
+	@Test
+	void batchUpdateFailingToGetConnection() throws Exception {
+		given(this.dataSource.getConnection()).willThrow(new SQLException("foo", "07xxx"));
+
+		assertThatExceptionOfType(CannotGetJdbcConnectionException.class)
+				.isThrownBy(() -> this.batchUpdater.batchUpdate(SQL, IntStream.range(0, 100).boxed(), 10, this.setter));
+	}
+
+}
@@ -141,4 +141,21 @@ public @interface JmsListener {
 	 */
 	String concurrency() default "";
 
+	/**
+	 * Whether the annotated method is a batch listener that is invoked once with
+	 * all messages received by the container in one attempt. Default is
+	 * {@code false}; may be a placeholder or SpEL expression.
+	 * <p>A batch listener method declares a single {@link java.util.List} payload
+	 * parameter, receiving either the converted payloads of the batch or the
+	 * {@link org.springframework.messaging.Message Message} for each JMS message
+	 * of the batch, with its headers. A {@link jakarta.jms.Session} parameter is
+	 * supported as well; other message-level parameters, such as {@code @Header}
+	 * parameters, are rejected since they are ambiguous for a batch.
+	 * <p>The container must be configured to receive more than one message at
+	 * a time; otherwise, each message is handled as a batch of one.
+	 * @since 7.0
+	 * @see org.springframework.jms.config.DefaultJmsListenerContainerFactory#setBatchSize
+	 */
+	String batch() default "";
+
 }
@@ -281,6 +281,9 @@ public class JmsListenerAnnotationBeanPostProcessor
 		if (StringUtils.hasText(jmsListener.concurrency())) {
 			endpoint.setConcurrency(resolve(jmsListener.concurrency()));
 		}
+		if (StringUtils.hasText(jmsListener.batch())) {
+			endpoint.setBatchListener(Boolean.parseBoolean(resolve(jmsListener.batch())));
+		}
 
 		JmsListenerContainerFactory<?> factory = null;
 		String containerFactoryBeanName = resolve(jmsListener.containerFactory());
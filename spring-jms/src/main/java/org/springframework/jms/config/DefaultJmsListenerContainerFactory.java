@@ -39,6 +39,8 @@ public class DefaultJmsListenerContainerFactory
 
 	private @Nullable Executor taskExecutor;
 
+	private @Nullable Boolean virtualThreads;
+
 	private @Nullable PlatformTransactionManager transactionManager;
 
 	private @Nullable Integer cacheLevel;
@@ -51,6 +53,12 @@ public class DefaultJmsListenerContainerFactory
 
 	private @Nullable Long receiveTimeout;
 
+	private @Nullable Integer batchSize;
+
+	private @Nullable Long batchReceiveTimeout;
+
+	private @Nullable Long scaleUpLatencyThreshold;
+
 	private @Nullable Long recoveryInterval;
 
 	private @Nullable BackOff backOff;
@@ -63,6 +71,14 @@ public class DefaultJmsListenerContainerFactory
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * @since 7.0
+	 * @see DefaultMessageListenerContainer#setVirtualThreads
+	 */
+	public void setVirtualThreads(@Nullable Boolean virtualThreads) {
+		this.virtualThreads = virtualThreads;
+	}
+
 	/**
 	 * @see DefaultMessageListenerContainer#setTransactionManager
 	 */
@@ -105,6 +121,36 @@ public class DefaultJmsListenerContainerFactory
 		this.receiveTimeout = receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to receive in one attempt. With a
+	 * value greater than 1, {@link org.springframework.jms.annotation.JmsListener
+	 * JmsListener} methods that are declared as {@link
+	 * org.springframework.jms.annotation.JmsListener#batch() batch} listeners
+	 * receive an entire batch at once; other methods are still invoked for
+	 * each message in turn.
+	 * @since 7.0
+	 * @see DefaultMessageListenerContainer#setBatchSize
+	 */
+	public void setBatchSize(@Nullable Integer batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * @since 7.0
+	 * @see DefaultMessageListenerContainer#setBatchReceiveTimeout
+	 */
+	public void setBatchReceiveTimeout(@Nullable Long batchReceiveTimeout) {
+		this.batchReceiveTimeout = batchReceiveTimeout;
+	}
+
+	/**
+	 * @since 7.0
+	 * @see DefaultMessageListenerContainer#setScaleUpLatencyThreshold
+	 */
+	public void setScaleUpLatencyThreshold(@Nullable Long scaleUpLatencyThreshold) {
+		this.scaleUpLatencyThreshold = scaleUpLatencyThreshold;
+	}
+
 	/**
 	 * @see DefaultMessageListenerContainer#setRecoveryInterval
 	 */
@@ -130,6 +176,9 @@ public class DefaultJmsListenerContainerFactory
 		if (this.taskExecutor != null) {
 			container.setTaskExecutor(this.taskExecutor);
 		}
+		if (this.virtualThreads != null) {
+			container.setVirtualThreads(this.virtualThreads);
+		}
 		if (this.transactionManager != null) {
 			container.setTransactionManager(this.transactionManager);
 		}
@@ -150,6 +199,15 @@ public class DefaultJmsListenerContainerFactory
 		if (this.receiveTimeout != null) {
 			container.setReceiveTimeout(this.receiveTimeout);
 		}
+		if (this.batchSize != null) {
+			container.setBatchSize(this.batchSize);
+		}
+		if (this.batchReceiveTimeout != null) {
+			container.setBatchReceiveTimeout(this.batchReceiveTimeout);
+		}
+		if (this.scaleUpLatencyThreshold != null) {
+			container.setScaleUpLatencyThreshold(this.scaleUpLatencyThreshold);
+		}
 
 		if (this.backOff != null) {
 			container.setBackOff(this.backOff);
@@ -18,7 +18,9 @@ package org.springframework.jms.config;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.List;
 
+import jakarta.jms.Session;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.aop.framework.AopProxyUtils;
@@ -27,15 +29,24 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.EmbeddedValueResolver;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.jms.listener.AbstractPollingMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
+import org.springframework.jms.listener.adapter.BatchMessagingMessageListenerAdapter;
 import org.springframework.jms.listener.adapter.MessagingMessageListenerAdapter;
 import org.springframework.jms.support.QosSettings;
 import org.springframework.jms.support.converter.MessageConverter;
 import org.springframework.jms.support.destination.DestinationResolver;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Headers;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.handler.annotation.support.MessageHandlerMethodFactory;
 import org.springframework.messaging.handler.invocation.InvocableHandlerMethod;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.util.StringValueResolver;
@@ -44,6 +55,10 @@ import org.springframework.util.StringValueResolver;
  * A {@link JmsListenerEndpoint} providing the method to invoke to process
  * an incoming message for this endpoint.
  *
+ * <p>A method that is declared as a {@link #setBatchListener batch listener}
+ * is invoked once per batch of messages received by the container, with a
+ * {@link List} payload parameter for all messages in the batch.
+ *
  * @author Stephane Nicoll
  * @author Juergen Hoeller
  * @since 4.1
@@ -60,6 +75,8 @@ public class MethodJmsListenerEndpoint extends AbstractJmsListenerEndpoint imple
 
 	private @Nullable StringValueResolver embeddedValueResolver;
 
+	private boolean batchListener;
+
 
 	/**
 	 * Set the actual bean instance to invoke this endpoint method on.
@@ -108,6 +125,30 @@ public class MethodJmsListenerEndpoint extends AbstractJmsListenerEndpoint imple
 		return method;
 	}
 
+	/**
+	 * Specify whether the method processes batches of messages. Default is
+	 * {@code false}.
+	 * <p>A batch listener method declares a single {@link List} payload parameter
+	 * that receives the converted payloads of all messages in a batch or, if
+	 * declared as a {@code List} of {@link Message}, the message for each JMS
+	 * message of the batch including its headers. A {@link Session} parameter
+	 * is supported as well, whereas other message-level parameters such as
+	 * {@link Header @Header} parameters are rejected.
+	 * @since 7.0
+	 * @see AbstractPollingMessageListenerContainer#setBatchSize
+	 */
+	public void setBatchListener(boolean batchListener) {
+		this.batchListener = batchListener;
+	}
+
+	/**
+	 * Return whether the method processes batches of messages.
+	 * @since 7.0
+	 */
+	public boolean isBatchListener() {
+		return this.batchListener;
+	}
+
 	/**
 	 * Set the {@link MessageHandlerMethodFactory} to use to build the
 	 * {@link InvocableHandlerMethod} responsible to manage the invocation
@@ -139,10 +180,18 @@ public class MethodJmsListenerEndpoint extends AbstractJmsListenerEndpoint imple
 	protected MessagingMessageListenerAdapter createMessageListener(MessageListenerContainer container) {
 		Assert.state(this.messageHandlerMethodFactory != null,
 				"Could not create message listener - MessageHandlerMethodFactory not set");
-		MessagingMessageListenerAdapter messageListener = createMessageListenerInstance();
 		Object bean = getBean();
 		Method method = getMethod();
 		Assert.state(bean != null && method != null, "No bean+method set on endpoint");
+		MessagingMessageListenerAdapter messageListener;
+		if (isBatchListener()) {
+			BatchMessagingMessageListenerAdapter batchListener = createBatchMessageListenerInstance();
+			batchListener.setMessageBatch(validateBatchListenerMethod(method));
+			messageListener = batchListener;
+		}
+		else {
+			messageListener = createMessageListenerInstance();
+		}
 		InvocableHandlerMethod invocableHandlerMethod =
 				this.messageHandlerMethodFactory.createInvocableHandlerMethod(bean, method);
 		messageListener.setHandlerMethod(invocableHandlerMethod);
@@ -178,6 +227,49 @@ public class MethodJmsListenerEndpoint extends AbstractJmsListenerEndpoint imple
 		return new MessagingMessageListenerAdapter();
 	}
 
+	/**
+	 * Create an empty {@link BatchMessagingMessageListenerAdapter} instance,
+	 * for a method that processes batches of messages.
+	 * @return a new {@code BatchMessagingMessageListenerAdapter} or subclass thereof
+	 * @since 7.0
+	 */
+	protected BatchMessagingMessageListenerAdapter createBatchMessageListenerInstance() {
+		return new BatchMessagingMessageListenerAdapter();
+	}
+
+	/**
+	 * Validate the signature of the given batch listener method: it must declare
+	 * a single {@link List} payload parameter, and no parameters that refer to
+	 * an individual message, such as {@link Header @Header} parameters.
+	 * @param method the batch listener method
+	 * @return whether the payload parameter is a {@code List} of {@link Message}
+	 */
+	private boolean validateBatchListenerMethod(Method method) {
+		MethodParameter payloadParameter = null;
+		for (int i = 0; i < method.getParameterCount(); i++) {
+			MethodParameter parameter = new MethodParameter(method, i);
+			Class<?> parameterType = parameter.getParameterType();
+			if (Session.class.isAssignableFrom(parameterType)) {
+				continue;
+			}
+			Assert.state(!parameter.hasParameterAnnotation(Header.class) &&
+					!parameter.hasParameterAnnotation(Headers.class) &&
+					!MessageHeaders.class.isAssignableFrom(parameterType) &&
+					!MessageHeaderAccessor.class.isAssignableFrom(parameterType) &&
+					!Message.class.isAssignableFrom(parameterType) &&
+					!jakarta.jms.Message.class.isAssignableFrom(parameterType),
+					() -> "Batch listener method must not declare message-level parameter " + parameter +
+							" - declare a List of Message payload parameter instead: " + method);
+			Assert.state(payloadParameter == null,
+					() -> "Batch listener method must declare a single List payload parameter: " + method);
+			payloadParameter = parameter;
+		}
+		Assert.state(payloadParameter != null && payloadParameter.getParameterType() == List.class,
+				() -> "Batch listener method must declare a List payload parameter: " + method);
+		Class<?> elementType = ResolvableType.forMethodParameter(payloadParameter).asCollection().resolveGeneric(0);
+		return (elementType != null && Message.class.isAssignableFrom(elementType));
+	}
+
 	/**
 	 * Return the default response destination, if any.
 	 */
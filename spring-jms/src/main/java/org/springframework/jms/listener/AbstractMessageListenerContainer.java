@@ -16,6 +16,8 @@
 
 package org.springframework.jms.listener;
 
+import java.util.List;
+
 import io.micrometer.jakarta9.instrument.jms.DefaultJmsProcessObservationConvention;
 import io.micrometer.jakarta9.instrument.jms.JmsInstrumentation;
 import io.micrometer.jakarta9.instrument.jms.JmsObservationDocumentation;
@@ -43,8 +45,9 @@ import org.springframework.util.ErrorHandler;
 
 /**
  * Abstract base class for Spring message listener container implementations.
- * Can either host a standard JMS {@link jakarta.jms.MessageListener} or Spring's
- * {@link SessionAwareMessageListener} for actual message processing.
+ * Can either host a standard JMS {@link jakarta.jms.MessageListener}, Spring's
+ * {@link SessionAwareMessageListener} or a {@link BatchMessageListener} for
+ * actual message processing.
  *
  * <p>Usually holds a single JMS {@link Connection} that all listeners are supposed
  * to be registered on, which is the standard JMS way of managing listener sessions.
@@ -143,6 +146,7 @@ import org.springframework.util.ErrorHandler;
  * @see #setMessageListener
  * @see jakarta.jms.MessageListener
  * @see SessionAwareMessageListener
+ * @see BatchMessageListener
  * @see #handleListenerException
  * @see DefaultMessageListenerContainer
  * @see SimpleMessageListenerContainer
@@ -277,16 +281,19 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 
 	/**
 	 * Set the message listener implementation to register.
-	 * This can be either a standard JMS {@link MessageListener} object
-	 * or a Spring {@link SessionAwareMessageListener} object.
+	 * This can be either a standard JMS {@link MessageListener} object,
+	 * a Spring {@link SessionAwareMessageListener} object or a
+	 * {@link BatchMessageListener} object.
 	 * <p>Note: The message listener may be replaced at runtime, with the listener
 	 * container picking up the new listener object immediately (works, for example, with
 	 * DefaultMessageListenerContainer, as long as the cache level is less than
 	 * CACHE_CONSUMER). However, this is considered advanced usage; use it with care!
 	 * @throws IllegalArgumentException if the supplied listener is not a
-	 * {@link MessageListener} or a {@link SessionAwareMessageListener}
+	 * {@link MessageListener}, a {@link SessionAwareMessageListener} or a
+	 * {@link BatchMessageListener}
 	 * @see jakarta.jms.MessageListener
 	 * @see SessionAwareMessageListener
+	 * @see BatchMessageListener
 	 */
 	public void setMessageListener(@Nullable Object messageListener) {
 		checkMessageListener(messageListener);
@@ -306,20 +313,25 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 	/**
 	 * Check the given message listener, throwing an exception
 	 * if it does not correspond to a supported listener type.
-	 * <p>By default, only a standard JMS {@link MessageListener} object or a
-	 * Spring {@link SessionAwareMessageListener} object will be accepted.
+	 * <p>By default, only a standard JMS {@link MessageListener} object, a
+	 * Spring {@link SessionAwareMessageListener} object or a
+	 * {@link BatchMessageListener} object will be accepted.
 	 * @param messageListener the message listener object to check
 	 * @throws IllegalArgumentException if the supplied listener is not a
-	 * {@link MessageListener} or a {@link SessionAwareMessageListener}
+	 * {@link MessageListener}, a {@link SessionAwareMessageListener} or a
+	 * {@link BatchMessageListener}
 	 * @see jakarta.jms.MessageListener
 	 * @see SessionAwareMessageListener
+	 * @see BatchMessageListener
 	 */
 	protected void checkMessageListener(@Nullable Object messageListener) {
 		if (messageListener != null && !(messageListener instanceof MessageListener ||
-				messageListener instanceof SessionAwareMessageListener)) {
+				messageListener instanceof SessionAwareMessageListener ||
+				messageListener instanceof BatchMessageListener)) {
 			throw new IllegalArgumentException(
 					"Message listener needs to be of type [" + MessageListener.class.getName() +
-					"] or [" + SessionAwareMessageListener.class.getName() + "]");
+					"], [" + SessionAwareMessageListener.class.getName() +
+					"] or [" + BatchMessageListener.class.getName() + "]");
 		}
 	}
 
@@ -739,9 +751,43 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 		commitIfNecessary(session, message);
 	}
 
+	/**
+	 * Execute the specified listener for a batch of messages,
+	 * committing or rolling back the transaction afterwards (if necessary).
+	 * <p>The entire batch is committed or acknowledged at once, and rolled
+	 * back or recovered at once in case of a listener exception.
+	 * @param session the JMS Session to operate on
+	 * @param messages the received JMS {@link Message Messages}, in order
+	 * @throws JMSException if thrown by JMS API methods
+	 * @since 7.0
+	 * @see #invokeListener(Session, List)
+	 * @see #commitIfNecessary
+	 * @see #rollbackOnExceptionIfNecessary
+	 */
+	protected void doExecuteListener(Session session, List<Message> messages) throws JMSException {
+		if (!isAcceptMessagesWhileStopping() && !isRunning()) {
+			if (logger.isWarnEnabled()) {
+				logger.warn("Rejecting " + messages.size() + " received messages because of the " +
+						"listener container having been stopped in the meantime");
+			}
+			rollbackIfNecessary(session);
+			throw new MessageRejectedWhileStoppingException();
+		}
+
+		try {
+			invokeListener(session, messages);
+		}
+		catch (JMSException | RuntimeException | Error ex) {
+			rollbackOnExceptionIfNecessary(session, ex);
+			throw ex;
+		}
+		commitIfNecessary(session, messages.get(messages.size() - 1));
+	}
+
 	/**
 	 * Invoke the specified listener: either as standard JMS MessageListener
 	 * or (preferably) as Spring SessionAwareMessageListener.
+	 * A {@link BatchMessageListener} is invoked with a single-element batch.
 	 * @param session the JMS Session to operate on
 	 * @param message the received JMS {@link Message}
 	 * @throws JMSException if thrown by JMS API methods
@@ -751,7 +797,10 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 	protected void invokeListener(Session session, Message message) throws JMSException {
 		Object listener = getMessageListener();
 
-		if (listener instanceof SessionAwareMessageListener sessionAwareMessageListener) {
+		if (listener instanceof BatchMessageListener batchMessageListener) {
+			doInvokeListener(batchMessageListener, session, List.of(message));
+		}
+		else if (listener instanceof SessionAwareMessageListener sessionAwareMessageListener) {
 			doInvokeListener(sessionAwareMessageListener, session, message);
 		}
 		else if (listener instanceof MessageListener msgListener) {
@@ -766,6 +815,27 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 		}
 	}
 
+	/**
+	 * Invoke the specified listener for a batch of messages: at once as
+	 * {@link BatchMessageListener}, or one message at a time otherwise.
+	 * @param session the JMS Session to operate on
+	 * @param messages the received JMS {@link Message Messages}, in order
+	 * @throws JMSException if thrown by JMS API methods
+	 * @since 7.0
+	 * @see #setMessageListener
+	 */
+	@SuppressWarnings("rawtypes")
+	protected void invokeListener(Session session, List<Message> messages) throws JMSException {
+		if (getMessageListener() instanceof BatchMessageListener batchMessageListener) {
+			doInvokeListener(batchMessageListener, session, messages);
+		}
+		else {
+			for (Message message : messages) {
+				invokeListener(session, message);
+			}
+		}
+	}
+
 	/**
 	 * Invoke the specified listener as Spring SessionAwareMessageListener,
 	 * exposing a new JMS Session (potentially with its own transaction)
@@ -813,6 +883,51 @@ public abstract class AbstractMessageListenerContainer extends AbstractJmsListen
 		}
 	}
 
+	/**
+	 * Invoke the specified listener as {@link BatchMessageListener},
+	 * exposing a new JMS Session (potentially with its own transaction)
+	 * to the listener if demanded.
+	 * @param listener the BatchMessageListener to invoke
+	 * @param session the JMS Session to operate on
+	 * @param messages the received JMS {@link Message Messages}
+	 * @throws JMSException if thrown by JMS API methods
+	 * @since 7.0
+	 * @see BatchMessageListener
+	 * @see #setExposeListenerSession
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	protected void doInvokeListener(BatchMessageListener listener, Session session, List<Message> messages)
+			throws JMSException {
+
+		Connection conToClose = null;
+		Session sessionToClose = null;
+		try {
+			Session sessionToUse = session;
+			if (micrometerJakartaPresent && this.observationRegistry != null) {
+				sessionToUse = MicrometerInstrumentation.instrumentSession(sessionToUse, this.observationRegistry);
+			}
+			if (!isExposeListenerSession()) {
+				// We need to expose a separate Session.
+				conToClose = createConnection();
+				sessionToClose = createSession(conToClose);
+				sessionToUse = sessionToClose;
+			}
+			// Actually invoke the message listener...
+			listener.onMessages(messages, sessionToUse);
+			// Clean up specially exposed Session, if any.
+			if (sessionToUse != session) {
+				if (sessionToUse.getTransacted() && isSessionLocallyTransacted(sessionToUse)) {
+					// Transacted session created by this container -> commit.
+					JmsUtils.commitIfNecessary(sessionToUse);
+				}
+			}
+		}
+		finally {
+			JmsUtils.closeSession(sessionToClose);
+			JmsUtils.closeConnection(conToClose);
+		}
+	}
+
 	/**
 	 * Invoke the specified listener as standard JMS {@link MessageListener}.
 	 * <p>Default implementation performs a plain invocation of the
@@ -16,6 +16,9 @@
 
 package org.springframework.jms.listener;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import io.micrometer.observation.Observation;
 import jakarta.jms.Connection;
 import jakarta.jms.Destination;
@@ -49,6 +52,12 @@ import org.springframework.util.Assert;
  * to the concrete implementation. The receive timeout for each attempt can be
  * configured through the {@link #setReceiveTimeout "receiveTimeout"} property.
  *
+ * <p>Each attempt may also receive a batch of messages, as configured through
+ * the {@link #setBatchSize "batchSize"} and {@link #setBatchReceiveTimeout
+ * "batchReceiveTimeout"} properties, with the listener executed for all messages
+ * of the batch within the same transaction. A {@link BatchMessageListener} is
+ * invoked once per batch, whereas other listeners are invoked once per message.
+ *
  * <p>The underlying mechanism is based on standard JMS MessageConsumer handling,
  * which is perfectly compatible with both native JMS and JMS in a Jakarta EE environment.
  * Neither the JMS {@code MessageConsumer.setMessageListener} facility  nor the JMS
@@ -95,6 +104,10 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 
 	private long receiveTimeout = DEFAULT_RECEIVE_TIMEOUT;
 
+	private int batchSize = 1;
+
+	private long batchReceiveTimeout = 0;
+
 
 	@Override
 	public void setSessionTransacted(boolean sessionTransacted) {
@@ -182,6 +195,59 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 		return this.receiveTimeout;
 	}
 
+	/**
+	 * Set the maximum number of messages to receive in one attempt, and to
+	 * execute the listener for within the same transaction. Default is 1.
+	 * <p>Once a first message has been received, further messages are received
+	 * until this number of messages has been reached or the
+	 * {@link #setBatchReceiveTimeout "batchReceiveTimeout"} has elapsed.
+	 * The entire batch is committed or acknowledged at once, and rolled back
+	 * or recovered at once in case of a listener exception.
+	 * <p>A {@link BatchMessageListener} is invoked once with all messages of a
+	 * batch; other listeners are invoked for each message in turn.
+	 * <p>Note that a batch is recorded as a single observation, with the first
+	 * message of the batch as the observation context.
+	 * @since 7.0
+	 * @see #setBatchReceiveTimeout
+	 * @see BatchMessageListener
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Return the maximum number of messages to receive in one attempt.
+	 * @since 7.0
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Set the maximum time to wait for further messages of a batch once a
+	 * first message has been received, in <b>milliseconds</b>. The default
+	 * is 0, completing a batch with the messages that are immediately
+	 * available only.
+	 * <p>Only applies with a {@link #setBatchSize "batchSize"} greater than 1.
+	 * The first message of a batch is received with the regular
+	 * {@link #setReceiveTimeout "receiveTimeout"}.
+	 * @since 7.0
+	 * @see #setBatchSize
+	 */
+	public void setBatchReceiveTimeout(long batchReceiveTimeout) {
+		Assert.isTrue(batchReceiveTimeout >= 0, "'batchReceiveTimeout' must not be negative");
+		this.batchReceiveTimeout = batchReceiveTimeout;
+	}
+
+	/**
+	 * Return the maximum time to wait for further messages of a batch (ms).
+	 * @since 7.0
+	 */
+	protected long getBatchReceiveTimeout() {
+		return this.batchReceiveTimeout;
+	}
+
 
 	@Override
 	public void initialize() {
@@ -278,6 +344,7 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 	 * @return whether a message has been received
 	 * @throws JMSException if thrown by JMS methods
 	 * @see #doExecuteListener(jakarta.jms.Session, jakarta.jms.Message)
+	 * @see #doExecuteListener(jakarta.jms.Session, java.util.List)
 	 */
 	protected boolean doReceiveAndExecute(Object invoker, @Nullable Session session,
 			@Nullable MessageConsumer consumer, @Nullable TransactionStatus status) throws JMSException {
@@ -313,22 +380,30 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 			}
 			Message message = receiveMessage(consumerToUse);
 			if (message != null) {
+				List<Message> batch = (this.batchSize > 1 ? receiveBatch(consumerToUse, message) : null);
 				boolean exposeResource = (!transactional && isExposeListenerSession() &&
 						!TransactionSynchronizationManager.hasResource(obtainConnectionFactory()));
+				// A batch is observed as a whole, based on its first message
 				Observation observation = createObservation(message).start();
 				Observation.Scope scope = observation.openScope();
 				if (logger.isDebugEnabled()) {
-					logger.debug("Received message of type [" + message.getClass() + "] from consumer [" +
+					logger.debug("Received " + (batch != null ? "batch of " + batch.size() + " messages" :
+							"message of type [" + message.getClass() + "]") + " from consumer [" +
 							consumerToUse + "] of " + (transactional ? "transactional " : "") + "session [" +
 							sessionToUse + "]");
 				}
 				try {
-					messageReceived(invoker, sessionToUse);
+					messagesReceived(invoker, sessionToUse, (batch != null ? batch : List.of(message)));
 					if (exposeResource) {
 						TransactionSynchronizationManager.bindResource(
 								obtainConnectionFactory(), new LocallyExposedJmsResourceHolder(sessionToUse));
 					}
-					doExecuteListener(sessionToUse, message);
+					if (batch != null) {
+						doExecuteListener(sessionToUse, batch);
+					}
+					else {
+						doExecuteListener(sessionToUse, message);
+					}
 				}
 				catch (Throwable ex) {
 					if (status != null) {
@@ -438,6 +513,31 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 		return receiveFromConsumer(consumer, getReceiveTimeout());
 	}
 
+	/**
+	 * Receive further messages from the given consumer to complete a batch,
+	 * up to the {@link #setBatchSize "batchSize"} or until the
+	 * {@link #setBatchReceiveTimeout "batchReceiveTimeout"} has elapsed.
+	 * @param consumer the MessageConsumer to use
+	 * @param firstMessage the first message of the batch, already received
+	 * @return the batch of messages, starting with the given message
+	 * @throws JMSException if thrown by JMS methods
+	 * @since 7.0
+	 */
+	protected List<Message> receiveBatch(MessageConsumer consumer, Message firstMessage) throws JMSException {
+		List<Message> batch = new ArrayList<>(this.batchSize);
+		batch.add(firstMessage);
+		long deadline = System.currentTimeMillis() + this.batchReceiveTimeout;
+		while (batch.size() < this.batchSize) {
+			long remaining = deadline - System.currentTimeMillis();
+			Message message = (remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait());
+			if (message == null) {
+				break;
+			}
+			batch.add(message);
+		}
+		return batch;
+	}
+
 	/**
 	 * Template method that gets called right when a new message has been received,
 	 * before attempting to process it. Allows subclasses to react to the event
@@ -448,6 +548,22 @@ public abstract class AbstractPollingMessageListenerContainer extends AbstractMe
 	protected void messageReceived(Object invoker, Session session) {
 	}
 
+	/**
+	 * Template method that gets called right when new messages have been
+	 * received, either a single message or a batch, before attempting to
+	 * process them. Allows subclasses to react to the received messages,
+	 * for example adapting their consumer count to a backlog.
+	 * <p>The default implementation delegates to
+	 * {@link #messageReceived(Object, Session)}.
+	 * @param invoker the invoker object (passed through)
+	 * @param session the receiving JMS Session
+	 * @param messages the received messages, in order
+	 * @since 7.0
+	 */
+	protected void messagesReceived(Object invoker, Session session, List<Message> messages) {
+		messageReceived(invoker, session);
+	}
+
 	/**
 	 * Template method that gets called when <i>no</i> message has been received,
 	 * before returning to the receive loop again. Allows subclasses to react to
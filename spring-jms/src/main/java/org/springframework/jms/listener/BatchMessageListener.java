@@ -0,0 +1,54 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jms.listener;
+
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.Session;
+
+/**
+ * Variant of the standard JMS {@link jakarta.jms.MessageListener} interface,
+ * receiving a batch of messages at once along with the JMS {@link Session}
+ * that they have been received with.
+ *
+ * <p>A {@link AbstractPollingMessageListenerContainer} with a
+ * {@linkplain AbstractPollingMessageListenerContainer#setBatchSize batch size}
+ * greater than 1 passes all messages received in one attempt to a single
+ * invocation of this listener, within one transaction or acknowledgement.
+ * Other containers invoke it with one message at a time.
+ *
+ * @since 7.0
+ * @param <M> the message type
+ * @see AbstractPollingMessageListenerContainer#setBatchSize
+ * @see SessionAwareMessageListener
+ */
+@FunctionalInterface
+public interface BatchMessageListener<M extends Message> {
+
+	/**
+	 * Callback for processing a batch of received JMS messages.
+	 * <p>Implementors are supposed to process all given messages, as they
+	 * are committed or acknowledged together after this method returns.
+	 * @param messages the received JMS messages (never empty)
+	 * @param session the underlying JMS Session (never {@code null})
+	 * @throws JMSException if thrown by JMS methods
+	 */
+	void onMessages(List<M> messages, Session session) throws JMSException;
+
+}
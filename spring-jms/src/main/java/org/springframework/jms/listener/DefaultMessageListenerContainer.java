@@ -17,6 +17,7 @@
 package org.springframework.jms.listener;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -26,6 +27,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
 import jakarta.jms.MessageConsumer;
 import jakarta.jms.Session;
 import org.jspecify.annotations.Nullable;
@@ -101,6 +103,12 @@ import org.springframework.util.backoff.FixedBackOff;
  * number of 1 consumer, otherwise you'd receive the same message multiple times on
  * the same node.
  *
+ * <p>By default, a new consumer is scaled up whenever a message is received
+ * while no other consumer is idle. Alternatively, scaling up can be driven by
+ * a backlog on the destination, as indicated by the age of received messages
+ * or by full batches, through the {@link #setScaleUpLatencyThreshold
+ * "scaleUpLatencyThreshold"} property.
+ *
  * <p><b>Note: You may use {@link org.springframework.jms.connection.CachingConnectionFactory}
  * with a listener container but it comes with limitations.</b> It is generally preferable
  * to let the listener container itself handle appropriate caching within its lifecycle.
@@ -210,6 +218,8 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 
 	private int idleReceivesPerTaskLimit = Integer.MIN_VALUE;
 
+	private volatile long scaleUpLatencyThreshold = -1;
+
 	private final Set<AsyncMessageListenerInvoker> scheduledInvokers = new HashSet<>();
 
 	private int activeInvokerCount = 0;
@@ -664,6 +674,42 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 		}
 	}
 
+	/**
+	 * Scale up consumers based on a backlog of messages rather than on every
+	 * message received while no other consumer is idle.
+	 * <p>With this setting, a new consumer is only scheduled (up to
+	 * {@link #setMaxConcurrentConsumers "maxConcurrentConsumers"}) once a received
+	 * message has been waiting on the destination for longer than the given
+	 * number of <b>milliseconds</b>, as determined by its {@code JMSTimestamp},
+	 * or once a full batch of messages has been received (see
+	 * {@link #setBatchSize "batchSize"}), as both indicate that the current
+	 * consumers do not keep up. This avoids scaling up for a steady trickle of
+	 * messages that the current consumers handle in time. Scaling down is
+	 * unaffected, as controlled by the idle limits.
+	 * <p>The default is -1, scaling up on every message received while no other
+	 * consumer is idle. Note that the age of messages depends on synchronized
+	 * clocks between producers and this container, and is not taken into
+	 * account for messages without a timestamp.
+	 * @since 7.0
+	 * @see #setMaxConcurrentConsumers
+	 * @see #setIdleConsumerLimit
+	 * @see #setBatchSize
+	 * @see jakarta.jms.Message#getJMSTimestamp()
+	 */
+	public void setScaleUpLatencyThreshold(long scaleUpLatencyThreshold) {
+		this.scaleUpLatencyThreshold = scaleUpLatencyThreshold;
+	}
+
+	/**
+	 * Return the message age (ms) from which consumers are scaled up,
+	 * or -1 if consumers are scaled up on every message received while
+	 * no other consumer is idle.
+	 * @since 7.0
+	 */
+	public long getScaleUpLatencyThreshold() {
+		return this.scaleUpLatencyThreshold;
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Implementation of AbstractMessageListenerContainer's template methods
@@ -940,6 +986,43 @@ public class DefaultMessageListenerContainer extends AbstractPollingMessageListe
 		scheduleNewInvokerIfAppropriate();
 	}
 
+	/**
+	 * Tries scheduling a new invoker in case of a backlog, if a
+	 * {@link #setScaleUpLatencyThreshold "scaleUpLatencyThreshold"} is set.
+	 * @see #isBacklogged(List)
+	 */
+	@Override
+	protected void messagesReceived(Object invoker, Session session, List<Message> messages) {
+		if (this.scaleUpLatencyThreshold < 0) {
+			super.messagesReceived(invoker, session, messages);
+			return;
+		}
+		((AsyncMessageListenerInvoker) invoker).setIdle(false);
+		if (isBacklogged(messages)) {
+			scheduleNewInvokerIfAppropriate();
+		}
+	}
+
+	/**
+	 * Determine whether the given received messages indicate a backlog on the
+	 * destination: a full batch, or a first message that has been waiting for
+	 * longer than the {@link #setScaleUpLatencyThreshold "scaleUpLatencyThreshold"}.
+	 * @param messages the received messages, in order
+	 * @since 7.0
+	 */
+	protected boolean isBacklogged(List<Message> messages) {
+		if (getBatchSize() > 1 && messages.size() >= getBatchSize()) {
+			return true;
+		}
+		try {
+			long timestamp = messages.get(0).getJMSTimestamp();
+			return (timestamp > 0 && System.currentTimeMillis() - timestamp > this.scaleUpLatencyThreshold);
+		}
+		catch (JMSException ex) {
+			return false;
+		}
+	}
+
 	/**
 	 * Marks the affected invoker as idle.
 	 */
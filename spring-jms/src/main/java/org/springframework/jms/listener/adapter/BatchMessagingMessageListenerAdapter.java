@@ -0,0 +1,104 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jms.listener.adapter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jms.listener.BatchMessageListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+
+/**
+ * A {@link MessagingMessageListenerAdapter} that invokes the handler method
+ * once for a batch of {@link jakarta.jms.Message JMS messages}.
+ *
+ * <p>The handler method is invoked with a {@link Message} whose payload is the
+ * {@link List} of the converted payloads of all messages in the batch, in order,
+ * so that a {@code List} payload parameter of the method receives the entire
+ * batch. With {@link #setMessageBatch "messageBatch"} enabled, the list holds
+ * the converted {@link Message} for each JMS message instead, exposing the
+ * headers of each message. The {@link Session} is provided as an additional
+ * argument. The batch message itself carries no headers, so the handler method
+ * must not declare any other message-level parameters such as {@code @Header}
+ * parameters.
+ *
+ * <p>A result of the handler method is sent as a single reply for the entire
+ * batch, to the {@code JMSReplyTo} destination of the last message of the batch
+ * or to the default response destination. A single message, for example from
+ * a container that does not receive batches, is handled as a batch of one.
+ *
+ * <p>Note that the container records a batch as a single observation, with the
+ * first message of the batch as the observation context.
+ *
+ * @since 7.0
+ * @see org.springframework.jms.listener.AbstractPollingMessageListenerContainer#setBatchSize
+ */
+public class BatchMessagingMessageListenerAdapter extends MessagingMessageListenerAdapter
+		implements BatchMessageListener<jakarta.jms.Message> {
+
+	private boolean messageBatch;
+
+
+	/**
+	 * Specify whether the handler method receives the converted {@link Message}
+	 * for each JMS message of a batch, rather than its payload only.
+	 * Default is {@code false}.
+	 */
+	public void setMessageBatch(boolean messageBatch) {
+		this.messageBatch = messageBatch;
+	}
+
+	/**
+	 * Return whether the handler method receives the converted {@link Message}
+	 * for each JMS message of a batch.
+	 */
+	public boolean isMessageBatch() {
+		return this.messageBatch;
+	}
+
+
+	@Override
+	public void onMessage(jakarta.jms.Message jmsMessage, @Nullable Session session) throws JMSException {
+		onMessages(List.of(jmsMessage), session);
+	}
+
+	@Override
+	public void onMessages(List<jakarta.jms.Message> jmsMessages, @Nullable Session session) throws JMSException {
+		List<Object> payloads = new ArrayList<>(jmsMessages.size());
+		for (jakarta.jms.Message jmsMessage : jmsMessages) {
+			Message<?> messagingMessage = toMessagingMessage(jmsMessage);
+			payloads.add(this.messageBatch ? messagingMessage : messagingMessage.getPayload());
+		}
+		Message<List<Object>> message = MessageBuilder.withPayload(payloads).build();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Processing batch of " + payloads.size() + " messages");
+		}
+		Object result = invokeHandler(message, session);
+		if (result != null) {
+			handleResult(result, jmsMessages.get(jmsMessages.size() - 1), session);
+		}
+		else {
+			logger.trace("No result object given - no result to handle");
+		}
+	}
+
+}
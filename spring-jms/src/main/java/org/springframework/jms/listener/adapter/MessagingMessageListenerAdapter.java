@@ -80,7 +80,7 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 		if (logger.isDebugEnabled()) {
 			logger.debug("Processing [" + message + "]");
 		}
-		Object result = invokeHandler(jmsMessage, session, message);
+		Object result = invokeHandler(message, jmsMessage, session);
 		if (result != null) {
 			handleResult(result, jmsMessage, session);
 		}
@@ -101,11 +101,15 @@ public class MessagingMessageListenerAdapter extends AbstractAdaptableMessageLis
 	/**
 	 * Invoke the handler, wrapping any exception in a {@link ListenerExecutionFailedException}
 	 * with a dedicated error message.
+	 * @param message the message to invoke the handler with
+	 * @param providedArgs additional arguments to match to method parameters by type,
+	 * such as the original {@link jakarta.jms.Message} and the {@link Session}
+	 * @since 7.0
 	 */
-	private @Nullable Object invokeHandler(jakarta.jms.Message jmsMessage, @Nullable Session session, Message<?> message) {
+	protected final @Nullable Object invokeHandler(Message<?> message, @Nullable Object... providedArgs) {
 		InvocableHandlerMethod handlerMethod = getHandlerMethod();
 		try {
-			return handlerMethod.invoke(message, jmsMessage, session);
+			return handlerMethod.invoke(message, providedArgs);
 		}
 		catch (MessagingException ex) {
 			throw new ListenerExecutionFailedException(
@@ -21,6 +21,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.lang.reflect.Method;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +81,18 @@ class JmsListenerAnnotationBeanPostProcessorTests {
 		assertThat(container.isStopped()).as("Should have been stopped " + container).isTrue();
 	}
 
+	@Test
+	void batchListenerIsDeclared() {
+		try (ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(Config.class, BatchMessageListenerTestBean.class)) {
+			JmsListenerContainerTestFactory factory = context.getBean(JmsListenerContainerTestFactory.class);
+			assertThat(factory.getListenerContainers()).as("one container should have been registered").hasSize(1);
+
+			JmsListenerEndpoint endpoint = factory.getListenerContainers().get(0).getEndpoint();
+			assertThat(endpoint).isInstanceOf(MethodJmsListenerEndpoint.class);
+			assertThat(((MethodJmsListenerEndpoint) endpoint).isBatchListener()).isTrue();
+		}
+	}
+
 	@Test
 	void metaAnnotationIsDiscovered() throws Exception {
 		try (ConfigurableApplicationContext context = new AnnotationConfigApplicationContext(Config.class, MetaAnnotationTestBean.class)) {
@@ -158,6 +171,15 @@ class JmsListenerAnnotationBeanPostProcessorTests {
 	}
 
 
+	@Component
+	static class BatchMessageListenerTestBean {
+
+		@JmsListener(destination = "testQueue", batch = "true")
+		public void handleIt(List<String> bodies) {
+		}
+	}
+
+
 	@Component
 	static class MetaAnnotationTestBean {
 
@@ -163,6 +163,26 @@ class JmsListenerContainerFactoryTests {
 		assertThat(container.getMaxConcurrentConsumers()).isEqualTo(6);
 	}
 
+	@Test
+	void createJmsContainerWithBatchAndScalingConfig() {
+		DefaultJmsListenerContainerFactory factory = new DefaultJmsListenerContainerFactory();
+		factory.setBatchSize(50);
+		factory.setBatchReceiveTimeout(20L);
+		factory.setScaleUpLatencyThreshold(500L);
+		factory.setVirtualThreads(true);
+
+		SimpleJmsListenerEndpoint endpoint = new SimpleJmsListenerEndpoint();
+		endpoint.setMessageListener(new MessageListenerAdapter());
+		endpoint.setDestination("myQueue");
+		DefaultMessageListenerContainer container = factory.createListenerContainer(endpoint);
+
+		assertThat(container.getBatchSize()).isEqualTo(50);
+		assertThat(container.getScaleUpLatencyThreshold()).isEqualTo(500L);
+		DirectFieldAccessor accessor = new DirectFieldAccessor(container);
+		assertThat(accessor.getPropertyValue("batchReceiveTimeout")).isEqualTo(20L);
+		assertThat(accessor.getPropertyValue("virtualThreads")).isEqualTo(true);
+	}
+
 
 	private void setDefaultJmsConfig(AbstractJmsListenerContainerFactory<?> factory) {
 		factory.setConnectionFactory(this.connectionFactory);
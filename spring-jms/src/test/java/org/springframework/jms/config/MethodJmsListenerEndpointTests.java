@@ -20,6 +20,7 @@ import java.io.Serializable;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import jakarta.jms.Destination;
@@ -40,6 +41,7 @@ import org.springframework.jms.StubTextMessage;
 import org.springframework.jms.listener.DefaultMessageListenerContainer;
 import org.springframework.jms.listener.MessageListenerContainer;
 import org.springframework.jms.listener.SimpleMessageListenerContainer;
+import org.springframework.jms.listener.adapter.BatchMessagingMessageListenerAdapter;
 import org.springframework.jms.listener.adapter.ListenerExecutionFailedException;
 import org.springframework.jms.listener.adapter.MessagingMessageListenerAdapter;
 import org.springframework.jms.listener.adapter.ReplyFailureException;
@@ -236,6 +238,59 @@ class MethodJmsListenerEndpointTests {
 		assertDefaultListenerMethodInvocation();
 	}
 
+	@Test
+	void resolveBatchPayload() throws JMSException {
+		this.container.setBatchSize(10);
+		MessagingMessageListenerAdapter listener = createBatchInstance(
+				getDefaultListenerMethod(List.class, Session.class), this.container);
+		assertThat(listener).isInstanceOf(BatchMessagingMessageListenerAdapter.class);
+
+		Session session = mock();
+		((BatchMessagingMessageListenerAdapter) listener).onMessages(
+				List.of(createSimpleJmsTextMessage("first"), createSimpleJmsTextMessage("second")), session);
+		assertDefaultListenerMethodInvocation();
+	}
+
+	@Test
+	void resolveBatchOfMessages() throws JMSException {
+		this.container.setBatchSize(10);
+		MessagingMessageListenerAdapter listener = createBatchInstance(
+				getDefaultListenerMethod(List.class), this.container);
+		assertThat(listener).isInstanceOf(BatchMessagingMessageListenerAdapter.class);
+
+		StubTextMessage first = createSimpleJmsTextMessage("first");
+		first.setJMSCorrelationID("correlation-1");
+		StubTextMessage second = createSimpleJmsTextMessage("second");
+		second.setJMSCorrelationID("correlation-2");
+		((BatchMessagingMessageListenerAdapter) listener).onMessages(List.of(first, second), mock());
+		assertDefaultListenerMethodInvocation();
+	}
+
+	@Test
+	void createMessageListenerForListWithoutBatchListener() {
+		this.container.setBatchSize(10);
+		MessagingMessageListenerAdapter listener = createInstance(this.factory,
+				getListenerMethod("resolveBatchPayload", List.class, Session.class), this.container);
+
+		assertThat(listener).isNotInstanceOf(BatchMessagingMessageListenerAdapter.class);
+	}
+
+	@Test
+	void createBatchListenerWithHeaderParameter() {
+		Method method = getListenerMethod("invalidBatchWithHeader", List.class, String.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> createBatchInstance(method, this.container))
+				.withMessageContaining("message-level parameter");
+	}
+
+	@Test
+	void createBatchListenerWithoutListPayload() {
+		Method method = getListenerMethod("invalidBatchWithoutList", String.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> createBatchInstance(method, this.container))
+				.withMessageContaining("List payload parameter");
+	}
+
 	@Test
 	void processAndReply() throws JMSException {
 		MessagingMessageListenerAdapter listener = createDefaultInstance(String.class);
@@ -460,6 +515,15 @@ class MethodJmsListenerEndpointTests {
 		return endpoint.createMessageListener(container);
 	}
 
+	private MessagingMessageListenerAdapter createBatchInstance(Method method, MessageListenerContainer container) {
+		MethodJmsListenerEndpoint endpoint = new MethodJmsListenerEndpoint();
+		endpoint.setBean(this.sample);
+		endpoint.setMethod(method);
+		endpoint.setMessageHandlerMethodFactory(this.factory);
+		endpoint.setBatchListener(true);
+		return endpoint.createMessageListener(container);
+	}
+
 	private MessagingMessageListenerAdapter createInstance(DefaultMessageHandlerMethodFactory factory, Method method) {
 		return createInstance(factory, method, new SimpleMessageListenerContainer());
 	}
@@ -527,6 +591,23 @@ class MethodJmsListenerEndpointTests {
 			assertThat(session).as("Session not injected").isNotNull();
 		}
 
+		public void resolveBatchOfMessages(List<Message<String>> messages) {
+			this.invocations.put("resolveBatchOfMessages", true);
+			assertThat(messages).as("Wrong batch size").hasSize(2);
+			assertThat(messages.get(0).getPayload()).as("Wrong payload").isEqualTo("first");
+			assertThat(messages.get(0).getHeaders().get(JmsHeaders.CORRELATION_ID)).as("Wrong header").isEqualTo("correlation-1");
+			assertThat(messages.get(1).getPayload()).as("Wrong payload").isEqualTo("second");
+			assertThat(messages.get(1).getHeaders().get(JmsHeaders.CORRELATION_ID)).as("Wrong header").isEqualTo("correlation-2");
+		}
+
+		public void invalidBatchWithHeader(List<String> payloads, @Header("myCounter") String counter) {
+			throw new IllegalStateException("Should never be called.");
+		}
+
+		public void invalidBatchWithoutList(String payload) {
+			throw new IllegalStateException("Should never be called.");
+		}
+
 		public void resolveGenericMessage(Message<String> message) {
 			this.invocations.put("resolveGenericMessage", true);
 			assertThat(message).as("Generic message not injected").isNotNull();
@@ -585,6 +666,12 @@ class MethodJmsListenerEndpointTests {
 			assertThat(counter).as("Wrong content for payload").isEqualTo(Integer.valueOf(33));
 		}
 
+		public void resolveBatchPayload(List<String> payloads, Session session) {
+			this.invocations.put("resolveBatchPayload", true);
+			assertThat(payloads).as("Wrong batch payload").containsExactly("first", "second");
+			assertThat(session).as("Session not injected").isNotNull();
+		}
+
 		public String processAndReply(@Payload String content) {
 			this.invocations.put("processAndReply", true);
 			return content;
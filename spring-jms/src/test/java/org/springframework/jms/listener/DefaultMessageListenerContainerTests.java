@@ -17,8 +17,10 @@
 package org.springframework.jms.listener;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +30,10 @@ import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.MessageListener;
+import jakarta.jms.Session;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -39,8 +45,10 @@ import org.springframework.util.backoff.FixedBackOff;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -194,6 +202,78 @@ class DefaultMessageListenerContainerTests {
 		assertThat(container.getCacheLevel()).isEqualTo(DefaultMessageListenerContainer.CACHE_AUTO);
 	}
 
+	@Test
+	void batchMessageListenerInvokedOncePerBatch() throws JMSException {
+		List<List<Message>> batches = new ArrayList<>();
+		DefaultMessageListenerContainer container = createBatchContainer(3);
+		container.setMessageListener((BatchMessageListener<Message>) (messages, session) -> batches.add(messages));
+		Message message1 = mock();
+		Message message2 = mock();
+		Message message3 = mock();
+		Message message4 = mock();
+		MessageConsumer consumer = mock();
+		given(consumer.receive(anyLong())).willReturn(message1);
+		given(consumer.receiveNoWait()).willReturn(message2, message3, message4);
+		Session session = createTransactedSession();
+
+		assertThat(container.doReceiveAndExecute(new Object(), session, consumer, null)).isTrue();
+
+		assertThat(batches).containsExactly(List.of(message1, message2, message3));
+		verify(session, times(1)).commit();
+	}
+
+	@Test
+	void batchMessageListenerFailureRollsBackBatch() throws JMSException {
+		DefaultMessageListenerContainer container = createBatchContainer(3);
+		container.setMessageListener((BatchMessageListener<Message>) (messages, session) -> {
+			throw new IllegalStateException("Test exception");
+		});
+		MessageConsumer consumer = mock();
+		given(consumer.receive(anyLong())).willReturn(mock(Message.class));
+		given(consumer.receiveNoWait()).willReturn(mock(Message.class), (Message) null);
+		Session session = createTransactedSession();
+
+		container.doReceiveAndExecute(new Object(), session, consumer, null);
+
+		verify(session).rollback();
+		verify(session, never()).commit();
+	}
+
+	@Test
+	void messageListenerInvokedPerMessageWithinBatch() throws JMSException {
+		List<Message> received = new ArrayList<>();
+		DefaultMessageListenerContainer container = createBatchContainer(5);
+		container.setMessageListener((MessageListener) received::add);
+		Message message1 = mock();
+		Message message2 = mock();
+		MessageConsumer consumer = mock();
+		given(consumer.receive(anyLong())).willReturn(message1);
+		given(consumer.receiveNoWait()).willReturn(message2, (Message) null);
+		Session session = createTransactedSession();
+
+		container.doReceiveAndExecute(new Object(), session, consumer, null);
+
+		assertThat(received).containsExactly(message1, message2);
+		verify(session, times(1)).commit();
+	}
+
+	@Test
+	void isBackloggedWithScaleUpLatencyThreshold() throws JMSException {
+		DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+		container.setBatchSize(2);
+		container.setScaleUpLatencyThreshold(1000);
+		Message oldMessage = mock();
+		given(oldMessage.getJMSTimestamp()).willReturn(System.currentTimeMillis() - 5000);
+		Message recentMessage = mock();
+		given(recentMessage.getJMSTimestamp()).willReturn(System.currentTimeMillis());
+		Message messageWithoutTimestamp = mock();
+
+		assertThat(container.getScaleUpLatencyThreshold()).isEqualTo(1000);
+		assertThat(container.isBacklogged(List.of(oldMessage))).isTrue();
+		assertThat(container.isBacklogged(List.of(recentMessage))).isFalse();
+		assertThat(container.isBacklogged(List.of(messageWithoutTimestamp))).isFalse();
+		assertThat(container.isBacklogged(List.of(recentMessage, recentMessage))).isTrue();
+	}
 
 	private static Stream<String> streamCacheConstants() {
 		return Arrays.stream(DefaultMessageListenerContainer.class.getFields())
@@ -211,6 +291,29 @@ class DefaultMessageListenerContainerTests {
 		return container;
 	}
 
+	private static DefaultMessageListenerContainer createBatchContainer(int batchSize) {
+		DefaultMessageListenerContainer container = new DefaultMessageListenerContainer() {
+			// Invoker bookkeeping is not under test here
+			@Override
+			protected void messageReceived(Object invoker, Session session) {
+			}
+			@Override
+			protected void noMessageReceived(Object invoker, Session session) {
+			}
+		};
+		container.setConnectionFactory(mock());
+		container.setSessionTransacted(true);
+		container.setAcceptMessagesWhileStopping(true);
+		container.setBatchSize(batchSize);
+		return container;
+	}
+
+	private static Session createTransactedSession() throws JMSException {
+		Session session = mock();
+		given(session.getTransacted()).willReturn(true);
+		return session;
+	}
+
 	private static ConnectionFactory createSuccessfulConnectionFactory() {
 		try {
 			ConnectionFactory connectionFactory = mock();
@@ -40,7 +40,7 @@ public class DefaultSubscriptionRegistryBenchmark {
 
 	@State(Scope.Benchmark)
 	public static class ServerState {
-		@Param("1000")
+		@Param({"1000", "100000"})
 		public int sessions;
 
 		@Param("10")
@@ -49,7 +49,7 @@ public class DefaultSubscriptionRegistryBenchmark {
 		@Param({"0", "1024"})
 		int cacheSizeLimit;
 
-		@Param({"none", "patternSubscriptions", "selectorHeaders"})
+		@Param({"none", "patternSubscriptions", "prefixedPatternSubscriptions", "selectorHeaders"})
 		String specialization;
 
 		public DefaultSubscriptionRegistry registry;
@@ -87,11 +87,16 @@ public class DefaultSubscriptionRegistryBenchmark {
 		}
 
 		public void registerSubscriptions(String sessionId, String destination) {
-			if ("patternSubscriptions".equals(this.specialization)) {
-				destination = "/**/" + destination;
-			}
 			String subscriptionId = "subscription_" + this.uniqueIdGenerator.incrementAndGet();
-			this.registry.registerSubscription(subscribeMessage(sessionId, subscriptionId, destination));
+			this.registry.registerSubscription(subscribeMessage(sessionId, subscriptionId, subscribeDestination(destination)));
+		}
+
+		public String subscribeDestination(String destination) {
+			return switch (this.specialization) {
+				case "patternSubscriptions" -> "/**/" + destination;
+				case "prefixedPatternSubscriptions" -> destination + "/**";
+				default -> destination;
+			};
 		}
 	}
 
@@ -127,9 +132,7 @@ public class DefaultSubscriptionRegistryBenchmark {
 			}
 
 			String subscription = String.valueOf(uniqueNumber);
-			String subscribeDestination = "patternSubscriptions".equals(serverState.specialization) ?
-					"/**/" + this.findDestination : this.findDestination;
-			this.subscribe = subscribeMessage(this.session, subscription, subscribeDestination);
+			this.subscribe = subscribeMessage(this.session, subscription, serverState.subscribeDestination(this.findDestination));
 
 			this.unsubscribe = unsubscribeMessage(this.session, subscription);
 		}
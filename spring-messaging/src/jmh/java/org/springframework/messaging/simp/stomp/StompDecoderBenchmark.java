@@ -0,0 +1,102 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+public class StompDecoderBenchmark {
+
+	@State(Scope.Thread)
+	public static class FrameData {
+
+		@Param({"64", "65536"})
+		int bodySize;
+
+		@Param({"1", "8"})
+		int chunks;
+
+		byte[][] content;
+
+		StompDecoder stompDecoder;
+
+		BufferingStompDecoder bufferingDecoder;
+
+		StompFrameDecoder frameDecoder;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			byte[] body = new byte[this.bodySize];
+			for (int i = 0; i < body.length; i++) {
+				body[i] = (byte) ('a' + i % 26);
+			}
+			String headers = "MESSAGE\ndestination:/topic/prices\nsubscription:sub-0\n" +
+					"message-id:abc-123\ncontent-type:text/plain\ncontent-length:" + body.length + "\n\n";
+			byte[] headerBytes = headers.getBytes(StandardCharsets.UTF_8);
+			byte[] frame = new byte[headerBytes.length + body.length + 1];
+			System.arraycopy(headerBytes, 0, frame, 0, headerBytes.length);
+			System.arraycopy(body, 0, frame, headerBytes.length, body.length);
+
+			this.content = new byte[this.chunks][];
+			int chunkSize = (frame.length + this.chunks - 1) / this.chunks;
+			for (int i = 0; i < this.chunks; i++) {
+				int from = Math.min(i * chunkSize, frame.length);
+				int to = Math.min(from + chunkSize, frame.length);
+				this.content[i] = new byte[to - from];
+				System.arraycopy(frame, from, this.content[i], 0, to - from);
+			}
+
+			this.stompDecoder = new StompDecoder();
+			this.bufferingDecoder = new BufferingStompDecoder(this.stompDecoder, 128 * 1024);
+			this.frameDecoder = new StompFrameDecoder(128 * 1024);
+		}
+	}
+
+
+	@Benchmark
+	public void bufferingStompDecoder(FrameData data, Blackhole blackhole) {
+		for (byte[] chunk : data.content) {
+			blackhole.consume(data.bufferingDecoder.decode(ByteBuffer.wrap(chunk)));
+		}
+	}
+
+	@Benchmark
+	public void stompFrameDecoder(FrameData data, Blackhole blackhole) {
+		for (byte[] chunk : data.content) {
+			blackhole.consume(data.frameDecoder.decode(ByteBuffer.wrap(chunk)));
+		}
+	}
+
+	@Benchmark
+	public void stompFrameDecoderMessages(FrameData data, Blackhole blackhole) {
+		for (byte[] chunk : data.content) {
+			blackhole.consume(data.frameDecoder.decodeMessages(ByteBuffer.wrap(chunk)));
+		}
+	}
+
+}
@@ -85,6 +85,13 @@ public class SimpMessageHeaderAccessor extends NativeMessageHeaderAccessor {
 	 */
 	public static final String IGNORE_ERROR = "simpIgnoreError";
 
+	/**
+	 * A header for the {@link org.springframework.messaging.simp.broker.BroadcastEncodingCache}
+	 * shared by all messages of a broadcast to multiple subscribers.
+	 * @since 7.0
+	 */
+	public static final String BROADCAST_ENCODING_CACHE_HEADER = "simpBroadcastEncodingCache";
+
 
 	private @Nullable Consumer<Principal> userCallback;
 
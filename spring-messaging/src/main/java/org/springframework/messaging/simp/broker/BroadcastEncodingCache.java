@@ -0,0 +1,61 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.broker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+/**
+ * Cache shared by all messages that a broker creates for the subscribers of
+ * a single broadcast, allowing protocol handlers to encode the broadcast once
+ * and to reuse the result for every subscriber, rather than encoding the same
+ * payload over and over again.
+ *
+ * <p>Exposed through the
+ * {@value SimpMessageHeaderAccessor#BROADCAST_ENCODING_CACHE_HEADER} header.
+ * Entries live as long as the messages of the broadcast are referenced.
+ *
+ * @since 7.0
+ * @see SimpleBrokerMessageHandler#setSharedBroadcastEncoding(boolean)
+ */
+public final class BroadcastEncodingCache {
+
+	private final Map<Object, Object> cache = new ConcurrentHashMap<>(4);
+
+
+	/**
+	 * Return the cached value for the given key, computing it with the given
+	 * function if not present yet. Safe to call concurrently from the threads
+	 * that deliver the broadcast to different subscribers.
+	 * @param key the cache key
+	 * @param mappingFunction the function to compute the value
+	 * @return the current or computed value
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T computeIfAbsent(Object key, Function<Object, ? extends T> mappingFunction) {
+		return (T) this.cache.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override
+	public String toString() {
+		return "BroadcastEncodingCache[" + this.cache.size() + " entries]";
+	}
+
+}
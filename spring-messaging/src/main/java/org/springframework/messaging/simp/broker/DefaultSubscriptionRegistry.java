@@ -55,6 +55,11 @@ import org.springframework.util.StringUtils;
  * in memory and uses a {@link org.springframework.util.PathMatcher PathMatcher}
  * for matching destinations.
  *
+ * <p>Subscriptions are indexed by destination, and pattern subscriptions by the
+ * literal prefix of their pattern, so that resolving the subscriptions for a
+ * destination only needs to match the pattern subscriptions that share a
+ * prefix with it, rather than all subscriptions of all sessions.
+ *
  * <p>This class also supports an optional <em>selector</em> header on subscription
  * messages with Spring Expression Language (SpEL) expressions evaluated against
  * the headers to filter out messages in addition to destination matching. As of
@@ -91,12 +96,15 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 	private final SessionRegistry sessionRegistry = new SessionRegistry();
 
+	private final SubscriptionIndex subscriptionIndex = new SubscriptionIndex();
+
 
 	/**
 	 * Specify the {@link PathMatcher} to use.
 	 */
 	public void setPathMatcher(PathMatcher pathMatcher) {
 		this.pathMatcher = pathMatcher;
+		this.subscriptionIndex.rebuild();
 	}
 
 	/**
@@ -160,7 +168,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		Expression expression = getSelectorExpression(message.getHeaders());
 		Subscription subscription = new Subscription(subscriptionId, destination, isPattern, expression);
 
-		this.sessionRegistry.addSubscription(sessionId, subscription);
+		if (this.sessionRegistry.addSubscription(sessionId, subscription)) {
+			this.subscriptionIndex.add(sessionId, subscription);
+		}
 		this.destinationCache.updateAfterNewSubscription(sessionId, subscription);
 	}
 
@@ -194,6 +204,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		if (info != null) {
 			Subscription subscription = info.removeSubscription(subscriptionId);
 			if (subscription != null) {
+				this.subscriptionIndex.remove(sessionId, subscription);
 				this.destinationCache.updateAfterRemovedSubscription(sessionId, subscription);
 			}
 		}
@@ -203,6 +214,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 	public void unregisterAllSubscriptions(String sessionId) {
 		SessionInfo info = this.sessionRegistry.removeSubscriptions(sessionId);
 		if (info != null) {
+			for (Subscription subscription : info.getSubscriptions()) {
+				this.subscriptionIndex.remove(sessionId, subscription);
+			}
 			this.destinationCache.updateAfterRemovedSession(sessionId, info);
 		}
 	}
@@ -281,7 +295,7 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 
 		private LinkedMultiValueMap<String, String> computeMatchingSubscriptions(String destination) {
 			LinkedMultiValueMap<String, String> sessionIdToSubscriptionIds = new LinkedMultiValueMap<>();
-			DefaultSubscriptionRegistry.this.sessionRegistry.forEachSubscription((sessionId, subscription) -> {
+			DefaultSubscriptionRegistry.this.subscriptionIndex.forEachCandidate(destination, (sessionId, subscription) -> {
 				if (subscription.isPattern()) {
 					if (pathMatcher.match(subscription.getDestination(), destination)) {
 						addMatchedSubscriptionId(sessionIdToSubscriptionIds, sessionId, subscription.getId());
@@ -386,6 +400,143 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 		}
 	}
 
+	/**
+	 * Index of all subscriptions, by destination for simple subscriptions, and
+	 * by the literal prefix of the destination pattern for pattern subscriptions.
+	 * Updated incrementally on every subscribe and unsubscribe.
+	 */
+	private final class SubscriptionIndex {
+
+		// destination -> [sessionId -> subscriptions]
+		private final ConcurrentMap<String, ConcurrentMap<String, List<Subscription>>> destinations =
+				new ConcurrentHashMap<>();
+
+		// pattern prefix -> [sessionId -> subscriptions]
+		private final ConcurrentMap<String, ConcurrentMap<String, List<Subscription>>> patternPrefixes =
+				new ConcurrentHashMap<>();
+
+		private volatile boolean usePatternPrefixes = supportsPatternPrefixes(pathMatcher);
+
+		public void add(String sessionId, Subscription subscription) {
+			String key = getKey(subscription);
+			getIndex(subscription).compute(key, (_key, sessions) -> {
+				if (sessions == null) {
+					sessions = new ConcurrentHashMap<>();
+				}
+				sessions.merge(sessionId, Collections.singletonList(subscription), (subscriptions, added) -> {
+					List<Subscription> result = new ArrayList<>(subscriptions.size() + 1);
+					result.addAll(subscriptions);
+					result.add(subscription);
+					return result;
+				});
+				return sessions;
+			});
+		}
+
+		public void remove(String sessionId, Subscription subscription) {
+			String key = getKey(subscription);
+			getIndex(subscription).computeIfPresent(key, (_key, sessions) -> {
+				sessions.computeIfPresent(sessionId, (_sessionId, subscriptions) -> {
+					if (subscriptions.size() == 1 && subscriptions.get(0).equals(subscription)) {
+						return null;
+					}
+					List<Subscription> result = new ArrayList<>(subscriptions);
+					result.remove(subscription);
+					return (result.isEmpty() ? null : result);
+				});
+				return (sessions.isEmpty() ? null : sessions);
+			});
+		}
+
+		/**
+		 * Pass each subscription that could match the given destination to the
+		 * given consumer: those for the exact destination, and pattern
+		 * subscriptions with a prefix of the destination as pattern prefix.
+		 */
+		public void forEachCandidate(String destination, BiConsumer<String, Subscription> consumer) {
+			forEach(this.destinations.get(destination), consumer);
+			if (this.patternPrefixes.isEmpty()) {
+				return;
+			}
+			forEach(this.patternPrefixes.get(""), consumer);
+			if (this.usePatternPrefixes) {
+				for (int i = 1; i < destination.length(); i++) {
+					if (isPrefixBoundary(destination.charAt(i))) {
+						forEach(this.patternPrefixes.get(destination.substring(0, i)), consumer);
+					}
+				}
+				forEach(this.patternPrefixes.get(destination), consumer);
+			}
+		}
+
+		private void forEach(@Nullable Map<String, List<Subscription>> sessions,
+				BiConsumer<String, Subscription> consumer) {
+
+			if (sessions != null) {
+				sessions.forEach((sessionId, subscriptions) -> {
+					for (Subscription subscription : subscriptions) {
+						consumer.accept(sessionId, subscription);
+					}
+				});
+			}
+		}
+
+		/**
+		 * Rebuild the index after a change of the {@link PathMatcher}.
+		 */
+		public void rebuild() {
+			this.usePatternPrefixes = supportsPatternPrefixes(pathMatcher);
+			this.destinations.clear();
+			this.patternPrefixes.clear();
+			sessionRegistry.forEachSubscription(this::add);
+		}
+
+		private ConcurrentMap<String, ConcurrentMap<String, List<Subscription>>> getIndex(Subscription subscription) {
+			return (subscription.isPattern() ? this.patternPrefixes : this.destinations);
+		}
+
+		private String getKey(Subscription subscription) {
+			String destination = subscription.getDestination();
+			if (!subscription.isPattern()) {
+				return destination;
+			}
+			if (!this.usePatternPrefixes) {
+				return "";
+			}
+			// Literal part of the pattern, up to the last separator before the first wildcard,
+			// which also covers "/**" matching the destination without a trailing separator
+			int end = destination.length();
+			for (int i = 0; i < destination.length(); i++) {
+				char c = destination.charAt(i);
+				if (c == '*' || c == '?' || c == '{') {
+					end = i;
+					break;
+				}
+			}
+			for (int i = end - 1; i > 0; i--) {
+				if (isPrefixBoundary(destination.charAt(i))) {
+					return destination.substring(0, i);
+				}
+			}
+			return "";
+		}
+
+		private static boolean isPrefixBoundary(char c) {
+			return (c == '/' || c == '.');
+		}
+
+		/**
+		 * Whether pattern subscriptions can be indexed by their literal prefix,
+		 * i.e. for a case-sensitive {@link AntPathMatcher} that does not trim
+		 * tokens. Otherwise, all pattern subscriptions are candidates for any
+		 * destination.
+		 */
+		private static boolean supportsPatternPrefixes(PathMatcher pathMatcher) {
+			return (pathMatcher.getClass() == AntPathMatcher.class &&
+					!pathMatcher.match("/a", "/A") && !pathMatcher.match("/a", "/ a"));
+		}
+	}
+
 	/**
 	 * Registry for all session and their subscriptions.
 	 */
@@ -402,9 +553,9 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 				info.getSubscriptions().forEach(subscription -> consumer.accept(sessionId, subscription)));
 		}
 
-		public void addSubscription(String sessionId, Subscription subscription) {
+		public boolean addSubscription(String sessionId, Subscription subscription) {
 			SessionInfo info = this.sessions.computeIfAbsent(sessionId, _sessionId -> new SessionInfo());
-			info.addSubscription(subscription);
+			return info.addSubscription(subscription);
 		}
 
 		public @Nullable SessionInfo removeSubscriptions(String sessionId) {
@@ -428,8 +579,8 @@ public class DefaultSubscriptionRegistry extends AbstractSubscriptionRegistry {
 			return this.subscriptionMap.get(subscriptionId);
 		}
 
-		public void addSubscription(Subscription subscription) {
-			this.subscriptionMap.putIfAbsent(subscription.getId(), subscription);
+		public boolean addSubscription(Subscription subscription) {
+			return (this.subscriptionMap.putIfAbsent(subscription.getId(), subscription) == null);
 		}
 
 		public @Nullable Subscription removeSubscription(String subscriptionId) {
@@ -67,6 +67,8 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 
 	private @Nullable MessageHeaderInitializer headerInitializer;
 
+	private boolean sharedBroadcastEncoding;
+
 
 	private SubscriptionRegistry subscriptionRegistry;
 
@@ -252,6 +254,32 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 		return this.headerInitializer;
 	}
 
+	/**
+	 * Whether the messages created for the subscribers of a broadcast should
+	 * share a {@link BroadcastEncodingCache}, exposed through the
+	 * {@link SimpMessageHeaderAccessor#BROADCAST_ENCODING_CACHE_HEADER} header,
+	 * so that protocol handlers can encode the payload and the common headers
+	 * once per broadcast rather than once per subscriber.
+	 * <p>For STOMP over WebSocket, this means that all subscribers of a
+	 * broadcast receive the same {@code message-id} header, and that STOMP
+	 * headers added to individual messages by client outbound channel
+	 * interceptors are not reflected, since the frame encoded for the first
+	 * subscriber serves as a template for all others.
+	 * <p>By default this is set to {@code false}.
+	 * @since 7.0
+	 */
+	public void setSharedBroadcastEncoding(boolean sharedBroadcastEncoding) {
+		this.sharedBroadcastEncoding = sharedBroadcastEncoding;
+	}
+
+	/**
+	 * Whether shared broadcast encoding is enabled.
+	 * @since 7.0
+	 */
+	public boolean isSharedBroadcastEncoding() {
+		return this.sharedBroadcastEncoding;
+	}
+
 
 	@Override
 	public void startInternal() {
@@ -394,12 +422,16 @@ public class SimpleBrokerMessageHandler extends AbstractBrokerMessageHandler {
 			logger.debug("Broadcasting to " + subscriptions.size() + " sessions.");
 		}
 		long now = System.currentTimeMillis();
+		BroadcastEncodingCache encodingCache = (this.sharedBroadcastEncoding ? new BroadcastEncodingCache() : null);
 		subscriptions.forEach((sessionId, subscriptionIds) -> {
 			for (String subscriptionId : subscriptionIds) {
 				SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
 				initHeaders(headerAccessor);
 				headerAccessor.setSessionId(sessionId);
 				headerAccessor.setSubscriptionId(subscriptionId);
+				if (encodingCache != null) {
+					headerAccessor.setHeader(SimpMessageHeaderAccessor.BROADCAST_ENCODING_CACHE_HEADER, encodingCache);
+				}
 				headerAccessor.copyHeadersIfAbsent(message.getHeaders());
 				headerAccessor.setLeaveMutable(true);
 				Object payload = message.getPayload();
@@ -25,7 +25,10 @@ import java.util.function.Supplier;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.PartitionedTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
@@ -77,6 +80,42 @@ public class ChannelRegistration {
 		return this;
 	}
 
+	/**
+	 * Configure a {@link PartitionedTaskExecutor} for this message channel
+	 * that hashes the session id of each message onto one of the given number
+	 * of single-threaded lanes. Messages from the same session are then handled
+	 * in the order they were sent to the channel, without the additional
+	 * queueing of {@code preserveReceiveOrder}.
+	 * <p>This takes precedence over a {@linkplain #taskExecutor() task executor
+	 * registration}, if any.
+	 * @param partitions the number of lanes, for example the number of cores
+	 * @since 7.0
+	 */
+	public ChannelRegistration partitionedExecutor(int partitions) {
+		return executor(new PartitionedTaskExecutor(partitions, ChannelRegistration::getSessionId));
+	}
+
+	/**
+	 * Configure a {@link PartitionedTaskExecutor} for this message channel
+	 * that keeps a serial queue of messages per session, drained on the given
+	 * executor. Messages from the same session are then handled in the order
+	 * they were sent to the channel. This is well suited for an executor that
+	 * starts a virtual thread per task, for example a
+	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor
+	 * SimpleAsyncTaskExecutor} with virtual threads enabled.
+	 * <p>This takes precedence over a {@linkplain #taskExecutor() task executor
+	 * registration}, if any.
+	 * @param executor the executor to drain the per-session queues on
+	 * @since 7.0
+	 */
+	public ChannelRegistration partitionedExecutor(Executor executor) {
+		return executor(new PartitionedTaskExecutor(executor, ChannelRegistration::getSessionId));
+	}
+
+	private static @Nullable Object getSessionId(Message<?> message) {
+		return SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+	}
+
 	/**
 	 * Configure the given interceptors for this message channel,
 	 * adding them to the channel's current list of interceptors.
@@ -38,6 +38,8 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 
 	private @Nullable String selectorHeaderName;
 
+	private boolean sharedBroadcastEncoding;
+
 
 	/**
 	 * Create a new {@code SimpleBrokerRegistration}.
@@ -99,6 +101,19 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 		this.selectorHeaderName = selectorHeaderName;
 	}
 
+	/**
+	 * Configure whether messages broadcast to multiple subscribers should be
+	 * encoded once and shared across subscribers, rather than being encoded
+	 * separately for each subscriber.
+	 * <p>By default this is set to {@code false}.
+	 * @since 7.0
+	 * @see SimpleBrokerMessageHandler#setSharedBroadcastEncoding(boolean)
+	 */
+	public SimpleBrokerRegistration setSharedBroadcastEncoding(boolean sharedBroadcastEncoding) {
+		this.sharedBroadcastEncoding = sharedBroadcastEncoding;
+		return this;
+	}
+
 
 	@Override
 	protected SimpleBrokerMessageHandler getMessageHandler(SubscribableChannel brokerChannel) {
@@ -111,6 +126,7 @@ public class SimpleBrokerRegistration extends AbstractBrokerRegistration {
 			handler.setHeartbeatValue(this.heartbeat);
 		}
 		handler.setSelectorHeaderName(this.selectorHeaderName);
+		handler.setSharedBroadcastEncoding(this.sharedBroadcastEncoding);
 		return handler;
 	}
 
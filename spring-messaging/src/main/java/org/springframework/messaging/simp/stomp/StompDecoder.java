@@ -261,7 +261,7 @@ public class StompDecoder {
 	 * See STOMP Spec 1.2:
 	 * <a href="https://stomp.github.io/stomp-specification-1.2.html#Value_Encoding">"Value Encoding"</a>.
 	 */
-	private String unescape(String inString) {
+	static String unescape(String inString) {
 		int index = inString.indexOf('\\');
 		if (index == -1) {
 			return inString;
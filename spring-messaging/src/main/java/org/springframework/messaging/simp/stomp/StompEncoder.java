@@ -104,15 +104,42 @@ public class StompEncoder {
 		Result result = new DefaultResult();
 		result.add(command.toString().getBytes(StandardCharsets.UTF_8));
 		result.add(LINE_FEED_BYTE);
-		writeHeaders(command, headers, payload, result);
+		writeHeaders(command, headers, payload, result, null);
 		result.add(LINE_FEED_BYTE);
 		result.add(payload);
 		result.add((byte) 0);
 		return result.toByteArray();
 	}
 
-	private void writeHeaders(
-			StompCommand command, Map<String, Object> headers, byte[] payload, Result result) {
+	/**
+	 * Encode the given headers and payload of a MESSAGE frame into a template
+	 * that contains everything but the {@code subscription} header, so that the
+	 * frames for all subscribers of a broadcast can be created from it without
+	 * encoding the payload and the common headers again.
+	 * @param headers the STOMP message headers
+	 * @param payload the STOMP message payload
+	 * @return the frame template
+	 * @since 7.0
+	 * @see StompFrameTemplate#encode(String)
+	 */
+	public StompFrameTemplate encodeTemplate(Map<String, Object> headers, byte[] payload) {
+		Assert.notNull(headers, "'headers' is required");
+		Assert.notNull(payload, "'payload' is required");
+
+		StompCommand command = StompHeaderAccessor.getCommand(headers);
+		if (!StompCommand.MESSAGE.equals(command)) {
+			throw new IllegalStateException("Expected STOMP MESSAGE command: " + headers);
+		}
+
+		Result result = new DefaultResult();
+		result.add(command.toString().getBytes(StandardCharsets.UTF_8));
+		result.add(LINE_FEED_BYTE);
+		writeHeaders(command, headers, payload, result, StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER);
+		return new StompFrameTemplate(result.toByteArray(), payload);
+	}
+
+	private void writeHeaders(StompCommand command, Map<String, Object> headers, byte[] payload,
+			Result result, @Nullable String excludedHeader) {
 
 		@SuppressWarnings("unchecked")
 		Map<String,List<String>> nativeHeaders =
@@ -133,6 +160,9 @@ public class StompEncoder {
 			if (command.requiresContentLength() && "content-length".equals(entry.getKey())) {
 				continue;
 			}
+			if (entry.getKey().equals(excludedHeader)) {
+				continue;
+			}
 
 			List<String> values = entry.getValue();
 			if ((StompCommand.CONNECT.equals(command) || StompCommand.STOMP.equals(command)) &&
@@ -182,7 +212,7 @@ public class StompEncoder {
 	 * See STOMP Spec 1.2:
 	 * <a href="https://stomp.github.io/stomp-specification-1.2.html#Value_Encoding">"Value Encoding"</a>.
 	 */
-	private String escape(String inString) {
+	static String escape(String inString) {
 		StringBuilder sb = null;
 		for (int i = 0; i < inString.length(); i++) {
 			char c = inString.charAt(i);
@@ -209,7 +239,7 @@ public class StompEncoder {
 		return (sb != null ? sb.toString() : inString);
 	}
 
-	private StringBuilder getStringBuilder(@Nullable StringBuilder sb, String inString, int i) {
+	private static StringBuilder getStringBuilder(@Nullable StringBuilder sb, String inString, int i) {
 		if (sb == null) {
 			sb = new StringBuilder(inString.length());
 			sb.append(inString, 0, i);
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderInitializer;
+import org.springframework.util.Assert;
+
+/**
+ * A STOMP frame decoded by {@link StompFrameDecoder}, as a read-only view over
+ * the buffer it was decoded from.
+ *
+ * <p>Only the positions of header lines are recorded while decoding; header
+ * names and values are decoded into Strings when accessed, and the body is
+ * exposed as a slice of the original buffer without copying. The view is
+ * therefore only valid for as long as the content of the original buffer
+ * remains unchanged. Use {@link #toMessage(MessageHeaderInitializer)} to
+ * create a {@link Message} that is independent of the buffer.
+ *
+ * @since 7.0
+ * @see StompFrameDecoder
+ */
+public final class StompFrame {
+
+	private static final StompFrame HEARTBEAT = new StompFrame(null, ByteBuffer.allocate(0), new int[0], 0, 0, 0);
+
+	private static final byte[] CONTENT_LENGTH = StompHeaderAccessor.STOMP_CONTENT_LENGTH_HEADER.getBytes(StandardCharsets.UTF_8);
+
+
+	private final @Nullable StompCommand command;
+
+	private final ByteBuffer buffer;
+
+	private final int[] headerOffsets;
+
+	private final int headerCount;
+
+	private final int bodyStart;
+
+	private final int bodyLength;
+
+
+	StompFrame(@Nullable StompCommand command, ByteBuffer buffer,
+			int[] headerOffsets, int headerCount, int bodyStart, int bodyLength) {
+
+		this.command = command;
+		this.buffer = buffer;
+		this.headerOffsets = headerOffsets;
+		this.headerCount = headerCount;
+		this.bodyStart = bodyStart;
+		this.bodyLength = bodyLength;
+	}
+
+
+	/**
+	 * Whether this is a heart-beat, i.e. one or more EOLs between frames.
+	 */
+	public boolean isHeartbeat() {
+		return (this.command == null);
+	}
+
+	/**
+	 * Return the command of the frame, or {@code null} for a heart-beat.
+	 */
+	public @Nullable StompCommand getCommand() {
+		return this.command;
+	}
+
+	/**
+	 * Return the number of header lines in the frame.
+	 */
+	public int getHeaderCount() {
+		return this.headerCount;
+	}
+
+	/**
+	 * Return the name of the header at the given index, unescaped if required
+	 * for the command of the frame.
+	 * @param index the index of the header line, starting at 0
+	 */
+	public String getHeaderName(int index) {
+		Assert.isTrue(index >= 0 && index < this.headerCount, "Invalid header index");
+		int offset = index * 3;
+		return decode(this.headerOffsets[offset], this.headerOffsets[offset + 1]);
+	}
+
+	/**
+	 * Return the value of the header at the given index, unescaped if required
+	 * for the command of the frame.
+	 * @param index the index of the header line, starting at 0
+	 */
+	public String getHeaderValue(int index) {
+		Assert.isTrue(index >= 0 && index < this.headerCount, "Invalid header index");
+		int offset = index * 3;
+		return decode(this.headerOffsets[offset + 1] + 1, this.headerOffsets[offset + 2]);
+	}
+
+	/**
+	 * Return the value of the first header with the given name, if any.
+	 * As per the STOMP specification, only the first occurrence of a repeated
+	 * header is used.
+	 * @param name the name of the header
+	 */
+	public @Nullable String getFirstHeader(String name) {
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		for (int i = 0; i < this.headerCount; i++) {
+			int offset = i * 3;
+			int start = this.headerOffsets[offset];
+			int colon = this.headerOffsets[offset + 1];
+			if (matches(start, colon, nameBytes) || (containsEscape(start, colon) && name.equals(getHeaderName(i)))) {
+				return getHeaderValue(i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the length of the body in bytes.
+	 */
+	public int getBodyLength() {
+		return this.bodyLength;
+	}
+
+	/**
+	 * Return the body as a read-only slice of the buffer the frame was
+	 * decoded from.
+	 */
+	public ByteBuffer getBody() {
+		return this.buffer.slice(this.bodyStart, this.bodyLength).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Create a {@link Message} from this frame, with the same headers as a
+	 * message decoded by {@link StompDecoder}, and a copy of the body.
+	 * @param headerInitializer an initializer to apply to the message headers,
+	 * or {@code null} for none
+	 */
+	public Message<byte[]> toMessage(@Nullable MessageHeaderInitializer headerInitializer) {
+		if (this.command == null) {
+			StompHeaderAccessor headerAccessor = StompHeaderAccessor.createForHeartbeat();
+			if (headerInitializer != null) {
+				headerInitializer.initHeaders(headerAccessor);
+			}
+			headerAccessor.setLeaveMutable(true);
+			return MessageBuilder.createMessage(StompDecoder.HEARTBEAT_PAYLOAD, headerAccessor.getMessageHeaders());
+		}
+		StompHeaderAccessor headerAccessor = StompHeaderAccessor.create(this.command);
+		if (headerInitializer != null) {
+			headerInitializer.initHeaders(headerAccessor);
+		}
+		for (int i = 0; i < this.headerCount; i++) {
+			headerAccessor.addNativeHeader(getHeaderName(i), getHeaderValue(i));
+		}
+		byte[] payload = new byte[this.bodyLength];
+		this.buffer.get(this.bodyStart, payload);
+		headerAccessor.updateSimpMessageHeadersFromStompHeaders();
+		headerAccessor.setLeaveMutable(true);
+		return MessageBuilder.createMessage(payload, headerAccessor.getMessageHeaders());
+	}
+
+	private String decode(int start, int end) {
+		String value;
+		if (this.buffer.hasArray()) {
+			value = new String(this.buffer.array(), this.buffer.arrayOffset() + start, end - start, StandardCharsets.UTF_8);
+		}
+		else {
+			byte[] bytes = new byte[end - start];
+			this.buffer.get(start, bytes);
+			value = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return (shouldUnescape(this.command) ? StompDecoder.unescape(value) : value);
+	}
+
+	private boolean matches(int start, int end, byte[] bytes) {
+		if (end - start != bytes.length) {
+			return false;
+		}
+		for (int i = 0; i < bytes.length; i++) {
+			if (this.buffer.get(start + i) != bytes[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean containsEscape(int start, int end) {
+		if (!shouldUnescape(this.command)) {
+			return false;
+		}
+		for (int i = start; i < end; i++) {
+			if (this.buffer.get(i) == '\\') {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the header line between the given positions is a
+	 * {@code content-length} header.
+	 */
+	static boolean isContentLength(ByteBuffer buffer, int start, int colon) {
+		if (colon - start != CONTENT_LENGTH.length) {
+			return false;
+		}
+		for (int i = 0; i < CONTENT_LENGTH.length; i++) {
+			if (buffer.get(start + i) != CONTENT_LENGTH[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static boolean shouldUnescape(@Nullable StompCommand command) {
+		return (command != StompCommand.CONNECT && command != StompCommand.CONNECTED && command != StompCommand.STOMP);
+	}
+
+	static StompFrame heartbeat() {
+		return HEARTBEAT;
+	}
+
+
+	@Override
+	public String toString() {
+		if (this.command == null) {
+			return "StompFrame[heart-beat]";
+		}
+		return "StompFrame[" + this.command + ", headers=" + this.headerCount + ", body=" + this.bodyLength + " bytes]";
+	}
+
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageHeaderInitializer;
+import org.springframework.util.Assert;
+
+/**
+ * Incremental decoder of STOMP frames from a stream of {@link ByteBuffer ByteBuffers}.
+ *
+ * <p>Unlike {@link StompDecoder}, frames are decoded into {@link StompFrame}
+ * views: header lines are only indexed, and the body is a slice of the input
+ * buffer rather than a copy. Frames that span several input buffers are
+ * retained internally, and parsing resumes where it stopped when more input
+ * arrives, rather than starting over with the complete content. For frames
+ * with a {@code content-length} header, the body is skipped without scanning.
+ *
+ * <p>Frames that are fully contained in an input buffer are views over that
+ * buffer, so it must not be reused or released while the frames are in use.
+ * All input is consumed on each call to {@link #decode(ByteBuffer)}.
+ *
+ * <p>An instance of this decoder is stateful and is intended to be used for a
+ * single stream, for example a WebSocket session or TCP connection, from one
+ * thread at a time. After a {@link StompConversionException}, the decoder
+ * should not be used any more.
+ *
+ * @since 7.0
+ * @see StompFrame
+ */
+public class StompFrameDecoder {
+
+	private static final int SKIP_EOL = 0;
+
+	private static final int COMMAND = 1;
+
+	private static final int HEADERS = 2;
+
+	private static final int BODY = 3;
+
+
+	private final int bufferSizeLimit;
+
+	private @Nullable MessageHeaderInitializer headerInitializer;
+
+	// Buffered content of an incomplete frame
+
+	private byte @Nullable [] pending;
+
+	private int pendingLength;
+
+	// Parser state, with positions relative to the buffer being parsed
+
+	private int phase = SKIP_EOL;
+
+	private int cursor;
+
+	private int frameStart;
+
+	private int lineStart;
+
+	private @Nullable StompCommand command;
+
+	private int[] headerOffsets = new int[24];
+
+	private int headerCount;
+
+	private int contentLength = -1;
+
+	private int bodyStart;
+
+	private boolean eolSeen;
+
+
+	/**
+	 * Create a decoder with a buffer size limit of 64K.
+	 */
+	public StompFrameDecoder() {
+		this(64 * 1024);
+	}
+
+	/**
+	 * Create a decoder with the given limit for the size of incomplete frame
+	 * content to buffer.
+	 * @param bufferSizeLimit the buffer size limit
+	 */
+	public StompFrameDecoder(int bufferSizeLimit) {
+		Assert.isTrue(bufferSizeLimit > 0, "Buffer size limit must be greater than 0");
+		this.bufferSizeLimit = bufferSizeLimit;
+	}
+
+
+	/**
+	 * Return the configured buffer size limit.
+	 */
+	public int getBufferSizeLimit() {
+		return this.bufferSizeLimit;
+	}
+
+	/**
+	 * Configure a {@link MessageHeaderInitializer} to apply to the headers of
+	 * {@link Message Messages} from {@link #decodeMessages(ByteBuffer)}.
+	 */
+	public void setHeaderInitializer(@Nullable MessageHeaderInitializer headerInitializer) {
+		this.headerInitializer = headerInitializer;
+	}
+
+	/**
+	 * Return the configured {@code MessageHeaderInitializer}, if any.
+	 */
+	public @Nullable MessageHeaderInitializer getHeaderInitializer() {
+		return this.headerInitializer;
+	}
+
+	/**
+	 * Return the number of bytes of incomplete frame content currently buffered.
+	 */
+	public int getBufferSize() {
+		return this.pendingLength;
+	}
+
+
+	/**
+	 * Decode the complete frames available with the given input, in addition
+	 * to previously buffered content, and buffer any remaining partial frame.
+	 * @param input the new input, consumed entirely
+	 * @return the decoded frames, possibly empty
+	 * @throws StompConversionException in case of decoding issues
+	 */
+	public List<StompFrame> decode(ByteBuffer input) {
+		ByteBuffer buffer;
+		if (this.pending != null) {
+			append(input);
+			buffer = ByteBuffer.wrap(this.pending, 0, this.pendingLength);
+		}
+		else {
+			buffer = input.duplicate();
+			rebase(-input.position());
+			input.position(input.limit());
+		}
+
+		List<StompFrame> frames = new ArrayList<>();
+		boolean sliced = parse(buffer, frames);
+
+		int retainFrom = (this.phase == SKIP_EOL ? this.cursor : this.frameStart);
+		int remaining = buffer.limit() - retainFrom;
+		if (remaining > 0) {
+			retain(buffer, retainFrom, remaining, sliced || this.pending == null);
+		}
+		else {
+			this.pending = null;
+			this.pendingLength = 0;
+			rebase(retainFrom);
+		}
+		return frames;
+	}
+
+	/**
+	 * Variant of {@link #decode(ByteBuffer)} that creates a {@link Message} for
+	 * each frame, as {@link StompDecoder} does.
+	 * @param input the new input, consumed entirely
+	 * @return the decoded messages, possibly empty
+	 * @throws StompConversionException in case of decoding issues
+	 */
+	public List<Message<byte[]>> decodeMessages(ByteBuffer input) {
+		List<StompFrame> frames = decode(input);
+		List<Message<byte[]>> messages = new ArrayList<>(frames.size());
+		for (StompFrame frame : frames) {
+			messages.add(frame.toMessage(this.headerInitializer));
+		}
+		return messages;
+	}
+
+	/**
+	 * Parse frames from the buffer, starting at the current cursor.
+	 * @return whether any frame was created as a view over the given buffer
+	 */
+	private boolean parse(ByteBuffer buffer, List<StompFrame> frames) {
+		int limit = buffer.limit();
+		int pos = this.cursor;
+		boolean sliced = false;
+		while (pos < limit) {
+			if (this.phase == SKIP_EOL) {
+				byte b = buffer.get(pos);
+				if (b == '\n') {
+					this.eolSeen = true;
+					pos++;
+				}
+				else if (b == '\r') {
+					if (pos + 1 == limit) {
+						break;
+					}
+					if (buffer.get(pos + 1) != '\n') {
+						throw new StompConversionException("'\\r' must be followed by '\\n'");
+					}
+					this.eolSeen = true;
+					pos += 2;
+				}
+				else {
+					this.frameStart = pos;
+					this.lineStart = pos;
+					this.phase = COMMAND;
+				}
+			}
+			else if (this.phase == COMMAND) {
+				int eol = indexOf(buffer, '\n', pos, limit);
+				if (eol == -1) {
+					pos = limit;
+					break;
+				}
+				String name = ascii(buffer, this.lineStart, lineEnd(buffer, this.lineStart, eol));
+				this.command = StompCommand.valueOf(name);
+				this.headerCount = 0;
+				this.contentLength = -1;
+				pos = eol + 1;
+				this.lineStart = pos;
+				this.phase = HEADERS;
+			}
+			else if (this.phase == HEADERS) {
+				int eol = indexOf(buffer, '\n', pos, limit);
+				if (eol == -1) {
+					pos = limit;
+					break;
+				}
+				int end = lineEnd(buffer, this.lineStart, eol);
+				if (end == this.lineStart) {
+					this.bodyStart = eol + 1;
+					this.phase = BODY;
+				}
+				else {
+					addHeader(buffer, this.lineStart, end);
+				}
+				pos = eol + 1;
+				this.lineStart = pos;
+			}
+			else {
+				int bodyEnd;
+				if (this.contentLength >= 0) {
+					bodyEnd = this.bodyStart + this.contentLength;
+					if (bodyEnd >= limit) {
+						pos = limit;
+						break;
+					}
+					if (buffer.get(bodyEnd) != 0) {
+						throw new StompConversionException("Frame must be terminated with a null octet");
+					}
+				}
+				else {
+					bodyEnd = indexOf(buffer, 0, pos, limit);
+					if (bodyEnd == -1) {
+						pos = limit;
+						break;
+					}
+				}
+				frames.add(createFrame(buffer, bodyEnd));
+				sliced = true;
+				pos = bodyEnd + 1;
+				this.phase = SKIP_EOL;
+				this.eolSeen = false;
+			}
+		}
+		if (frames.isEmpty() && this.phase == SKIP_EOL && this.eolSeen && pos == limit) {
+			frames.add(StompFrame.heartbeat());
+			this.eolSeen = false;
+		}
+		this.cursor = pos;
+		return sliced;
+	}
+
+	private void addHeader(ByteBuffer buffer, int start, int end) {
+		int colon = indexOf(buffer, ':', start, end);
+		if (colon <= start) {
+			throw new StompConversionException("Illegal header: '" + ascii(buffer, start, end) +
+					"'. A header must be of the form <name>:[<value>].");
+		}
+		if (this.headerCount * 3 == this.headerOffsets.length) {
+			this.headerOffsets = Arrays.copyOf(this.headerOffsets, this.headerOffsets.length * 2);
+		}
+		int offset = this.headerCount * 3;
+		this.headerOffsets[offset] = start;
+		this.headerOffsets[offset + 1] = colon;
+		this.headerOffsets[offset + 2] = end;
+		if (this.contentLength == -1 && StompFrame.isContentLength(buffer, start, colon)) {
+			this.contentLength = parseContentLength(buffer, colon + 1, end);
+		}
+		this.headerCount++;
+	}
+
+	private StompFrame createFrame(ByteBuffer buffer, int bodyEnd) {
+		StompCommand command = this.command;
+		Assert.state(command != null, "No command");
+		int bodyLength = bodyEnd - this.bodyStart;
+		if (bodyLength > 0 && !command.isBodyAllowed()) {
+			throw new StompConversionException(command + " shouldn't have a payload: length=" + bodyLength);
+		}
+		StompFrame frame = new StompFrame(command, buffer,
+				this.headerOffsets, this.headerCount, this.bodyStart, bodyLength);
+		this.headerOffsets = new int[Math.max(24, this.headerCount * 3)];
+		this.headerCount = 0;
+		this.command = null;
+		return frame;
+	}
+
+	private void append(ByteBuffer input) {
+		byte[] pending = this.pending;
+		Assert.state(pending != null, "No pending content");
+		int required = this.pendingLength + input.remaining();
+		checkBufferSize(required);
+		if (required > pending.length) {
+			pending = Arrays.copyOf(pending, Math.max(required, Math.min(pending.length * 2, this.bufferSizeLimit)));
+			this.pending = pending;
+		}
+		int length = input.remaining();
+		input.get(pending, this.pendingLength, length);
+		this.pendingLength += length;
+	}
+
+	/**
+	 * Retain the content of an incomplete frame, copying it to a new array if
+	 * frames decoded so far share the current array.
+	 */
+	private void retain(ByteBuffer buffer, int from, int length, boolean copy) {
+		checkBufferSize(length);
+		if (copy) {
+			byte[] retained = new byte[Math.max(length, 256)];
+			buffer.get(from, retained, 0, length);
+			this.pending = retained;
+		}
+		else {
+			Assert.state(this.pending != null, "No pending content");
+			System.arraycopy(this.pending, from, this.pending, 0, length);
+		}
+		this.pendingLength = length;
+		rebase(from);
+	}
+
+	private void checkBufferSize(int size) {
+		if (size > this.bufferSizeLimit) {
+			throw new StompConversionException("The configured STOMP buffer size limit of " +
+					this.bufferSizeLimit + " bytes has been exceeded");
+		}
+		if (this.phase == BODY && this.contentLength > this.bufferSizeLimit) {
+			throw new StompConversionException(
+					"STOMP 'content-length' header value " + this.contentLength +
+					" exceeds configured buffer size limit " + this.bufferSizeLimit);
+		}
+	}
+
+	/**
+	 * Shift all recorded positions to the left by the given offset.
+	 */
+	private void rebase(int offset) {
+		if (offset == 0) {
+			return;
+		}
+		this.cursor -= offset;
+		this.frameStart -= offset;
+		this.lineStart -= offset;
+		this.bodyStart -= offset;
+		for (int i = 0; i < this.headerCount * 3; i++) {
+			this.headerOffsets[i] -= offset;
+		}
+	}
+
+	private static int indexOf(ByteBuffer buffer, int value, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (buffer.get(i) == value) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int lineEnd(ByteBuffer buffer, int start, int eol) {
+		return (eol > start && buffer.get(eol - 1) == '\r' ? eol - 1 : eol);
+	}
+
+	private static String ascii(ByteBuffer buffer, int start, int end) {
+		byte[] bytes = new byte[end - start];
+		buffer.get(start, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int parseContentLength(ByteBuffer buffer, int start, int end) {
+		if (start == end || end - start > 9) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			byte b = buffer.get(i);
+			if (b < '0' || b > '9') {
+				return -1;
+			}
+			value = value * 10 + (b - '0');
+		}
+		return value;
+	}
+
+}
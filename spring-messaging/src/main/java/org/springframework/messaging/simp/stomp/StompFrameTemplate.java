@@ -0,0 +1,83 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.charset.StandardCharsets;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A pre-encoded STOMP MESSAGE frame that lacks only the {@code subscription}
+ * header, created through {@link StompEncoder#encodeTemplate}. Frames for the
+ * individual subscribers of a broadcast are created by patching in their
+ * subscription id, which avoids encoding the payload and the common headers
+ * for each subscriber.
+ *
+ * <p>Instances are immutable and may be used concurrently.
+ *
+ * @since 7.0
+ */
+public final class StompFrameTemplate {
+
+	private static final byte[] SUBSCRIPTION_HEADER_PREFIX =
+			(StompHeaderAccessor.STOMP_SUBSCRIPTION_HEADER + ":").getBytes(StandardCharsets.UTF_8);
+
+
+	private final byte[] commandAndHeaders;
+
+	private final byte[] payload;
+
+
+	StompFrameTemplate(byte[] commandAndHeaders, byte[] payload) {
+		this.commandAndHeaders = commandAndHeaders;
+		this.payload = payload;
+	}
+
+
+	/**
+	 * Create the encoded frame for the given subscription.
+	 * @param subscriptionId the id of the subscription, or {@code null}
+	 * to omit the {@code subscription} header
+	 * @return the encoded frame
+	 */
+	public byte[] encode(@Nullable String subscriptionId) {
+		byte[] subscription = (subscriptionId != null ?
+				StompEncoder.escape(subscriptionId).getBytes(StandardCharsets.UTF_8) : null);
+		int length = this.commandAndHeaders.length + 1 + this.payload.length + 1;
+		if (subscription != null) {
+			length += SUBSCRIPTION_HEADER_PREFIX.length + subscription.length + 1;
+		}
+
+		byte[] frame = new byte[length];
+		int position = copy(this.commandAndHeaders, frame, 0);
+		if (subscription != null) {
+			position = copy(SUBSCRIPTION_HEADER_PREFIX, frame, position);
+			position = copy(subscription, frame, position);
+			frame[position++] = '\n';
+		}
+		frame[position++] = '\n';
+		position = copy(this.payload, frame, position);
+		frame[position] = 0;
+		return frame;
+	}
+
+	private static int copy(byte[] source, byte[] target, int position) {
+		System.arraycopy(source, 0, target, position, source.length);
+		return position + source.length;
+	}
+
+}
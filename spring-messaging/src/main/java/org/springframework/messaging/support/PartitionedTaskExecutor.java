@@ -0,0 +1,304 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.support;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadCreator;
+
+/**
+ * {@link TaskExecutor} for an {@link ExecutorSubscribableChannel} that runs
+ * the tasks for messages with the same partition key one at a time, in the
+ * order they were submitted, while tasks for different keys run in parallel.
+ *
+ * <p>The partition key is obtained from the message of a
+ * {@link MessageHandlingRunnable}, for example the session id of messages
+ * from WebSocket clients. Two strategies are available:
+ * <ul>
+ * <li>{@linkplain #PartitionedTaskExecutor(int, Function) A fixed number of
+ * single-threaded lanes}, with the key hashed onto one of them.
+ * <li>{@linkplain #PartitionedTaskExecutor(Executor, Function) A serial queue
+ * per key}, drained on a delegate executor, for example one that starts a
+ * virtual thread per task.
+ * </ul>
+ * <p>In both cases, ordering is preserved without the additional hand-off
+ * between messages that is required by an {@code OrderedMessageChannelDecorator}.
+ * Tasks for messages without a key are not ordered.
+ *
+ * @since 7.0
+ */
+@SuppressWarnings("serial")
+public class PartitionedTaskExecutor extends CustomizableThreadCreator implements TaskExecutor, DisposableBean {
+
+	private static final Log logger = LogFactory.getLog(PartitionedTaskExecutor.class);
+
+
+	private final Function<Message<?>, @Nullable Object> partitionKeyResolver;
+
+	private final ThreadPoolExecutor @Nullable [] lanes;
+
+	private final @Nullable Executor delegate;
+
+	private final Map<Object, SerialQueue> serialQueues = new ConcurrentHashMap<>();
+
+	private final AtomicInteger unkeyedCounter = new AtomicInteger();
+
+
+	/**
+	 * Create an executor that hashes the partition key onto the given number
+	 * of single-threaded lanes.
+	 * @param partitions the number of lanes
+	 * @param partitionKeyResolver how to obtain the partition key of a message
+	 */
+	public PartitionedTaskExecutor(int partitions, Function<Message<?>, @Nullable Object> partitionKeyResolver) {
+		Assert.isTrue(partitions > 0, "Partitions must be greater than 0");
+		Assert.notNull(partitionKeyResolver, "Partition key resolver is required");
+		this.partitionKeyResolver = partitionKeyResolver;
+		this.lanes = new ThreadPoolExecutor[partitions];
+		for (int i = 0; i < partitions; i++) {
+			this.lanes[i] = new ThreadPoolExecutor(
+					1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), this::createThread);
+		}
+		this.delegate = null;
+	}
+
+	/**
+	 * Create an executor that keeps a serial queue of tasks per partition key,
+	 * draining each queue on the given delegate executor.
+	 * @param delegate the executor to drain the queues on, for example a
+	 * {@link org.springframework.core.task.SimpleAsyncTaskExecutor} with
+	 * virtual threads enabled
+	 * @param partitionKeyResolver how to obtain the partition key of a message
+	 */
+	public PartitionedTaskExecutor(Executor delegate, Function<Message<?>, @Nullable Object> partitionKeyResolver) {
+		Assert.notNull(delegate, "Delegate executor is required");
+		Assert.notNull(partitionKeyResolver, "Partition key resolver is required");
+		this.partitionKeyResolver = partitionKeyResolver;
+		this.lanes = null;
+		this.delegate = delegate;
+	}
+
+
+	/**
+	 * Return the number of single-threaded lanes, or 0 if tasks are drained
+	 * on a delegate executor through a serial queue per key.
+	 */
+	public int getPartitionCount() {
+		return (this.lanes != null ? this.lanes.length : 0);
+	}
+
+	/**
+	 * Return the approximate number of tasks waiting to run, across all partitions.
+	 */
+	public int getQueueSize() {
+		int size = 0;
+		if (this.lanes != null) {
+			for (ThreadPoolExecutor lane : this.lanes) {
+				size += lane.getQueue().size();
+			}
+		}
+		int[] queued = new int[1];
+		for (Object key : this.serialQueues.keySet()) {
+			this.serialQueues.computeIfPresent(key, (k, queue) -> {
+				queued[0] += queue.size();
+				return queue;
+			});
+		}
+		return size + queued[0];
+	}
+
+
+	@Override
+	public void execute(Runnable task) {
+		Object key = (task instanceof MessageHandlingRunnable runnable ?
+				this.partitionKeyResolver.apply(runnable.getMessage()) : null);
+
+		if (this.lanes != null) {
+			int hash = (key != null ? spread(key.hashCode()) : this.unkeyedCounter.getAndIncrement());
+			this.lanes[Math.floorMod(hash, this.lanes.length)].execute(task);
+		}
+		else {
+			Assert.state(this.delegate != null, "No delegate executor");
+			if (key == null) {
+				this.delegate.execute(task);
+				return;
+			}
+			SerialQueue[] toStart = new SerialQueue[1];
+			this.serialQueues.compute(key, (k, queue) -> {
+				if (queue == null) {
+					queue = new SerialQueue(k);
+				}
+				if (queue.add(task)) {
+					toStart[0] = queue;
+				}
+				return queue;
+			});
+			if (toStart[0] != null) {
+				try {
+					this.delegate.execute(toStart[0]);
+				}
+				catch (RuntimeException ex) {
+					// Withdraw the task and let the next task for the key start the queue again
+					this.serialQueues.computeIfPresent(key, (k, queue) -> (queue.reject(task) ? queue : null));
+					throw ex;
+				}
+			}
+		}
+	}
+
+	private static int spread(int hash) {
+		return (hash ^ (hash >>> 16));
+	}
+
+	@Override
+	public void destroy() {
+		if (this.lanes != null) {
+			for (ThreadPoolExecutor lane : this.lanes) {
+				lane.shutdown();
+			}
+		}
+	}
+
+
+	/**
+	 * Tasks for one partition key, run one at a time on the delegate executor.
+	 * The queue is only accessed within {@link ConcurrentHashMap#compute},
+	 * which also removes it once drained.
+	 */
+	private final class SerialQueue implements Runnable {
+
+		private final Object key;
+
+		private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+		private boolean running;
+
+		SerialQueue(Object key) {
+			this.key = key;
+		}
+
+		/**
+		 * Add a task, returning {@code true} if the queue needs to be started.
+		 */
+		boolean add(Runnable task) {
+			this.tasks.add(task);
+			if (this.running) {
+				return false;
+			}
+			this.running = true;
+			return true;
+		}
+
+		/**
+		 * Withdraw a task that could not be started, returning {@code true}
+		 * if other tasks remain queued. Those are run once the queue is
+		 * started again by the next task for the same key.
+		 */
+		boolean reject(Runnable task) {
+			this.tasks.remove(task);
+			this.running = false;
+			return !this.tasks.isEmpty();
+		}
+
+		int size() {
+			return this.tasks.size();
+		}
+
+		@Override
+		public void run() {
+			Runnable task;
+			while ((task = nextTask()) != null) {
+				try {
+					task.run();
+				}
+				catch (RuntimeException ex) {
+					if (logger.isErrorEnabled()) {
+						logger.error("Task for partition '" + this.key + "' failed", ex);
+					}
+				}
+				catch (Error err) {
+					restart();
+					throw err;
+				}
+			}
+		}
+
+		/**
+		 * Start the queue again on the delegate executor for the remaining
+		 * tasks, if any, before an {@link Error} ends the current run.
+		 */
+		private void restart() {
+			Executor delegate = PartitionedTaskExecutor.this.delegate;
+			Assert.state(delegate != null, "No delegate executor");
+			boolean[] remaining = new boolean[1];
+			PartitionedTaskExecutor.this.serialQueues.computeIfPresent(this.key, (k, queue) -> {
+				if (queue.tasks.isEmpty()) {
+					queue.running = false;
+					return null;
+				}
+				remaining[0] = true;
+				return queue;
+			});
+			if (remaining[0]) {
+				try {
+					delegate.execute(this);
+				}
+				catch (RuntimeException ex) {
+					// Leave the tasks queued for the next task for the key to start the queue again
+					PartitionedTaskExecutor.this.serialQueues.computeIfPresent(this.key, (k, queue) -> {
+						queue.running = false;
+						return queue;
+					});
+					if (logger.isErrorEnabled()) {
+						logger.error("Failed to restart queue for partition '" + this.key + "'", ex);
+					}
+				}
+			}
+		}
+
+		private @Nullable Runnable nextTask() {
+			Runnable[] next = new Runnable[1];
+			PartitionedTaskExecutor.this.serialQueues.computeIfPresent(this.key, (k, queue) -> {
+				next[0] = queue.tasks.poll();
+				if (next[0] == null) {
+					queue.running = false;
+					return null;
+				}
+				return queue;
+			});
+			return next[0];
+		}
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.MultiValueMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -262,6 +263,54 @@ class DefaultSubscriptionRegistryTests {
 		assertThat(actual).isEmpty();
 	}
 
+	@Test
+	void registerSubscriptionsWithPatternsSharingPrefixes() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/topic/**"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "/topic/PRICE.*"));
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs03", "/topic/PRICE.STOCK.{exchange}.IBM"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs01", "/**/IBM"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs02", "/queue/*"));
+		this.registry.registerSubscription(subscribeMessage("sess02", "subs03", "/topic/PRICE.STOCK.NASDAQ.IBM"));
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/topic"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactly("subs01");
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/PRICE.STOCK.NASDAQ.IBM"));
+		assertThat(actual).hasSize(2);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02", "subs03");
+		assertThat(actual.get("sess02")).containsExactly("subs03");
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/PRICE.STOCK"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+
+		actual = this.registry.findSubscriptions(createMessage("/queue/IBM"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess02")).containsExactlyInAnyOrder("subs01", "subs02");
+
+		this.registry.unregisterSubscription(unsubscribeMessage("sess01", "subs01"));
+		this.registry.unregisterAllSubscriptions("sess02");
+
+		actual = this.registry.findSubscriptions(createMessage("/topic/PRICE.STOCK.NASDAQ.IBM"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs02", "subs03");
+	}
+
+	@Test
+	void registerSubscriptionsWithCustomPathMatcher() {
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs01", "/topic/price/*"));
+
+		AntPathMatcher pathMatcher = new AntPathMatcher();
+		pathMatcher.setCaseSensitive(false);
+		this.registry.setPathMatcher(pathMatcher);
+		this.registry.registerSubscription(subscribeMessage("sess01", "subs02", "/TOPIC/PRICE/**"));
+
+		MultiValueMap<String, String> actual = this.registry.findSubscriptions(createMessage("/Topic/Price/IBM"));
+		assertThat(actual).hasSize(1);
+		assertThat(actual.get("sess01")).containsExactlyInAnyOrder("subs01", "subs02");
+	}
+
 	@Test
 	void registerSubscriptionWithSelectorHeaderEnabled() {
 		String sessionId1 = "sess01";
@@ -113,6 +113,23 @@ public class SimpleBrokerMessageHandlerTests {
 		assertThat(messageCaptured("sess2", "sub3", "/bar")).isTrue();
 	}
 
+	@Test
+	void subscribePublishWithSharedBroadcastEncoding() {
+		this.messageHandler.setSharedBroadcastEncoding(true);
+		startSession("sess1");
+		startSession("sess2");
+
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess1", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createSubscriptionMessage("sess2", "sub1", "/foo"));
+		this.messageHandler.handleMessage(createMessage("/foo", "message1"));
+
+		verify(this.clientOutChannel, times(2)).send(this.messageCaptor.capture());
+		List<Message<?>> messages = this.messageCaptor.getAllValues();
+		Object cache = messages.get(0).getHeaders().get(SimpMessageHeaderAccessor.BROADCAST_ENCODING_CACHE_HEADER);
+		assertThat(cache).isInstanceOf(BroadcastEncodingCache.class);
+		assertThat(messages.get(1).getHeaders().get(SimpMessageHeaderAccessor.BROADCAST_ENCODING_CACHE_HEADER)).isSameAs(cache);
+	}
+
 	@Test
 	void subscribeDisconnectPublish() {
 		String sess1 = "sess1";
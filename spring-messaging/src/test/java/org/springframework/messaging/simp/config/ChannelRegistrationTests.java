@@ -23,6 +23,7 @@ import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.PartitionedTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -107,6 +108,28 @@ class ChannelRegistrationTests {
 
 	}
 
+	@Test
+	void configurePartitionedExecutor() {
+		ChannelRegistration registration = new ChannelRegistration();
+		registration.partitionedExecutor(4);
+		assertThat(registration.hasExecutor()).isTrue();
+		Executor executor = registration.getExecutor(this.fallback, this.customizer);
+		assertThat(executor).isInstanceOfSatisfying(PartitionedTaskExecutor.class,
+				partitioned -> assertThat(partitioned.getPartitionCount()).isEqualTo(4));
+		verifyNoInteractions(this.fallback, this.customizer);
+		((PartitionedTaskExecutor) executor).destroy();
+	}
+
+	@Test
+	void configurePartitionedExecutorWithDelegate() {
+		ChannelRegistration registration = new ChannelRegistration();
+		registration.partitionedExecutor(mock(Executor.class));
+		Executor executor = registration.getExecutor(this.fallback, this.customizer);
+		assertThat(executor).isInstanceOfSatisfying(PartitionedTaskExecutor.class,
+				partitioned -> assertThat(partitioned.getPartitionCount()).isEqualTo(0));
+		verifyNoInteractions(this.fallback, this.customizer);
+	}
+
 	@Test
 	void configureInterceptors() {
 		ChannelRegistration registration = new ChannelRegistration();
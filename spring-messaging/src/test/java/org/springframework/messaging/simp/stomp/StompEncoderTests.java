@@ -83,4 +83,18 @@ class StompEncoderTests {
 		assertThat(new String(encoder.encode(frame))).isEqualTo("SEND\ncontent-length:12\n\nMessage body\0");
 	}
 
+	@Test
+	void encodeTemplateWithSubscriptionId() {
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		headers.addNativeHeader("a", "alpha");
+		headers.setSubscriptionId("ignored");
+		StompFrameTemplate template = encoder.encodeTemplate(
+				headers.getMessageHeaders(), "Message body".getBytes());
+
+		assertThat(new String(template.encode("sub:1")))
+				.isEqualTo("MESSAGE\na:alpha\ncontent-length:12\nsubscription:sub\\c1\n\nMessage body\0");
+		assertThat(new String(template.encode("sub2")))
+				.isEqualTo("MESSAGE\na:alpha\ncontent-length:12\nsubscription:sub2\n\nMessage body\0");
+	}
+
 }
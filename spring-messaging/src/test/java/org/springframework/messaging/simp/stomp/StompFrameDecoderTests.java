@@ -0,0 +1,161 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.simp.stomp;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link StompFrameDecoder}.
+ */
+class StompFrameDecoderTests {
+
+	private final StompFrameDecoder decoder = new StompFrameDecoder();
+
+
+	@Test
+	void decodeFrame() {
+		List<StompFrame> frames = decode("SEND\ndestination:/queue/a\nfoo:bar\n\nPayload\0");
+
+		assertThat(frames).hasSize(1);
+		StompFrame frame = frames.get(0);
+		assertThat(frame.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(frame.getHeaderCount()).isEqualTo(2);
+		assertThat(frame.getHeaderName(0)).isEqualTo("destination");
+		assertThat(frame.getHeaderValue(0)).isEqualTo("/queue/a");
+		assertThat(frame.getFirstHeader("foo")).isEqualTo("bar");
+		assertThat(frame.getFirstHeader("bar")).isNull();
+		assertThat(body(frame)).isEqualTo("Payload");
+	}
+
+	@Test
+	void decodeFrameWithCrLfEolsAndContentLength() {
+		List<StompFrame> frames = decode("SEND\r\ncontent-length:5\r\n\r\nab\0cd\0\r\n");
+
+		assertThat(frames).hasSize(1);
+		assertThat(frames.get(0).getBodyLength()).isEqualTo(5);
+		assertThat(body(frames.get(0))).isEqualTo("ab\0cd");
+		assertThat(this.decoder.getBufferSize()).isEqualTo(0);
+	}
+
+	@Test
+	void decodeFrameWithEscapedHeaders() {
+		StompFrame frame = decode("MESSAGE\na\\c\\r\\n\\\\b:alpha\\cbravo\n\n\0").get(0);
+
+		assertThat(frame.getHeaderName(0)).isEqualTo("a:\r\n\\b");
+		assertThat(frame.getFirstHeader("a:\r\n\\b")).isEqualTo("alpha:bravo");
+	}
+
+	@Test
+	void decodeConnectFrameDoesNotUnescapeHeaders() {
+		StompFrame frame = decode("CONNECT\na\\cb:alpha\\cbravo\n\n\0").get(0);
+
+		assertThat(frame.getFirstHeader("a\\cb")).isEqualTo("alpha\\cbravo");
+	}
+
+	@Test
+	void decodeHeartbeat() {
+		List<StompFrame> frames = decode("\n");
+
+		assertThat(frames).hasSize(1);
+		assertThat(frames.get(0).isHeartbeat()).isTrue();
+	}
+
+	@Test
+	void decodeFrameSplitAcrossBuffers() {
+		String content = "SEND\ndestination:/queue/a\n\nfirst\0\nSEND\ndestination:/queue/b\n\nsecond\0";
+		List<StompFrame> frames = new ArrayList<>();
+		for (byte b : content.getBytes(StandardCharsets.UTF_8)) {
+			frames.addAll(this.decoder.decode(ByteBuffer.wrap(new byte[] {b})));
+		}
+
+		assertThat(frames).hasSize(2);
+		assertThat(frames.get(0).getFirstHeader("destination")).isEqualTo("/queue/a");
+		assertThat(body(frames.get(0))).isEqualTo("first");
+		assertThat(frames.get(1).getFirstHeader("destination")).isEqualTo("/queue/b");
+		assertThat(body(frames.get(1))).isEqualTo("second");
+		assertThat(this.decoder.getBufferSize()).isEqualTo(0);
+	}
+
+	@Test
+	void decodeFrameWithContentLengthSplitAcrossBuffers() {
+		assertThat(decode("SEND\ncontent-length:10\n\n01234")).isEmpty();
+		assertThat(this.decoder.getBufferSize()).isGreaterThan(0);
+
+		List<StompFrame> frames = decode("56789\0SEND\n\n\0");
+
+		assertThat(frames).hasSize(2);
+		assertThat(body(frames.get(0))).isEqualTo("0123456789");
+		assertThat(frames.get(1).getBodyLength()).isEqualTo(0);
+	}
+
+	@Test
+	void decodeMessages() {
+		String content = "SEND\ndestination:/queue/a\ncontent-length:7\n\nPayload\0";
+		List<Message<byte[]>> messages = this.decoder.decodeMessages(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+		List<Message<byte[]>> expected = new StompDecoder().decode(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(messages).hasSize(1);
+		StompHeaderAccessor headers = StompHeaderAccessor.wrap(messages.get(0));
+		assertThat(headers.getCommand()).isEqualTo(StompCommand.SEND);
+		assertThat(headers.getDestination()).isEqualTo("/queue/a");
+		assertThat(headers.toNativeHeaderMap()).isEqualTo(StompHeaderAccessor.wrap(expected.get(0)).toNativeHeaderMap());
+		assertThat(messages.get(0).getPayload()).isEqualTo(expected.get(0).getPayload());
+	}
+
+	@Test
+	void decodeFrameWithIllegalHeader() {
+		assertThatExceptionOfType(StompConversionException.class)
+				.isThrownBy(() -> decode("SEND\nillegal-header\n\n\0"))
+				.withMessageStartingWith("Illegal header: 'illegal-header'");
+	}
+
+	@Test
+	void decodeFrameWithMissingNullOctet() {
+		assertThatExceptionOfType(StompConversionException.class)
+				.isThrownBy(() -> decode("SEND\ncontent-length:2\n\nabc\0"))
+				.withMessage("Frame must be terminated with a null octet");
+	}
+
+	@Test
+	void decodeFrameExceedingBufferSizeLimit() {
+		StompFrameDecoder decoder = new StompFrameDecoder(16);
+
+		assertThatExceptionOfType(StompConversionException.class)
+				.isThrownBy(() -> decoder.decode(ByteBuffer.wrap("SEND\ndestination:/queue/a\n".getBytes(StandardCharsets.UTF_8))))
+				.withMessage("The configured STOMP buffer size limit of 16 bytes has been exceeded");
+	}
+
+
+	private List<StompFrame> decode(String content) {
+		return this.decoder.decode(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static String body(StompFrame frame) {
+		return StandardCharsets.UTF_8.decode(frame.getBody()).toString();
+	}
+
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.messaging.support;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PartitionedTaskExecutor}.
+ */
+class PartitionedTaskExecutorTests {
+
+	private static final Function<Message<?>, @Nullable Object> KEY_RESOLVER =
+			message -> message.getHeaders().get("key");
+
+	private static final int KEY_COUNT = 16;
+
+	private static final int MESSAGES_PER_KEY = 200;
+
+
+	@Test
+	void lanesPreserveOrderPerKey() throws Exception {
+		PartitionedTaskExecutor executor = new PartitionedTaskExecutor(4, KEY_RESOLVER);
+		try {
+			assertThat(executor.getPartitionCount()).isEqualTo(4);
+			assertOrderPerKey(executor);
+		}
+		finally {
+			executor.destroy();
+		}
+	}
+
+	@Test
+	void serialQueuesPreserveOrderPerKey() throws Exception {
+		PartitionedTaskExecutor executor =
+				new PartitionedTaskExecutor(Executors.newCachedThreadPool(), KEY_RESOLVER);
+		assertThat(executor.getPartitionCount()).isEqualTo(0);
+		assertOrderPerKey(executor);
+		assertThat(executor.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	void serialQueueContinuesAfterFailedTask() throws Exception {
+		PartitionedTaskExecutor executor =
+				new PartitionedTaskExecutor(Executors.newCachedThreadPool(), KEY_RESOLVER);
+		ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+		CountDownLatch latch = new CountDownLatch(1);
+		channel.subscribe(message -> {
+			if ("fail".equals(message.getPayload())) {
+				throw new IllegalStateException("Expected");
+			}
+			latch.countDown();
+		});
+
+		channel.send(MessageBuilder.withPayload("fail").setHeader("key", "a").build());
+		channel.send(MessageBuilder.withPayload("ok").setHeader("key", "a").build());
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void serialQueuePropagatesErrorAndContinues() throws Exception {
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+		CountDownLatch errorLatch = new CountDownLatch(1);
+		PartitionedTaskExecutor executor = new PartitionedTaskExecutor(task -> {
+			Thread thread = new Thread(task);
+			thread.setUncaughtExceptionHandler((t, ex) -> {
+				errors.add(ex);
+				errorLatch.countDown();
+			});
+			thread.start();
+		}, KEY_RESOLVER);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(1);
+		executor.execute(new TestMessageHandlingRunnable("a", () -> {
+			try {
+				blocked.await();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			throw new AssertionError("Expected");
+		}));
+		executor.execute(new TestMessageHandlingRunnable("a", latch::countDown));
+		blocked.countDown();
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(errorLatch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(errors).singleElement().isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void serialQueueContinuesAfterRejectedTask() {
+		AtomicBoolean reject = new AtomicBoolean(true);
+		PartitionedTaskExecutor executor = new PartitionedTaskExecutor(task -> {
+			if (reject.getAndSet(false)) {
+				throw new RejectedExecutionException("Expected");
+			}
+			task.run();
+		}, KEY_RESOLVER);
+		ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+		List<Object> received = new CopyOnWriteArrayList<>();
+		channel.subscribe(message -> received.add(message.getPayload()));
+
+		// The channel runs a rejected task locally
+		channel.send(MessageBuilder.withPayload("rejected").setHeader("key", "a").build());
+		assertThat(received).containsExactly("rejected");
+		assertThat(executor.getQueueSize()).isEqualTo(0);
+
+		channel.send(MessageBuilder.withPayload("ok").setHeader("key", "a").build());
+		assertThat(received).containsExactly("rejected", "ok");
+		assertThat(executor.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	void tasksWithoutKeyAreExecuted() throws Exception {
+		PartitionedTaskExecutor executor = new PartitionedTaskExecutor(2, KEY_RESOLVER);
+		try {
+			CountDownLatch latch = new CountDownLatch(3);
+			for (int i = 0; i < 3; i++) {
+				executor.execute(latch::countDown);
+			}
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			executor.destroy();
+		}
+	}
+
+
+	private static void assertOrderPerKey(PartitionedTaskExecutor executor) throws InterruptedException {
+		ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel(executor);
+		Map<Object, List<Integer>> received = new ConcurrentHashMap<>();
+		CountDownLatch latch = new CountDownLatch(KEY_COUNT * MESSAGES_PER_KEY);
+		channel.subscribe(message -> {
+			Object key = message.getHeaders().get("key");
+			received.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add((Integer) message.getPayload());
+			latch.countDown();
+		});
+
+		Thread[] senders = new Thread[KEY_COUNT];
+		for (int i = 0; i < KEY_COUNT; i++) {
+			String key = "session" + i;
+			senders[i] = new Thread(() -> {
+				for (int j = 0; j < MESSAGES_PER_KEY; j++) {
+					channel.send(MessageBuilder.withPayload(j).setHeader("key", key).build());
+				}
+			});
+			senders[i].start();
+		}
+		for (Thread sender : senders) {
+			sender.join();
+		}
+
+		assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).hasSize(KEY_COUNT);
+		received.values().forEach(list -> assertThat(list).isSorted().hasSize(MESSAGES_PER_KEY));
+	}
+
+
+	private record TestMessageHandlingRunnable(String key, Runnable task) implements MessageHandlingRunnable {
+
+		@Override
+		public Message<?> getMessage() {
+			return MessageBuilder.withPayload("payload").setHeader("key", this.key).build();
+		}
+
+		@Override
+		public MessageHandler getMessageHandler() {
+			return message -> {};
+		}
+
+		@Override
+		public void run() {
+			this.task.run();
+		}
+	}
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.r2dbc.core;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import io.r2dbc.spi.test.MockColumnMetadata;
+import io.r2dbc.spi.test.MockRow;
+import io.r2dbc.spi.test.MockRowMetadata;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.r2dbc.core.R2dbcDataClassRowMapperTests.ConstructorPersonWithSetters;
+import org.springframework.r2dbc.core.R2dbcDataClassRowMapperTests.RecordPerson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for R2DBC-based {@link DirectPropertyRowMapper}.
+ */
+class R2dbcDirectPropertyRowMapperTests {
+
+	@Test
+	void mappingWithSetters() {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		Person person = mapper.apply(R2dbcDataClassRowMapperTests.MOCK_ROW);
+
+		assertThat(person.getName()).isEqualTo("Bubba");
+		assertThat(person.getAge()).isEqualTo(22L);
+		assertThat(person.getBirthDate()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.getBalance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
+	@Test
+	void mappingWithDataRecord() {
+		DirectPropertyRowMapper<RecordPerson> mapper = new DirectPropertyRowMapper<>(RecordPerson.class);
+		RecordPerson person = mapper.apply(R2dbcDataClassRowMapperTests.MOCK_ROW);
+
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birth_date()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
+	@Test
+	void mappingWithDataClassAndSetters() {
+		MockRow mockRow = MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("name").javaType(String.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("age").javaType(long.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("birthdate").javaType(Date.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("balance").javaType(BigDecimal.class).build())
+						.build())
+				.identified(0, String.class, "Bubba")
+				.identified(1, long.class, 22L)
+				.identified(2, Date.class, new Date(1221222L))
+				.identified(3, BigDecimal.class, new BigDecimal("1234.56"))
+				.build();
+		DirectPropertyRowMapper<ConstructorPersonWithSetters> mapper =
+				new DirectPropertyRowMapper<>(ConstructorPersonWithSetters.class);
+		ConstructorPersonWithSetters person = mapper.apply(mockRow);
+
+		assertThat(person.name()).isEqualTo("BUBBA");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birthDate()).usingComparator(Date::compareTo).isEqualTo(new Date(1221222L));
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
+	@Test
+	void mappingWithConversion() {
+		MockRow mockRow = MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("name").javaType(String.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("age").javaType(String.class).build())
+						.build())
+				.identified(0, Object.class, "Bubba")
+				.identified(1, Object.class, "22")
+				.build();
+		Person person = new DirectPropertyRowMapper<>(Person.class).apply(mockRow);
+
+		assertThat(person.getName()).isEqualTo("Bubba");
+		assertThat(person.getAge()).isEqualTo(22L);
+	}
+
+	@Test
+	void mappingNullValueToPrimitive() {
+		MockRow mockRow = MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("age").javaType(Long.class).build())
+						.build())
+				.identified(0, long.class, null)
+				.build();
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+
+		assertThatExceptionOfType(TypeMismatchException.class).isThrownBy(() -> mapper.apply(mockRow));
+	}
+
+	@Test
+	void mappingWithMissingConstructorColumn() {
+		MockRow mockRow = MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("name").javaType(String.class).build())
+						.build())
+				.identified(0, String.class, "Bubba")
+				.build();
+		DirectPropertyRowMapper<RecordPerson> mapper = new DirectPropertyRowMapper<>(RecordPerson.class);
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class).isThrownBy(() -> mapper.apply(mockRow));
+	}
+
+	@Test
+	void sameMapperForDifferentMetadata() {
+		DirectPropertyRowMapper<Person> mapper = new DirectPropertyRowMapper<>(Person.class);
+		assertThat(mapper.apply(R2dbcDataClassRowMapperTests.MOCK_ROW).getName()).isEqualTo("Bubba");
+
+		MockRow mockRow = MockRow.builder()
+				.metadata(MockRowMetadata.builder()
+						.columnMetadata(MockColumnMetadata.builder().name("age").javaType(Long.class).build())
+						.columnMetadata(MockColumnMetadata.builder().name("name").javaType(String.class).build())
+						.build())
+				.identified(0, long.class, 42L)
+				.identified(1, String.class, "Bob")
+				.build();
+		Person person = mapper.apply(mockRow);
+
+		assertThat(person.getName()).isEqualTo("Bob");
+		assertThat(person.getAge()).isEqualTo(42L);
+	}
+
+
+	static class Person {
+
+		private String name;
+
+		private long age;
+
+		private Date birthDate;
+
+		private BigDecimal balance;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getAge() {
+			return this.age;
+		}
+
+		public void setAge(long age) {
+			this.age = age;
+		}
+
+		public Date getBirthDate() {
+			return this.birthDate;
+		}
+
+		public void setBirthDate(Date birthDate) {
+			this.birthDate = birthDate;
+		}
+
+		public BigDecimal getBalance() {
+			return this.balance;
+		}
+
+		public void setBalance(BigDecimal balance) {
+			this.balance = balance;
+		}
+	}
+
+}
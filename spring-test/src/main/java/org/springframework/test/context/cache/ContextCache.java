@@ -16,6 +16,8 @@
 
 package org.springframework.test.context.cache;
 
+import java.time.Duration;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.context.ApplicationContext;
@@ -82,6 +84,33 @@ public interface ContextCache {
 	 */
 	String MAX_CONTEXT_CACHE_SIZE_PROPERTY_NAME = "spring.test.context.cache.maxSize";
 
+	/**
+	 * System property used to configure the maximum estimated memory footprint
+	 * of all contexts in the {@link ContextCache}, as a data size such as
+	 * {@code 512MB}: {@value}.
+	 * <p>May alternatively be configured via the
+	 * {@link org.springframework.core.SpringProperties} mechanism.
+	 * <p>Not set by default, in which case the cache is only bounded by its
+	 * {@linkplain #MAX_CONTEXT_CACHE_SIZE_PROPERTY_NAME maximum size}. Note that
+	 * implementations of {@code ContextCache} are not required to actually
+	 * support a maximum memory footprint.
+	 * @since 7.0
+	 * @see #recordContextLoad(MergedContextConfiguration, Duration, long)
+	 */
+	String MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME = "spring.test.context.cache.maxMemory";
+
+	/**
+	 * System property used to enable preloading of the contexts for all test
+	 * classes of a test plan in parallel, before the first test is executed:
+	 * {@value}.
+	 * <p>May alternatively be configured via the
+	 * {@link org.springframework.core.SpringProperties} mechanism.
+	 * <p>Requires the JUnit Platform launcher; disabled by default.
+	 * @since 7.0
+	 * @see ContextCacheUtils#isContextPreloadingEnabled()
+	 */
+	String CONTEXT_CACHE_PRELOAD_PROPERTY_NAME = "spring.test.context.cache.preload";
+
 
 	/**
 	 * Determine whether there is a cached context for the given key.
@@ -163,6 +192,26 @@ public interface ContextCache {
 		/* no-op */
 	}
 
+	/**
+	 * Record statistics for loading the {@link ApplicationContext} that has
+	 * just been {@linkplain #put stored} for the given key.
+	 * <p>The estimated memory footprint is the growth of used heap memory
+	 * while loading the context; implementations may use it for bounding
+	 * the cache by memory rather than by number of contexts. It is not
+	 * estimated if other contexts have been loading at the same time, for
+	 * example when contexts are preloaded in parallel.
+	 * <p>The default implementation of this method does nothing.
+	 * @param key the context key; never {@code null}
+	 * @param loadTime the time it took to load the context
+	 * @param estimatedMemoryFootprint the estimated memory footprint of the
+	 * context in bytes, or {@code -1} if it could not be estimated
+	 * @since 7.0
+	 * @see #MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME
+	 */
+	default void recordContextLoad(MergedContextConfiguration key, Duration loadTime, long estimatedMemoryFootprint) {
+		/* no-op */
+	}
+
 	/**
 	 * Register usage of the {@link ApplicationContext} for the supplied
 	 * {@link MergedContextConfiguration} and any of its parents.
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.cache;
+
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.test.context.BootstrapUtils;
+import org.springframework.test.context.BootstrapWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.ContextHierarchy;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import static org.springframework.core.annotation.MergedAnnotations.SearchStrategy.TYPE_HIERARCHY;
+
+/**
+ * JUnit Platform {@link TestExecutionListener} that analyzes all test classes
+ * of a {@link TestPlan} before it is executed and preloads their application
+ * contexts in parallel into the default {@link ContextCache}.
+ *
+ * <p>Registered automatically via the {@link java.util.ServiceLoader} mechanism
+ * but only active if the {@value ContextCache#CONTEXT_CACHE_PRELOAD_PROPERTY_NAME}
+ * system property or Spring property is set to {@code true}. Contexts are
+ * loaded with a parallelism matching the number of available processors.
+ *
+ * <p>Preloading only applies to test classes that use the default
+ * {@link DefaultCacheAwareContextLoaderDelegate}. Contexts that fail to
+ * preload are loaded again on demand by the tests that require them.
+ *
+ * @since 7.0
+ * @see DefaultCacheAwareContextLoaderDelegate#preloadContexts
+ */
+public class ContextCachePreloadingListener implements TestExecutionListener {
+
+	private static final Log logger = LogFactory.getLog(ContextCachePreloadingListener.class);
+
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		if (!ContextCacheUtils.isContextPreloadingEnabled()) {
+			return;
+		}
+
+		Set<MergedContextConfiguration> mergedConfigs = new LinkedHashSet<>();
+		testPlan.getRoots().stream()
+				.map(testPlan::getDescendants)
+				.flatMap(Set::stream)
+				.map(TestIdentifier::getSource)
+				.flatMap(Optional::stream)
+				.filter(ClassSource.class::isInstance)
+				.map(ClassSource.class::cast)
+				.map(this::getJavaClass)
+				.flatMap(Optional::stream)
+				.filter(ContextCachePreloadingListener::isSpringTestClass)
+				.distinct()
+				.forEach(testClass -> buildMergedContextConfiguration(testClass).ifPresent(mergedConfigs::add));
+
+		if (!mergedConfigs.isEmpty()) {
+			long startTime = System.nanoTime();
+			int preloaded = new DefaultCacheAwareContextLoaderDelegate()
+					.preloadContexts(mergedConfigs, Runtime.getRuntime().availableProcessors());
+			if (logger.isDebugEnabled()) {
+				logger.debug("Preloaded %d of %d Spring test ApplicationContexts in %d ms".formatted(
+						preloaded, mergedConfigs.size(), (System.nanoTime() - startTime) / 1_000_000));
+			}
+		}
+	}
+
+	private Optional<Class<?>> getJavaClass(ClassSource classSource) {
+		try {
+			return Optional.of(classSource.getJavaClass());
+		}
+		catch (Exception ex) {
+			// ignore exception
+			return Optional.empty();
+		}
+	}
+
+	private Optional<MergedContextConfiguration> buildMergedContextConfiguration(Class<?> testClass) {
+		try {
+			return Optional.of(BootstrapUtils.resolveTestContextBootstrapper(testClass)
+					.buildMergedContextConfiguration());
+		}
+		catch (Exception ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Skipping preloading of ApplicationContext for test class [%s]: %s"
+						.formatted(testClass.getName(), ex));
+			}
+			return Optional.empty();
+		}
+	}
+
+	private static boolean isSpringTestClass(Class<?> clazz) {
+		MergedAnnotations mergedAnnotations = MergedAnnotations.from(clazz, TYPE_HIERARCHY);
+		return (mergedAnnotations.isPresent(ContextConfiguration.class) ||
+				mergedAnnotations.isPresent(ContextHierarchy.class) ||
+				mergedAnnotations.isPresent(BootstrapWith.class));
+	}
+
+}
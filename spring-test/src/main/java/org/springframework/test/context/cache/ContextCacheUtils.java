@@ -16,9 +16,16 @@
 
 package org.springframework.test.context.cache;
 
+import java.time.Duration;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
 import org.springframework.core.SpringProperties;
 import org.springframework.test.context.CacheAwareContextLoaderDelegate;
+import org.springframework.test.context.MergedContextConfiguration;
 import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Collection of utilities for working with context caching.
@@ -28,6 +35,9 @@ import org.springframework.util.StringUtils;
  */
 public abstract class ContextCacheUtils {
 
+	private static final Log statsLogger = LogFactory.getLog(ContextCache.CONTEXT_CACHE_LOGGING_CATEGORY);
+
+
 	/**
 	 * Retrieve the maximum size of the {@link ContextCache}.
 	 * <p>Uses {@link SpringProperties} to retrieve a system property or Spring
@@ -60,6 +70,65 @@ public abstract class ContextCacheUtils {
 		return retrieveProperty(propertyName, defaultValue);
 	}
 
+	/**
+	 * Retrieve the maximum estimated memory footprint of the {@link ContextCache}.
+	 * <p>Uses {@link SpringProperties} to retrieve a system property or Spring
+	 * property named {@value ContextCache#MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME},
+	 * parsed as a {@link DataSize} such as {@code 512MB}.
+	 * @return the maximum memory footprint in bytes, or {@code -1} if no such
+	 * property has been set or if the property is not a valid data size
+	 * @since 7.0
+	 * @see ContextCache#MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME
+	 */
+	public static long retrieveMaxCacheMemory() {
+		try {
+			String value = SpringProperties.getProperty(ContextCache.MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME);
+			if (StringUtils.hasText(value)) {
+				return DataSize.parse(value.trim()).toBytes();
+			}
+		}
+		catch (Exception ex) {
+			// ignore
+		}
+
+		// Fallback
+		return -1;
+	}
+
+	/**
+	 * Determine whether parallel preloading of contexts is enabled.
+	 * <p>Uses {@link SpringProperties} to check the system property or Spring
+	 * property named {@value ContextCache#CONTEXT_CACHE_PRELOAD_PROPERTY_NAME}.
+	 * @return {@code true} if context preloading is enabled
+	 * @since 7.0
+	 * @see ContextCache#CONTEXT_CACHE_PRELOAD_PROPERTY_NAME
+	 */
+	public static boolean isContextPreloadingEnabled() {
+		return SpringProperties.getFlag(ContextCache.CONTEXT_CACHE_PRELOAD_PROPERTY_NAME);
+	}
+
+	/**
+	 * Log the time it took to load the context for the given key and its
+	 * estimated memory footprint at {@code DEBUG} level, using the
+	 * {@value ContextCache#CONTEXT_CACHE_LOGGING_CATEGORY} logging category.
+	 * @param key the context key
+	 * @param loadTime the time it took to load the context
+	 * @param estimatedMemoryFootprint the estimated memory footprint in bytes,
+	 * or {@code -1} if it could not be estimated
+	 * @since 7.0
+	 */
+	static void logContextLoadStatistics(MergedContextConfiguration key, Duration loadTime,
+			long estimatedMemoryFootprint) {
+
+		if (statsLogger.isDebugEnabled()) {
+			String memoryFootprint = (estimatedMemoryFootprint >= 0 ?
+					(estimatedMemoryFootprint / 1024) + " KB" : "unknown");
+			statsLogger.debug("Spring test ApplicationContext load statistics: loadTime = %d ms, " +
+					"estimatedMemoryFootprint = %s, test class = %s, key = %s".formatted(
+							loadTime.toMillis(), memoryFootprint, key.getTestClass().getName(), key));
+		}
+	}
+
 	private static int retrieveProperty(String key, int defaultValue) {
 		try {
 			String value = SpringProperties.getProperty(key);
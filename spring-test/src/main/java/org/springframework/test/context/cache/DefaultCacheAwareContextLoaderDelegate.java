@@ -16,7 +16,16 @@
 
 package org.springframework.test.context.cache;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -61,7 +70,9 @@ import org.springframework.util.Assert;
  * <p>As of Spring Framework 7.0, this class provides support for
  * {@linkplain #registerContextUsage(MergedContextConfiguration, Class) registering} and
  * {@linkplain #unregisterContextUsage(MergedContextConfiguration, Class) unregistering}
- * context usage.
+ * context usage, records per-context load statistics via
+ * {@link ContextCache#recordContextLoad}, and supports
+ * {@linkplain #preloadContexts(Collection, int) preloading} contexts in parallel.
  *
  * @author Sam Brannen
  * @since 4.1
@@ -150,17 +161,14 @@ public class DefaultCacheAwareContextLoaderDelegate implements CacheAwareContext
 									.formatted(this.failureThreshold, mergedConfig));
 					}
 					try {
-						if (mergedConfig instanceof AotMergedContextConfiguration aotMergedConfig) {
-							context = loadContextInAotMode(aotMergedConfig);
+						ContextLoadMeasurement measurement = ContextLoadMeasurement.start();
+						try {
+							context = loadContextForCache(mergedConfig);
 						}
-						else {
-							context = loadContextInternal(mergedConfig);
+						finally {
+							measurement.stop();
 						}
-						if (logger.isTraceEnabled()) {
-							logger.trace("Storing ApplicationContext [%s] in cache under key %s".formatted(
-									System.identityHashCode(context), mergedConfig));
-						}
-						this.contextCache.put(mergedConfig, context);
+						storeContext(mergedConfig, context, measurement);
 					}
 					catch (Exception ex) {
 						if (logger.isTraceEnabled()) {
@@ -201,6 +209,106 @@ public class DefaultCacheAwareContextLoaderDelegate implements CacheAwareContext
 		}
 	}
 
+	/**
+	 * Load the contexts for the supplied merged context configurations in
+	 * parallel and store them in the {@link ContextCache}, so that subsequent
+	 * {@linkplain #loadContext(MergedContextConfiguration) lookups} result in
+	 * cache hits.
+	 * <p>Contexts that are already cached are skipped. Contexts are loaded
+	 * without holding the cache lock; if a context has been stored concurrently,
+	 * the preloaded duplicate is closed. A failure to preload a context is
+	 * logged and otherwise ignored: the context will be loaded again on demand,
+	 * reporting the failure to the test that requires it. If the cache is a
+	 * {@link DefaultContextCache}, no more contexts than its
+	 * {@linkplain DefaultContextCache#getMaxSize() maximum size} are preloaded.
+	 * <p>The memory footprint of a context is only estimated if it has been
+	 * loaded while no other context was loading, since the heap growth of
+	 * concurrent loads cannot be attributed to the individual contexts. Contexts
+	 * preloaded in parallel are therefore not charged against a maximum memory
+	 * footprint of the cache.
+	 * <p>This method blocks until all contexts have been loaded.
+	 * @param mergedConfigs the merged context configurations to preload
+	 * @param parallelism the maximum number of contexts to load concurrently
+	 * @return the number of contexts that have been preloaded
+	 * @since 7.0
+	 * @see ContextCache#CONTEXT_CACHE_PRELOAD_PROPERTY_NAME
+	 */
+	public int preloadContexts(Collection<MergedContextConfiguration> mergedConfigs, int parallelism) {
+		Assert.notNull(mergedConfigs, "MergedContextConfigurations must not be null");
+		Assert.isTrue(parallelism > 0, "'parallelism' must be positive");
+
+		Set<MergedContextConfiguration> pending = new LinkedHashSet<>();
+		int limit = (this.contextCache instanceof DefaultContextCache dcc ? dcc.getMaxSize() : Integer.MAX_VALUE);
+		synchronized (this.contextCache) {
+			for (MergedContextConfiguration mergedConfig : mergedConfigs) {
+				if (pending.size() + this.contextCache.size() >= limit) {
+					break;
+				}
+				mergedConfig = replaceIfNecessary(mergedConfig);
+				if (!this.contextCache.contains(mergedConfig)) {
+					pending.add(mergedConfig);
+				}
+			}
+		}
+		if (pending.isEmpty()) {
+			return 0;
+		}
+
+		AtomicInteger preloaded = new AtomicInteger();
+		List<Callable<Void>> tasks = new ArrayList<>(pending.size());
+		for (MergedContextConfiguration mergedConfig : pending) {
+			tasks.add(() -> {
+				if (preloadContext(mergedConfig)) {
+					preloaded.incrementAndGet();
+				}
+				return null;
+			});
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, pending.size()), runnable -> {
+			Thread thread = new Thread(runnable, "spring-test-context-preload-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			executor.invokeAll(tasks);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		return preloaded.get();
+	}
+
+	private boolean preloadContext(MergedContextConfiguration mergedConfig) {
+		ApplicationContext context;
+		ContextLoadMeasurement measurement = ContextLoadMeasurement.start();
+		try {
+			context = loadContextForCache(mergedConfig);
+		}
+		catch (Exception ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to preload ApplicationContext for %s: %s".formatted(mergedConfig, ex));
+			}
+			return false;
+		}
+		finally {
+			measurement.stop();
+		}
+		synchronized (this.contextCache) {
+			if (!this.contextCache.contains(mergedConfig)) {
+				storeContext(mergedConfig, context, measurement);
+				return true;
+			}
+		}
+		if (context instanceof ConfigurableApplicationContext cac) {
+			cac.close();
+		}
+		return false;
+	}
+
 	@Override
 	public void closeContext(MergedContextConfiguration mergedConfig, @Nullable HierarchyMode hierarchyMode) {
 		mergedConfig = replaceIfNecessary(mergedConfig);
@@ -232,6 +340,31 @@ public class DefaultCacheAwareContextLoaderDelegate implements CacheAwareContext
 		return this.contextCache;
 	}
 
+	private ApplicationContext loadContextForCache(MergedContextConfiguration mergedConfig) throws Exception {
+		if (mergedConfig instanceof AotMergedContextConfiguration aotMergedConfig) {
+			return loadContextInAotMode(aotMergedConfig);
+		}
+		return loadContextInternal(mergedConfig);
+	}
+
+	/**
+	 * Store the supplied context in the cache and record its load statistics.
+	 * <p>Must be invoked while holding the lock on the context cache.
+	 */
+	private void storeContext(MergedContextConfiguration mergedConfig, ApplicationContext context,
+			ContextLoadMeasurement measurement) {
+
+		Duration loadTime = measurement.getLoadTime();
+		long memoryFootprint = measurement.getMemoryFootprint();
+		if (logger.isTraceEnabled()) {
+			logger.trace("Storing ApplicationContext [%s] in cache under key %s".formatted(
+					System.identityHashCode(context), mergedConfig));
+		}
+		this.contextCache.put(mergedConfig, context);
+		this.contextCache.recordContextLoad(mergedConfig, loadTime, memoryFootprint);
+		ContextCacheUtils.logContextLoadStatistics(mergedConfig, loadTime, memoryFootprint);
+	}
+
 	/**
 	 * Load the {@code ApplicationContext} for the supplied merged context configuration.
 	 * <p>Supports both the {@link SmartContextLoader} and {@link ContextLoader} SPIs.
@@ -323,4 +456,75 @@ public class DefaultCacheAwareContextLoaderDelegate implements CacheAwareContext
 		return mergedConfig;
 	}
 
+
+	/**
+	 * Measurement of the load time and the heap growth while loading a context.
+	 * <p>Since the heap is shared, its growth can only be attributed to a context
+	 * if no other context has been loading at the same time. For overlapping
+	 * loads, the memory footprint is reported as {@code -1}.
+	 */
+	private static final class ContextLoadMeasurement {
+
+		private static final Object monitor = new Object();
+
+		private static int loadsInProgress;
+
+		private static long loadCount;
+
+		private final long startTime = System.nanoTime();
+
+		private final long startMemory;
+
+		private final long loadId;
+
+		private final boolean exclusive;
+
+		private Duration loadTime = Duration.ZERO;
+
+		private long memoryFootprint = -1;
+
+		private ContextLoadMeasurement(long loadId, boolean exclusive) {
+			this.startMemory = usedMemory();
+			this.loadId = loadId;
+			this.exclusive = exclusive;
+		}
+
+		static ContextLoadMeasurement start() {
+			synchronized (monitor) {
+				loadsInProgress++;
+				return new ContextLoadMeasurement(++loadCount, (loadsInProgress == 1));
+			}
+		}
+
+		void stop() {
+			this.loadTime = Duration.ofNanos(System.nanoTime() - this.startTime);
+			long endMemory = usedMemory();
+			synchronized (monitor) {
+				// Only exclusive if no other load started or was in progress in the meantime
+				if (this.exclusive && loadsInProgress == 1 && loadCount == this.loadId) {
+					this.memoryFootprint = Math.max(endMemory - this.startMemory, 0);
+				}
+				loadsInProgress--;
+			}
+		}
+
+		Duration getLoadTime() {
+			return this.loadTime;
+		}
+
+		long getMemoryFootprint() {
+			return this.memoryFootprint;
+		}
+
+		/**
+		 * Estimate the currently used heap memory. Since this includes garbage,
+		 * the difference between two values is only a rough estimate of the
+		 * memory footprint of a loaded context.
+		 */
+		private static long usedMemory() {
+			Runtime runtime = Runtime.getRuntime();
+			return (runtime.totalMemory() - runtime.freeMemory());
+		}
+	}
+
 }
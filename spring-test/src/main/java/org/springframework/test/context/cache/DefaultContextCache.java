@@ -16,6 +16,7 @@
 
 package org.springframework.test.context.cache;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -48,10 +50,19 @@ import org.springframework.util.Assert;
  * constructor argument} or set via a system property or Spring property named
  * {@value ContextCache#MAX_CONTEXT_CACHE_SIZE_PROPERTY_NAME}.
  *
+ * <p>As of 7.0, the cache may additionally be bounded by the estimated memory
+ * footprint of its contexts, {@linkplain #recordContextLoad recorded} when a
+ * context is loaded. The maximum memory footprint may be supplied as a
+ * {@linkplain #DefaultContextCache(int, long) constructor argument} or set via
+ * a system property or Spring property named
+ * {@value ContextCache#MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME}. Once exceeded,
+ * least recently used contexts are evicted until the cache fits again.
+ *
  * @author Sam Brannen
  * @author Juergen Hoeller
  * @since 2.5
  * @see ContextCacheUtils#retrieveMaxCacheSize()
+ * @see ContextCacheUtils#retrieveMaxCacheMemory()
  */
 public class DefaultContextCache implements ContextCache {
 
@@ -88,8 +99,18 @@ public class DefaultContextCache implements ContextCache {
 
 	private final AtomicInteger totalFailureCount = new AtomicInteger();
 
+	/**
+	 * Map of context keys to estimated memory footprints in bytes.
+	 * @since 7.0
+	 */
+	private final Map<MergedContextConfiguration, Long> memoryFootprints = new ConcurrentHashMap<>(32);
+
+	private final AtomicLong totalMemoryFootprint = new AtomicLong();
+
 	private final int maxSize;
 
+	private final long maxMemory;
+
 	private final AtomicInteger hitCount = new AtomicInteger();
 
 	private final AtomicInteger missCount = new AtomicInteger();
@@ -97,13 +118,16 @@ public class DefaultContextCache implements ContextCache {
 
 	/**
 	 * Create a new {@code DefaultContextCache} using the maximum cache size
-	 * obtained via {@link ContextCacheUtils#retrieveMaxCacheSize()}.
+	 * obtained via {@link ContextCacheUtils#retrieveMaxCacheSize()} and the
+	 * maximum memory footprint obtained via
+	 * {@link ContextCacheUtils#retrieveMaxCacheMemory()}.
 	 * @since 4.3
-	 * @see #DefaultContextCache(int)
+	 * @see #DefaultContextCache(int, long)
 	 * @see ContextCacheUtils#retrieveMaxCacheSize()
+	 * @see ContextCacheUtils#retrieveMaxCacheMemory()
 	 */
 	public DefaultContextCache() {
-		this(ContextCacheUtils.retrieveMaxCacheSize());
+		this(ContextCacheUtils.retrieveMaxCacheSize(), ContextCacheUtils.retrieveMaxCacheMemory());
 	}
 
 	/**
@@ -116,8 +140,24 @@ public class DefaultContextCache implements ContextCache {
 	 * @see #DefaultContextCache()
 	 */
 	public DefaultContextCache(int maxSize) {
+		this(maxSize, -1);
+	}
+
+	/**
+	 * Create a new {@code DefaultContextCache} using the supplied maximum
+	 * cache size and maximum estimated memory footprint.
+	 * @param maxSize the maximum cache size
+	 * @param maxMemory the maximum estimated memory footprint of all cached
+	 * contexts in bytes, or {@code -1} for no memory bound
+	 * @throws IllegalArgumentException if the supplied {@code maxSize} value
+	 * is not positive
+	 * @since 7.0
+	 * @see #DefaultContextCache()
+	 */
+	public DefaultContextCache(int maxSize, long maxMemory) {
 		Assert.isTrue(maxSize > 0, "'maxSize' must be positive");
 		this.maxSize = maxSize;
+		this.maxMemory = maxMemory;
 	}
 
 
@@ -254,6 +294,10 @@ public class DefaultContextCache implements ContextCache {
 		// stack as opposed to prior to the recursive call).
 		ApplicationContext context = this.contextMap.remove(key);
 		this.contextUsageMap.remove(key);
+		Long footprint = this.memoryFootprints.remove(key);
+		if (footprint != null) {
+			this.totalMemoryFootprint.addAndGet(-footprint);
+		}
 		if (context instanceof ConfigurableApplicationContext cac) {
 			cac.close();
 		}
@@ -271,6 +315,55 @@ public class DefaultContextCache implements ContextCache {
 		this.failureCounts.merge(key, 1, Integer::sum);
 	}
 
+	/**
+	 * Record the estimated memory footprint of the context for the given key
+	 * and, if a {@linkplain #getMaxMemory() maximum memory footprint} is
+	 * configured, evict least recently used contexts until the cache fits.
+	 * <p>The context for the given key as well as its ancestors are never
+	 * evicted by this method, so that a context that exceeds the maximum
+	 * memory footprint on its own can still be used by the current test.
+	 * <p>A context whose memory footprint could not be estimated is not
+	 * charged against the maximum memory footprint.
+	 * @since 7.0
+	 */
+	@Override
+	public void recordContextLoad(MergedContextConfiguration key, Duration loadTime, long estimatedMemoryFootprint) {
+		Assert.notNull(key, "Key must not be null");
+		synchronized (this.contextMap) {
+			if (!this.contextMap.containsKey(key)) {
+				return;
+			}
+			Long previous = (estimatedMemoryFootprint >= 0 ?
+					this.memoryFootprints.put(key, estimatedMemoryFootprint) : this.memoryFootprints.remove(key));
+			long footprint = Math.max(estimatedMemoryFootprint, 0);
+			this.totalMemoryFootprint.addAndGet(footprint - (previous != null ? previous : 0));
+			if (this.maxMemory >= 0 && estimatedMemoryFootprint >= 0) {
+				evictToMaxMemory(key);
+			}
+		}
+	}
+
+	private void evictToMaxMemory(MergedContextConfiguration retainedKey) {
+		Set<MergedContextConfiguration> retainedKeys = new HashSet<>();
+		for (MergedContextConfiguration mcc = retainedKey; mcc != null; mcc = mcc.getParent()) {
+			retainedKeys.add(mcc);
+		}
+		while (this.totalMemoryFootprint.get() > this.maxMemory) {
+			MergedContextConfiguration eldest = null;
+			// Iteration order of the LRU map is from least to most recently used.
+			for (MergedContextConfiguration candidate : this.contextMap.keySet()) {
+				if (!retainedKeys.contains(candidate)) {
+					eldest = candidate;
+					break;
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			remove(eldest, HierarchyMode.CURRENT_LEVEL);
+		}
+	}
+
 	@Override
 	public int size() {
 		return this.contextMap.size();
@@ -283,6 +376,24 @@ public class DefaultContextCache implements ContextCache {
 		return this.maxSize;
 	}
 
+	/**
+	 * Get the maximum estimated memory footprint of this cache in bytes,
+	 * or {@code -1} if the cache is not bounded by memory.
+	 * @since 7.0
+	 */
+	public long getMaxMemory() {
+		return this.maxMemory;
+	}
+
+	/**
+	 * Get the estimated memory footprint of all contexts in this cache in bytes.
+	 * @since 7.0
+	 * @see #recordContextLoad(MergedContextConfiguration, Duration, long)
+	 */
+	public long getMemoryFootprint() {
+		return this.totalMemoryFootprint.get();
+	}
+
 	@Override
 	public int getContextUsageCount() {
 		return this.contextUsageMap.size();
@@ -319,6 +430,8 @@ public class DefaultContextCache implements ContextCache {
 			this.contextMap.clear();
 			this.hierarchyMap.clear();
 			this.contextUsageMap.clear();
+			this.memoryFootprints.clear();
+			this.totalMemoryFootprint.set(0);
 		}
 	}
 
@@ -349,6 +462,8 @@ public class DefaultContextCache implements ContextCache {
 		return new ToStringCreator(this)
 				.append("size", size())
 				.append("maxSize", getMaxSize())
+				.append("memoryFootprint", getMemoryFootprint())
+				.append("maxMemory", getMaxMemory())
 				.append("contextUsageCount", getContextUsageCount())
 				.append("parentContextCount", getParentContextCount())
 				.append("hitCount", getHitCount())
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.test.context.cache;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.SpringProperties;
+import org.springframework.test.context.BootstrapUtils;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.springframework.test.context.cache.ContextCache.CONTEXT_CACHE_PRELOAD_PROPERTY_NAME;
+import static org.springframework.test.context.cache.ContextCacheTestUtils.assertContextCacheStatistics;
+import static org.springframework.test.context.cache.ContextCacheTestUtils.resetContextCache;
+
+/**
+ * Tests for preloading contexts via
+ * {@link DefaultCacheAwareContextLoaderDelegate#preloadContexts} and the
+ * {@link ContextCachePreloadingListener}.
+ *
+ * @since 7.0
+ */
+class ContextCachePreloadingTests {
+
+	private static final AtomicInteger fooLoadCount = new AtomicInteger();
+
+	private static final AtomicInteger barLoadCount = new AtomicInteger();
+
+	private static volatile CyclicBarrier loadBarrier;
+
+	private final MergedContextConfiguration fooConfig = mergedConfig(FooTestCase.class);
+
+	private final MergedContextConfiguration barConfig = mergedConfig(BarTestCase.class);
+
+
+	@BeforeEach
+	@AfterEach
+	void resetTestFixtures() {
+		resetContextCache();
+		fooLoadCount.set(0);
+		barLoadCount.set(0);
+		loadBarrier = null;
+		SpringProperties.setProperty(CONTEXT_CACHE_PRELOAD_PROPERTY_NAME, null);
+	}
+
+
+	@Test
+	void preloadContexts() {
+		DefaultContextCache contextCache = new DefaultContextCache();
+		DefaultCacheAwareContextLoaderDelegate delegate = new DefaultCacheAwareContextLoaderDelegate(contextCache);
+
+		assertThat(delegate.preloadContexts(List.of(this.fooConfig, this.barConfig, this.fooConfig), 2)).isEqualTo(2);
+		assertThat(contextCache.size()).isEqualTo(2);
+		assertThat(fooLoadCount).hasValue(1);
+		assertThat(barLoadCount).hasValue(1);
+
+		ApplicationContext fooContext = delegate.loadContext(this.fooConfig);
+		assertThat(fooContext.getBean(String.class)).isEqualTo("foo");
+		assertThat(contextCache.getHitCount()).isEqualTo(1);
+		assertThat(contextCache.getMissCount()).isZero();
+
+		// Already cached contexts are skipped
+		assertThat(delegate.preloadContexts(List.of(this.fooConfig, this.barConfig), 2)).isZero();
+		assertThat(fooLoadCount).hasValue(1);
+		assertThat(barLoadCount).hasValue(1);
+		closeContexts(delegate);
+	}
+
+	@Test
+	void preloadContextsUpToMaxCacheSize() {
+		DefaultContextCache contextCache = new DefaultContextCache(1);
+		DefaultCacheAwareContextLoaderDelegate delegate = new DefaultCacheAwareContextLoaderDelegate(contextCache);
+
+		assertThat(delegate.preloadContexts(List.of(this.fooConfig, this.barConfig), 2)).isEqualTo(1);
+		assertThat(delegate.isContextLoaded(this.fooConfig)).isTrue();
+		assertThat(delegate.isContextLoaded(this.barConfig)).isFalse();
+		assertThat(barLoadCount).hasValue(0);
+		closeContexts(delegate);
+	}
+
+	@Test
+	void preloadContextsWithFailingContext() {
+		DefaultContextCache contextCache = new DefaultContextCache();
+		DefaultCacheAwareContextLoaderDelegate delegate = new DefaultCacheAwareContextLoaderDelegate(contextCache);
+		MergedContextConfiguration failingConfig = mergedConfig(FailingTestCase.class);
+
+		assertThat(delegate.preloadContexts(List.of(failingConfig, this.fooConfig), 2)).isEqualTo(1);
+		assertThat(delegate.isContextLoaded(this.fooConfig)).isTrue();
+		assertThat(delegate.isContextLoaded(failingConfig)).isFalse();
+
+		// The failure is reported to the test that requires the context
+		assertThatIllegalStateException().isThrownBy(() -> delegate.loadContext(failingConfig))
+				.withMessageStartingWith("Failed to load ApplicationContext");
+		closeContexts(delegate);
+	}
+
+	@Test
+	void preloadContextsInParallelDoesNotChargeMemoryFootprint() {
+		DefaultContextCache contextCache = new DefaultContextCache(32, 0);
+		DefaultCacheAwareContextLoaderDelegate delegate = new DefaultCacheAwareContextLoaderDelegate(contextCache);
+		// Both contexts are guaranteed to be loading at the same time
+		loadBarrier = new CyclicBarrier(2);
+
+		assertThat(delegate.preloadContexts(List.of(this.fooConfig, this.barConfig), 2)).isEqualTo(2);
+		assertThat(contextCache.size()).isEqualTo(2);
+		assertThat(contextCache.getMemoryFootprint()).isZero();
+		closeContexts(delegate);
+	}
+
+	@Test
+	void preloadingListenerRegisteredViaServiceLoader() {
+		assertThat(ServiceLoader.load(TestExecutionListener.class))
+				.hasAtLeastOneElementOfType(ContextCachePreloadingListener.class);
+	}
+
+	@Test
+	void preloadingListenerDisabledByDefault() {
+		new ContextCachePreloadingListener().testPlanExecutionStarted(discoverTestPlan());
+
+		assertContextCacheStatistics(0, 0, 0);
+		assertThat(fooLoadCount).hasValue(0);
+		assertThat(barLoadCount).hasValue(0);
+	}
+
+	@Test
+	void preloadingListenerPreloadsContextsOfTestPlan() {
+		SpringProperties.setProperty(CONTEXT_CACHE_PRELOAD_PROPERTY_NAME, "true");
+
+		new ContextCachePreloadingListener().testPlanExecutionStarted(discoverTestPlan());
+		assertContextCacheStatistics(2, 0, 0);
+		assertThat(fooLoadCount).hasValue(1);
+		assertThat(barLoadCount).hasValue(1);
+
+		EngineTestKit.engine("junit-jupiter")
+				.selectors(selectClass(FooTestCase.class), selectClass(BarTestCase.class))
+				.execute()
+				.testEvents()
+				.assertStatistics(stats -> stats.started(2).succeeded(2));
+		assertContextCacheStatistics(2, 2, 0);
+		assertThat(fooLoadCount).hasValue(1);
+		assertThat(barLoadCount).hasValue(1);
+		closeContexts(new DefaultCacheAwareContextLoaderDelegate());
+	}
+
+
+	private void closeContexts(DefaultCacheAwareContextLoaderDelegate delegate) {
+		delegate.closeContext(this.fooConfig, null);
+		delegate.closeContext(this.barConfig, null);
+	}
+
+	private static TestPlan discoverTestPlan() {
+		return LauncherFactory.create().discover(LauncherDiscoveryRequestBuilder.request()
+				.selectors(selectClass(FooTestCase.class), selectClass(BarTestCase.class))
+				.build());
+	}
+
+	private static MergedContextConfiguration mergedConfig(Class<?> testClass) {
+		return BootstrapUtils.resolveTestContextBootstrapper(testClass).buildMergedContextConfiguration();
+	}
+
+	private static void awaitLoadBarrier() {
+		CyclicBarrier barrier = loadBarrier;
+		if (barrier != null) {
+			try {
+				barrier.await(10, TimeUnit.SECONDS);
+			}
+			catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		}
+	}
+
+
+	@TestExecutionListeners(DependencyInjectionTestExecutionListener.class)
+	abstract static class BaseTestCase {
+
+		@Test
+		void test() {}
+	}
+
+	@SpringJUnitConfig(FooConfig.class)
+	static class FooTestCase extends BaseTestCase {
+	}
+
+	@SpringJUnitConfig(BarConfig.class)
+	static class BarTestCase extends BaseTestCase {
+	}
+
+	@SpringJUnitConfig(FailingConfig.class)
+	static class FailingTestCase extends BaseTestCase {
+	}
+
+	@Configuration
+	static class FooConfig {
+
+		FooConfig() {
+			fooLoadCount.incrementAndGet();
+			awaitLoadBarrier();
+		}
+
+		@Bean
+		String foo() {
+			return "foo";
+		}
+	}
+
+	@Configuration
+	static class BarConfig {
+
+		BarConfig() {
+			barLoadCount.incrementAndGet();
+			awaitLoadBarrier();
+		}
+
+		@Bean
+		Integer bar() {
+			return 42;
+		}
+	}
+
+	@Configuration
+	static class FailingConfig {
+
+		@Bean
+		String explosiveString() {
+			throw new RuntimeException("Boom!");
+		}
+	}
+
+}
@@ -23,8 +23,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.core.SpringProperties;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.cache.ContextCache.CONTEXT_CACHE_PRELOAD_PROPERTY_NAME;
 import static org.springframework.test.context.cache.ContextCache.DEFAULT_MAX_CONTEXT_CACHE_SIZE;
+import static org.springframework.test.context.cache.ContextCache.MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME;
 import static org.springframework.test.context.cache.ContextCache.MAX_CONTEXT_CACHE_SIZE_PROPERTY_NAME;
+import static org.springframework.test.context.cache.ContextCacheUtils.isContextPreloadingEnabled;
+import static org.springframework.test.context.cache.ContextCacheUtils.retrieveMaxCacheMemory;
 import static org.springframework.test.context.cache.ContextCacheUtils.retrieveMaxCacheSize;
 
 /**
@@ -40,6 +44,9 @@ class ContextCacheUtilsTests {
 	void clearProperties() {
 		System.clearProperty(MAX_CONTEXT_CACHE_SIZE_PROPERTY_NAME);
 		SpringProperties.setProperty(MAX_CONTEXT_CACHE_SIZE_PROPERTY_NAME, null);
+		System.clearProperty(MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME);
+		SpringProperties.setProperty(MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME, null);
+		SpringProperties.setProperty(CONTEXT_CACHE_PRELOAD_PROPERTY_NAME, null);
 	}
 
 	@Test
@@ -83,6 +90,36 @@ class ContextCacheUtilsTests {
 		assertThat(retrieveMaxCacheSize()).isEqualTo(99);
 	}
 
+	@Test
+	void retrieveMaxCacheMemoryFromDefault() {
+		assertThat(retrieveMaxCacheMemory()).isEqualTo(-1);
+	}
+
+	@Test
+	void retrieveMaxCacheMemoryFromBogusSpringProperty() {
+		SpringProperties.setProperty(MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME, "bogus");
+		assertThat(retrieveMaxCacheMemory()).isEqualTo(-1);
+	}
+
+	@Test
+	void retrieveMaxCacheMemoryFromSystemProperty() {
+		System.setProperty(MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME, "512MB");
+		assertThat(retrieveMaxCacheMemory()).isEqualTo(512L * 1024 * 1024);
+	}
+
+	@Test
+	void retrieveMaxCacheMemoryFromSpringPropertyWithoutUnit() {
+		SpringProperties.setProperty(MAX_CONTEXT_CACHE_MEMORY_PROPERTY_NAME, " 2048 ");
+		assertThat(retrieveMaxCacheMemory()).isEqualTo(2048);
+	}
+
+	@Test
+	void contextPreloadingEnabled() {
+		assertThat(isContextPreloadingEnabled()).isFalse();
+		SpringProperties.setProperty(CONTEXT_CACHE_PRELOAD_PROPERTY_NAME, "true");
+		assertThat(isContextPreloadingEnabled()).isTrue();
+	}
+
 	private static void assertDefaultValue() {
 		assertThat(retrieveMaxCacheSize()).isEqualTo(DEFAULT_MAX_CONTEXT_CACHE_SIZE);
 	}
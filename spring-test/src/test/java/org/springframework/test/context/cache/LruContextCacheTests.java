@@ -16,6 +16,7 @@
 
 package org.springframework.test.context.cache;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.annotation.DirtiesContext.HierarchyMode;
 import org.springframework.test.context.MergedContextConfiguration;
 
 import static org.assertj.core.api.Assertions.as;
@@ -150,6 +152,61 @@ class LruContextCacheTests {
 		verify(bazContext, never()).close();
 	}
 
+	@Test
+	void maxMemoryEvictsLeastRecentlyUsedContexts() {
+		DefaultContextCache cache = new DefaultContextCache(10, 100);
+		assertThat(cache.getMaxMemory()).isEqualTo(100);
+
+		putAndRecord(cache, fooConfig, fooContext, 40);
+		putAndRecord(cache, barConfig, barContext, 40);
+		cache.get(fooConfig);
+		assertCacheContents(cache, "Bar", "Foo");
+		assertThat(cache.getMemoryFootprint()).isEqualTo(80);
+
+		putAndRecord(cache, bazConfig, bazContext, 30);
+		assertCacheContents(cache, "Foo", "Baz");
+		assertThat(cache.getMemoryFootprint()).isEqualTo(70);
+		verify(barContext, times(1)).close();
+		verify(fooContext, never()).close();
+	}
+
+	@Test
+	void maxMemoryRetainsContextExceedingLimitOnItsOwn() {
+		DefaultContextCache cache = new DefaultContextCache(10, 100);
+
+		putAndRecord(cache, fooConfig, fooContext, 40);
+		putAndRecord(cache, barConfig, barContext, 150);
+		assertCacheContents(cache, "Bar");
+		assertThat(cache.getMemoryFootprint()).isEqualTo(150);
+		verify(fooContext, times(1)).close();
+		verify(barContext, never()).close();
+	}
+
+	@Test
+	void memoryFootprintIsReleasedForRemovedContexts() {
+		DefaultContextCache cache = new DefaultContextCache(1);
+		assertThat(cache.getMaxMemory()).isEqualTo(-1);
+
+		putAndRecord(cache, fooConfig, fooContext, 40);
+		putAndRecord(cache, barConfig, barContext, 50);
+		assertCacheContents(cache, "Bar");
+		assertThat(cache.getMemoryFootprint()).isEqualTo(50);
+
+		cache.remove(barConfig, HierarchyMode.CURRENT_LEVEL);
+		assertThat(cache.getMemoryFootprint()).isZero();
+
+		putAndRecord(cache, bazConfig, bazContext, 60);
+		cache.clear();
+		assertThat(cache.getMemoryFootprint()).isZero();
+	}
+
+
+	private static void putAndRecord(DefaultContextCache cache, MergedContextConfiguration key,
+			ApplicationContext context, long memoryFootprint) {
+
+		cache.put(key, context);
+		cache.recordContextLoad(key, Duration.ofMillis(10), memoryFootprint);
+	}
 
 	private static MergedContextConfiguration config(Class<?> clazz) {
 		return new MergedContextConfiguration(null, null, new Class<?>[] { clazz }, null, null);
@@ -35,6 +35,7 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventBatch;
 import org.springframework.context.event.EventListener;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.core.annotation.Order;
@@ -182,6 +183,34 @@ class TransactionalEventListenerTests {
 		getEventCollector().assertTotalEventsCount(1); // After commit not invoked
 	}
 
+	@Test
+	void afterCommitAndAfterRollbackWithBatchingListener() {
+		load(BatchingTestListener.class);
+		this.transactionTemplate.execute(status -> {
+			getContext().publishEvent("a");
+			getContext().publishEvent("b");
+			getContext().publishEvent("c");
+			getEventCollector().assertNoEventReceived();
+			return null;
+		});
+		getEventCollector().assertEvents(EventCollector.AFTER_COMMIT, List.of("a", "b"));
+		getEventCollector().assertTotalEventsCount(1);
+
+		this.transactionTemplate.execute(status -> {
+			getContext().publishEvent("d");
+			getContext().publishEvent("e");
+			status.setRollbackOnly();
+			return null;
+		});
+		getEventCollector().assertEvents(EventCollector.AFTER_COMMIT, List.of("a", "b"));
+		getEventCollector().assertEvents(EventCollector.AFTER_ROLLBACK, List.of("d", "e"));
+		getEventCollector().assertTotalEventsCount(2);
+
+		this.context.close();
+		getEventCollector().assertEvents(EventCollector.AFTER_COMMIT, List.of("a", "b"), List.of("c"));
+		getEventCollector().assertTotalEventsCount(3);
+	}
+
 	@Test
 	void afterRollbackWithCustomExecutor() {
 		load(AfterCompletionExplicitTestListener.class, MulticasterWithCustomExecutor.class);
@@ -585,6 +614,26 @@ class TransactionalEventListenerTests {
 	}
 
 
+	@Component
+	static class BatchingTestListener {
+
+		@Autowired
+		private EventCollector eventCollector;
+
+		@TransactionalEventListener(phase = AFTER_COMMIT)
+		@EventBatch(maxSize = 2, maxDelay = 60000)
+		public void handleAfterCommit(List<String> data) {
+			this.eventCollector.addEvent(EventCollector.AFTER_COMMIT, data);
+		}
+
+		@TransactionalEventListener(phase = AFTER_ROLLBACK)
+		@EventBatch(maxSize = 2, maxDelay = 60000)
+		public void handleAfterRollback(List<String> data) {
+			this.eventCollector.addEvent(EventCollector.AFTER_ROLLBACK, data);
+		}
+	}
+
+
 	@Transactional
 	@Component
 	interface TransactionalComponentTestListenerInterface {
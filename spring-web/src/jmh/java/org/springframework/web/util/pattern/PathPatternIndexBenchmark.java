@@ -0,0 +1,99 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.http.server.PathContainer;
+
+/**
+ * Benchmarks for finding the patterns that match request paths, either by
+ * matching each pattern in turn, or by first narrowing down the candidates
+ * through a {@link PathPatternIndex}.
+ * @see PathMatchingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+public class PathPatternIndexBenchmark {
+
+	@State(Scope.Benchmark)
+	public static class RoutesData {
+
+		@Param({"100", "2000"})
+		public int resourceCount;
+
+		List<PathPattern> patterns = new ArrayList<>();
+
+		PathPatternIndex<PathPattern> index = new PathPatternIndex<>();
+
+		List<PathContainer> requestPaths = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			PathPatternParser parser = new PathPatternParser();
+			List<PathMatchingBenchmark.Route> routes = new ArrayList<>(PathMatchingBenchmark.RouteGenerator.allRoutes());
+			for (int i = 0; i < this.resourceCount; i++) {
+				String resource = "/api/resource" + i;
+				routes.add(new PathMatchingBenchmark.Route(resource + "/{id}", resource + "/42", resource + "/abc"));
+				routes.add(new PathMatchingBenchmark.Route(resource + "/{id}/items/{itemId}", resource + "/42/items/7"));
+			}
+			for (PathMatchingBenchmark.Route route : routes) {
+				PathPattern pattern = parser.parse(route.pattern());
+				this.patterns.add(pattern);
+				this.index.add(pattern, pattern);
+				route.matchingPaths().forEach(path -> this.requestPaths.add(PathContainer.parsePath(path)));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchAllPatterns(RoutesData data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.patterns) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			bh.consume(matches);
+		}
+	}
+
+	@Benchmark
+	public void matchIndexedCandidates(RoutesData data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.index.getCandidates(path)) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			bh.consume(matches);
+		}
+	}
+
+}
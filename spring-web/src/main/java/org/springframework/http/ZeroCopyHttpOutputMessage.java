@@ -17,10 +17,19 @@
 package org.springframework.http;
 
 import java.io.File;
+import java.nio.channels.AsynchronousFileChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+
 /**
  * Sub-interface of {@code ReactiveOutputMessage} that has support for "zero-copy"
  * file transfers.
@@ -55,4 +64,58 @@ public interface ZeroCopyHttpOutputMessage extends ReactiveHttpOutputMessage {
 	 */
 	Mono<Void> writeWith(Path file, long position, long count);
 
+	/**
+	 * Write the body of the message as the given sequence of {@link DataBuffer}
+	 * and {@link FileSegment} instances, in order, transferring file segments
+	 * to the underlying HTTP layer without copying them through user space
+	 * where supported. This is useful for bodies that interleave file content
+	 * with other content such as {@code multipart/byteranges} responses.
+	 * <p>The default implementation reads file segments into data buffers,
+	 * and writes all data buffers through {@link #writeWith(org.reactivestreams.Publisher)}.
+	 * @param segments the data buffers and file segments to write
+	 * @return a publisher that indicates completion or error.
+	 * @since 7.0
+	 */
+	default Mono<Void> writeWithSegments(List<?> segments) {
+		for (Object segment : segments) {
+			if (!(segment instanceof DataBuffer || segment instanceof FileSegment)) {
+				for (Object candidate : segments) {
+					if (candidate instanceof DataBuffer buffer) {
+						DataBufferUtils.release(buffer);
+					}
+				}
+				return Mono.error(new IllegalArgumentException(
+						"Unsupported segment type: " + segment.getClass().getName()));
+			}
+		}
+		Flux<DataBuffer> body = Flux.fromIterable(segments).concatMap(segment -> {
+			if (segment instanceof FileSegment fileSegment) {
+				Flux<DataBuffer> content = DataBufferUtils.readAsynchronousFileChannel(
+						() -> AsynchronousFileChannel.open(fileSegment.file(), StandardOpenOption.READ),
+						fileSegment.position(), bufferFactory(), StreamUtils.BUFFER_SIZE);
+				return DataBufferUtils.takeUntilByteCount(content, fileSegment.count());
+			}
+			return Mono.just((DataBuffer) segment);
+		});
+		return writeWith(body);
+	}
+
+
+	/**
+	 * A region of a file to write as part of
+	 * {@link #writeWithSegments(List) a sequence of segments}.
+	 * @param file the file to transfer
+	 * @param position the position within the file from which the transfer is to begin
+	 * @param count the number of bytes to be transferred
+	 * @since 7.0
+	 */
+	record FileSegment(Path file, long position, long count) {
+
+		public FileSegment {
+			Assert.notNull(file, "File must not be null");
+			Assert.isTrue(position >= 0, "Position must not be negative");
+			Assert.isTrue(count >= 0, "Count must not be negative");
+		}
+	}
+
 }
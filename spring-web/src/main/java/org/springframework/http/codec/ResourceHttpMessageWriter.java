@@ -18,6 +18,9 @@ package org.springframework.http.codec;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -255,6 +258,10 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 				MediaType multipartType = MediaType.parseMediaType("multipart/byteranges;boundary=" + boundary);
 				headers.setContentType(multipartType);
 				Map<String, Object> allHints = Hints.merge(hints, ResourceRegionEncoder.BOUNDARY_STRING_HINT, boundary);
+				Mono<Void> result = zeroCopyRegions(regions, resourceMediaType, boundary, response, allHints);
+				if (result != null) {
+					return result;
+				}
 				return encodeAndWriteRegions(Flux.fromIterable(regions), resourceMediaType, response, allHints);
 			}
 		});
@@ -274,6 +281,48 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 		}
 	}
 
+	/**
+	 * Write multiple regions of a file-based resource as a multipart body,
+	 * with the regions themselves transferred as zero-copy file segments.
+	 */
+	private static @Nullable Mono<Void> zeroCopyRegions(List<ResourceRegion> regions, MediaType mediaType,
+			String boundary, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
+
+		Resource resource = regions.get(0).getResource();
+		if (message instanceof ZeroCopyHttpOutputMessage zeroCopyHttpOutputMessage && resource.isFile()) {
+			try {
+				Path file = resource.getFile().toPath();
+				long resourceLength = resource.contentLength();
+				DataBufferFactory bufferFactory = message.bufferFactory();
+				List<Object> segments = new ArrayList<>(regions.size() * 2 + 1);
+				long contentLength = 0;
+				for (ResourceRegion region : regions) {
+					long start = region.getPosition();
+					long end = start + region.getCount() - 1;
+					byte[] partHeaders = ("\r\n--" + boundary + "\r\nContent-Type: " + mediaType + "\r\n" +
+							"Content-Range: bytes " + start + '-' + end + '/' + resourceLength + "\r\n\r\n")
+							.getBytes(StandardCharsets.US_ASCII);
+					segments.add(bufferFactory.wrap(partHeaders));
+					segments.add(new ZeroCopyHttpOutputMessage.FileSegment(file, start, region.getCount()));
+					contentLength += partHeaders.length + region.getCount();
+				}
+				byte[] endBoundary = ("\r\n--" + boundary + "--").getBytes(StandardCharsets.US_ASCII);
+				segments.add(bufferFactory.wrap(endBoundary));
+				contentLength += endBoundary.length;
+				message.getHeaders().setContentLength(contentLength);
+				if (logger.isDebugEnabled()) {
+					logger.debug(Hints.getLogPrefix(hints) + "Zero-copy " + regions.size() +
+							" regions of [" + resource + "]");
+				}
+				return zeroCopyHttpOutputMessage.writeWithSegments(segments);
+			}
+			catch (IOException ex) {
+				// should not happen
+			}
+		}
+		return null;
+	}
+
 	private Mono<Void> encodeAndWriteRegions(Publisher<? extends ResourceRegion> publisher,
 			@Nullable MediaType mediaType, ReactiveHttpOutputMessage message, Map<String, Object> hints) {
 
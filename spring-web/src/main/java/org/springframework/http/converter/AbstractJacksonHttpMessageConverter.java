@@ -27,12 +27,17 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import org.jspecify.annotations.Nullable;
@@ -44,6 +49,7 @@ import tools.jackson.core.util.DefaultIndenter;
 import tools.jackson.core.util.DefaultPrettyPrinter;
 import tools.jackson.databind.JacksonModule;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
@@ -80,6 +86,11 @@ import org.springframework.util.TypeUtils;
  *         key and the filter provider class name as value.</li>
  * </ul>
  *
+ * <p>Reading a {@link Stream Stream&lt;T&gt;} decodes the elements of a top-level
+ * JSON array one at a time as the stream is consumed, rather than buffering
+ * the whole array, so that arbitrarily large arrays can be processed with
+ * bounded memory. The input must remain open until the stream is consumed.
+ *
  * @author Sebastien Deleuze
  * @since 7.0
  * @see JacksonJsonHttpMessageConverter
@@ -317,8 +328,12 @@ public abstract class AbstractJacksonHttpMessageConverter extends AbstractSmartH
 			throws IOException, HttpMessageNotReadableException {
 
 		Class<?> contextClass = (type.getSource() instanceof MethodParameter parameter ? parameter.getContainingClass() : null);
+		if (Stream.class == type.toClass()) {
+			JavaType elementType = getJavaType(type.as(Stream.class).getGeneric().getType(), contextClass);
+			return readJavaType(elementType, inputMessage, hints, true);
+		}
 		JavaType javaType = getJavaType(type.getType(), contextClass);
-		return readJavaType(javaType, inputMessage, hints);
+		return readJavaType(javaType, inputMessage, hints, false);
 	}
 
 	@Override
@@ -326,11 +341,13 @@ public abstract class AbstractJacksonHttpMessageConverter extends AbstractSmartH
 			throws IOException, HttpMessageNotReadableException {
 
 		JavaType javaType = getJavaType(clazz, null);
-		return readJavaType(javaType, inputMessage, null);
+		return readJavaType(javaType, inputMessage, null, false);
 	}
 
 	@SuppressWarnings("removal")
-	private Object readJavaType(JavaType javaType, HttpInputMessage inputMessage, @Nullable Map<String, Object> hints) throws IOException {
+	private Object readJavaType(JavaType javaType, HttpInputMessage inputMessage,
+			@Nullable Map<String, Object> hints, boolean stream) throws IOException {
+
 		MediaType contentType = inputMessage.getHeaders().getContentType();
 		Charset charset = getCharset(contentType);
 
@@ -350,6 +367,12 @@ public abstract class AbstractJacksonHttpMessageConverter extends AbstractSmartH
 				objectReader = objectReader.withView((Class<?>) hints.get(JSON_VIEW_HINT));
 			}
 			objectReader = customizeReader(objectReader, javaType);
+			if (stream) {
+				MappingIterator<Object> iterator = (isUnicode ? objectReader.readValues(inputStream) :
+						objectReader.readValues(new InputStreamReader(inputStream, charset)));
+				return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+						new JsonValueIterator(iterator, inputMessage), Spliterator.ORDERED), false);
+			}
 			if (isUnicode) {
 				return objectReader.readValue(inputStream);
 			}
@@ -358,14 +381,18 @@ public abstract class AbstractJacksonHttpMessageConverter extends AbstractSmartH
 				return objectReader.readValue(reader);
 			}
 		}
-		catch (InvalidDefinitionException ex) {
-			throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
-		}
 		catch (JacksonException ex) {
-			throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+			throw readException(ex, inputMessage);
 		}
 	}
 
+	private static RuntimeException readException(JacksonException ex, HttpInputMessage inputMessage) {
+		if (ex instanceof InvalidDefinitionException ide) {
+			return new HttpMessageConversionException("Type definition error: " + ide.getType(), ex);
+		}
+		return new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, inputMessage);
+	}
+
 	/**
 	 * Subclasses can use this method to customize the {@link ObjectReader} used
 	 * for reading values.
@@ -509,4 +536,42 @@ public abstract class AbstractJacksonHttpMessageConverter extends AbstractSmartH
 		return true;
 	}
 
+
+	/**
+	 * Iterator over the values of a JSON array, or of consecutive root-level
+	 * JSON values, that reads one value at a time and translates Jackson
+	 * exceptions like a regular read.
+	 */
+	private static final class JsonValueIterator implements Iterator<Object> {
+
+		private final MappingIterator<Object> delegate;
+
+		private final HttpInputMessage inputMessage;
+
+		JsonValueIterator(MappingIterator<Object> delegate, HttpInputMessage inputMessage) {
+			this.delegate = delegate;
+			this.inputMessage = inputMessage;
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				return this.delegate.hasNextValue();
+			}
+			catch (JacksonException ex) {
+				throw readException(ex, this.inputMessage);
+			}
+		}
+
+		@Override
+		public Object next() {
+			try {
+				return this.delegate.nextValue();
+			}
+			catch (JacksonException ex) {
+				throw readException(ex, this.inputMessage);
+			}
+		}
+	}
+
 }
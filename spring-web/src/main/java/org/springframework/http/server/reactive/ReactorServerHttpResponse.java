@@ -17,6 +17,7 @@
 package org.springframework.http.server.reactive;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 
 import io.netty.buffer.ByteBuf;
@@ -29,6 +30,7 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.ChannelOperationsId;
+import reactor.netty.NettyOutbound;
 import reactor.netty.http.server.HttpServerResponse;
 
 import org.springframework.core.io.buffer.DataBuffer;
@@ -127,6 +129,28 @@ class ReactorServerHttpResponse extends AbstractServerHttpResponse implements Ze
 		return doCommit(() -> this.response.sendFile(file, position, count).then());
 	}
 
+	@Override
+	public Mono<Void> writeWithSegments(List<?> segments) {
+		for (Object segment : segments) {
+			if (!(segment instanceof DataBuffer || segment instanceof FileSegment)) {
+				// Let the default implementation reject the segments
+				return ZeroCopyHttpOutputMessage.super.writeWithSegments(segments);
+			}
+		}
+		return doCommit(() -> {
+			NettyOutbound outbound = this.response;
+			for (Object segment : segments) {
+				if (segment instanceof FileSegment fileSegment) {
+					outbound = outbound.sendFile(fileSegment.file(), fileSegment.position(), fileSegment.count());
+				}
+				else {
+					outbound = outbound.send(Mono.just(NettyDataBufferFactory.toByteBuf((DataBuffer) segment)));
+				}
+			}
+			return outbound.then();
+		});
+	}
+
 	private Publisher<ByteBuf> toByteBufs(Publisher<? extends DataBuffer> dataBuffers) {
 		return dataBuffers instanceof Mono ?
 				Mono.from(dataBuffers).map(NettyDataBufferFactory::toByteBuf) :
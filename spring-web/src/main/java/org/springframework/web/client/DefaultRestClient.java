@@ -33,6 +33,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
@@ -816,6 +817,39 @@ final class DefaultRestClient implements RestClient {
 			return executeAndExtract((request, response) -> readBody(request, response, type, bodyClass, this.hints));
 		}
 
+		@Override
+		public <T> Stream<T> bodyStream(Class<T> elementType) {
+			return bodyStreamInternal(elementType);
+		}
+
+		@Override
+		public <T> Stream<T> bodyStream(ParameterizedTypeReference<T> elementType) {
+			return bodyStreamInternal(elementType.getType());
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> Stream<T> bodyStreamInternal(Type elementType) {
+			Type streamType = ResolvableType.forClassWithGenerics(Stream.class, ResolvableType.forType(elementType)).getType();
+			Class<Stream<T>> streamClass = (Class<Stream<T>>) (Class<?>) Stream.class;
+			Stream<T> stream = executeAndExtract((request, response) -> {
+				// The response is closed along with the stream, once the elements have been consumed
+				try {
+					Stream<T> body = readBody(request, response, streamType, streamClass, this.hints);
+					if (body == null) {
+						response.close();
+						return Stream.empty();
+					}
+					return body.onClose(response::close);
+				}
+				catch (Throwable ex) {
+					response.close();
+					throw ex;
+				}
+			}, false);
+			Assert.state(stream != null, "No Stream");
+			return stream;
+		}
+
 		@Override
 		public <T> ResponseEntity<T> toEntity(Class<T> bodyType) {
 			return toEntityInternal(bodyType, bodyType);
@@ -886,6 +920,12 @@ final class DefaultRestClient implements RestClient {
 			return this.requestHeadersSpec.exchange(exchangeFunction);
 		}
 
+		private <T extends @Nullable Object> T executeAndExtract(
+				RequestHeadersSpec.ExchangeFunction<T> exchangeFunction, boolean close) {
+
+			return this.requestHeadersSpec.exchange(exchangeFunction, close);
+		}
+
 		private <T> @Nullable T readBody(HttpRequest request, ClientHttpResponse response, Type bodyType, Class<T> bodyClass, @Nullable Map<String, Object> hints) {
 			return DefaultRestClient.this.readWithMessageConverters(
 					response, () -> applyStatusHandlers(request, response), bodyType, bodyClass, hints);
@@ -27,6 +27,7 @@ import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import io.micrometer.observation.ObservationRegistry;
 import org.jspecify.annotations.NonNull;
@@ -1013,6 +1014,45 @@ public interface RestClient {
 		 */
 		<T> @Nullable T body(ParameterizedTypeReference<T> bodyType);
 
+		/**
+		 * Extract the body as a {@link Stream} of elements of the given type,
+		 * decoding one element at a time as the stream is consumed. For JSON,
+		 * this reads the elements of a top-level array without buffering the
+		 * whole array, provided that a message converter supports reading a
+		 * {@code Stream}, such as the Jackson JSON converter does.
+		 * <p>The response is kept open until the stream is closed, so the
+		 * returned stream should be consumed within a try-with-resources block.
+		 * Errors while decoding elements are raised from the stream operations
+		 * as {@link org.springframework.http.converter.HttpMessageNotReadableException
+		 * HttpMessageNotReadableException}.
+		 * @param elementType the type of stream elements
+		 * @param <T> the element type
+		 * @return the stream of elements, empty if no response body was available
+		 * @throws RestClientResponseException by default when receiving a
+		 * response with a status code of 4xx or 5xx. Use
+		 * {@link #onStatus(Predicate, ErrorHandler)} to customize error response
+		 * handling.
+		 * @since 7.0
+		 */
+		<T> Stream<T> bodyStream(Class<T> elementType);
+
+		/**
+		 * Extract the body as a {@link Stream} of elements of the given type,
+		 * decoding one element at a time as the stream is consumed.
+		 * <p>The response is kept open until the stream is closed, so the
+		 * returned stream should be consumed within a try-with-resources block.
+		 * @param elementType the type of stream elements
+		 * @param <T> the element type
+		 * @return the stream of elements, empty if no response body was available
+		 * @throws RestClientResponseException by default when receiving a
+		 * response with a status code of 4xx or 5xx. Use
+		 * {@link #onStatus(Predicate, ErrorHandler)} to customize error response
+		 * handling.
+		 * @since 7.0
+		 * @see #bodyStream(Class)
+		 */
+		<T> Stream<T> bodyStream(ParameterizedTypeReference<T> elementType);
+
 		/**
 		 * Return a {@code ResponseEntity} with the body decoded to an Object of
 		 * the given type.
@@ -0,0 +1,849 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.server.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.core.serializer.DefaultDeserializer;
+import org.springframework.core.serializer.DefaultSerializer;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.JdkIdGenerator;
+import org.springframework.web.server.WebSession;
+
+/**
+ * {@link WebSessionStore} that keeps serialized session attributes outside
+ * of the Java heap, either in direct memory or in a memory-mapped file that
+ * retains sessions across restarts.
+ *
+ * <p>Each stored session is a record in a compact binary format: a fixed-size
+ * header with timestamps and idle timeout, the session id, and the serialized
+ * attributes. Only a small index entry per session is kept on the heap, and
+ * session attributes are deserialized on first access to
+ * {@link WebSession#getAttributes()} of a retrieved session. A session whose
+ * attributes have not been accessed is saved without rewriting its record.
+ * Space of removed records is reclaimed by compacting the storage once it
+ * runs out of space.
+ *
+ * <p>Expiration and the {@link #setMaxSessions maxSessions} limit work as in
+ * {@link InMemoryWebSessionStore}. Retrieved sessions are views of the stored
+ * record rather than shared instances, so concurrent requests for the same
+ * session operate on separate views, with the last save winning.
+ *
+ * <p>Attribute values are serialized with Java serialization by default;
+ * see {@link #setSerializer} and {@link #setDeserializer}. With a storage file,
+ * last access times are written to the file on {@link #flush()} and
+ * {@link #close()}.
+ *
+ * @since 7.0
+ */
+public class OffHeapWebSessionStore implements WebSessionStore, Closeable {
+
+	private static final IdGenerator idGenerator = new JdkIdGenerator();
+
+	/** Marker for a session storage file: "SWSS". */
+	private static final int MAGIC = 0x53575353;
+
+	private static final int VERSION = 1;
+
+	private static final int END_POSITION_OFFSET = 8;
+
+	/** Storage header: magic, version, end position of written records. */
+	private static final int HEADER_SIZE = 12;
+
+	// Record layout: length, status, creation time, last access time,
+	// max idle time, id length, id, attributes
+
+	private static final int STATUS_OFFSET = 4;
+
+	private static final int CREATION_TIME_OFFSET = 5;
+
+	private static final int LAST_ACCESS_TIME_OFFSET = 13;
+
+	private static final int MAX_IDLE_TIME_OFFSET = 21;
+
+	private static final int ID_OFFSET = 29;
+
+	private static final byte LIVE = 1;
+
+	private static final byte REMOVED = 0;
+
+
+	private final ByteBuffer buffer;
+
+	private final @Nullable FileChannel channel;
+
+	/** Read lock for reading records, write lock for writing and compacting records. */
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private int endPosition = HEADER_SIZE;
+
+	private long removedBytes;
+
+	private int maxSessions = 10000;
+
+	private Clock clock = Clock.system(ZoneId.of("GMT"));
+
+	private Serializer<Object> serializer = new DefaultSerializer();
+
+	private Deserializer<Object> deserializer = new DefaultDeserializer();
+
+	private final ExpiredSessionChecker expiredSessionChecker = new ExpiredSessionChecker();
+
+
+	/**
+	 * Create a store that keeps sessions in direct memory.
+	 * @param capacity the storage capacity in bytes
+	 */
+	public OffHeapWebSessionStore(int capacity) {
+		Assert.isTrue(capacity > HEADER_SIZE, "Capacity must be greater than " + HEADER_SIZE);
+		this.buffer = ByteBuffer.allocateDirect(capacity);
+		this.channel = null;
+		writeHeader();
+	}
+
+	/**
+	 * Create a store that keeps sessions in the given memory-mapped file,
+	 * recovering the sessions stored in the file, if it exists.
+	 * @param file the storage file
+	 * @param capacity the storage capacity in bytes, extending an existing
+	 * smaller file if necessary
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public OffHeapWebSessionStore(Path file, int capacity) throws IOException {
+		Assert.notNull(file, "File is required");
+		Assert.isTrue(capacity > HEADER_SIZE, "Capacity must be greater than " + HEADER_SIZE);
+		this.channel = FileChannel.open(file,
+				StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		long size;
+		try {
+			size = this.channel.size();
+			Assert.state(size <= Integer.MAX_VALUE, "Session storage file too large: " + file);
+			this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(capacity, size));
+		}
+		catch (IOException | RuntimeException ex) {
+			this.channel.close();
+			throw ex;
+		}
+		if (size >= HEADER_SIZE && this.buffer.getInt(0) == MAGIC) {
+			recover();
+		}
+		else {
+			writeHeader();
+		}
+	}
+
+
+	/**
+	 * Set the maximum number of sessions that can be stored. Once the limit is
+	 * reached, any attempt to store an additional session will result in an
+	 * {@link IllegalStateException}.
+	 * <p>By default set to 10000.
+	 * @param maxSessions the maximum number of sessions
+	 */
+	public void setMaxSessions(int maxSessions) {
+		this.maxSessions = maxSessions;
+	}
+
+	/**
+	 * Return the maximum number of sessions that can be stored.
+	 */
+	public int getMaxSessions() {
+		return this.maxSessions;
+	}
+
+	/**
+	 * Configure the {@link Clock} to use to set the {@code lastAccessTime} on
+	 * every created session and to calculate if the session has expired.
+	 * <p>By default this is {@code Clock.system(ZoneId.of("GMT"))}.
+	 * @param clock the clock to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock is required");
+		this.clock = clock;
+		removeExpiredSessions();
+	}
+
+	/**
+	 * Return the configured clock for session {@code lastAccessTime} calculations.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Set the {@link Serializer} for session attribute values.
+	 * <p>By default, this is a {@link DefaultSerializer} using Java serialization.
+	 */
+	public void setSerializer(Serializer<Object> serializer) {
+		Assert.notNull(serializer, "Serializer is required");
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Set the {@link Deserializer} for session attribute values.
+	 * <p>By default, this is a {@link DefaultDeserializer} using Java serialization.
+	 */
+	public void setDeserializer(Deserializer<Object> deserializer) {
+		Assert.notNull(deserializer, "Deserializer is required");
+		this.deserializer = deserializer;
+	}
+
+	/**
+	 * Return the number of stored sessions.
+	 */
+	public int getSessionCount() {
+		return this.entries.size();
+	}
+
+
+	@Override
+	public Mono<WebSession> createWebSession() {
+
+		// Opportunity to clean expired sessions
+		Instant now = this.clock.instant();
+		this.expiredSessionChecker.checkIfNecessary(now);
+
+		return Mono.<WebSession>fromSupplier(() -> new OffHeapWebSession(now))
+				.subscribeOn(Schedulers.boundedElastic())
+				.publishOn(Schedulers.parallel());
+	}
+
+	@Override
+	public Mono<WebSession> retrieveSession(String id) {
+		Instant now = this.clock.instant();
+		this.expiredSessionChecker.checkIfNecessary(now);
+		Entry entry = this.entries.get(id);
+		if (entry == null) {
+			return Mono.empty();
+		}
+		else if (entry.isExpired(now.toEpochMilli())) {
+			removeEntry(entry);
+			return Mono.empty();
+		}
+		else {
+			entry.lastAccessTime = now.toEpochMilli();
+			return Mono.just(new OffHeapWebSession(entry));
+		}
+	}
+
+	@Override
+	public Mono<Void> removeSession(String id) {
+		Entry entry = this.entries.get(id);
+		if (entry != null) {
+			removeEntry(entry);
+		}
+		return Mono.empty();
+	}
+
+	@Override
+	public Mono<WebSession> updateLastAccessTime(WebSession session) {
+		return Mono.fromSupplier(() -> {
+			Assert.isInstanceOf(OffHeapWebSession.class, session);
+			((OffHeapWebSession) session).updateLastAccessTime(this.clock.instant());
+			return session;
+		});
+	}
+
+	/**
+	 * Check for expired sessions and remove them.
+	 * <p>Typically such checks are kicked off lazily during calls to
+	 * {@link #createWebSession()} or {@link #retrieveSession}, no less than 60
+	 * seconds apart.
+	 * <p>This method can be called to force a check at a specific time.
+	 */
+	public void removeExpiredSessions() {
+		this.expiredSessionChecker.removeExpiredSessions(this.clock.instant());
+	}
+
+	/**
+	 * Write the last access times and idle timeouts of all sessions to their
+	 * records and, with a storage file, force all changes to the file.
+	 */
+	public void flush() {
+		this.lock.writeLock().lock();
+		try {
+			for (Entry entry : this.entries.values()) {
+				if (!entry.removed) {
+					this.buffer.putLong(entry.offset + LAST_ACCESS_TIME_OFFSET, entry.lastAccessTime);
+					this.buffer.putLong(entry.offset + MAX_IDLE_TIME_OFFSET, entry.maxIdleMillis);
+				}
+			}
+			if (this.buffer instanceof MappedByteBuffer mappedBuffer) {
+				mappedBuffer.force();
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Flush all sessions and close the storage file, if any.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		if (this.channel != null) {
+			this.channel.close();
+		}
+	}
+
+
+	private void checkMaxSessionsLimit(String id) {
+		if (this.entries.size() >= this.maxSessions) {
+			this.expiredSessionChecker.removeExpiredSessions(this.clock.instant());
+			if (this.entries.size() >= this.maxSessions && !this.entries.containsKey(id)) {
+				throw new IllegalStateException("Max sessions limit reached: " + this.entries.size());
+			}
+		}
+	}
+
+	private void storeSession(OffHeapWebSession session) {
+		String id = session.getId();
+		long lastAccessTime = session.getLastAccessTime().toEpochMilli();
+		long maxIdleMillis = toMillis(session.getMaxIdleTime());
+		Entry entry = session.entry;
+		Map<String, Object> attributes = session.attributes;
+		if (attributes == null && entry != null && entry.id.equals(id)) {
+			// Attributes not accessed -> keep the current record (possibly saved
+			// through another view of the same session), just updating its metadata
+			Entry current = this.entries.get(id);
+			if (current != null) {
+				current.lastAccessTime = lastAccessTime;
+				current.maxIdleMillis = maxIdleMillis;
+				session.entry = current;
+			}
+			return;
+		}
+		byte[] serializedAttributes = serializeAttributes(session.getAttributes());
+		session.entry = writeRecord(id, session.getCreationTime().toEpochMilli(),
+				lastAccessTime, maxIdleMillis, serializedAttributes);
+	}
+
+	private void removeEntry(Entry entry) {
+		this.lock.writeLock().lock();
+		try {
+			if (this.entries.remove(entry.id, entry)) {
+				removeRecord(entry);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+
+	// Record storage
+
+	private void writeHeader() {
+		this.buffer.putInt(0, MAGIC);
+		this.buffer.putInt(4, VERSION);
+		this.buffer.putInt(END_POSITION_OFFSET, this.endPosition);
+	}
+
+	private void recover() {
+		int version = this.buffer.getInt(4);
+		Assert.state(version == VERSION, () -> "Unsupported session storage version: " + version);
+		int end = this.buffer.getInt(END_POSITION_OFFSET);
+		Assert.state(end >= HEADER_SIZE && end <= this.buffer.capacity(), "Corrupt session storage");
+		int position = HEADER_SIZE;
+		while (position < end) {
+			int length = this.buffer.getInt(position);
+			Assert.state(length > ID_OFFSET && length <= end - position, "Corrupt session storage");
+			if (this.buffer.get(position + STATUS_OFFSET) == LIVE) {
+				Entry entry = new Entry(readId(position), position, length,
+						this.buffer.getLong(position + CREATION_TIME_OFFSET),
+						this.buffer.getLong(position + LAST_ACCESS_TIME_OFFSET),
+						this.buffer.getLong(position + MAX_IDLE_TIME_OFFSET),
+						this.buffer.getInt(attributesOffset(position)));
+				Entry previous = this.entries.put(entry.id, entry);
+				if (previous != null) {
+					removeRecord(previous);
+				}
+			}
+			else {
+				this.removedBytes += length;
+			}
+			position += length;
+		}
+		this.endPosition = end;
+	}
+
+	private Entry writeRecord(String id, long creationTime, long lastAccessTime,
+			long maxIdleMillis, byte[] serializedAttributes) {
+
+		byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+		Assert.state(idBytes.length <= 0xFFFF, "Session id too long");
+		long recordLength = (long) ID_OFFSET + 2 + idBytes.length + serializedAttributes.length;
+		this.lock.writeLock().lock();
+		try {
+			ensureCapacity(recordLength);
+			int position = this.endPosition;
+			int length = (int) recordLength;
+			this.buffer.putInt(position, length);
+			this.buffer.put(position + STATUS_OFFSET, LIVE);
+			this.buffer.putLong(position + CREATION_TIME_OFFSET, creationTime);
+			this.buffer.putLong(position + LAST_ACCESS_TIME_OFFSET, lastAccessTime);
+			this.buffer.putLong(position + MAX_IDLE_TIME_OFFSET, maxIdleMillis);
+			this.buffer.putShort(position + ID_OFFSET, (short) idBytes.length);
+			this.buffer.put(position + ID_OFFSET + 2, idBytes);
+			this.buffer.put(position + ID_OFFSET + 2 + idBytes.length, serializedAttributes);
+			this.endPosition = position + length;
+			this.buffer.putInt(END_POSITION_OFFSET, this.endPosition);
+			Entry entry = new Entry(id, position, length, creationTime, lastAccessTime, maxIdleMillis,
+					this.buffer.getInt(attributesOffset(position)));
+			Entry previous = this.entries.put(id, entry);
+			if (previous != null) {
+				removeRecord(previous);
+			}
+			return entry;
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	private void removeRecord(Entry entry) {
+		this.buffer.put(entry.offset + STATUS_OFFSET, REMOVED);
+		this.removedBytes += entry.length;
+		entry.removed = true;
+	}
+
+	private void ensureCapacity(long recordLength) {
+		if (this.endPosition + recordLength > this.buffer.capacity()) {
+			if (this.removedBytes > 0) {
+				compact();
+			}
+			if (this.endPosition + recordLength > this.buffer.capacity()) {
+				throw new IllegalStateException(
+						"Session storage capacity exceeded: " + this.buffer.capacity() + " bytes");
+			}
+		}
+	}
+
+	/**
+	 * Move all live records to the start of the storage, in their current order,
+	 * refreshing their last access times along the way.
+	 */
+	private void compact() {
+		int target = HEADER_SIZE;
+		int position = HEADER_SIZE;
+		while (position < this.endPosition) {
+			int length = this.buffer.getInt(position);
+			if (this.buffer.get(position + STATUS_OFFSET) == LIVE) {
+				Entry entry = this.entries.get(readId(position));
+				if (entry != null && entry.offset == position) {
+					if (position != target) {
+						byte[] record = new byte[length];
+						this.buffer.get(position, record);
+						this.buffer.put(target, record);
+						entry.offset = target;
+					}
+					this.buffer.putLong(target + LAST_ACCESS_TIME_OFFSET, entry.lastAccessTime);
+					this.buffer.putLong(target + MAX_IDLE_TIME_OFFSET, entry.maxIdleMillis);
+					target += length;
+				}
+			}
+			position += length;
+		}
+		this.endPosition = target;
+		this.removedBytes = 0;
+		this.buffer.putInt(END_POSITION_OFFSET, target);
+	}
+
+	private String readId(int position) {
+		int idLength = this.buffer.getShort(position + ID_OFFSET) & 0xFFFF;
+		byte[] idBytes = new byte[idLength];
+		this.buffer.get(position + ID_OFFSET + 2, idBytes);
+		return new String(idBytes, StandardCharsets.UTF_8);
+	}
+
+	private int attributesOffset(int position) {
+		return position + ID_OFFSET + 2 + (this.buffer.getShort(position + ID_OFFSET) & 0xFFFF);
+	}
+
+	/**
+	 * Read and deserialize the attributes of the given entry or, if the entry
+	 * has been replaced in the meantime, of the current entry for the same id.
+	 * @return the attributes, or an empty map if the session has been removed
+	 */
+	private Map<String, Object> readAttributes(Entry entry) {
+		byte[] serializedAttributes;
+		this.lock.readLock().lock();
+		try {
+			if (entry.removed) {
+				entry = this.entries.get(entry.id);
+				if (entry == null || entry.removed) {
+					return new ConcurrentHashMap<>();
+				}
+			}
+			int start = attributesOffset(entry.offset);
+			serializedAttributes = new byte[entry.offset + entry.length - start];
+			this.buffer.get(start, serializedAttributes);
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+		return deserializeAttributes(serializedAttributes);
+	}
+
+
+	// Attribute serialization: count, then name and value length and bytes per attribute
+
+	private byte[] serializeAttributes(Map<String, Object> attributes) {
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream(256);
+			DataOutputStream out = new DataOutputStream(bos);
+			Map<String, Object> snapshot = Map.copyOf(attributes);
+			out.writeInt(snapshot.size());
+			for (Map.Entry<String, Object> attribute : snapshot.entrySet()) {
+				byte[] value = this.serializer.serializeToByteArray(attribute.getValue());
+				out.writeUTF(attribute.getKey());
+				out.writeInt(value.length);
+				out.write(value);
+			}
+			out.flush();
+			return bos.toByteArray();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to serialize session attributes", ex);
+		}
+	}
+
+	private Map<String, Object> deserializeAttributes(byte[] serializedAttributes) {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(serializedAttributes));
+		String name = null;
+		try {
+			int count = in.readInt();
+			Map<String, Object> attributes = new ConcurrentHashMap<>(count);
+			for (int i = 0; i < count; i++) {
+				name = in.readUTF();
+				byte[] value = new byte[in.readInt()];
+				in.readFully(value);
+				attributes.put(name, this.deserializer.deserializeFromByteArray(value));
+			}
+			return attributes;
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to deserialize session attribute" +
+					(name != null ? " '" + name + "'" : "s"), ex);
+		}
+	}
+
+	private static long toMillis(Duration duration) {
+		try {
+			return duration.toMillis();
+		}
+		catch (ArithmeticException ex) {
+			return (duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE);
+		}
+	}
+
+
+	/**
+	 * Index entry for a stored session record, kept on the heap.
+	 */
+	private static final class Entry {
+
+		final String id;
+
+		/** Record position, changed by compaction under the write lock. */
+		volatile int offset;
+
+		final int length;
+
+		final long creationTime;
+
+		volatile long lastAccessTime;
+
+		volatile long maxIdleMillis;
+
+		final int attributeCount;
+
+		volatile boolean removed;
+
+		Entry(String id, int offset, int length, long creationTime, long lastAccessTime,
+				long maxIdleMillis, int attributeCount) {
+
+			this.id = id;
+			this.offset = offset;
+			this.length = length;
+			this.creationTime = creationTime;
+			this.lastAccessTime = lastAccessTime;
+			this.maxIdleMillis = maxIdleMillis;
+			this.attributeCount = attributeCount;
+		}
+
+		boolean isExpired(long now) {
+			long maxIdleMillis = this.maxIdleMillis;
+			return (maxIdleMillis >= 0 && now - maxIdleMillis > this.lastAccessTime);
+		}
+	}
+
+
+	private class OffHeapWebSession implements WebSession {
+
+		private final AtomicReference<String> id;
+
+		private final Instant creationTime;
+
+		private volatile Instant lastAccessTime;
+
+		private volatile Duration maxIdleTime;
+
+		private final AtomicReference<State> state;
+
+		/** The stored record this session was read from or last saved to. */
+		private volatile @Nullable Entry entry;
+
+		/** The attributes, or {@code null} if not read from the stored record yet. */
+		private volatile @Nullable Map<String, Object> attributes;
+
+
+		public OffHeapWebSession(Instant creationTime) {
+			this.id = new AtomicReference<>(String.valueOf(idGenerator.generateId()));
+			this.creationTime = creationTime;
+			this.lastAccessTime = creationTime;
+			this.maxIdleTime = Duration.ofMinutes(30);
+			this.state = new AtomicReference<>(State.NEW);
+			this.attributes = new ConcurrentHashMap<>();
+		}
+
+		public OffHeapWebSession(Entry entry) {
+			this.id = new AtomicReference<>(entry.id);
+			this.creationTime = Instant.ofEpochMilli(entry.creationTime);
+			this.lastAccessTime = Instant.ofEpochMilli(entry.lastAccessTime);
+			this.maxIdleTime = Duration.ofMillis(entry.maxIdleMillis);
+			this.state = new AtomicReference<>(State.STARTED);
+			this.entry = entry;
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public String getId() {
+			return this.id.get();
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			Map<String, Object> attributes = this.attributes;
+			if (attributes == null) {
+				synchronized (this) {
+					attributes = this.attributes;
+					if (attributes == null) {
+						Entry entry = this.entry;
+						attributes = (entry != null ? readAttributes(entry) : new ConcurrentHashMap<>());
+						this.attributes = attributes;
+					}
+				}
+			}
+			return attributes;
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return this.creationTime;
+		}
+
+		@Override
+		public Instant getLastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		@Override
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		@Override
+		public Duration getMaxIdleTime() {
+			return this.maxIdleTime;
+		}
+
+		@Override
+		public void start() {
+			this.state.compareAndSet(State.NEW, State.STARTED);
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public boolean isStarted() {
+			return this.state.get().equals(State.STARTED) || hasAttributes();
+		}
+
+		private boolean hasAttributes() {
+			Map<String, Object> attributes = this.attributes;
+			Entry entry = this.entry;
+			return (attributes != null ? !attributes.isEmpty() : entry != null && entry.attributeCount > 0);
+		}
+
+		@Override
+		public Mono<Void> changeSessionId() {
+			return Mono.<Void>defer(() -> {
+						// Read attributes before the stored record is removed
+						getAttributes();
+						String currentId = this.id.get();
+						OffHeapWebSessionStore.this.removeSession(currentId);
+						String newId = String.valueOf(idGenerator.generateId());
+						this.id.set(newId);
+						storeSession(this);
+						return Mono.empty();
+					})
+					.subscribeOn(Schedulers.boundedElastic())
+					.publishOn(Schedulers.parallel())
+					.then();
+		}
+
+		@Override
+		public Mono<Void> invalidate() {
+			this.state.set(State.EXPIRED);
+			this.attributes = new ConcurrentHashMap<>();
+			OffHeapWebSessionStore.this.removeSession(this.id.get());
+			return Mono.empty();
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public Mono<Void> save() {
+
+			checkMaxSessionsLimit(this.id.get());
+
+			// Implicitly started session..
+			if (hasAttributes()) {
+				this.state.compareAndSet(State.NEW, State.STARTED);
+			}
+
+			if (isStarted()) {
+				// Save
+				storeSession(this);
+
+				// Unless it was invalidated
+				if (this.state.get().equals(State.EXPIRED)) {
+					OffHeapWebSessionStore.this.removeSession(this.id.get());
+					return Mono.error(new IllegalStateException("Session was invalidated"));
+				}
+			}
+
+			return Mono.empty();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return isExpired(clock.instant());
+		}
+
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		private boolean isExpired(Instant now) {
+			if (this.state.get().equals(State.EXPIRED)) {
+				return true;
+			}
+			if (checkExpired(now)) {
+				this.state.set(State.EXPIRED);
+				return true;
+			}
+			return false;
+		}
+
+		private boolean checkExpired(Instant currentTime) {
+			return isStarted() && !this.maxIdleTime.isNegative() &&
+					currentTime.minus(this.maxIdleTime).isAfter(this.lastAccessTime);
+		}
+
+		private void updateLastAccessTime(Instant currentTime) {
+			this.lastAccessTime = currentTime;
+			Entry entry = this.entry;
+			if (entry != null && !entry.removed) {
+				entry.lastAccessTime = currentTime.toEpochMilli();
+			}
+		}
+	}
+
+
+	private class ExpiredSessionChecker {
+
+		/** Max time between expiration checks. */
+		private static final int CHECK_PERIOD = 60 * 1000;
+
+		private final Lock lock = new ReentrantLock();
+
+		private Instant checkTime = clock.instant().plus(CHECK_PERIOD, ChronoUnit.MILLIS);
+
+		public void checkIfNecessary(Instant now) {
+			if (this.checkTime.isBefore(now)) {
+				removeExpiredSessions(now);
+			}
+		}
+
+		public void removeExpiredSessions(Instant now) {
+			if (entries.isEmpty()) {
+				return;
+			}
+			if (this.lock.tryLock()) {
+				try {
+					long nowMillis = now.toEpochMilli();
+					Iterator<Entry> iterator = entries.values().iterator();
+					while (iterator.hasNext()) {
+						Entry entry = iterator.next();
+						if (entry.isExpired(nowMillis)) {
+							removeEntry(entry);
+						}
+					}
+				}
+				finally {
+					this.checkTime = now.plus(CHECK_PERIOD, ChronoUnit.MILLIS);
+					this.lock.unlock();
+				}
+			}
+		}
+	}
+
+
+	private enum State { NEW, STARTED, EXPIRED }
+
+}
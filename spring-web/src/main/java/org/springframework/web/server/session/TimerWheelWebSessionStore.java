@@ -0,0 +1,652 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.server.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import org.springframework.util.Assert;
+import org.springframework.util.IdGenerator;
+import org.springframework.util.JdkIdGenerator;
+import org.springframework.web.server.WebSession;
+
+/**
+ * Map-based storage for {@link WebSession} instances, as an alternative to
+ * {@link InMemoryWebSessionStore} for large numbers of sessions.
+ *
+ * <p>Session expiration is tracked in a hierarchical timer wheel with a
+ * resolution of one second: expired sessions are removed with constant work
+ * per session as time advances, instead of periodically sweeping all sessions.
+ * Sessions are looked up without locking. Once {@link #setMaxSessions maxSessions}
+ * is reached, storing an additional session evicts the least recently used
+ * session rather than rejecting the new session. Under contention, access
+ * order is tracked on a best-effort basis, so eviction is approximately LRU.
+ *
+ * <p>Exposes counters for active, expired and evicted sessions, for example
+ * for exposure as metrics.
+ *
+ * @since 7.0
+ */
+public class TimerWheelWebSessionStore implements WebSessionStore {
+
+	private static final IdGenerator idGenerator = new JdkIdGenerator();
+
+	/** Resolution of the timer wheel in milliseconds. */
+	private static final long TICK_MILLIS = 1000;
+
+	/** Number of bits for the slot index within a timer wheel level. */
+	private static final int SLOT_BITS = 6;
+
+	private static final int SLOTS = 1 << SLOT_BITS;
+
+	/** Number of timer wheel levels, spanning 2^24 ticks (more than 190 days). */
+	private static final int LEVELS = 4;
+
+
+	private int maxSessions = 10000;
+
+	private Clock clock = Clock.system(ZoneId.of("GMT"));
+
+	private final Map<String, TimerWheelWebSession> sessions = new ConcurrentHashMap<>();
+
+	/** Guards the access order of sessions and the timer wheel. */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** Least recently used stored session. */
+	private @Nullable TimerWheelWebSession lruHead;
+
+	/** Most recently used stored session. */
+	private @Nullable TimerWheelWebSession lruTail;
+
+	private final @Nullable TimerWheelWebSession[][] wheel = new TimerWheelWebSession[LEVELS][SLOTS];
+
+	private volatile long currentTick = this.clock.millis() / TICK_MILLIS;
+
+	private final LongAdder expiredSessionCount = new LongAdder();
+
+	private final LongAdder evictedSessionCount = new LongAdder();
+
+
+	/**
+	 * Set the maximum number of sessions that can be stored. Once the limit is
+	 * reached, storing an additional session evicts the least recently used one.
+	 * <p>By default set to 10000.
+	 * @param maxSessions the maximum number of sessions
+	 */
+	public void setMaxSessions(int maxSessions) {
+		Assert.isTrue(maxSessions > 0, "Max sessions must be greater than 0");
+		this.maxSessions = maxSessions;
+	}
+
+	/**
+	 * Return the maximum number of sessions that can be stored.
+	 */
+	public int getMaxSessions() {
+		return this.maxSessions;
+	}
+
+	/**
+	 * Configure the {@link Clock} to use to set the {@code lastAccessTime} on
+	 * every created session and to calculate if the session has expired.
+	 * <p>This may be useful to align to different time zones or to set the clock
+	 * back in a test, for example, {@code Clock.offset(clock, Duration.ofMinutes(-31))}
+	 * in order to simulate session expiration.
+	 * <p>By default this is {@code Clock.system(ZoneId.of("GMT"))}.
+	 * @param clock the clock to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "Clock is required");
+		this.clock = clock;
+		resetTimerWheel(clock.instant());
+	}
+
+	/**
+	 * Return the configured clock for session {@code lastAccessTime} calculations.
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Return an {@linkplain Collections#unmodifiableMap unmodifiable} view of the
+	 * map of sessions.
+	 * <p>This could be used for management purposes, to list active sessions,
+	 * to invalidate expired sessions, etc.
+	 */
+	public Map<String, WebSession> getSessions() {
+		return Collections.unmodifiableMap(this.sessions);
+	}
+
+	/**
+	 * Return the number of currently stored sessions.
+	 */
+	public int getActiveSessionCount() {
+		return this.sessions.size();
+	}
+
+	/**
+	 * Return the number of sessions removed from this store because they expired.
+	 */
+	public long getExpiredSessionCount() {
+		return this.expiredSessionCount.sum();
+	}
+
+	/**
+	 * Return the number of sessions evicted from this store because the
+	 * {@link #setMaxSessions maxSessions} limit was reached.
+	 */
+	public long getEvictedSessionCount() {
+		return this.evictedSessionCount.sum();
+	}
+
+
+	@Override
+	public Mono<WebSession> createWebSession() {
+
+		// Opportunity to clean expired sessions
+		Instant now = this.clock.instant();
+		expireSessionsIfNecessary(now);
+
+		return Mono.<WebSession>fromSupplier(() -> new TimerWheelWebSession(now))
+				.subscribeOn(Schedulers.boundedElastic())
+				.publishOn(Schedulers.parallel());
+	}
+
+	@Override
+	public Mono<WebSession> retrieveSession(String id) {
+		Instant now = this.clock.instant();
+		expireSessionsIfNecessary(now);
+		TimerWheelWebSession session = this.sessions.get(id);
+		if (session == null) {
+			return Mono.empty();
+		}
+		else if (session.isExpired(now)) {
+			removeStoredSession(session, this.expiredSessionCount);
+			return Mono.empty();
+		}
+		else {
+			session.updateLastAccessTime(now);
+			recordAccess(session);
+			return Mono.just(session);
+		}
+	}
+
+	@Override
+	public Mono<Void> removeSession(String id) {
+		TimerWheelWebSession session = this.sessions.get(id);
+		if (session != null) {
+			removeStoredSession(session, null);
+		}
+		return Mono.empty();
+	}
+
+	@Override
+	public Mono<WebSession> updateLastAccessTime(WebSession session) {
+		return Mono.fromSupplier(() -> {
+			Assert.isInstanceOf(TimerWheelWebSession.class, session);
+			TimerWheelWebSession timerWheelSession = (TimerWheelWebSession) session;
+			timerWheelSession.updateLastAccessTime(this.clock.instant());
+			recordAccess(timerWheelSession);
+			return session;
+		});
+	}
+
+	/**
+	 * Remove sessions that expired up until the current time.
+	 * <p>Typically such checks are kicked off lazily during calls to
+	 * {@link #createWebSession()} or {@link #retrieveSession}, at most once
+	 * per second.
+	 * <p>This method can be called to force a check at a specific time.
+	 */
+	public void removeExpiredSessions() {
+		Instant now = this.clock.instant();
+		this.lock.lock();
+		try {
+			advanceTimerWheel(now);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+
+	private void expireSessionsIfNecessary(Instant now) {
+		if (now.toEpochMilli() / TICK_MILLIS > this.currentTick && this.lock.tryLock()) {
+			try {
+				advanceTimerWheel(now);
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+	private void storeSession(TimerWheelWebSession session) {
+		this.lock.lock();
+		try {
+			if (session.stored) {
+				moveToLruTail(session);
+			}
+			else {
+				this.sessions.put(session.getId(), session);
+				session.stored = true;
+				linkLruTail(session);
+				while (this.sessions.size() > this.maxSessions && this.lruHead != null && this.lruHead != session) {
+					TimerWheelWebSession eldest = this.lruHead;
+					unlinkStoredSession(eldest);
+					this.evictedSessionCount.increment();
+				}
+			}
+			// The idle timeout may have changed since the session was last saved
+			schedule(session);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void removeStoredSession(TimerWheelWebSession session, @Nullable LongAdder counter) {
+		this.lock.lock();
+		try {
+			if (session.stored) {
+				unlinkStoredSession(session);
+				if (counter != null) {
+					counter.increment();
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void unlinkStoredSession(TimerWheelWebSession session) {
+		this.sessions.remove(session.getId(), session);
+		session.stored = false;
+		unlinkLru(session);
+		cancel(session);
+	}
+
+	private void recordAccess(TimerWheelWebSession session) {
+		// Best-effort access order: skip if another thread holds the lock
+		if (this.lock.tryLock()) {
+			try {
+				if (session.stored) {
+					moveToLruTail(session);
+				}
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+	}
+
+
+	// Access order of stored sessions, guarded by the lock
+
+	private void linkLruTail(TimerWheelWebSession session) {
+		TimerWheelWebSession tail = this.lruTail;
+		session.lruPrev = tail;
+		session.lruNext = null;
+		if (tail != null) {
+			tail.lruNext = session;
+		}
+		else {
+			this.lruHead = session;
+		}
+		this.lruTail = session;
+	}
+
+	private void unlinkLru(TimerWheelWebSession session) {
+		TimerWheelWebSession prev = session.lruPrev;
+		TimerWheelWebSession next = session.lruNext;
+		if (prev != null) {
+			prev.lruNext = next;
+		}
+		else if (this.lruHead == session) {
+			this.lruHead = next;
+		}
+		if (next != null) {
+			next.lruPrev = prev;
+		}
+		else if (this.lruTail == session) {
+			this.lruTail = prev;
+		}
+		session.lruPrev = null;
+		session.lruNext = null;
+	}
+
+	private void moveToLruTail(TimerWheelWebSession session) {
+		if (this.lruTail != session) {
+			unlinkLru(session);
+			linkLruTail(session);
+		}
+	}
+
+
+	// Timer wheel, guarded by the lock
+
+	/**
+	 * Schedule the given stored session for its current expiration time.
+	 */
+	private void schedule(TimerWheelWebSession session) {
+		cancel(session);
+		Duration maxIdleTime = session.getMaxIdleTime();
+		if (maxIdleTime.isNegative()) {
+			return;
+		}
+		long maxIdleMillis;
+		try {
+			maxIdleMillis = maxIdleTime.toMillis();
+		}
+		catch (ArithmeticException ex) {
+			maxIdleMillis = Long.MAX_VALUE;
+		}
+		long lastAccessMillis = session.getLastAccessTime().toEpochMilli();
+		long expirationMillis = (lastAccessMillis > Long.MAX_VALUE - maxIdleMillis ?
+				Long.MAX_VALUE : lastAccessMillis + maxIdleMillis);
+		// First tick at which the session is past its expiration time
+		long deadline = expirationMillis / TICK_MILLIS + 1;
+		long delay = Math.max(deadline - this.currentTick, 1);
+		long target = this.currentTick + delay;
+		int level = 0;
+		while (level < LEVELS - 1 && delay >= 1L << ((level + 1) * SLOT_BITS)) {
+			level++;
+		}
+		int slot = (int) ((target >>> (level * SLOT_BITS)) & (SLOTS - 1));
+		TimerWheelWebSession head = this.wheel[level][slot];
+		session.wheelLevel = level;
+		session.wheelSlot = slot;
+		session.wheelPrev = null;
+		session.wheelNext = head;
+		if (head != null) {
+			head.wheelPrev = session;
+		}
+		this.wheel[level][slot] = session;
+	}
+
+	private void cancel(TimerWheelWebSession session) {
+		if (session.wheelLevel < 0) {
+			return;
+		}
+		TimerWheelWebSession prev = session.wheelPrev;
+		TimerWheelWebSession next = session.wheelNext;
+		if (prev != null) {
+			prev.wheelNext = next;
+		}
+		else {
+			this.wheel[session.wheelLevel][session.wheelSlot] = next;
+		}
+		if (next != null) {
+			next.wheelPrev = prev;
+		}
+		session.wheelLevel = -1;
+		session.wheelPrev = null;
+		session.wheelNext = null;
+	}
+
+	/**
+	 * Advance the timer wheel to the given time, visiting only the slots that
+	 * have come due at each level: sessions in those slots are either removed,
+	 * if expired, or scheduled again for their current expiration time.
+	 */
+	private void advanceTimerWheel(Instant now) {
+		long previousTick = this.currentTick;
+		long tick = now.toEpochMilli() / TICK_MILLIS;
+		if (tick <= previousTick) {
+			return;
+		}
+		this.currentTick = tick;
+		for (int level = 0; level < LEVELS; level++) {
+			long previousTicks = previousTick >>> (level * SLOT_BITS);
+			long currentTicks = tick >>> (level * SLOT_BITS);
+			if (currentTicks <= previousTicks) {
+				break;
+			}
+			int steps = (int) Math.min(currentTicks - previousTicks + 1, SLOTS);
+			for (int i = 0; i < steps; i++) {
+				int slot = (int) ((previousTicks + i) & (SLOTS - 1));
+				TimerWheelWebSession session = this.wheel[level][slot];
+				this.wheel[level][slot] = null;
+				while (session != null) {
+					TimerWheelWebSession next = session.wheelNext;
+					session.wheelLevel = -1;
+					session.wheelPrev = null;
+					session.wheelNext = null;
+					expireOrReschedule(session, now);
+					session = next;
+				}
+			}
+		}
+	}
+
+	private void expireOrReschedule(TimerWheelWebSession session, Instant now) {
+		if (session.isExpired(now)) {
+			unlinkStoredSession(session);
+			session.getAttributes().clear();
+			this.expiredSessionCount.increment();
+		}
+		else {
+			// Accessed in the meantime
+			schedule(session);
+		}
+	}
+
+	private void resetTimerWheel(Instant now) {
+		this.lock.lock();
+		try {
+			List<TimerWheelWebSession> stored = new ArrayList<>(this.sessions.values());
+			for (TimerWheelWebSession[] slots : this.wheel) {
+				Arrays.fill(slots, null);
+			}
+			this.currentTick = now.toEpochMilli() / TICK_MILLIS;
+			for (TimerWheelWebSession session : stored) {
+				session.wheelLevel = -1;
+				session.wheelPrev = null;
+				session.wheelNext = null;
+				if (session.stored) {
+					expireOrReschedule(session, now);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+
+	private class TimerWheelWebSession implements WebSession {
+
+		private final AtomicReference<String> id = new AtomicReference<>(String.valueOf(idGenerator.generateId()));
+
+		private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+
+		private final Instant creationTime;
+
+		private volatile Instant lastAccessTime;
+
+		private volatile Duration maxIdleTime = Duration.ofMinutes(30);
+
+		private final AtomicReference<State> state = new AtomicReference<>(State.NEW);
+
+		// Linkage within the store, guarded by the store's lock
+
+		private boolean stored;
+
+		private @Nullable TimerWheelWebSession lruPrev;
+
+		private @Nullable TimerWheelWebSession lruNext;
+
+		private int wheelLevel = -1;
+
+		private int wheelSlot;
+
+		private @Nullable TimerWheelWebSession wheelPrev;
+
+		private @Nullable TimerWheelWebSession wheelNext;
+
+
+		public TimerWheelWebSession(Instant creationTime) {
+			this.creationTime = creationTime;
+			this.lastAccessTime = this.creationTime;
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public String getId() {
+			return this.id.get();
+		}
+
+		@Override
+		public Map<String, Object> getAttributes() {
+			return this.attributes;
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return this.creationTime;
+		}
+
+		@Override
+		public Instant getLastAccessTime() {
+			return this.lastAccessTime;
+		}
+
+		@Override
+		public void setMaxIdleTime(Duration maxIdleTime) {
+			this.maxIdleTime = maxIdleTime;
+		}
+
+		@Override
+		public Duration getMaxIdleTime() {
+			return this.maxIdleTime;
+		}
+
+		@Override
+		public void start() {
+			this.state.compareAndSet(State.NEW, State.STARTED);
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public boolean isStarted() {
+			return this.state.get().equals(State.STARTED) || !getAttributes().isEmpty();
+		}
+
+		@Override
+		public Mono<Void> changeSessionId() {
+			return Mono.<Void>defer(() -> {
+						String newId = String.valueOf(idGenerator.generateId());
+						ReentrantLock lock = TimerWheelWebSessionStore.this.lock;
+						lock.lock();
+						try {
+							if (this.stored) {
+								TimerWheelWebSessionStore.this.sessions.remove(getId(), this);
+								this.id.set(newId);
+								TimerWheelWebSessionStore.this.sessions.put(newId, this);
+							}
+							else {
+								this.id.set(newId);
+							}
+						}
+						finally {
+							lock.unlock();
+						}
+						return Mono.empty();
+					})
+					.subscribeOn(Schedulers.boundedElastic())
+					.publishOn(Schedulers.parallel())
+					.then();
+		}
+
+		@Override
+		public Mono<Void> invalidate() {
+			this.state.set(State.EXPIRED);
+			getAttributes().clear();
+			removeStoredSession(this, null);
+			return Mono.empty();
+		}
+
+		@Override
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		public Mono<Void> save() {
+
+			// Implicitly started session..
+			if (!getAttributes().isEmpty()) {
+				this.state.compareAndSet(State.NEW, State.STARTED);
+			}
+
+			if (isStarted()) {
+				// Save
+				storeSession(this);
+
+				// Unless it was invalidated
+				if (this.state.get().equals(State.EXPIRED)) {
+					removeStoredSession(this, null);
+					return Mono.error(new IllegalStateException("Session was invalidated"));
+				}
+			}
+
+			return Mono.empty();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return isExpired(clock.instant());
+		}
+
+		@SuppressWarnings("NullAway") // Dataflow analysis limitation
+		private boolean isExpired(Instant now) {
+			if (this.state.get().equals(State.EXPIRED)) {
+				return true;
+			}
+			if (checkExpired(now)) {
+				this.state.set(State.EXPIRED);
+				return true;
+			}
+			return false;
+		}
+
+		private boolean checkExpired(Instant currentTime) {
+			return isStarted() && !this.maxIdleTime.isNegative() &&
+					currentTime.minus(this.maxIdleTime).isAfter(this.lastAccessTime);
+		}
+
+		private void updateLastAccessTime(Instant currentTime) {
+			this.lastAccessTime = currentTime;
+		}
+	}
+
+
+	private enum State { NEW, STARTED, EXPIRED }
+
+}
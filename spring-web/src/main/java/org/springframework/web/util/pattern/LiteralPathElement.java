@@ -86,6 +86,20 @@ class LiteralPathElement extends PathElement {
 		}
 	}
 
+	/**
+	 * Return the literal text of this path element.
+	 */
+	String getText() {
+		return this.text;
+	}
+
+	/**
+	 * Whether the literal text is matched in a case-sensitive way.
+	 */
+	boolean isCaseSensitive() {
+		return this.caseSensitive;
+	}
+
 	@Override
 	public int getNormalizedLength() {
 		return this.len;
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.Assert;
+
+/**
+ * Index over a set of {@link PathPattern PathPatterns} that narrows down the
+ * values whose patterns could match a given path, without having to match the
+ * path against each registered pattern in turn.
+ *
+ * <p>Patterns are compiled into a trie keyed on their literal segments, with
+ * captures, wildcards, and regex segments held as a separate branch that
+ * matches any single segment, and with multi-segment wildcards such as
+ * {@code /**} or {@code /{*path}} accepting any remaining path. A lookup walks
+ * the trie once for the given path and collects the values registered along
+ * the way. The result is a superset of the values whose patterns actually
+ * match, so callers still need to apply their own matching to the candidates.
+ *
+ * <p>This class is not thread-safe. Callers need to guard modifications
+ * against concurrent lookups.
+ *
+ * @since 7.0
+ * @param <T> the type of value registered for a pattern
+ */
+public class PathPatternIndex<T> {
+
+	private final Node<T> root = new Node<>();
+
+	private int size;
+
+
+	/**
+	 * Register the given value for the given pattern.
+	 * @param pattern the pattern to index
+	 * @param value the value to return from {@link #getCandidates(PathContainer)}
+	 * for paths that may match the pattern
+	 */
+	public void add(PathPattern pattern, T value) {
+		Assert.notNull(pattern, "PathPattern must not be null");
+		Assert.notNull(value, "Value must not be null");
+		Node<T> node = this.root;
+		PathElement element = pattern.getHeadSection();
+		if (element == null) {
+			// Empty pattern: be lenient and keep it as a candidate for any path
+			node.remaining = addValue(node.remaining, value);
+			this.size++;
+			return;
+		}
+		while (element != null) {
+			if (isMultiSegment(element)) {
+				node.remaining = addValue(node.remaining, value);
+				this.size++;
+				return;
+			}
+			node = node.getOrCreateChild(element);
+			element = element.next;
+		}
+		node.terminal = addValue(node.terminal, value);
+		this.size++;
+	}
+
+	/**
+	 * Remove the registration of the given value for the given pattern.
+	 * @param pattern the pattern the value was registered for
+	 * @param value the value to remove
+	 * @return {@code true} if the value was registered and has been removed
+	 */
+	public boolean remove(PathPattern pattern, T value) {
+		Assert.notNull(pattern, "PathPattern must not be null");
+		if (remove(this.root, pattern.getHeadSection(), value)) {
+			this.size--;
+			return true;
+		}
+		return false;
+	}
+
+	private boolean remove(Node<T> node, @Nullable PathElement element, T value) {
+		if (element == null) {
+			if (node == this.root) {
+				return removeRemaining(node, value);
+			}
+			if (node.terminal != null && node.terminal.remove(value)) {
+				if (node.terminal.isEmpty()) {
+					node.terminal = null;
+				}
+				return true;
+			}
+			return false;
+		}
+		if (isMultiSegment(element)) {
+			return removeRemaining(node, value);
+		}
+		Node<T> child = node.getChild(element);
+		if (child == null || !remove(child, element.next, value)) {
+			return false;
+		}
+		if (child.isEmpty()) {
+			node.removeChild(element);
+		}
+		return true;
+	}
+
+	private static <T> boolean removeRemaining(Node<T> node, T value) {
+		if (node.remaining != null && node.remaining.remove(value)) {
+			if (node.remaining.isEmpty()) {
+				node.remaining = null;
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Whether the index contains any registrations.
+	 */
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Return the number of pattern registrations in the index.
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Return the values registered for patterns that may match the given path.
+	 * <p>The returned values are unique, in a stable order determined by the
+	 * structure of the index, and include all values whose pattern matches.
+	 * @param path the path to find candidates for
+	 * @return the candidate values, possibly empty
+	 */
+	public Collection<T> getCandidates(PathContainer path) {
+		Collection<T> result = new LinkedHashSet<>();
+		collect(this.root, path.elements(), 0, result);
+		return result;
+	}
+
+	private void collect(Node<T> node, List<PathContainer.Element> elements, int index, Collection<T> result) {
+		addAll(result, node.remaining);
+		if (index == elements.size()) {
+			addAll(result, node.terminal);
+			if (node.segment != null) {
+				// A trailing wildcard may also match in the absence of a segment
+				addAll(result, node.segment.terminal);
+			}
+			return;
+		}
+		PathContainer.Element element = elements.get(index);
+		if (element instanceof PathContainer.PathSegment segment) {
+			String value = segment.valueToMatch();
+			if (node.literals != null) {
+				Node<T> child = node.literals.get(value);
+				if (child != null) {
+					collect(child, elements, index + 1, result);
+				}
+			}
+			if (node.literalsIgnoreCase != null) {
+				Node<T> child = node.literalsIgnoreCase.get(value);
+				if (child != null) {
+					collect(child, elements, index + 1, result);
+				}
+			}
+			if (node.segment != null) {
+				collect(node.segment, elements, index + 1, result);
+			}
+		}
+		else if (node.separator != null) {
+			collect(node.separator, elements, index + 1, result);
+		}
+	}
+
+	private static boolean isMultiSegment(PathElement element) {
+		return (element instanceof WildcardSegmentsPathElement || element instanceof CaptureSegmentsPathElement);
+	}
+
+	private static <T> List<T> addValue(@Nullable List<T> values, T value) {
+		List<T> result = (values != null ? values : new ArrayList<>(1));
+		result.add(value);
+		return result;
+	}
+
+	private static <T> void addAll(Collection<T> result, @Nullable List<T> values) {
+		if (values != null) {
+			result.addAll(values);
+		}
+	}
+
+
+	/**
+	 * A node in the trie, with one branch per kind of path element.
+	 */
+	private static final class Node<T> {
+
+		@Nullable Node<T> separator;
+
+		@Nullable Map<String, Node<T>> literals;
+
+		@Nullable Map<String, Node<T>> literalsIgnoreCase;
+
+		@Nullable Node<T> segment;
+
+		/** Values for patterns that end at this node. */
+		@Nullable List<T> terminal;
+
+		/** Values for patterns that accept any remaining path from this node. */
+		@Nullable List<T> remaining;
+
+		Node<T> getOrCreateChild(PathElement element) {
+			if (element instanceof SeparatorPathElement) {
+				if (this.separator == null) {
+					this.separator = new Node<>();
+				}
+				return this.separator;
+			}
+			else if (element instanceof LiteralPathElement literal) {
+				if (literal.isCaseSensitive()) {
+					if (this.literals == null) {
+						this.literals = new LinkedHashMap<>();
+					}
+					return this.literals.computeIfAbsent(literal.getText(), key -> new Node<>());
+				}
+				else {
+					if (this.literalsIgnoreCase == null) {
+						// Same semantics as String#equalsIgnoreCase in LiteralPathElement
+						this.literalsIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+					}
+					return this.literalsIgnoreCase.computeIfAbsent(literal.getText(), key -> new Node<>());
+				}
+			}
+			else {
+				if (this.segment == null) {
+					this.segment = new Node<>();
+				}
+				return this.segment;
+			}
+		}
+
+		@Nullable Node<T> getChild(PathElement element) {
+			if (element instanceof SeparatorPathElement) {
+				return this.separator;
+			}
+			else if (element instanceof LiteralPathElement literal) {
+				Map<String, Node<T>> map = (literal.isCaseSensitive() ? this.literals : this.literalsIgnoreCase);
+				return (map != null ? map.get(literal.getText()) : null);
+			}
+			else {
+				return this.segment;
+			}
+		}
+
+		void removeChild(PathElement element) {
+			if (element instanceof SeparatorPathElement) {
+				this.separator = null;
+			}
+			else if (element instanceof LiteralPathElement literal) {
+				if (literal.isCaseSensitive()) {
+					if (this.literals != null) {
+						this.literals.remove(literal.getText());
+						this.literals = (this.literals.isEmpty() ? null : this.literals);
+					}
+				}
+				else if (this.literalsIgnoreCase != null) {
+					this.literalsIgnoreCase.remove(literal.getText());
+					this.literalsIgnoreCase = (this.literalsIgnoreCase.isEmpty() ? null : this.literalsIgnoreCase);
+				}
+			}
+			else {
+				this.segment = null;
+			}
+		}
+
+		boolean isEmpty() {
+			return (this.separator == null && this.literals == null && this.literalsIgnoreCase == null &&
+					this.segment == null && this.terminal == null && this.remaining == null);
+		}
+	}
+
+}
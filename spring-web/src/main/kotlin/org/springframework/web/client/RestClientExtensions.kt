@@ -18,6 +18,7 @@ package org.springframework.web.client
 
 import org.springframework.core.ParameterizedTypeReference
 import org.springframework.http.ResponseEntity
+import java.util.stream.Stream
 import kotlin.reflect.KType
 import kotlin.reflect.jvm.jvmName
 import kotlin.reflect.typeOf
@@ -65,6 +66,16 @@ inline fun <reified T : Any> RestClient.ResponseSpec.requiredBody(): T =
 	hint(KType::class.jvmName, typeOf<T>()).body(object : ParameterizedTypeReference<T>() {}) ?:
 	throw NoSuchElementException("Response body is required")
 
+/**
+ * Extension for [RestClient.ResponseSpec.bodyStream] providing a `bodyStream<Foo>()` variant
+ * leveraging Kotlin reified type parameters. This extension is not subject to type
+ * erasure and retains actual generic type arguments.
+ *
+ * @since 7.0
+ */
+inline fun <reified T : Any> RestClient.ResponseSpec.bodyStream(): Stream<T> =
+	bodyStream(object : ParameterizedTypeReference<T>() {})
+
 /**
  * Extension for [RestClient.ResponseSpec.toEntity] providing a `toEntity<Foo>()` variant
  * leveraging Kotlin reified type parameters. This extension is not subject to type
@@ -16,22 +16,29 @@
 
 package org.springframework.http.codec;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.testfixture.http.client.reactive.MockClientHttpRequest;
@@ -147,6 +154,41 @@ class ResourceHttpMessageWriterTests {
 				.verify();
 	}
 
+	@Test
+	void writeMultipleRegionsWithZeroCopy(@TempDir Path tempDir) throws IOException {
+		Path file = tempDir.resolve("test.txt");
+		Files.writeString(file, "Spring Framework test resource content.");
+		ZeroCopyResponse response = new ZeroCopyResponse();
+		MockServerHttpRequest request = get("/").range(of(0, 5), of(17, 20)).build();
+
+		Mono<Void> mono = this.writer.write(Mono.just(new FileSystemResource(file)), null, null, TEXT_PLAIN,
+				request, response, HINTS);
+		StepVerifier.create(mono).expectComplete().verify();
+
+		assertThat(response.segments).hasSize(5);
+		assertThat(response.segments.get(1)).isEqualTo(new ZeroCopyHttpOutputMessage.FileSegment(file, 0, 6));
+		assertThat(response.segments.get(3)).isEqualTo(new ZeroCopyHttpOutputMessage.FileSegment(file, 17, 4));
+
+		String boundary = response.getHeaders().getContentType().toString().substring(30);
+		StepVerifier.create(response.getBodyAsString())
+				.consumeNextWith(content -> {
+					assertThat(StringUtils.tokenizeToStringArray(content, "\r\n", false, true)).containsExactly(
+							"--" + boundary,
+							"Content-Type: text/plain",
+							"Content-Range: bytes 0-5/39",
+							"Spring",
+							"--" + boundary,
+							"Content-Type: text/plain",
+							"Content-Range: bytes 17-20/39",
+							"test",
+							"--" + boundary + "--");
+					assertThat(response.getHeaders().getContentLength())
+							.isEqualTo(content.getBytes(StandardCharsets.US_ASCII).length);
+				})
+				.expectComplete()
+				.verify();
+	}
+
 	@Test
 	void invalidRange() {
 
@@ -166,4 +208,22 @@ class ResourceHttpMessageWriterTests {
 		return HttpRange.createByteRange(first, last);
 	}
 
+
+
+	private static class ZeroCopyResponse extends MockServerHttpResponse implements ZeroCopyHttpOutputMessage {
+
+		private final List<Object> segments = new ArrayList<>();
+
+		@Override
+		public Mono<Void> writeWith(Path file, long position, long count) {
+			return writeWithSegments(List.of(new FileSegment(file, position, count)));
+		}
+
+		@Override
+		public Mono<Void> writeWithSegments(List<?> segments) {
+			this.segments.addAll(segments);
+			return ZeroCopyHttpOutputMessage.super.writeWithSegments(segments);
+		}
+	}
+
 }
@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
@@ -56,6 +57,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.Assertions.within;
 
 /**
@@ -285,6 +287,33 @@ class JacksonJsonHttpMessageConverterTests {
 		JSONAssert.assertEquals(body, outputMessage.getBodyAsString(StandardCharsets.UTF_8), true);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void readStream() throws Exception {
+		ParameterizedTypeReference<Stream<MyBean>> beansStream = new ParameterizedTypeReference<>() {};
+
+		String body = "[{\"string\":\"Foo\",\"number\":42},{\"string\":\"Bar\",\"number\":43}]";
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		Stream<MyBean> results = (Stream<MyBean>) converter.read(ResolvableType.forType(beansStream), inputMessage, null);
+		assertThat(results).extracting(MyBean::getString, MyBean::getNumber)
+				.containsExactly(tuple("Foo", 42), tuple("Bar", 43));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void readStreamWithInvalidElement() throws Exception {
+		ParameterizedTypeReference<Stream<MyBean>> beansStream = new ParameterizedTypeReference<>() {};
+
+		String body = "[{\"string\":\"Foo\"},{\"string\":";
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		Stream<MyBean> results = (Stream<MyBean>) converter.read(ResolvableType.forType(beansStream), inputMessage, null);
+		assertThatExceptionOfType(HttpMessageNotReadableException.class).isThrownBy(results::toList);
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void readAndWriteParameterizedType() throws Exception {
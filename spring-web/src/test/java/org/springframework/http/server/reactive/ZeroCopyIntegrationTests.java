@@ -18,11 +18,14 @@ package org.springframework.http.server.reactive;
 
 import java.io.File;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import reactor.core.publisher.Mono;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.http.MediaType;
 import org.springframework.http.RequestEntity;
 import org.springframework.http.ResponseEntity;
@@ -71,6 +74,26 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 	}
 
 
+	@ParameterizedHttpServerTest
+	void zeroCopySegments(HttpServer httpServer) throws Exception {
+		assumeTrue(httpServer instanceof ReactorHttpServer || httpServer instanceof UndertowHttpServer ||
+				httpServer instanceof JettyCoreHttpServer, "Zero-copy does not support Servlet");
+
+		startServer(httpServer);
+
+		URI url = URI.create("http://localhost:" + port + "/segments");
+		RequestEntity<?> request = RequestEntity.get(url).build();
+		ResponseEntity<byte[]> response = new RestTemplate().exchange(request, byte[].class);
+
+		byte[] logo = springLogoResource.getContentAsByteArray();
+		byte[] body = response.getBody();
+		assertThat(body).hasSize(logo.length + 10);
+		assertThat(new String(body, 0, 5, StandardCharsets.US_ASCII)).isEqualTo("start");
+		assertThat(body).containsSubsequence(logo);
+		assertThat(new String(body, body.length - 5, 5, StandardCharsets.US_ASCII)).isEqualTo("--end");
+	}
+
+
 	private static class ZeroCopyHandler implements HttpHandler {
 
 		@Override
@@ -78,6 +101,14 @@ class ZeroCopyIntegrationTests extends AbstractHttpHandlerIntegrationTests {
 			try {
 				ZeroCopyHttpOutputMessage zeroCopyResponse = (ZeroCopyHttpOutputMessage) response;
 				File logoFile = springLogoResource.getFile();
+				if (request.getPath().value().equals("/segments")) {
+					DataBufferFactory bufferFactory = response.bufferFactory();
+					zeroCopyResponse.getHeaders().setContentLength(logoFile.length() + 10);
+					return zeroCopyResponse.writeWithSegments(List.of(
+							bufferFactory.wrap("start".getBytes(StandardCharsets.US_ASCII)),
+							new ZeroCopyHttpOutputMessage.FileSegment(logoFile.toPath(), 0, logoFile.length()),
+							bufferFactory.wrap("--end".getBytes(StandardCharsets.US_ASCII))));
+				}
 				zeroCopyResponse.getHeaders().setContentType(MediaType.IMAGE_PNG);
 				zeroCopyResponse.getHeaders().setContentLength(logoFile.length());
 				return zeroCopyResponse.writeWith(logoFile, 0, logoFile.length());
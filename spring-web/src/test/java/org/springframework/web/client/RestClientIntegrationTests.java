@@ -66,6 +66,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
@@ -288,6 +289,28 @@ class RestClientIntegrationTests {
 		});
 	}
 
+	@ParameterizedRestClientTest
+	void retrieveJsonArrayAsStream(ClientHttpRequestFactory requestFactory) throws IOException {
+		startServer(requestFactory);
+
+		prepareResponse(builder -> builder
+				.setHeader("Content-Type", "application/json")
+				.body("[{\"bar\":\"bar1\",\"foo\":\"foo1\"},{\"bar\":\"bar2\",\"foo\":\"foo2\"}]"));
+
+		try (Stream<Pojo> result = this.restClient.get()
+				.uri("/pojos")
+				.accept(MediaType.APPLICATION_JSON)
+				.retrieve()
+				.bodyStream(Pojo.class)) {
+
+			assertThat(result).extracting(Pojo::getFoo, Pojo::getBar)
+					.containsExactly(tuple("foo1", "bar1"), tuple("foo2", "bar2"));
+		}
+
+		expectRequestCount(1);
+		expectRequest(request -> assertThat(request.getTarget()).isEqualTo("/pojos"));
+	}
+
 	@ParameterizedRestClientTest
 	void retrieveJsonArrayAsResponseEntityList(ClientHttpRequestFactory requestFactory) throws IOException {
 		startServer(requestFactory);
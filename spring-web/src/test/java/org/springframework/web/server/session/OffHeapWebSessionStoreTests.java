@@ -0,0 +1,264 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.server.session;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.web.server.WebSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link OffHeapWebSessionStore}.
+ */
+class OffHeapWebSessionStoreTests {
+
+	private OffHeapWebSessionStore store = new OffHeapWebSessionStore(1024 * 1024);
+
+
+	@AfterEach
+	void closeStore() throws Exception {
+		this.store.close();
+	}
+
+
+	@Test
+	void retrieveSessionWithAttributes() {
+		WebSession session = insertSession();
+		session.getAttributes().put("user", "alice");
+		session.save().block();
+
+		WebSession retrieved = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.isStarted()).isTrue();
+		assertThat(retrieved.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(retrieved.getAttributes()).containsEntry("user", "alice");
+	}
+
+	@Test
+	void retrieveUpdatedAttributes() {
+		WebSession session = insertSession();
+		WebSession retrieved = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrieved).isNotNull();
+		retrieved.getAttributes().put("cart", new ArrayList<>(List.of("book")));
+		retrieved.save().block();
+
+		WebSession retrievedAgain = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrievedAgain).isNotNull();
+		assertThat(retrievedAgain.getAttributes()).containsEntry("cart", List.of("book"));
+	}
+
+	@Test
+	void saveViewsOfSameSession() {
+		WebSession session = insertSession();
+		session.getAttributes().put("user", "alice");
+		session.save().block();
+
+		WebSession view1 = this.store.retrieveSession(session.getId()).block();
+		WebSession view2 = this.store.retrieveSession(session.getId()).block();
+		WebSession view3 = this.store.retrieveSession(session.getId()).block();
+		assertThat(view1).isNotNull();
+		assertThat(view2).isNotNull();
+		assertThat(view3).isNotNull();
+		view1.getAttributes().put("cart", "book");
+		view1.save().block();
+
+		// View 2 saved without accessing its attributes: view 1's changes retained
+		view2.save().block();
+		WebSession retrieved = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.getAttributes()).containsEntry("user", "alice").containsEntry("cart", "book");
+
+		// View 3 reads its attributes after the other views saved
+		assertThat(view3.getAttributes()).containsEntry("user", "alice").containsEntry("cart", "book");
+		view3.save().block();
+		retrieved = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.getAttributes()).containsEntry("user", "alice").containsEntry("cart", "book");
+		assertThat(this.store.getSessionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void saveViewsOfSameSessionConcurrently() throws Exception {
+		WebSession session = insertSession();
+		session.getAttributes().put("user", "alice");
+		session.save().block();
+
+		for (int i = 0; i < 100; i++) {
+			WebSession view1 = this.store.retrieveSession(session.getId()).block();
+			WebSession view2 = this.store.retrieveSession(session.getId()).block();
+			assertThat(view1).isNotNull();
+			assertThat(view2).isNotNull();
+			view1.getAttributes().put("count", i);
+			CountDownLatch latch = new CountDownLatch(1);
+			Thread thread = new Thread(() -> {
+				awaitUninterruptibly(latch);
+				view1.save().block();
+			});
+			thread.start();
+			latch.countDown();
+			view2.save().block();
+			thread.join();
+
+			WebSession retrieved = this.store.retrieveSession(session.getId()).block();
+			assertThat(retrieved).isNotNull();
+			assertThat(retrieved.getAttributes()).containsEntry("user", "alice").containsEntry("count", i);
+		}
+	}
+
+	@Test
+	void retrieveExpiredSession() {
+		WebSession session = insertSession();
+		String id = session.getId();
+		assertThat(this.store.retrieveSession(id).block()).isNotNull();
+
+		// Fast-forward 31 minutes
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofMinutes(31)));
+		assertThat(this.store.retrieveSession(id).block()).isNull();
+		assertThat(this.store.getSessionCount()).isZero();
+	}
+
+	@Test
+	void sessionInvalidatedBeforeSave() {
+		WebSession session1 = insertSession();
+		String id = session1.getId();
+
+		WebSession session2 = this.store.retrieveSession(id).block();
+		WebSession session3 = this.store.retrieveSession(id).block();
+		assertThat(session3).isNotNull();
+		session3.invalidate().block();
+		assertThat(this.store.retrieveSession(id).block()).isNull();
+
+		// Request 2 still holds its own view of the session
+		assertThat(session2).isNotNull();
+		assertThat(session2.getAttributes()).isEmpty();
+	}
+
+	@Test
+	void changeSessionId() {
+		WebSession session = insertSession();
+		session.getAttributes().put("user", "alice");
+		session.save().block();
+		String oldId = session.getId();
+		session.changeSessionId().block();
+
+		assertThat(this.store.retrieveSession(oldId).block()).isNull();
+		WebSession retrieved = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.getAttributes()).containsEntry("user", "alice");
+		assertThat(this.store.getSessionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void maxSessions() {
+		this.store.setMaxSessions(10);
+		WebSession session = insertSession();
+		IntStream.rangeClosed(1, 9).forEach(i -> insertSession());
+
+		assertThatIllegalStateException()
+				.isThrownBy(this::insertSession)
+				.withMessage("Max sessions limit reached: 10");
+		session.save().block();
+	}
+
+	@Test
+	void removedRecordsReclaimed() throws Exception {
+		this.store.close();
+		this.store = new OffHeapWebSessionStore(64 * 1024);
+		this.store.setMaxSessions(100000);
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			WebSession session = insertSession();
+			session.getAttributes().put("data", new byte[500]);
+			session.save().block();
+			ids.add(session.getId());
+			if (ids.size() > 50) {
+				this.store.removeSession(ids.remove(0)).block();
+			}
+		}
+		assertThat(this.store.getSessionCount()).isEqualTo(50);
+		for (String id : ids) {
+			WebSession session = this.store.retrieveSession(id).block();
+			assertThat(session).isNotNull();
+			assertThat(session.getAttributes().get("data")).isInstanceOf(byte[].class);
+		}
+	}
+
+	@Test
+	void capacityExceeded() throws Exception {
+		this.store.close();
+		this.store = new OffHeapWebSessionStore(4 * 1024);
+		assertThatIllegalStateException().isThrownBy(() -> {
+			for (int i = 0; i < 10; i++) {
+				WebSession session = insertSession();
+				session.getAttributes().put("data", new byte[1000]);
+				session.save().block();
+			}
+		}).withMessageStartingWith("Session storage capacity exceeded");
+	}
+
+	@Test
+	void sessionsRecoveredFromFile(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("sessions");
+		this.store.close();
+		this.store = new OffHeapWebSessionStore(file, 1024 * 1024);
+		WebSession session = insertSession();
+		session.getAttributes().put("user", "alice");
+		session.save().block();
+		WebSession removed = insertSession();
+		this.store.removeSession(removed.getId()).block();
+		this.store.close();
+
+		this.store = new OffHeapWebSessionStore(file, 1024 * 1024);
+		assertThat(this.store.getSessionCount()).isEqualTo(1);
+		WebSession retrieved = this.store.retrieveSession(session.getId()).block();
+		assertThat(retrieved).isNotNull();
+		assertThat(retrieved.getAttributes()).containsEntry("user", "alice");
+		assertThat(this.store.retrieveSession(removed.getId()).block()).isNull();
+	}
+
+
+	private WebSession insertSession() {
+		WebSession session = this.store.createWebSession().block();
+		assertThat(session).isNotNull();
+		session.start();
+		session.save().block();
+		return session;
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
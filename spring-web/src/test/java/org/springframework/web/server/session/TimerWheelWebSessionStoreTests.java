@@ -0,0 +1,196 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.server.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.web.server.WebSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link TimerWheelWebSessionStore}.
+ */
+class TimerWheelWebSessionStoreTests {
+
+	private final TimerWheelWebSessionStore store = new TimerWheelWebSessionStore();
+
+
+	@Test
+	void startsSessionImplicitly() {
+		WebSession session = this.store.createWebSession().block();
+		assertThat(session).isNotNull();
+		session.getAttributes().put("foo", "bar");
+		assertThat(session.isStarted()).isTrue();
+	}
+
+	@Test
+	void createSessionDoesNotBlock() {
+		this.store.createWebSession()
+				.doOnNext(session -> assertThat(Schedulers.isInNonBlockingThread()).isTrue())
+				.block();
+	}
+
+	@Test
+	void retrieveExpiredSession() {
+		WebSession session = insertSession();
+		String id = session.getId();
+		assertThat(this.store.retrieveSession(id).block()).isSameAs(session);
+
+		// Fast-forward 31 minutes
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofMinutes(31)));
+		assertThat(this.store.retrieveSession(id).block()).isNull();
+		assertThat(this.store.getExpiredSessionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void lastAccessTimeIsUpdatedOnRetrieve() {
+		WebSession session1 = insertSession();
+		Instant time1 = session1.getLastAccessTime();
+
+		// Fast-forward a few seconds
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofSeconds(5)));
+
+		WebSession session2 = this.store.retrieveSession(session1.getId()).block();
+		assertThat(session2).isSameAs(session1);
+		assertThat(time1.isBefore(session2.getLastAccessTime())).isTrue();
+	}
+
+	@Test
+	void sessionInvalidatedBeforeSave() {
+		WebSession session1 = insertSession();
+		String id = session1.getId();
+
+		WebSession session2 = this.store.retrieveSession(id).block();
+		assertThat(session2).isSameAs(session1);
+
+		WebSession session3 = this.store.retrieveSession(id).block();
+		assertThat(session3).isSameAs(session1);
+		session3.invalidate().block();
+
+		session2.save().block();
+		assertThat(this.store.retrieveSession(id).block()).isNull();
+	}
+
+	@Test
+	void expiredSessionsRemovedWhenClockAdvances() {
+		IntStream.rangeClosed(1, 100).forEach(i -> insertSession());
+		WebSession accessed = insertSession();
+		assertNumSessions(101);
+
+		// Force a new clock (20 min later). Don't use setter which would reset the timer wheel.
+		DirectFieldAccessor accessor = new DirectFieldAccessor(this.store);
+		accessor.setPropertyValue("clock", Clock.offset(this.store.getClock(), Duration.ofMinutes(20)));
+		assertThat(this.store.retrieveSession(accessed.getId()).block()).isSameAs(accessed);
+
+		accessor.setPropertyValue("clock", Clock.offset(this.store.getClock(), Duration.ofMinutes(11)));
+		insertSession();
+		assertNumSessions(2);
+		assertThat(this.store.getSessions()).containsKey(accessed.getId());
+		assertThat(this.store.getExpiredSessionCount()).isEqualTo(100);
+	}
+
+	@Test
+	void expiredSessionsRemovedPerMaxIdleTime() {
+		WebSession session = insertSession();
+		session.setMaxIdleTime(Duration.ofSeconds(10));
+		session.save().block();
+		WebSession immortal = insertSession();
+		immortal.setMaxIdleTime(Duration.ofSeconds(-1));
+		immortal.save().block();
+
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofSeconds(9)));
+		this.store.removeExpiredSessions();
+		assertNumSessions(2);
+
+		this.store.setClock(Clock.offset(this.store.getClock(), Duration.ofDays(365)));
+		this.store.removeExpiredSessions();
+		assertNumSessions(1);
+		assertThat(this.store.getSessions()).containsKey(immortal.getId());
+	}
+
+	@Test
+	void maxSessionsEvictsLeastRecentlyUsed() {
+		this.store.setMaxSessions(3);
+		WebSession session1 = insertSession();
+		WebSession session2 = insertSession();
+		WebSession session3 = insertSession();
+		this.store.retrieveSession(session1.getId()).block();
+
+		WebSession session4 = insertSession();
+		assertThat(this.store.getSessions()).containsOnlyKeys(session1.getId(), session3.getId(), session4.getId());
+		assertThat(this.store.getEvictedSessionCount()).isEqualTo(1);
+		assertThat(this.store.getActiveSessionCount()).isEqualTo(3);
+	}
+
+	@Test
+	void updateSessionAfterMaxSessionLimitIsReached() {
+		this.store.setMaxSessions(10);
+		WebSession session = insertSession();
+		IntStream.rangeClosed(1, 9).forEach(i -> insertSession());
+		assertNumSessions(10);
+
+		// Updating an existing session should not evict another session.
+		StepVerifier.create(session.save())
+				.expectComplete()
+				.verify();
+		assertNumSessions(10);
+		assertThat(this.store.getEvictedSessionCount()).isZero();
+	}
+
+	@Test
+	void changeSessionId() {
+		WebSession session = insertSession();
+		String oldId = session.getId();
+		session.changeSessionId().block();
+
+		assertThat(session.getId()).isNotEqualTo(oldId);
+		assertThat(this.store.retrieveSession(oldId).block()).isNull();
+		assertThat(this.store.retrieveSession(session.getId()).block()).isSameAs(session);
+	}
+
+	@Test
+	void removeSession() {
+		WebSession session = insertSession();
+		this.store.removeSession(session.getId()).block();
+		assertNumSessions(0);
+		assertThat(this.store.getExpiredSessionCount()).isZero();
+		assertThat(this.store.getEvictedSessionCount()).isZero();
+	}
+
+
+	private WebSession insertSession() {
+		WebSession session = this.store.createWebSession().block();
+		assertThat(session).isNotNull();
+		session.start();
+		session.save().block();
+		return session;
+	}
+
+	private void assertNumSessions(int numSessions) {
+		assertThat(this.store.getSessions()).hasSize(numSessions);
+	}
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.util.pattern;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.server.PathContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PathPatternIndex}.
+ */
+class PathPatternIndexTests {
+
+	private final PathPatternParser parser = new PathPatternParser();
+
+	private final PathPatternIndex<String> index = new PathPatternIndex<>();
+
+
+	@Test
+	void literalPatterns() {
+		register("/projects", "/projects/spring", "/team");
+
+		assertThat(candidates("/projects/spring")).containsExactly("/projects/spring");
+		assertThat(candidates("/team")).containsExactly("/team");
+		assertThat(candidates("/other")).isEmpty();
+	}
+
+	@Test
+	void captureAndWildcardPatterns() {
+		register("/projects/{name}", "/projects/{name}/releases/{version}", "/files/*.txt", "/blog/{year:\\d+}");
+
+		assertThat(candidates("/projects/spring")).containsExactly("/projects/{name}");
+		assertThat(candidates("/projects/spring/releases/7.0")).containsExactly("/projects/{name}/releases/{version}");
+		assertThat(candidates("/files/readme.txt")).containsExactly("/files/*.txt");
+		assertThat(candidates("/blog/2025")).containsExactly("/blog/{year:\\d+}");
+		assertThat(candidates("/projects/spring/issues")).isEmpty();
+	}
+
+	@Test
+	void multiSegmentPatterns() {
+		register("/static/**", "/api/{*path}", "/**/index.html");
+
+		assertThat(candidates("/static")).containsExactly("/**/index.html", "/static/**");
+		assertThat(candidates("/static/css/site.css")).containsExactly("/**/index.html", "/static/**");
+		assertThat(candidates("/api/v1/projects")).containsExactly("/**/index.html", "/api/{*path}");
+		assertThat(candidates("")).containsExactly("/**/index.html");
+	}
+
+	@Test
+	void trailingWildcardWithoutSegment() {
+		register("/projects/*");
+
+		assertThat(candidates("/projects/")).containsExactly("/projects/*");
+	}
+
+	@Test
+	void caseInsensitivePatterns() {
+		this.parser.setCaseSensitive(false);
+		register("/Projects/{name}");
+
+		assertThat(candidates("/PROJECTS/spring")).containsExactly("/Projects/{name}");
+	}
+
+	@Test
+	void candidatesIncludeAllMatchingPatterns() {
+		List<String> patterns = List.of("/", "/{name}", "/projects", "/projects/", "/projects/{name}",
+				"/projects/*", "/projects/spring*", "/projects/**", "/projects/{*rest}", "/{a}/{b}",
+				"/projects/{name}/releases", "/*/*/releases", "/**/releases", "/projects/sp?ing");
+		List<String> paths = List.of("", "/", "/projects", "/projects/", "/projects/spring",
+				"/projects/spring/", "/projects/spring/releases", "/projects//releases", "/other/spring",
+				"/projects;a=b/spring;c=d");
+		patterns.forEach(this::register);
+
+		for (String path : paths) {
+			PathContainer container = PathContainer.parsePath(path);
+			List<String> matches = patterns.stream()
+					.filter(pattern -> this.parser.parse(pattern).matches(container)).toList();
+			assertThat(this.index.getCandidates(container)).as(path).containsAll(matches);
+		}
+	}
+
+	@Test
+	void remove() {
+		register("/projects/{name}", "/projects/spring", "/static/**");
+		assertThat(this.index.size()).isEqualTo(3);
+
+		assertThat(this.index.remove(this.parser.parse("/projects/{name}"), "/projects/{name}")).isTrue();
+		assertThat(this.index.remove(this.parser.parse("/static/**"), "/static/**")).isTrue();
+		assertThat(this.index.remove(this.parser.parse("/static/**"), "/static/**")).isFalse();
+
+		assertThat(candidates("/projects/spring")).containsExactly("/projects/spring");
+		assertThat(candidates("/static/site.css")).isEmpty();
+		assertThat(this.index.size()).isEqualTo(1);
+	}
+
+	@Test
+	void sameValueForMultiplePatterns() {
+		this.index.add(this.parser.parse("/projects/{name}"), "projects");
+		this.index.add(this.parser.parse("/projects/**"), "projects");
+
+		assertThat(candidates("/projects/spring")).containsExactly("projects");
+	}
+
+
+	private void register(String... patterns) {
+		for (String pattern : patterns) {
+			this.index.add(this.parser.parse(pattern), pattern);
+		}
+	}
+
+	private List<String> candidates(String path) {
+		return List.copyOf(this.index.getCandidates(PathContainer.parsePath(path)));
+	}
+
+}
@@ -37,6 +37,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.RequestPath;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -49,6 +50,8 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.handler.AbstractHandlerMapping;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 
 /**
  * Abstract base class for {@link HandlerMapping} implementations that define
@@ -323,7 +326,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, exchange);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, exchange);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPattern(exchange), matches, exchange);
 		}
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -438,6 +441,21 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the patterns of the given mapping, if any, to be compiled into an
+	 * index that narrows down the mappings to check for a request when there
+	 * is no direct path match.
+	 * <p>By default this returns {@code null}, in which case the mapping is
+	 * checked for every request that does not have a direct path match.
+	 * @param mapping the mapping to get the patterns for
+	 * @return the patterns, or {@code null} if the mapping cannot be indexed
+	 * @since 7.0
+	 * @see PathPatternIndex
+	 */
+	protected @Nullable Set<PathPattern> getPathPatterns(T mapping) {
+		return null;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -468,6 +486,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> patternIndex = new PathPatternIndex<>();
+
+		private final List<T> unindexedMappings = new ArrayList<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
@@ -490,6 +512,25 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(path);
 		}
 
+		/**
+		 * Return the mappings that may match the given exchange, narrowed down
+		 * through the index of mapping patterns. All registered mappings are
+		 * returned if no mapping is indexed. Not thread-safe.
+		 * @since 7.0
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPattern(ServerWebExchange exchange) {
+			if (this.patternIndex.isEmpty()) {
+				return this.registry.keySet();
+			}
+			PathContainer path = exchange.getRequest().getPath().pathWithinApplication();
+			Collection<T> candidates = this.patternIndex.getCandidates(path);
+			if (!this.unindexedMappings.isEmpty()) {
+				candidates.addAll(this.unindexedMappings);
+			}
+			return candidates;
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -526,6 +567,18 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				if (!this.registry.containsKey(mapping)) {
+					Set<PathPattern> patterns = AbstractHandlerMethodMapping.this.getPathPatterns(mapping);
+					if (patterns != null) {
+						for (PathPattern pattern : patterns) {
+							this.patternIndex.add(pattern, mapping);
+						}
+					}
+					else {
+						this.unindexedMappings.add(mapping);
+					}
+				}
+
 				CorsConfiguration corsConfig = initCorsConfiguration(handler, method, mapping);
 				if (corsConfig != null) {
 					corsConfig.validateAllowCredentials();
@@ -570,6 +623,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				Set<PathPattern> patterns = AbstractHandlerMethodMapping.this.getPathPatterns(registration.getMapping());
+				if (patterns != null) {
+					for (PathPattern pattern : patterns) {
+						this.patternIndex.remove(pattern, registration.getMapping());
+					}
+				}
+				else {
+					this.unindexedMappings.remove(registration.getMapping());
+				}
+
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
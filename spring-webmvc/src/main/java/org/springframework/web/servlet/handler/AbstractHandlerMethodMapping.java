@@ -39,6 +39,7 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
@@ -48,6 +49,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternIndex;
 import org.springframework.web.util.pattern.PathPatternParser;
 
 /**
@@ -397,7 +401,9 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			PathContainer path = (ServletRequestPathUtils.hasParsedRequestPath(request) ?
+					ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication() : null);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPattern(path), matches, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -518,6 +524,21 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the parsed patterns of the given mapping, if any, to be compiled
+	 * into an index that narrows down the mappings to check for a request when
+	 * there is no direct path match.
+	 * <p>By default this returns {@code null}, in which case the mapping is
+	 * checked for every request that does not have a direct path match.
+	 * @param mapping the mapping to get the patterns for
+	 * @return the patterns, or {@code null} if the mapping cannot be indexed
+	 * @since 7.0
+	 * @see PathPatternIndex
+	 */
+	protected @Nullable Set<PathPattern> getPathPatterns(T mapping) {
+		return null;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -548,6 +569,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPatternIndex<T> patternIndex = new PathPatternIndex<>();
+
+		private final List<T> unindexedMappings = new ArrayList<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -570,6 +595,25 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the mappings that may match the given path, narrowed down
+		 * through the index of mapping patterns. All registered mappings are
+		 * returned if the path is not available or no mapping is indexed.
+		 * Not thread-safe.
+		 * @since 7.0
+		 * @see #acquireReadLock()
+		 */
+		public Collection<T> getMappingsByPattern(@Nullable PathContainer path) {
+			if (path == null || this.patternIndex.isEmpty()) {
+				return this.registry.keySet();
+			}
+			Collection<T> candidates = this.patternIndex.getCandidates(path);
+			if (!this.unindexedMappings.isEmpty()) {
+				candidates.addAll(this.unindexedMappings);
+			}
+			return candidates;
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -610,6 +654,18 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				if (!this.registry.containsKey(mapping)) {
+					Set<PathPattern> patterns = AbstractHandlerMethodMapping.this.getPathPatterns(mapping);
+					if (patterns != null) {
+						for (PathPattern pattern : patterns) {
+							this.patternIndex.add(pattern, mapping);
+						}
+					}
+					else {
+						this.unindexedMappings.add(mapping);
+					}
+				}
+
 				String name = null;
 				if (getNamingStrategy() != null) {
 					name = getNamingStrategy().getName(handlerMethod, mapping);
@@ -682,6 +738,16 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				Set<PathPattern> patterns = AbstractHandlerMethodMapping.this.getPathPatterns(registration.getMapping());
+				if (patterns != null) {
+					for (PathPattern pattern : patterns) {
+						this.patternIndex.remove(pattern, registration.getMapping());
+					}
+				}
+				else {
+					this.unindexedMappings.remove(registration.getMapping());
+				}
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());
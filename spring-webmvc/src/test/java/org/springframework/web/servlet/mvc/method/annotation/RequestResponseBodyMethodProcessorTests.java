@@ -24,6 +24,7 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
@@ -126,6 +127,25 @@ class RequestResponseBodyMethodProcessorTests {
 		assertThat(result).map(SimpleBean::getName).containsExactly("Jad", "Robert");
 	}
 
+	@Test
+	void resolveArgumentStream() throws Exception {
+		Method method = getClass().getDeclaredMethod("handleStream", Stream.class);
+		MethodParameter methodParam = new MethodParameter(method, 0);
+
+		String content = "[{\"name\" : \"Jad\"}, {\"name\" : \"Robert\"}]";
+		this.servletRequest.setContent(content.getBytes(StandardCharsets.UTF_8));
+		this.servletRequest.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+		List<HttpMessageConverter<?>> converters = List.of(new JacksonJsonHttpMessageConverter());
+		RequestResponseBodyMethodProcessor processor = new RequestResponseBodyMethodProcessor(converters);
+
+		@SuppressWarnings("unchecked")
+		Stream<SimpleBean> result = (Stream<SimpleBean>) processor.resolveArgument(
+				methodParam, container, request, factory);
+
+		assertThat(result).map(SimpleBean::getName).containsExactly("Jad", "Robert");
+	}
+
 	@Test
 	void resolveArgumentRawTypeFromParameterizedType() throws Exception {
 		String content = "fruit=apple&vegetable=kale";
@@ -1058,6 +1078,10 @@ class RequestResponseBodyMethodProcessorTests {
 		return null;
 	}
 
+	@SuppressWarnings("unused")
+	void handleStream(@RequestBody Stream<SimpleBean> stream) {
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	Resource getImage() {
 		return null;
@@ -79,6 +79,16 @@ public class WebMvcStompEndpointRegistry implements StompEndpointRegistry {
 		if (transportRegistration.getSendBufferSizeLimit() != null) {
 			this.subProtocolWebSocketHandler.setSendBufferSizeLimit(transportRegistration.getSendBufferSizeLimit());
 		}
+		if (transportRegistration.getSendQueueCapacity() != null) {
+			this.subProtocolWebSocketHandler.setSendQueueCapacity(transportRegistration.getSendQueueCapacity());
+		}
+		if (transportRegistration.getSendQueueOverflowPolicy() != null) {
+			this.subProtocolWebSocketHandler.setSendQueueOverflowPolicy(transportRegistration.getSendQueueOverflowPolicy());
+		}
+		if (transportRegistration.getSendQueueExecutor() != null) {
+			this.subProtocolWebSocketHandler.setSendQueueExecutor(transportRegistration.getSendQueueExecutor());
+		}
+		this.subProtocolWebSocketHandler.setSendQueueScheduler(defaultSockJsTaskScheduler);
 		if (transportRegistration.getTimeToFirstMessage() != null) {
 			this.subProtocolWebSocketHandler.setTimeToFirstMessage(transportRegistration.getTimeToFirstMessage());
 		}
@@ -19,9 +19,12 @@ package org.springframework.web.socket.config.annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator.OverflowPolicy;
 import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
 
 /**
@@ -38,6 +41,12 @@ public class WebSocketTransportRegistration {
 
 	private @Nullable Integer sendBufferSizeLimit;
 
+	private @Nullable Integer sendQueueCapacity;
+
+	private @Nullable OverflowPolicy sendQueueOverflowPolicy;
+
+	private @Nullable Executor sendQueueExecutor;
+
 	private @Nullable Integer timeToFirstMessage;
 
 	private final List<WebSocketHandlerDecoratorFactory> decoratorFactories = new ArrayList<>(2);
@@ -140,6 +149,71 @@ public class WebSocketTransportRegistration {
 		return this.sendBufferSizeLimit;
 	}
 
+	/**
+	 * Send messages to each WebSocket session through a bounded ring buffer
+	 * of the given capacity (number of messages), drained by a single task
+	 * per session, instead of buffering up to the
+	 * {@link #setSendBufferSizeLimit(int) sendBufferSizeLimit}.
+	 * <p>With this option, threads sending messages to a session never block
+	 * on a slow client; when the buffer is full the
+	 * {@link #setSendQueueOverflowPolicy(OverflowPolicy) overflow policy}
+	 * applies. The {@link #setSendTimeLimit(int) sendTimeLimit} still applies.
+	 * <p>By default this is not set, and messages are buffered as described
+	 * for {@link #setSendBufferSizeLimit(int)}.
+	 * @param sendQueueCapacity the maximum number of messages to buffer per
+	 * session, rounded up to the next power of two
+	 * @since 7.0
+	 * @see RingBufferWebSocketSessionDecorator
+	 */
+	public WebSocketTransportRegistration setSendQueueCapacity(int sendQueueCapacity) {
+		this.sendQueueCapacity = sendQueueCapacity;
+		return this;
+	}
+
+	/**
+	 * Protected accessor for internal use.
+	 */
+	protected @Nullable Integer getSendQueueCapacity() {
+		return this.sendQueueCapacity;
+	}
+
+	/**
+	 * Configure what to do when the send queue of a session is full, when a
+	 * {@link #setSendQueueCapacity(int) sendQueueCapacity} is set.
+	 * <p>By default this is {@link OverflowPolicy#TERMINATE}.
+	 * @since 7.0
+	 */
+	public WebSocketTransportRegistration setSendQueueOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.sendQueueOverflowPolicy = overflowPolicy;
+		return this;
+	}
+
+	/**
+	 * Protected accessor for internal use.
+	 */
+	protected @Nullable OverflowPolicy getSendQueueOverflowPolicy() {
+		return this.sendQueueOverflowPolicy;
+	}
+
+	/**
+	 * Configure the executor to drain the send queue of each session on,
+	 * when a {@link #setSendQueueCapacity(int) sendQueueCapacity} is set.
+	 * <p>By default, a dedicated executor is created and managed by the
+	 * {@code SubProtocolWebSocketHandler}.
+	 * @since 7.0
+	 */
+	public WebSocketTransportRegistration setSendQueueExecutor(Executor executor) {
+		this.sendQueueExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Protected accessor for internal use.
+	 */
+	protected @Nullable Executor getSendQueueExecutor() {
+		return this.sendQueueExecutor;
+	}
+
 	/**
 	 * Set the maximum time allowed in milliseconds after the WebSocket connection
 	 * is established and before the first sub-protocol message is received.
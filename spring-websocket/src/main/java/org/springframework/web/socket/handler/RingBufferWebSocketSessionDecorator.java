@@ -0,0 +1,562 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.socket.handler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Wrap a {@link org.springframework.web.socket.WebSocketSession WebSocketSession}
+ * to guarantee only one thread can send messages at a time, without ever
+ * blocking the sending thread.
+ *
+ * <p>Unlike {@link ConcurrentWebSocketSessionDecorator}, messages are always
+ * placed in a bounded, lock-free ring buffer and written to the underlying
+ * session by a single drain task per session, run on the given
+ * {@link Executor}. A slow client therefore only ties up the drain task for
+ * its own session, while the threads that send messages return immediately.
+ *
+ * <p>When the ring buffer is full, the configured {@link OverflowPolicy}
+ * decides whether the oldest messages are dropped, messages are conflated by
+ * destination, or the session is terminated. The send-time limit is checked
+ * on every attempt to send a message while a previous send is in progress and,
+ * if a {@link #setSendTimeLimitScheduler(TaskScheduler) TaskScheduler} is set,
+ * also enforced while no further messages are sent, closing the session when
+ * a send does not complete in time.
+ *
+ * @since 7.0
+ * @see ConcurrentWebSocketSessionDecorator
+ */
+public class RingBufferWebSocketSessionDecorator extends WebSocketSessionDecorator {
+
+	private static final Log logger = LogFactory.getLog(RingBufferWebSocketSessionDecorator.class);
+
+
+	private final Executor executor;
+
+	private final int sendTimeLimit;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final RingBuffer buffer;
+
+	private final Map<Object, WebSocketMessage<?>> conflatedMessages = new ConcurrentHashMap<>();
+
+	private Function<WebSocketMessage<?>, @Nullable Object> conflationKeyResolver =
+			RingBufferWebSocketSessionDecorator::resolveDestination;
+
+	private @Nullable Consumer<WebSocketMessage<?>> preSendCallback;
+
+	private @Nullable TaskScheduler sendTimeLimitScheduler;
+
+	private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+	private final AtomicBoolean sendTimeCheckScheduled = new AtomicBoolean();
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	private final AtomicLong conflatedCount = new AtomicLong();
+
+	private final AtomicLong maxQueueDepth = new AtomicLong();
+
+	private volatile long sendStartTime;
+
+	private volatile boolean limitExceeded;
+
+	private volatile boolean sendFailed;
+
+	private volatile boolean closeInProgress;
+
+
+	/**
+	 * Create a new decorator.
+	 * @param delegate the {@code WebSocketSession} to delegate to
+	 * @param executor the executor to run the drain task on
+	 * @param sendTimeLimit the send-time limit (milliseconds)
+	 * @param capacity the maximum number of messages to buffer, rounded up
+	 * to the next power of two
+	 * @param overflowPolicy what to do when the buffer is full
+	 */
+	public RingBufferWebSocketSessionDecorator(WebSocketSession delegate, Executor executor,
+			int sendTimeLimit, int capacity, OverflowPolicy overflowPolicy) {
+
+		super(delegate);
+		Assert.notNull(executor, "Executor is required");
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		Assert.notNull(overflowPolicy, "OverflowPolicy is required");
+		this.executor = executor;
+		this.sendTimeLimit = sendTimeLimit;
+		this.overflowPolicy = overflowPolicy;
+		this.buffer = new RingBuffer(capacity);
+	}
+
+
+	/**
+	 * Return the configured send-time limit (milliseconds).
+	 */
+	public int getSendTimeLimit() {
+		return this.sendTimeLimit;
+	}
+
+	/**
+	 * Return the capacity of the ring buffer (number of messages).
+	 */
+	public int getQueueCapacity() {
+		return this.buffer.capacity();
+	}
+
+	/**
+	 * Return the configured {@link OverflowPolicy}.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return this.overflowPolicy;
+	}
+
+	/**
+	 * Configure how to obtain the key by which messages are conflated when
+	 * the {@link OverflowPolicy#CONFLATE CONFLATE} policy is in use.
+	 * <p>By default, this is the value of the {@code destination} header of
+	 * a STOMP frame. Messages for which the resolver returns {@code null}
+	 * are not conflated and cause the oldest message to be dropped instead.
+	 * @param resolver the resolver to use
+	 */
+	public void setConflationKeyResolver(Function<WebSocketMessage<?>, @Nullable Object> resolver) {
+		Assert.notNull(resolver, "Conflation key resolver is required");
+		this.conflationKeyResolver = resolver;
+	}
+
+	/**
+	 * Set a callback invoked after a message is added to the send buffer.
+	 * @param callback the callback to invoke
+	 */
+	public void setMessageCallback(Consumer<WebSocketMessage<?>> callback) {
+		this.preSendCallback = callback;
+	}
+
+	/**
+	 * Set the scheduler to enforce the send-time limit with while a send is
+	 * in progress, so that a session whose send is stuck is closed even if no
+	 * further messages are sent to it.
+	 * <p>By default this is not set, and the send-time limit is only checked
+	 * when another message is sent.
+	 * @param scheduler the scheduler to use
+	 */
+	public void setSendTimeLimitScheduler(@Nullable TaskScheduler scheduler) {
+		this.sendTimeLimitScheduler = scheduler;
+	}
+
+	/**
+	 * Return the number of messages waiting to be sent, including messages
+	 * held back for conflation.
+	 */
+	public int getQueueDepth() {
+		return this.buffer.size() + this.conflatedMessages.size();
+	}
+
+	/**
+	 * Return the highest {@link #getQueueDepth() queue depth} observed so far.
+	 */
+	public long getMaxQueueDepth() {
+		return this.maxQueueDepth.get();
+	}
+
+	/**
+	 * Return the number of messages dropped because the buffer was full.
+	 */
+	public long getDroppedMessageCount() {
+		return this.droppedCount.get();
+	}
+
+	/**
+	 * Return the number of messages that were replaced by a more recent
+	 * message for the same conflation key.
+	 */
+	public long getConflatedMessageCount() {
+		return this.conflatedCount.get();
+	}
+
+	/**
+	 * Return the time (milliseconds) since the current send started,
+	 * or 0 if no send is currently in progress.
+	 */
+	public long getTimeSinceSendStarted() {
+		long start = this.sendStartTime;
+		return (start > 0 ? (System.currentTimeMillis() - start) : 0);
+	}
+
+
+	@Override
+	public void sendMessage(WebSocketMessage<?> message) throws IOException {
+		if (shouldNotSend()) {
+			return;
+		}
+
+		checkSendTimeLimit();
+
+		// Replace a message already held back for the same key, if any, so it is not overtaken
+		boolean conflated = (!this.conflatedMessages.isEmpty() && conflate(message, false));
+		if (!conflated && !this.buffer.offer(message)) {
+			handleOverflow(message);
+		}
+		this.maxQueueDepth.accumulateAndGet(getQueueDepth(), Math::max);
+
+		if (this.preSendCallback != null) {
+			this.preSendCallback.accept(message);
+		}
+
+		scheduleDrain();
+	}
+
+	private boolean shouldNotSend() {
+		return (this.limitExceeded || this.sendFailed || this.closeInProgress);
+	}
+
+	private void checkSendTimeLimit() {
+		long timeSinceSendStarted = getTimeSinceSendStarted();
+		if (timeSinceSendStarted > getSendTimeLimit()) {
+			String format = "Send time %d (ms) for session '%s' exceeded the allowed limit %d";
+			limitExceeded(String.format(format, timeSinceSendStarted, getId(), getSendTimeLimit()));
+		}
+	}
+
+	private void handleOverflow(WebSocketMessage<?> message) {
+		switch (this.overflowPolicy) {
+			case TERMINATE -> {
+				String format = "Send queue for session '%s' exceeds the allowed capacity %d";
+				limitExceeded(String.format(format, getId(), getQueueCapacity()));
+			}
+			case CONFLATE -> {
+				if (!conflate(message, true)) {
+					dropOldestAndOffer(message);
+				}
+			}
+			case DROP_OLDEST -> dropOldestAndOffer(message);
+			default ->
+				// Should never happen..
+				throw new IllegalStateException("Unexpected OverflowPolicy: " + this.overflowPolicy);
+		}
+	}
+
+	private boolean conflate(WebSocketMessage<?> message, boolean overflow) {
+		Object key = this.conflationKeyResolver.apply(message);
+		if (key == null) {
+			return false;
+		}
+		WebSocketMessage<?> previous = (overflow ?
+				this.conflatedMessages.put(key, message) : this.conflatedMessages.replace(key, message));
+		if (previous != null) {
+			this.conflatedCount.incrementAndGet();
+			return true;
+		}
+		return overflow;
+	}
+
+	private void dropOldestAndOffer(WebSocketMessage<?> message) {
+		int dropped = 0;
+		while (!this.buffer.offer(message)) {
+			if (this.buffer.poll() != null) {
+				dropped++;
+			}
+		}
+		this.droppedCount.addAndGet(dropped);
+		if (logger.isDebugEnabled() && dropped > 0) {
+			logger.debug("Dropped " + dropped + " messages for session '" + getId() +
+					"', queue depth: " + getQueueDepth());
+		}
+	}
+
+	private void limitExceeded(String reason) {
+		this.limitExceeded = true;
+		discardMessages();
+		throw new SessionLimitExceededException(reason, CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	private void scheduleDrain() {
+		if (this.drainScheduled.compareAndSet(false, true)) {
+			try {
+				this.executor.execute(this::drain);
+			}
+			catch (RuntimeException ex) {
+				this.drainScheduled.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private void drain() {
+		scheduleSendTimeCheck(getSendTimeLimit() + 1);
+		do {
+			try {
+				WebSocketMessage<?> message;
+				while ((message = pollMessage()) != null && !shouldNotSend()) {
+					this.sendStartTime = System.currentTimeMillis();
+					getDelegate().sendMessage(message);
+					this.sendStartTime = 0;
+				}
+			}
+			catch (Exception ex) {
+				this.sendFailed = true;
+				discardMessages();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to send message to " + getDelegate(), ex);
+				}
+			}
+			finally {
+				this.sendStartTime = 0;
+				this.drainScheduled.set(false);
+			}
+		}
+		while (getQueueDepth() > 0 && !shouldNotSend() && this.drainScheduled.compareAndSet(false, true));
+	}
+
+	private void scheduleSendTimeCheck(long delay) {
+		TaskScheduler scheduler = this.sendTimeLimitScheduler;
+		if (scheduler != null && this.sendTimeCheckScheduled.compareAndSet(false, true)) {
+			try {
+				scheduler.schedule(this::checkSendTimeInBackground, Instant.now().plusMillis(delay));
+			}
+			catch (RuntimeException ex) {
+				this.sendTimeCheckScheduled.set(false);
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to schedule send-time check for session '" + getId() + "'", ex);
+				}
+			}
+		}
+	}
+
+	private void checkSendTimeInBackground() {
+		this.sendTimeCheckScheduled.set(false);
+		if (shouldNotSend()) {
+			return;
+		}
+		long timeSinceSendStarted = getTimeSinceSendStarted();
+		if (timeSinceSendStarted > getSendTimeLimit()) {
+			try {
+				checkSendTimeLimit();
+			}
+			catch (SessionLimitExceededException ex) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Closing session: " + ex.getMessage());
+				}
+				try {
+					close(ex.getStatus());
+				}
+				catch (IOException ioEx) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Failed to close session '" + getId() + "'", ioEx);
+					}
+				}
+			}
+		}
+		else if (this.drainScheduled.get()) {
+			// Still draining: check again when the current send may exceed the limit
+			scheduleSendTimeCheck(getSendTimeLimit() - timeSinceSendStarted + 1);
+		}
+	}
+
+	private @Nullable WebSocketMessage<?> pollMessage() {
+		WebSocketMessage<?> message = this.buffer.poll();
+		if (message == null && !this.conflatedMessages.isEmpty()) {
+			Iterator<WebSocketMessage<?>> it = this.conflatedMessages.values().iterator();
+			if (it.hasNext()) {
+				message = it.next();
+				it.remove();
+			}
+		}
+		return message;
+	}
+
+	private void discardMessages() {
+		while (this.buffer.poll() != null) {
+			// Keep polling until empty
+		}
+		this.conflatedMessages.clear();
+	}
+
+	@Override
+	public void close(CloseStatus status) throws IOException {
+		if (this.closeInProgress) {
+			return;
+		}
+		if (this.limitExceeded && !CloseStatus.SESSION_NOT_RELIABLE.equals(status)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Changing close status " + status + " to SESSION_NOT_RELIABLE.");
+			}
+			status = CloseStatus.SESSION_NOT_RELIABLE;
+		}
+		this.closeInProgress = true;
+		discardMessages();
+		super.close(status);
+	}
+
+
+	@Override
+	public String toString() {
+		return getDelegate().toString();
+	}
+
+
+	private static @Nullable Object resolveDestination(WebSocketMessage<?> message) {
+		String frame;
+		if (message instanceof TextMessage textMessage) {
+			frame = textMessage.getPayload();
+		}
+		else if (message instanceof BinaryMessage binaryMessage) {
+			ByteBuffer payload = binaryMessage.getPayload();
+			int length = Math.min(payload.remaining(), 1024);
+			byte[] bytes = new byte[length];
+			payload.duplicate().get(bytes);
+			frame = new String(bytes, StandardCharsets.UTF_8);
+		}
+		else {
+			return null;
+		}
+		int end = frame.indexOf("\n\n");
+		int start = frame.indexOf("\ndestination:");
+		if (start == -1 || (end != -1 && start > end)) {
+			return null;
+		}
+		start += "\ndestination:".length();
+		int lineEnd = frame.indexOf('\n', start);
+		return (lineEnd != -1 ? frame.substring(start, lineEnd) : null);
+	}
+
+
+	/**
+	 * Enum for options of what to do when the ring buffer fills up.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Throw {@link SessionLimitExceededException} that will result
+		 * in the session being terminated.
+		 */
+		TERMINATE,
+
+		/**
+		 * Drop the oldest messages from the buffer.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Hold back the latest message per destination, replacing earlier
+		 * ones for the same destination, until the buffer has drained.
+		 * Messages without a destination cause the oldest message to be
+		 * dropped instead.
+		 * @see #setConflationKeyResolver(Function)
+		 */
+		CONFLATE
+	}
+
+
+	/**
+	 * Bounded lock-free ring buffer with a sequence number per slot, which
+	 * allows producers to drop the oldest element while the drain task polls.
+	 */
+	private static final class RingBuffer {
+
+		private final AtomicReferenceArray<WebSocketMessage<?>> elements;
+
+		private final AtomicLongArray sequences;
+
+		private final int mask;
+
+		private final AtomicLong tail = new AtomicLong();
+
+		private final AtomicLong head = new AtomicLong();
+
+		RingBuffer(int capacity) {
+			int size = (capacity > 1 ? Integer.highestOneBit(capacity - 1) << 1 : 1);
+			this.elements = new AtomicReferenceArray<>(size);
+			this.sequences = new AtomicLongArray(size);
+			for (int i = 0; i < size; i++) {
+				this.sequences.set(i, i);
+			}
+			this.mask = size - 1;
+		}
+
+		int capacity() {
+			return this.mask + 1;
+		}
+
+		int size() {
+			long size = this.tail.get() - this.head.get();
+			return (int) Math.max(0, Math.min(size, capacity()));
+		}
+
+		boolean offer(WebSocketMessage<?> message) {
+			while (true) {
+				long position = this.tail.get();
+				int index = (int) (position & this.mask);
+				long diff = this.sequences.get(index) - position;
+				if (diff == 0) {
+					if (this.tail.compareAndSet(position, position + 1)) {
+						this.elements.set(index, message);
+						this.sequences.set(index, position + 1);
+						return true;
+					}
+				}
+				else if (diff < 0) {
+					return false;
+				}
+			}
+		}
+
+		@Nullable WebSocketMessage<?> poll() {
+			while (true) {
+				long position = this.head.get();
+				int index = (int) (position & this.mask);
+				long diff = this.sequences.get(index) - (position + 1);
+				if (diff == 0) {
+					if (this.head.compareAndSet(position, position + 1)) {
+						WebSocketMessage<?> message = this.elements.getAndSet(index, null);
+						this.sequences.set(index, position + this.mask + 1);
+						return message;
+					}
+				}
+				else if (diff < 0) {
+					return null;
+				}
+			}
+		}
+	}
+
+}
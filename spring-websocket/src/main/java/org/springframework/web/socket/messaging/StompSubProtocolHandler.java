@@ -39,11 +39,13 @@ import org.springframework.messaging.simp.SimpAttributes;
 import org.springframework.messaging.simp.SimpAttributesContextHolder;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.BroadcastEncodingCache;
 import org.springframework.messaging.simp.broker.OrderedMessageChannelDecorator;
 import org.springframework.messaging.simp.stomp.BufferingStompDecoder;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompDecoder;
 import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompFrameTemplate;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.AbstractMessageChannel;
 import org.springframework.messaging.support.ChannelInterceptor;
@@ -59,6 +61,7 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.WebSocketSessionDecorator;
 import org.springframework.web.socket.sockjs.transport.SockJsSession;
@@ -460,6 +463,7 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 
 		StompHeaderAccessor accessor = getStompHeaderAccessor(message);
 		StompCommand command = accessor.getCommand();
+		BroadcastEncodingCache encodingCache = null;
 
 		if (StompCommand.MESSAGE.equals(command)) {
 			if (accessor.getSubscriptionId() == null && logger.isWarnEnabled()) {
@@ -471,6 +475,10 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 				accessor.removeNativeHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
 				accessor.setDestination(origDestination);
 			}
+			else {
+				encodingCache = (BroadcastEncodingCache) accessor.getHeader(
+						SimpMessageHeaderAccessor.BROADCAST_ENCODING_CACHE_HEADER);
+			}
 		}
 		else if (StompCommand.CONNECTED.equals(command)) {
 			this.stats.incrementConnectedCount();
@@ -500,24 +508,37 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 
 		Runnable task = OrderedMessageChannelDecorator.getNextMessageTask(message);
 		if (task != null) {
-			Assert.isInstanceOf(ConcurrentWebSocketSessionDecorator.class, session);
-			((ConcurrentWebSocketSessionDecorator) session).setMessageCallback(m -> task.run());
+			if (session instanceof RingBufferWebSocketSessionDecorator ringBufferSession) {
+				ringBufferSession.setMessageCallback(m -> task.run());
+			}
+			else {
+				Assert.isInstanceOf(ConcurrentWebSocketSessionDecorator.class, session);
+				((ConcurrentWebSocketSessionDecorator) session).setMessageCallback(m -> task.run());
+			}
 		}
 
-		sendToClient(session, accessor, payload);
+		sendToClient(session, accessor, payload, encodingCache);
 	}
 
 	private void sendToClient(WebSocketSession session, StompHeaderAccessor stompAccessor, byte[] payload) {
+		sendToClient(session, stompAccessor, payload, null);
+	}
+
+	private void sendToClient(WebSocketSession session, StompHeaderAccessor stompAccessor, byte[] payload,
+			@Nullable BroadcastEncodingCache encodingCache) {
+
 		StompCommand command = stompAccessor.getCommand();
 		try {
-			byte[] bytes = this.stompEncoder.encode(stompAccessor.getMessageHeaders(), payload);
 			boolean useBinary = (payload.length > 0 && !(session instanceof SockJsSession) &&
 					MimeTypeUtils.APPLICATION_OCTET_STREAM.isCompatibleWith(stompAccessor.getContentType()));
-			if (useBinary) {
-				session.sendMessage(new BinaryMessage(bytes));
+			if (encodingCache != null) {
+				session.sendMessage(getBroadcastMessage(encodingCache, stompAccessor, payload, useBinary));
+			}
+			else if (useBinary) {
+				session.sendMessage(new BinaryMessage(this.stompEncoder.encode(stompAccessor.getMessageHeaders(), payload)));
 			}
 			else {
-				session.sendMessage(new TextMessage(bytes));
+				session.sendMessage(new TextMessage(this.stompEncoder.encode(stompAccessor.getMessageHeaders(), payload)));
 			}
 		}
 		catch (SessionLimitExceededException ex) {
@@ -543,6 +564,29 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 		}
 	}
 
+	/**
+	 * Obtain the WebSocket message for a subscriber of a broadcast. The payload
+	 * and common headers are encoded once for all subscribers, with the
+	 * {@code message-id} of the first subscriber shared by all of them. Frames
+	 * are then created once per distinct subscription id and, for text messages,
+	 * the same immutable {@link TextMessage} is sent to all matching sessions.
+	 */
+	private WebSocketMessage<?> getBroadcastMessage(BroadcastEncodingCache encodingCache,
+			StompHeaderAccessor stompAccessor, byte[] payload, boolean useBinary) {
+
+		String subscriptionId = stompAccessor.getSubscriptionId();
+		StompFrameTemplate template = encodingCache.computeIfAbsent(StompFrameTemplate.class,
+				key -> this.stompEncoder.encodeTemplate(stompAccessor.getMessageHeaders(), payload));
+		if (useBinary) {
+			// A BinaryMessage has a stateful ByteBuffer but can share the frame bytes
+			byte[] frame = encodingCache.computeIfAbsent(new BroadcastFrameKey(subscriptionId, true),
+					key -> template.encode(subscriptionId));
+			return new BinaryMessage(frame);
+		}
+		return encodingCache.computeIfAbsent(new BroadcastFrameKey(subscriptionId, false),
+				key -> new TextMessage(template.encode(subscriptionId)));
+	}
+
 	private StompHeaderAccessor getStompHeaderAccessor(Message<?> message) {
 		MessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, MessageHeaderAccessor.class);
 		if (accessor instanceof StompHeaderAccessor stompHeaderAccessor) {
@@ -730,6 +774,10 @@ public class StompSubProtocolHandler implements SubProtocolHandler, ApplicationE
 	}
 
 
+	private record BroadcastFrameKey(@Nullable String subscriptionId, boolean binary) {
+	}
+
+
 	private static class DefaultStats implements Stats {
 
 		private final AtomicInteger connect = new AtomicInteger();
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -33,11 +34,13 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
 import org.springframework.messaging.SubscribableChannel;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -47,6 +50,8 @@ import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator.OverflowPolicy;
 import org.springframework.web.socket.handler.SessionLimitExceededException;
 import org.springframework.web.socket.handler.WebSocketSessionDecorator;
 import org.springframework.web.socket.sockjs.transport.session.PollingSockJsSession;
@@ -94,6 +99,16 @@ public class SubProtocolWebSocketHandler
 
 	private int sendBufferSizeLimit = 512 * 1024;
 
+	private int sendQueueCapacity = -1;
+
+	private OverflowPolicy sendQueueOverflowPolicy = OverflowPolicy.TERMINATE;
+
+	private @Nullable Executor sendQueueExecutor;
+
+	private @Nullable SimpleAsyncTaskExecutor defaultSendQueueExecutor;
+
+	private @Nullable TaskScheduler sendQueueScheduler;
+
 	private int timeToFirstMessage = DEFAULT_TIME_TO_FIRST_MESSAGE;
 
 	private volatile long lastSessionCheckTime = System.currentTimeMillis();
@@ -224,6 +239,92 @@ public class SubProtocolWebSocketHandler
 		return this.sendBufferSizeLimit;
 	}
 
+	/**
+	 * Specify the capacity (number of messages) of a per-session ring buffer
+	 * to send messages through, as an alternative to the buffer-size limit.
+	 * <p>By default this is -1, in which case sessions are decorated with a
+	 * {@link ConcurrentWebSocketSessionDecorator}. When set to a positive value,
+	 * a {@link RingBufferWebSocketSessionDecorator} is used instead.
+	 * @since 7.0
+	 * @see #setSendQueueOverflowPolicy(OverflowPolicy)
+	 * @see #setSendQueueExecutor(Executor)
+	 */
+	public void setSendQueueCapacity(int sendQueueCapacity) {
+		this.sendQueueCapacity = sendQueueCapacity;
+	}
+
+	/**
+	 * Return the send queue capacity (number of messages).
+	 * @since 7.0
+	 */
+	public int getSendQueueCapacity() {
+		return this.sendQueueCapacity;
+	}
+
+	/**
+	 * Specify what to do when a session's send queue is full.
+	 * <p>By default this is {@link OverflowPolicy#TERMINATE}.
+	 * @since 7.0
+	 * @see #setSendQueueCapacity(int)
+	 */
+	public void setSendQueueOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "OverflowPolicy is required");
+		this.sendQueueOverflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Return the send queue overflow policy.
+	 * @since 7.0
+	 */
+	public OverflowPolicy getSendQueueOverflowPolicy() {
+		return this.sendQueueOverflowPolicy;
+	}
+
+	/**
+	 * Specify the executor to run the per-session drain task of the send
+	 * queue on.
+	 * <p>By default, a {@link SimpleAsyncTaskExecutor} is created on
+	 * {@link #start()} and closed on {@link #stop()}, so that drain tasks,
+	 * which may block on the underlying session, do not occupy the threads
+	 * of the client outbound channel.
+	 * @since 7.0
+	 * @see #setSendQueueCapacity(int)
+	 */
+	public void setSendQueueExecutor(Executor executor) {
+		Assert.notNull(executor, "Executor is required");
+		this.sendQueueExecutor = executor;
+	}
+
+	/**
+	 * Return the executor for the per-session drain task of the send queue,
+	 * falling back on the executor created by this handler while running.
+	 * @return the executor, or {@code null} if none is available
+	 * @since 7.0
+	 */
+	public @Nullable Executor getSendQueueExecutor() {
+		return (this.sendQueueExecutor != null ? this.sendQueueExecutor : this.defaultSendQueueExecutor);
+	}
+
+	/**
+	 * Specify the scheduler to enforce the {@link #setSendTimeLimit(int)
+	 * send-time limit} with while a session's send queue is being drained.
+	 * <p>By default this is not set, and the send-time limit is only checked
+	 * when another message is sent to the session.
+	 * @since 7.0
+	 * @see RingBufferWebSocketSessionDecorator#setSendTimeLimitScheduler(TaskScheduler)
+	 */
+	public void setSendQueueScheduler(@Nullable TaskScheduler scheduler) {
+		this.sendQueueScheduler = scheduler;
+	}
+
+	/**
+	 * Return the scheduler to enforce the send-time limit with, if any.
+	 * @since 7.0
+	 */
+	public @Nullable TaskScheduler getSendQueueScheduler() {
+		return this.sendQueueScheduler;
+	}
+
 	/**
 	 * Set the maximum time allowed in milliseconds after the WebSocket connection
 	 * is established and before the first sub-protocol message is received.
@@ -287,6 +388,9 @@ public class SubProtocolWebSocketHandler
 		Assert.state(this.defaultProtocolHandler != null || !this.protocolHandlers.isEmpty(), "No handlers");
 
 		synchronized (this.lifecycleMonitor) {
+			if (getSendQueueCapacity() > 0 && this.sendQueueExecutor == null && this.defaultSendQueueExecutor == null) {
+				this.defaultSendQueueExecutor = new SimpleAsyncTaskExecutor("SendQueue-");
+			}
 			this.clientOutboundChannel.subscribe(this);
 			this.running = true;
 		}
@@ -310,6 +414,13 @@ public class SubProtocolWebSocketHandler
 				}
 			}
 		}
+
+		synchronized (this.lifecycleMonitor) {
+			if (this.defaultSendQueueExecutor != null) {
+				this.defaultSendQueueExecutor.close();
+				this.defaultSendQueueExecutor = null;
+			}
+		}
 	}
 
 	@Override
@@ -427,12 +538,23 @@ public class SubProtocolWebSocketHandler
 	 * Decorate the given {@link WebSocketSession}, if desired.
 	 * <p>The default implementation builds a {@link ConcurrentWebSocketSessionDecorator}
 	 * with the configured {@link #getSendTimeLimit() send-time limit} and
-	 * {@link #getSendBufferSizeLimit() buffer-size limit}.
+	 * {@link #getSendBufferSizeLimit() buffer-size limit}, or a
+	 * {@link RingBufferWebSocketSessionDecorator} if a
+	 * {@link #setSendQueueCapacity(int) send queue capacity} is configured.
 	 * @param session the original {@code WebSocketSession}
 	 * @return the decorated {@code WebSocketSession}, or potentially the given session as-is
 	 * @since 4.3.13
 	 */
 	protected WebSocketSession decorateSession(WebSocketSession session) {
+		if (getSendQueueCapacity() > 0) {
+			Executor executor = getSendQueueExecutor();
+			Assert.state(executor != null, "A send queue Executor is required " +
+					"unless the handler has been started and provides its own");
+			RingBufferWebSocketSessionDecorator decorator = new RingBufferWebSocketSessionDecorator(
+					session, executor, getSendTimeLimit(), getSendQueueCapacity(), getSendQueueOverflowPolicy());
+			decorator.setSendTimeLimitScheduler(getSendQueueScheduler());
+			return decorator;
+		}
 		return new ConcurrentWebSocketSessionDecorator(session, getSendTimeLimit(), getSendBufferSizeLimit());
 	}
 
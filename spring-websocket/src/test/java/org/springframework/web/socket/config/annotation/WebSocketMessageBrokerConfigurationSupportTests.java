@@ -54,6 +54,7 @@ import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator.OverflowPolicy;
 import org.springframework.web.socket.handler.TestWebSocketSession;
 import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
 import org.springframework.web.socket.messaging.StompSubProtocolHandler;
@@ -146,6 +147,9 @@ class WebSocketMessageBrokerConfigurationSupportTests {
 
 		assertThat(subWsHandler.getSendBufferSizeLimit()).isEqualTo(1024 * 1024);
 		assertThat(subWsHandler.getSendTimeLimit()).isEqualTo(25 * 1000);
+		assertThat(subWsHandler.getSendQueueCapacity()).isEqualTo(-1);
+		assertThat(subWsHandler.getSendQueueOverflowPolicy()).isEqualTo(OverflowPolicy.CONFLATE);
+		assertThat(subWsHandler.getSendQueueScheduler()).isNotNull();
 		assertThat(subWsHandler.getTimeToFirstMessage()).isEqualTo(30 * 1000);
 
 		Map<String, SubProtocolHandler> handlerMap = subWsHandler.getProtocolHandlerMap();
@@ -294,6 +298,7 @@ class WebSocketMessageBrokerConfigurationSupportTests {
 			registration.setMessageSizeLimit(128 * 1024);
 			registration.setSendTimeLimit(25 * 1000);
 			registration.setSendBufferSizeLimit(1024 * 1024);
+			registration.setSendQueueOverflowPolicy(OverflowPolicy.CONFLATE);
 			registration.setTimeToFirstMessage(30 * 1000);
 		}
 
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.socket.handler;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator.OverflowPolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link RingBufferWebSocketSessionDecorator}.
+ */
+class RingBufferWebSocketSessionDecoratorTests {
+
+	@Test
+	void send() throws IOException {
+		TestWebSocketSession session = new TestWebSocketSession();
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator =
+				new RingBufferWebSocketSessionDecorator(session, Runnable::run, 1000, 16, OverflowPolicy.TERMINATE);
+
+		TextMessage textMessage = new TextMessage("payload");
+		decorator.sendMessage(textMessage);
+
+		assertThat(session.getSentMessages()).containsExactly(textMessage);
+		assertThat(decorator.getQueueDepth()).isEqualTo(0);
+		assertThat(decorator.getMaxQueueDepth()).isEqualTo(1);
+		assertThat(decorator.getTimeSinceSendStarted()).isEqualTo(0);
+		assertThat(session.isOpen()).isTrue();
+	}
+
+	@Test
+	void sendAfterBlockedSend() throws IOException, InterruptedException {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator = createBlockedDecorator(session, 16, OverflowPolicy.TERMINATE);
+
+		TextMessage payload = new TextMessage("payload");
+		for (int i = 0; i < 5; i++) {
+			decorator.sendMessage(payload);
+		}
+
+		assertThat(decorator.getTimeSinceSendStarted()).isGreaterThanOrEqualTo(0);
+		assertThat(decorator.getQueueDepth()).isEqualTo(5);
+		assertThat(session.getSentMessages()).hasSize(1);
+		assertThat(session.isOpen()).isTrue();
+	}
+
+	@Test
+	void sendTimeLimitExceeded() throws InterruptedException {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setId("123");
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator =
+				new RingBufferWebSocketSessionDecorator(session, Executors.newSingleThreadExecutor(),
+						100, 16, OverflowPolicy.TERMINATE);
+
+		sendBlockingMessage(decorator);
+
+		// Exceed send time
+		Thread.sleep(200);
+
+		TextMessage payload = new TextMessage("payload");
+		assertThatExceptionOfType(SessionLimitExceededException.class).isThrownBy(() ->
+				decorator.sendMessage(payload))
+			.withMessageMatching("Send time [\\d]+ \\(ms\\) for session '123' exceeded the allowed limit 100")
+			.satisfies(ex -> assertThat(ex.getStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE));
+	}
+
+	@Test
+	void sendTimeLimitEnforcedWithoutFurtherMessages() throws Exception {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setId("123");
+		session.setOpen(true);
+
+		TaskScheduler scheduler = mock();
+		RingBufferWebSocketSessionDecorator decorator =
+				new RingBufferWebSocketSessionDecorator(session, Executors.newSingleThreadExecutor(),
+						100, 16, OverflowPolicy.TERMINATE);
+		decorator.setSendTimeLimitScheduler(scheduler);
+
+		sendBlockingMessage(decorator);
+		ArgumentCaptor<Runnable> check = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(check.capture(), any(Instant.class));
+
+		// Within the send time: check again later
+		check.getValue().run();
+		assertThat(session.isOpen()).isTrue();
+		verify(scheduler, times(2)).schedule(check.capture(), any(Instant.class));
+
+		// Exceed send time
+		Thread.sleep(200);
+
+		check.getValue().run();
+		assertThat(session.isOpen()).isFalse();
+		assertThat(session.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	@Test
+	void overflowPolicyTerminate() throws IOException, InterruptedException {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setId("123");
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator = createBlockedDecorator(session, 2, OverflowPolicy.TERMINATE);
+
+		TextMessage message = new TextMessage("payload");
+		decorator.sendMessage(message);
+		decorator.sendMessage(message);
+
+		assertThatExceptionOfType(SessionLimitExceededException.class).isThrownBy(() ->
+				decorator.sendMessage(message))
+			.withMessage("Send queue for session '123' exceeds the allowed capacity 2")
+			.satisfies(ex -> assertThat(ex.getStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE));
+		assertThat(decorator.getQueueDepth()).isEqualTo(0);
+	}
+
+	@Test
+	void overflowPolicyDropOldest() throws IOException, InterruptedException {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator = createBlockedDecorator(session, 2, OverflowPolicy.DROP_OLDEST);
+
+		for (int i = 0; i < 5; i++) {
+			decorator.sendMessage(new TextMessage("message" + i));
+		}
+
+		assertThat(decorator.getQueueDepth()).isEqualTo(2);
+		assertThat(decorator.getMaxQueueDepth()).isEqualTo(2);
+		assertThat(decorator.getDroppedMessageCount()).isEqualTo(3);
+		assertThat(session.isOpen()).isTrue();
+	}
+
+	@Test
+	void overflowPolicyConflate() throws IOException, InterruptedException {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator = createBlockedDecorator(session, 2, OverflowPolicy.CONFLATE);
+
+		decorator.sendMessage(stompMessage("/topic/a", "a1"));
+		decorator.sendMessage(stompMessage("/topic/b", "b1"));
+		decorator.sendMessage(stompMessage("/topic/a", "a2"));
+		decorator.sendMessage(stompMessage("/topic/a", "a3"));
+		decorator.sendMessage(stompMessage("/topic/b", "b2"));
+
+		assertThat(decorator.getQueueDepth()).isEqualTo(4);
+		assertThat(decorator.getConflatedMessageCount()).isEqualTo(1);
+		assertThat(decorator.getDroppedMessageCount()).isEqualTo(0);
+	}
+
+	@Test
+	void closeStatusChangesToSessionNotReliable() throws Exception {
+		BlockingWebSocketSession session = new BlockingWebSocketSession();
+		session.setId("123");
+		session.setOpen(true);
+
+		RingBufferWebSocketSessionDecorator decorator = createBlockedDecorator(session, 1, OverflowPolicy.TERMINATE);
+
+		TextMessage message = new TextMessage("payload");
+		decorator.sendMessage(message);
+		assertThatExceptionOfType(SessionLimitExceededException.class).isThrownBy(() ->
+				decorator.sendMessage(message));
+
+		decorator.close(CloseStatus.PROTOCOL_ERROR);
+		assertThat(session.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	@Test
+	void configuredProperties() {
+		TestWebSocketSession session = new TestWebSocketSession();
+		RingBufferWebSocketSessionDecorator decorator =
+				new RingBufferWebSocketSessionDecorator(session, Runnable::run, 42, 5, OverflowPolicy.CONFLATE);
+
+		assertThat(decorator.getSendTimeLimit()).isEqualTo(42);
+		assertThat(decorator.getQueueCapacity()).isEqualTo(8);
+		assertThat(decorator.getOverflowPolicy()).isEqualTo(OverflowPolicy.CONFLATE);
+	}
+
+
+	private RingBufferWebSocketSessionDecorator createBlockedDecorator(
+			BlockingWebSocketSession session, int capacity, OverflowPolicy overflowPolicy)
+			throws InterruptedException {
+
+		RingBufferWebSocketSessionDecorator decorator = new RingBufferWebSocketSessionDecorator(
+				session, Executors.newSingleThreadExecutor(), 10 * 1000, capacity, overflowPolicy);
+		sendBlockingMessage(decorator);
+		return decorator;
+	}
+
+	private void sendBlockingMessage(RingBufferWebSocketSessionDecorator session)
+			throws InterruptedException {
+
+		CountDownLatch latch = ((BlockingWebSocketSession) session.getDelegate()).initSendLatch();
+		try {
+			session.sendMessage(new TextMessage("slow message"));
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private static TextMessage stompMessage(String destination, String body) {
+		return new TextMessage("MESSAGE\ndestination:" + destination + "\n\n" + body + "\0");
+	}
+
+}
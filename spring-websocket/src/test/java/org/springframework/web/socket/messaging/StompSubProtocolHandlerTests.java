@@ -41,6 +41,7 @@ import org.springframework.messaging.simp.SimpAttributes;
 import org.springframework.messaging.simp.SimpAttributesContextHolder;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.BroadcastEncodingCache;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompEncoder;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
@@ -302,6 +303,27 @@ class StompSubProtocolHandlerTests {
 		assertThat(webSocketMessage).isInstanceOf(TextMessage.class);
 	}
 
+	@Test
+	void handleMessageToClientWithBroadcastEncodingCache() {
+		BroadcastEncodingCache cache = new BroadcastEncodingCache();
+		TestWebSocketSession otherSession = new TestWebSocketSession("s2");
+
+		StompHeaderAccessor headers = StompHeaderAccessor.create(StompCommand.MESSAGE);
+		headers.setMessageId("mess0");
+		headers.setSubscriptionId("sub0");
+		headers.setDestination("/topic/foo");
+		headers.setHeader(SimpMessageHeaderAccessor.BROADCAST_ENCODING_CACHE_HEADER, cache);
+		Message<byte[]> message = MessageBuilder.createMessage("body".getBytes(), headers.getMessageHeaders());
+		this.protocolHandler.handleMessageToClient(this.session, message);
+		this.protocolHandler.handleMessageToClient(otherSession, message);
+
+		assertThat(this.session.getSentMessages()).hasSize(1);
+		assertThat(otherSession.getSentMessages()).hasSize(1);
+		WebSocketMessage<?> textMessage = this.session.getSentMessages().get(0);
+		assertThat(otherSession.getSentMessages().get(0)).isSameAs(textMessage);
+		assertThat((String) textMessage.getPayload()).contains("subscription:sub0\n").endsWith("body\0");
+	}
+
 	@Test
 	void handleMessageFromClient() {
 		TextMessage textMessage = StompTextMessageBuilder.create(StompCommand.STOMP).headers(
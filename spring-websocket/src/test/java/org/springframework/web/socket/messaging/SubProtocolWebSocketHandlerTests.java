@@ -19,19 +19,27 @@ package org.springframework.web.socket.messaging;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.RingBufferWebSocketSessionDecorator.OverflowPolicy;
 import org.springframework.web.socket.handler.TestWebSocketSession;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -99,6 +107,66 @@ public class SubProtocolWebSocketHandlerTests {
 				isA(ConcurrentWebSocketSessionDecorator.class), eq(this.inClientChannel));
 	}
 
+	@Test
+	void sendQueueCapacity() throws Exception {
+		this.webSocketHandler.setDefaultProtocolHandler(stompHandler);
+		this.webSocketHandler.setSendQueueCapacity(64);
+		this.webSocketHandler.setSendQueueOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+		this.webSocketHandler.setSendQueueExecutor(Runnable::run);
+		this.webSocketHandler.afterConnectionEstablished(session);
+
+		ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+		verify(this.stompHandler).afterSessionStarted(captor.capture(), eq(this.inClientChannel));
+		assertThat(captor.getValue()).isInstanceOfSatisfying(RingBufferWebSocketSessionDecorator.class, decorator -> {
+			assertThat(decorator.getQueueCapacity()).isEqualTo(64);
+			assertThat(decorator.getOverflowPolicy()).isEqualTo(OverflowPolicy.DROP_OLDEST);
+			assertThat(decorator.getSendTimeLimit()).isEqualTo(this.webSocketHandler.getSendTimeLimit());
+		});
+	}
+
+	@Test
+	void sendQueueExecutorDefaultsToOwnedExecutor() {
+		SubProtocolWebSocketHandler handler = new SubProtocolWebSocketHandler(
+				this.inClientChannel, new ExecutorSubscribableChannel(new SyncTaskExecutor()));
+		handler.setDefaultProtocolHandler(this.stompHandler);
+		handler.setSendQueueCapacity(64);
+		assertThat(handler.getSendQueueExecutor()).isNull();
+
+		handler.start();
+		assertThat(handler.getSendQueueExecutor()).isInstanceOfSatisfying(SimpleAsyncTaskExecutor.class,
+				executor -> assertThat(executor.isActive()).isTrue());
+		SimpleAsyncTaskExecutor executor = (SimpleAsyncTaskExecutor) handler.getSendQueueExecutor();
+
+		handler.stop();
+		assertThat(executor.isActive()).isFalse();
+		assertThat(handler.getSendQueueExecutor()).isNull();
+	}
+
+	@Test
+	void sendQueueExecutorConfigured() {
+		SubProtocolWebSocketHandler handler = new SubProtocolWebSocketHandler(
+				this.inClientChannel, new ExecutorSubscribableChannel(new SyncTaskExecutor()));
+		handler.setDefaultProtocolHandler(this.stompHandler);
+		handler.setSendQueueCapacity(64);
+		Executor sendQueueExecutor = Runnable::run;
+		handler.setSendQueueExecutor(sendQueueExecutor);
+
+		handler.start();
+		assertThat(handler.getSendQueueExecutor()).isSameAs(sendQueueExecutor);
+		handler.stop();
+		assertThat(handler.getSendQueueExecutor()).isSameAs(sendQueueExecutor);
+	}
+
+	@Test
+	void sendQueueCapacityWithoutExecutor() {
+		this.webSocketHandler.setDefaultProtocolHandler(stompHandler);
+		this.webSocketHandler.setSendQueueCapacity(64);
+		assertThat(this.webSocketHandler.getSendQueueExecutor()).isNull();
+
+		assertThatIllegalStateException().isThrownBy(() ->
+				this.webSocketHandler.afterConnectionEstablished(session));
+	}
+
 	@Test
 	void subProtocolNoMatch() {
 		this.webSocketHandler.setDefaultProtocolHandler(defaultHandler);